@@ -0,0 +1,25 @@
+-- ✅ 장바구니 (user_id, product_id) 유니크 키
+-- 장바구니 담기가 INSERT ... ON DUPLICATE KEY UPDATE 한 번으로 처리되도록
+-- 같은 회원/상품 조합은 한 행만 허용한다. (이 키가 user_id 조회 인덱스 역할도 함)
+
+-- 1) 기존 중복 행의 수량을 가장 오래된 행으로 합산
+UPDATE cart_item c
+JOIN (
+    SELECT MIN(id) AS keep_id, SUM(quantity) AS total_quantity
+    FROM cart_item
+    GROUP BY user_id, product_id
+    HAVING COUNT(*) > 1
+) d ON c.id = d.keep_id
+SET c.quantity = d.total_quantity;
+
+-- 2) 합산하고 남은 중복 행 삭제
+DELETE c FROM cart_item c
+JOIN (
+    SELECT user_id, product_id, MIN(id) AS keep_id
+    FROM cart_item
+    GROUP BY user_id, product_id
+    HAVING COUNT(*) > 1
+) d ON c.user_id = d.user_id AND c.product_id = d.product_id AND c.id <> d.keep_id;
+
+-- 3) 유니크 키 추가
+ALTER TABLE cart_item ADD UNIQUE KEY uk_cart_item_user_product (user_id, product_id);
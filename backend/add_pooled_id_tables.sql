@@ -0,0 +1,35 @@
+-- ✅ OrderItem / Notification pooled ID 테이블
+-- 두 엔티티의 ID 를 IDENTITY → SEQUENCE(pooled, 50개씩 예약)로 바꿔 Hibernate 배치 INSERT 가 되게 했다.
+-- MySQL 은 시퀀스가 없어서 Hibernate 가 *_seq 테이블(next_val 한 행)로 대신한다.
+--
+-- ⚠️ 새 코드로 서버를 띄우기 전에 실행할 것
+--    테이블이 없으면 ddl-auto 가 next_val = 1 로 만들어 기존 ID 와 충돌한다. (이미 만들어졌으면 아래 UPDATE 가 보정)
+-- pooled 는 next_val 바로 아래 50개(next_val - 49 ~ next_val)를 먼저 쓰므로 현재 최대 ID + 51 로 맞춘다.
+-- 기존 AUTO_INCREMENT 는 그대로 두지만, 두 테이블에 SQL 로 직접 INSERT 하면 예약된 ID 와 겹칠 수 있으니 하지 말 것.
+
+CREATE TABLE IF NOT EXISTS order_item_seq (
+    next_val BIGINT
+);
+
+INSERT INTO order_item_seq (next_val)
+SELECT COALESCE(MAX(order_item_id), 0) + 51 FROM order_item
+WHERE NOT EXISTS (SELECT 1 FROM order_item_seq);
+
+UPDATE order_item_seq
+SET next_val = GREATEST(next_val, (SELECT COALESCE(MAX(order_item_id), 0) + 51 FROM order_item));
+
+CREATE TABLE IF NOT EXISTS notifications_seq (
+    next_val BIGINT
+);
+
+INSERT INTO notifications_seq (next_val)
+SELECT COALESCE(MAX(id), 0) + 51 FROM notifications
+WHERE NOT EXISTS (SELECT 1 FROM notifications_seq);
+
+UPDATE notifications_seq
+SET next_val = GREATEST(next_val, (SELECT COALESCE(MAX(id), 0) + 51 FROM notifications));
+
+-- 확인
+SELECT 'order_item_seq' AS name, next_val FROM order_item_seq
+UNION ALL
+SELECT 'notifications_seq', next_val FROM notifications_seq;
@@ -0,0 +1,8 @@
+-- ✅ 상품 삭제(보관) 표시 컬럼
+-- 주문 이력이 있는 상품은 삭제 시 행을 지우지 않고 deleted_at 만 채운다. (주문 항목이 상품을 계속 참조)
+-- 목록/검색/패싯/정렬/카테고리 수는 deleted_at IS NULL 인 상품만 본다.
+
+ALTER TABLE product
+    ADD COLUMN deleted_at DATETIME(6) NULL;
+
+-- 기존에는 상품 삭제 시 주문 항목까지 지웠으므로 채울 데이터는 없다.
@@ -0,0 +1,46 @@
+-- ✅ 상품 정렬 목록용 컬럼/인덱스 (가격/할인가/판매량/평점 정렬 + 키셋 페이지)
+-- effective_price : 실제 판매가 (할인가가 0보다 크고 정상가보다 낮으면 할인가) - 상품 저장 시 계산
+-- sold_count      : 누적 판매 수량 - 주문 시 +, 취소 시 - (재고 차감/복구와 같은 UPDATE)
+-- review_count / rating_sum / rating_score(평균 x 100) : 리뷰 등록/삭제/평점 수정 시 증감
+
+ALTER TABLE product
+    ADD COLUMN effective_price INT NOT NULL DEFAULT 0,
+    ADD COLUMN sold_count BIGINT NOT NULL DEFAULT 0,
+    ADD COLUMN review_count INT NOT NULL DEFAULT 0,
+    ADD COLUMN rating_sum BIGINT NOT NULL DEFAULT 0,
+    ADD COLUMN rating_score INT NOT NULL DEFAULT 0;
+
+-- 초기값
+UPDATE product
+SET effective_price = CASE WHEN sale_price > 0 AND sale_price < price THEN sale_price ELSE price END;
+
+UPDATE product p
+LEFT JOIN (
+    SELECT oi.product_id, SUM(oi.count) AS sold
+    FROM order_item oi JOIN orders o ON o.id = oi.order_id
+    WHERE o.status <> 'CANCELED'
+    GROUP BY oi.product_id
+) s ON s.product_id = p.id
+SET p.sold_count = COALESCE(s.sold, 0);
+
+UPDATE product p
+LEFT JOIN (
+    SELECT product_id, COUNT(*) AS cnt, SUM(rating) AS total
+    FROM review
+    GROUP BY product_id
+) r ON r.product_id = p.id
+SET p.review_count = COALESCE(r.cnt, 0),
+    p.rating_sum = COALESCE(r.total, 0),
+    p.rating_score = CASE WHEN r.cnt > 0 THEN ROUND(r.total * 100 / r.cnt) ELSE 0 END;
+
+-- 카테고리 안 정렬 (InnoDB 보조 인덱스는 PK(id)를 포함하므로 (category_id, 정렬값, id) 순서)
+CREATE INDEX idx_product_category_price ON product (category_id, price);
+CREATE INDEX idx_product_category_effective_price ON product (category_id, effective_price);
+CREATE INDEX idx_product_category_sold ON product (category_id, sold_count);
+CREATE INDEX idx_product_category_rating ON product (category_id, rating_score);
+
+-- 전체 목록 정렬 (카테고리 조건 없음) - 정렬값 순으로 읽다가 limit 에서 멈추도록 (정렬값, id)
+CREATE INDEX idx_product_price_id ON product (price, id);
+CREATE INDEX idx_product_effective_price_id ON product (effective_price, id);
+CREATE INDEX idx_product_sold_id ON product (sold_count, id);
+CREATE INDEX idx_product_rating_id ON product (rating_score, id);
@@ -0,0 +1,88 @@
+#!/bin/bash
+# =============================================
+# /uploads 이미지 서빙 처리량 벤치마크
+# =============================================
+#
+# 상품 목록(/api/products/list)에 나오는 이미지 URL을 모아
+# 브라우저가 목록 페이지를 열 때처럼 동시에 요청하고 처리량을 측정합니다.
+#
+# 비교 방법 (서버를 두 번 띄워서 각각 실행):
+#   1) 기존 핸들러:   ./gradlew bootRun --args='--file.serving.mode=resource'
+#                     ./bench_uploads.sh resource
+#   2) 전용 핸들러:   ./gradlew bootRun
+#                     ./bench_uploads.sh optimized
+#
+# 환경 변수:
+#   BASE_URL     서버 주소 (기본 http://localhost:8080)
+#   PAGES        목록 페이지를 몇 번 여는지 (기본 200)
+#   CONCURRENCY  동시 요청 수 (기본 32, 브라우저 여러 탭 가정)
+#   REVALIDATE   1 이면 If-None-Match 를 붙여 재방문(304) 시나리오 측정
+#
+# wrk 가 설치되어 있으면 wrk 로, 없으면 curl + xargs 로 측정합니다.
+# =============================================
+
+LABEL=${1:-run}
+BASE_URL=${BASE_URL:-http://localhost:8080}
+PAGES=${PAGES:-200}
+CONCURRENCY=${CONCURRENCY:-32}
+REVALIDATE=${REVALIDATE:-0}
+
+WORK_DIR=$(mktemp -d)
+trap 'rm -rf "$WORK_DIR"' EXIT
+
+# 1) 목록 페이지 이미지 URL 수집 (목록 카드가 쓰는 변형 우선)
+curl -s "$BASE_URL/api/products/list" \
+    | grep -oE '"(thumbnailList|thumbnailImage)":"/uploads/[^"]+"' \
+    | sed -E 's/^"[a-zA-Z]+":"//; s/"$//' \
+    | sort -u > "$WORK_DIR/urls.txt"
+
+URL_COUNT=$(wc -l < "$WORK_DIR/urls.txt")
+if [ "$URL_COUNT" -eq 0 ]; then
+    echo "상품 목록에서 /uploads 이미지를 찾지 못했습니다. 관리자 화면에서 상품 이미지를 먼저 올려주세요."
+    exit 1
+fi
+echo "[$LABEL] 이미지 ${URL_COUNT}개 × 목록 ${PAGES}회, 동시 ${CONCURRENCY}"
+
+# 2) 응답 헤더 확인 (첫 번째 이미지)
+FIRST_URL=$(head -1 "$WORK_DIR/urls.txt")
+curl -s -o /dev/null -D - "$BASE_URL$FIRST_URL" | grep -iE '^(etag|cache-control|accept-ranges|content-length):'
+ETAG=$(curl -s -o /dev/null -D - "$BASE_URL$FIRST_URL" | grep -i '^etag:' | cut -d' ' -f2- | tr -d '\r')
+
+HEADER_ARGS=()
+if [ "$REVALIDATE" = "1" ] && [ -n "$ETAG" ]; then
+    HEADER_ARGS=(-H "If-None-Match: $ETAG")
+    echo "재검증 모드: If-None-Match: $ETAG"
+fi
+
+# 3) 측정
+if command -v wrk > /dev/null; then
+    cat > "$WORK_DIR/urls.lua" <<LUA
+local urls = {}
+for line in io.lines("$WORK_DIR/urls.txt") do urls[#urls + 1] = line end
+local i = 0
+request = function()
+    i = i + 1
+    return wrk.format("GET", urls[(i % #urls) + 1])
+end
+LUA
+    wrk -t4 -c"$CONCURRENCY" -d30s -s "$WORK_DIR/urls.lua" "${HEADER_ARGS[@]}" --latency "$BASE_URL"
+else
+    for _ in $(seq "$PAGES"); do cat "$WORK_DIR/urls.txt"; done > "$WORK_DIR/requests.txt"
+    TOTAL=$(wc -l < "$WORK_DIR/requests.txt")
+
+    START=$(date +%s.%N)
+    xargs -P "$CONCURRENCY" -I{} curl -s -o /dev/null "${HEADER_ARGS[@]}" \
+        -w '%{http_code} %{size_download} %{time_total}\n' "$BASE_URL{}" \
+        < "$WORK_DIR/requests.txt" > "$WORK_DIR/results.txt"
+    END=$(date +%s.%N)
+
+    awk -v start="$START" -v end="$END" -v total="$TOTAL" -v label="$LABEL" '
+        { codes[$1]++; bytes += $2; t[NR] = $3 }
+        END {
+            elapsed = end - start
+            n = asort(t)
+            printf "[%s] 요청 %d건, %.2f초, %.1f req/s, %.1f MB/s\n", label, total, elapsed, total / elapsed, bytes / elapsed / 1048576
+            printf "[%s] 지연 p50 %.1fms, p95 %.1fms, p99 %.1fms\n", label, t[int(n * 0.5)] * 1000, t[int(n * 0.95)] * 1000, t[int(n * 0.99)] * 1000
+            for (c in codes) printf "[%s] HTTP %s: %d\n", label, c, codes[c]
+        }' "$WORK_DIR/results.txt"
+fi
@@ -0,0 +1,64 @@
+-- ✅ 카테고리 테이블 (헤더 메뉴/관리자 상품 등록/카테고리 상품 조회가 함께 사용하는 2단계 트리)
+-- 테이블이 비어 있으면 애플리케이션 기동 시 CategoryService 가 같은 기본 트리를 넣는다.
+
+CREATE TABLE IF NOT EXISTS category (
+    id BIGINT NOT NULL AUTO_INCREMENT PRIMARY KEY,
+    code VARCHAR(50) NOT NULL COMMENT '영문 코드',
+    name VARCHAR(50) NOT NULL COMMENT '표시 이름 (product.category 값과 같음)',
+    parent_id BIGINT NULL COMMENT '대분류 ID (대분류는 NULL)',
+    sort_order INT NOT NULL DEFAULT 0,
+    product_count BIGINT NOT NULL DEFAULT 0 COMMENT '직접 연결된 상품 수',
+    in_stock_count BIGINT NOT NULL DEFAULT 0 COMMENT '재고 있는 상품 수',
+    CONSTRAINT uk_category_code UNIQUE (code),
+    CONSTRAINT uk_category_name UNIQUE (name),
+    CONSTRAINT fk_category_parent FOREIGN KEY (parent_id) REFERENCES category (id),
+    INDEX idx_category_parent (parent_id, sort_order)
+);
+
+-- 기본 트리 (이미 있으면 건너뜀)
+INSERT IGNORE INTO category (code, name, parent_id, sort_order) VALUES
+    ('tv_audio', 'TV/오디오', NULL, 0),
+    ('kitchen', '주방가전', NULL, 1),
+    ('living', '생활가전', NULL, 2),
+    ('air', '에어컨/공기청정기', NULL, 3),
+    ('etc', '기타', NULL, 4);
+
+INSERT IGNORE INTO category (code, name, parent_id, sort_order)
+SELECT v.code, v.name, p.id, v.sort_order
+FROM (
+    SELECT 'tv' AS code, 'TV' AS name, 'tv_audio' AS parent_code, 0 AS sort_order
+    UNION ALL SELECT 'audio', '오디오', 'tv_audio', 1
+    UNION ALL SELECT 'refrigerator', '냉장고', 'kitchen', 0
+    UNION ALL SELECT 'microwave', '전자레인지', 'kitchen', 1
+    UNION ALL SELECT 'dishwasher', '식기세척기', 'kitchen', 2
+    UNION ALL SELECT 'washer', '세탁기', 'living', 0
+    UNION ALL SELECT 'vacuum', '청소기', 'living', 1
+    UNION ALL SELECT 'air_conditioner', '에어컨', 'air', 0
+    UNION ALL SELECT 'air_purifier', '공기청정기', 'air', 1
+    UNION ALL SELECT 'water_purifier', '정수기', 'air', 2
+    UNION ALL SELECT 'massage_chair', '안마의자', 'etc', 0
+    UNION ALL SELECT 'pc', 'PC', 'etc', 1
+) v
+JOIN category p ON p.code = v.parent_code;
+
+-- 상품 → 카테고리 연결 컬럼
+ALTER TABLE product ADD COLUMN category_id BIGINT NULL;
+ALTER TABLE product ADD CONSTRAINT fk_product_category FOREIGN KEY (category_id) REFERENCES category (id);
+CREATE INDEX idx_product_category_stock ON product (category_id, stock);
+
+-- 예전 관리자 화면에서 '전자렌지'로 등록된 상품을 헤더 메뉴와 같은 이름으로 맞춤
+UPDATE product SET category = '전자레인지' WHERE category = '전자렌지';
+
+-- 기존 상품 연결 (카테고리 이름 기준)
+UPDATE product p JOIN category c ON c.name = p.category
+SET p.category_id = c.id
+WHERE p.category_id IS NULL;
+
+-- 카운터 초기값
+UPDATE category c SET
+    product_count = (SELECT COUNT(*) FROM product p WHERE p.category_id = c.id),
+    in_stock_count = (SELECT COUNT(*) FROM product p WHERE p.category_id = c.id AND p.stock > 0);
+
+-- 확인
+SELECT c.name, c.product_count, c.in_stock_count FROM category c ORDER BY c.parent_id, c.sort_order;
+SELECT COUNT(*) AS unlinked_products FROM product WHERE category_id IS NULL;
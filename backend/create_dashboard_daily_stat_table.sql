@@ -0,0 +1,24 @@
+-- ✅ 관리자 대시보드 일별 집계 테이블
+-- DashboardMetricsService가 보정 주기마다 당일 행을 갱신하고, 자정에 전날 행을 확정한다.
+
+CREATE TABLE IF NOT EXISTS dashboard_daily_stat (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    stat_date DATE NOT NULL COMMENT '집계 기준일',
+    order_count BIGINT NOT NULL DEFAULT 0 COMMENT '당일 주문 수',
+    revenue BIGINT NOT NULL DEFAULT 0 COMMENT '당일 매출 (취소 제외)',
+    new_users BIGINT NOT NULL DEFAULT 0 COMMENT '당일 신규 회원 수',
+    total_users BIGINT NOT NULL DEFAULT 0,
+    inactive_users BIGINT NOT NULL DEFAULT 0,
+    total_products BIGINT NOT NULL DEFAULT 0,
+    out_of_stock_products BIGINT NOT NULL DEFAULT 0,
+    total_notices BIGINT NOT NULL DEFAULT 0,
+    total_reviews BIGINT NOT NULL DEFAULT 0,
+    total_qnas BIGINT NOT NULL DEFAULT 0,
+    updated_at DATETIME NOT NULL,
+    CONSTRAINT uk_dashboard_daily_stat_date UNIQUE (stat_date)
+);
+
+-- 보정/마감 쿼리용 인덱스 (created_at 범위 조회)
+CREATE INDEX idx_orders_created_at ON orders(created_at);
+CREATE INDEX idx_user_created_at ON user(created_at);
+CREATE INDEX idx_product_stock ON product(stock);
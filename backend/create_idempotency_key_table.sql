@@ -0,0 +1,23 @@
+-- ✅ 주문 멱등 키 + 주문번호 유니크 인덱스
+-- Idempotency-Key 헤더로 들어온 주문 요청을 (scope, idem_key) 로 한 번만 처리하고 첫 응답을 저장한다.
+-- expires_at 이 지난 행은 IdempotencyService 가 주기적으로 지운다. (order.idempotency.ttl-hours, 기본 24시간)
+
+CREATE TABLE IF NOT EXISTS idempotency_key (
+    id            BIGINT       NOT NULL AUTO_INCREMENT,
+    scope         VARCHAR(100) NOT NULL,
+    idem_key      VARCHAR(100) NOT NULL,
+    request_hash  VARCHAR(64)  NOT NULL,
+    status_code   INT          NULL,
+    response_body MEDIUMTEXT   NULL,
+    created_at    DATETIME(6)  NOT NULL,
+    expires_at    DATETIME(6)  NOT NULL,
+    PRIMARY KEY (id),
+    UNIQUE KEY uk_idempotency_scope_key (scope, idem_key),
+    KEY idx_idempotency_expires_at (expires_at)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
+
+-- 주문번호는 OrderNumberGenerator(시간순 13자리)로 발급 - 중복 방지 + 주문번호 조회 인덱스
+-- 기존 UUID 앞 12자리 주문번호가 겹치는 행이 있으면 먼저 확인:
+-- SELECT order_number, COUNT(*) FROM orders GROUP BY order_number HAVING COUNT(*) > 1;
+ALTER TABLE orders MODIFY order_number VARCHAR(20) NOT NULL;
+CREATE UNIQUE INDEX uk_orders_order_number ON orders (order_number);
@@ -0,0 +1,18 @@
+-- ✅ 업로드 이미지 변형(썸네일/목록/상세) URL 컬럼
+-- 값이 없으면(기존 데이터) 화면에서 원본 URL을 사용한다.
+
+ALTER TABLE product
+    ADD COLUMN thumbnail_thumb VARCHAR(500) NULL,
+    ADD COLUMN thumbnail_list VARCHAR(500) NULL,
+    ADD COLUMN thumbnail_detail VARCHAR(500) NULL,
+    ADD COLUMN detail_image_resized VARCHAR(500) NULL;
+
+ALTER TABLE review_image
+    ADD COLUMN thumb_url VARCHAR(500) NULL,
+    ADD COLUMN list_url VARCHAR(500) NULL,
+    ADD COLUMN detail_url VARCHAR(500) NULL;
+
+ALTER TABLE qna_image
+    ADD COLUMN thumb_url VARCHAR(500) NULL,
+    ADD COLUMN list_url VARCHAR(500) NULL,
+    ADD COLUMN detail_url VARCHAR(500) NULL;
@@ -0,0 +1,14 @@
+-- ✅ 주문 상태 변경 이력 테이블 (append-only)
+-- 주문 상태가 바뀔 때마다 (이전 상태, 새 상태, 변경 주체, 시각) 한 행이 추가된다.
+-- GET /api/admin/orders/{id}/events 로 조회한다.
+-- 주문이 삭제되어도 이력은 남도록 orders 에 외래키를 걸지 않는다.
+
+CREATE TABLE IF NOT EXISTS order_event (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    order_id BIGINT NOT NULL COMMENT '주문 ID',
+    from_status VARCHAR(20) COMMENT '이전 상태',
+    to_status VARCHAR(20) NOT NULL COMMENT '변경된 상태',
+    actor VARCHAR(100) COMMENT '변경 주체 (관리자/회원 아이디, system)',
+    created_at DATETIME NOT NULL,
+    INDEX idx_order_event_order (order_id, id)
+);
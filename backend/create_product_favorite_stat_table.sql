@@ -0,0 +1,15 @@
+-- ✅ 상품별 찜 개수 카운터 테이블
+-- FavoriteService가 찜 추가/취소 시 같은 트랜잭션에서 +1/-1 한다. (COUNT(*) 조회 대신 PK 조회)
+
+CREATE TABLE IF NOT EXISTS product_favorite_stat (
+    product_id BIGINT NOT NULL PRIMARY KEY COMMENT '상품 ID',
+    favorite_count BIGINT NOT NULL DEFAULT 0 COMMENT '찜한 회원 수'
+);
+
+-- 기존 찜 데이터로 초기값 채우기 (다시 실행해도 현재 찜 테이블 기준으로 맞춰짐)
+INSERT INTO product_favorite_stat (product_id, favorite_count)
+SELECT product_id, COUNT(*) FROM favorite GROUP BY product_id
+ON DUPLICATE KEY UPDATE favorite_count = VALUES(favorite_count);
+
+-- 회원별 찜 상품 ID 로딩용 (favorite(user_id, product_id) 유니크 키가 있으면 생략 가능)
+-- CREATE INDEX idx_favorite_user_product ON favorite(user_id, product_id);
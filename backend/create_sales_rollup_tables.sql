@@ -0,0 +1,37 @@
+-- ✅ 매출 분석 집계 테이블 (시간별 / 일별)
+-- (구간, 상품, 결제수단) 조합당 한 행. 주문/취소 시 증분 반영되며
+-- POST /api/admin/analytics/backfill 로 과거 주문에서 다시 만들 수 있다.
+
+CREATE TABLE IF NOT EXISTS sales_hourly_stat (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    bucket_start DATETIME NOT NULL COMMENT '시간 구간 시작',
+    product_id BIGINT NOT NULL COMMENT '상품 ID (삭제된 상품은 0)',
+    category VARCHAR(50),
+    payment_method VARCHAR(20) NOT NULL,
+    units BIGINT NOT NULL DEFAULT 0 COMMENT '주문 수량',
+    revenue BIGINT NOT NULL DEFAULT 0 COMMENT '주문 금액 (취소 포함)',
+    canceled_units BIGINT NOT NULL DEFAULT 0,
+    canceled_revenue BIGINT NOT NULL DEFAULT 0,
+    updated_at DATETIME,
+    CONSTRAINT uk_sales_hourly_bucket_product_payment UNIQUE (bucket_start, product_id, payment_method)
+);
+
+CREATE TABLE IF NOT EXISTS sales_daily_stat (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    stat_date DATE NOT NULL COMMENT '집계 일자',
+    product_id BIGINT NOT NULL COMMENT '상품 ID (삭제된 상품은 0)',
+    category VARCHAR(50),
+    payment_method VARCHAR(20) NOT NULL,
+    units BIGINT NOT NULL DEFAULT 0 COMMENT '주문 수량',
+    revenue BIGINT NOT NULL DEFAULT 0 COMMENT '주문 금액 (취소 포함)',
+    canceled_units BIGINT NOT NULL DEFAULT 0,
+    canceled_revenue BIGINT NOT NULL DEFAULT 0,
+    updated_at DATETIME,
+    CONSTRAINT uk_sales_daily_date_product_payment UNIQUE (stat_date, product_id, payment_method)
+);
+
+-- 인덱스 생성 (기간/카테고리 조회)
+CREATE INDEX idx_sales_hourly_bucket ON sales_hourly_stat(bucket_start);
+CREATE INDEX idx_sales_hourly_category_bucket ON sales_hourly_stat(category, bucket_start);
+CREATE INDEX idx_sales_daily_date ON sales_daily_stat(stat_date);
+CREATE INDEX idx_sales_daily_category_date ON sales_daily_stat(category, stat_date);
@@ -0,0 +1,21 @@
+-- ✅ 내용 주소 기반 업로드 파일 테이블
+-- 같은 내용(SHA-256)의 파일은 한 번만 저장되고 ref_count 로 참조 수를 관리한다.
+-- 파일 위치: uploads/<hash 0-2>/<hash 2-4>/<hash>.<ext>  (변형: <hash>_thumb.jpg 등)
+-- 이 테이블이 생기기 전에 올라간 uploads/ 바로 아래 UUID 파일은 그대로 서비스된다.
+
+CREATE TABLE IF NOT EXISTS stored_file (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    hash CHAR(64) NOT NULL,
+    storage_key VARCHAR(255) NOT NULL,
+    size BIGINT NOT NULL,
+    content_type VARCHAR(100),
+    ref_count INT NOT NULL DEFAULT 1,
+    width INT,
+    height INT,
+    thumb_key VARCHAR(255),
+    list_key VARCHAR(255),
+    detail_key VARCHAR(255),
+    created_at DATETIME(6) NOT NULL,
+    UNIQUE KEY uk_stored_file_hash (hash),
+    UNIQUE KEY uk_stored_file_storage_key (storage_key)
+);
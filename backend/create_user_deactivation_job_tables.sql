@@ -0,0 +1,34 @@
+-- ✅ 회원 일괄 탈퇴 작업 테이블
+-- user_deactivation_job      : 작업 상태 / 진행 수 / 체크포인트(last_user_id)
+-- user_deactivation_job_item : 작업 대상 user.id 목록 (등록 후 변경 없음)
+-- 청크가 커밋될 때 last_user_id 가 함께 갱신되므로 서버 재시작 시 남은 대상부터 재개된다.
+
+CREATE TABLE IF NOT EXISTS user_deactivation_job (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    status VARCHAR(20) NOT NULL,
+    total_count INT NOT NULL DEFAULT 0,
+    processed_count INT NOT NULL DEFAULT 0,
+    moved_count INT NOT NULL DEFAULT 0,
+    last_user_id BIGINT NOT NULL DEFAULT 0,
+    last_error VARCHAR(1000),
+    created_at DATETIME(6) NOT NULL,
+    started_at DATETIME(6),
+    finished_at DATETIME(6),
+    updated_at DATETIME(6) NOT NULL,
+    INDEX idx_user_deactivation_job_status (status)
+);
+
+CREATE TABLE IF NOT EXISTS user_deactivation_job_item (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    job_id BIGINT NOT NULL,
+    user_id BIGINT NOT NULL,
+    UNIQUE KEY uk_user_deactivation_job_item (job_id, user_id)
+);
+
+-- 집합 단위 삭제(WHERE user_id IN ...) 시 사용하는 인덱스
+-- (FK 컬럼은 InnoDB가 자동으로 인덱스를 만들지만, 수동으로 만든 테이블을 위해 명시)
+CREATE INDEX idx_review_user_id ON review(user_id);
+CREATE INDEX idx_review_likes_user_id ON review_likes(user_id);
+CREATE INDEX idx_orders_user_id ON orders(user_id);
+CREATE INDEX idx_cart_item_user_id ON cart_item(user_id);
+CREATE INDEX idx_notifications_user_id ON notifications(user_id);
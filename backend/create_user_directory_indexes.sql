@@ -0,0 +1,13 @@
+-- ✅ 관리자 회원 디렉터리 검색용 인덱스
+-- 아이디/이름/이메일/전화번호 접두어 검색(LIKE '키워드%')은 컬럼별 하위 쿼리를 UNION 하므로 각 하위 쿼리가 해당 인덱스로 접두어 범위만 읽는다.
+-- 단, 인덱스가 id 순이 아니므로 하위 쿼리마다 접두어 일치 행 전체를 id 로 정렬(filesort)한 뒤 LIMIT 한다. (비용 = 일치 건수)
+-- user.user_id, user.email 은 UNIQUE 제약으로 이미 인덱스가 있음
+
+CREATE INDEX idx_user_username ON user(username);
+CREATE INDEX idx_user_phone ON user(phone);
+CREATE INDEX idx_user_active_id ON user(active, id);
+
+CREATE INDEX idx_inactive_user_user_id ON inactive_user(user_id);
+CREATE INDEX idx_inactive_user_username ON inactive_user(username);
+CREATE INDEX idx_inactive_user_email ON inactive_user(email);
+CREATE INDEX idx_inactive_user_phone ON inactive_user(phone);
@@ -0,0 +1,89 @@
+package com.onandhome.admin.adminProduct;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.onandhome.admin.adminProduct.entity.Product;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 카탈로그 응답 JSON 직렬화 (UserProductController /api/all, /api/category - CatalogResponseCache 미스 시 생성)
+ * ObjectMapper 는 Spring Boot 기본값과 같게 (JavaTimeModule, 날짜는 ISO 문자열)
+ */
+@State(Scope.Benchmark)
+public class CatalogJsonBenchmark {
+
+    private static final String[] CATEGORIES = {"TV", "오디오", "냉장고", "세탁기", "에어컨", "청소기"};
+
+    @Param({"50", "500"})
+    public int productCount;
+
+    private ObjectMapper objectMapper;
+    private Map<String, Object> payload;
+
+    @Setup
+    public void setUp() {
+        objectMapper = JsonMapper.builder()
+                .findAndAddModules()
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+
+        List<Product> products = new ArrayList<>(productCount);
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < productCount; i++) {
+            products.add(Product.builder()
+                    .id((long) i + 1)
+                    .productCode("PC-" + (1000 + i))
+                    .name("OnAndHome 상품 " + i)
+                    .description("에너지 소비효율 1등급, 무상 설치, 2년 무상 A/S")
+                    .price(300_000 + i * 1_000)
+                    .salePrice(i % 3 == 0 ? 270_000 + i * 1_000 : null)
+                    .stock(100)
+                    .thumbnailImage("/product_img/" + i + ".jpg")
+                    .thumbnailThumb("/product_img/" + i + "_200.jpg")
+                    .thumbnailList("/product_img/" + i + "_480.jpg")
+                    .thumbnailDetail("/product_img/" + i + "_1200.jpg")
+                    .detailImage("/product_img/" + i + "_detail.jpg")
+                    .category(CATEGORIES[i % CATEGORIES.length])
+                    .manufacturer("OnAndHome")
+                    .country("대한민국")
+                    .createdAt(now)
+                    .updatedAt(now)
+                    .build());
+        }
+
+        payload = new HashMap<>();
+        payload.put("success", true);
+        payload.put("products", products);
+        payload.put("count", products.size());
+    }
+
+    @Benchmark
+    public byte[] serialize() throws IOException {
+        return objectMapper.writeValueAsBytes(payload);
+    }
+
+    /** 캐시에 넣는 형태 (직렬화 + gzip) */
+    @Benchmark
+    public byte[] serializeGzip() throws IOException {
+        byte[] json = objectMapper.writeValueAsBytes(payload);
+        ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(json.length / 4, 512));
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(json);
+        }
+        return out.toByteArray();
+    }
+}
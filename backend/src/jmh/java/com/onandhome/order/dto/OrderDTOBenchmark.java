@@ -0,0 +1,81 @@
+package com.onandhome.order.dto;
+
+import com.onandhome.admin.adminProduct.entity.Product;
+import com.onandhome.order.entity.Order;
+import com.onandhome.order.entity.OrderItem;
+import com.onandhome.user.entity.User;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 주문 목록 변환 (OrderService.getOrders - 마이페이지 / 관리자 주문 목록)
+ * 주문마다 주문상품 3개, 상품은 10개를 돌려 쓴다.
+ */
+@State(Scope.Benchmark)
+public class OrderDTOBenchmark {
+
+    private static final int ITEMS_PER_ORDER = 3;
+    private static final int PRODUCTS = 10;
+
+    @Param({"20", "200"})
+    public int orderCount;
+
+    private List<Order> orders;
+
+    @Setup
+    public void setUp() {
+        User user = User.builder()
+                .id(1L)
+                .userId("bench-user")
+                .username("벤치마크")
+                .email("bench@onandhome.com")
+                .phone("010-1234-5678")
+                .address("서울특별시 강남구 테헤란로 1")
+                .build();
+
+        List<Product> products = new ArrayList<>(PRODUCTS);
+        for (int p = 0; p < PRODUCTS; p++) {
+            products.add(Product.builder()
+                    .id((long) p + 1)
+                    .name("OnAndHome 상품 " + p)
+                    .price(100_000 + p * 10_000)
+                    .stock(Integer.MAX_VALUE)
+                    .thumbnailImage("/product_img/" + p + ".jpg")
+                    .detailImage("/product_img/" + p + "_detail.jpg")
+                    .build());
+        }
+
+        orders = new ArrayList<>(orderCount);
+        long itemId = 1;
+        for (int i = 0; i < orderCount; i++) {
+            List<OrderItem> items = new ArrayList<>(ITEMS_PER_ORDER);
+            for (int k = 0; k < ITEMS_PER_ORDER; k++) {
+                Product product = products.get((i + k) % PRODUCTS);
+                OrderItem item = OrderItem.createOrderItem(product, product.getPrice(), 1 + k);
+                item.setId(itemId++);
+                items.add(item);
+            }
+            Order order = Order.create(user, items, Order.PaymentMethod.CARD, "ORD" + (100_000 + i));
+            order.setId((long) i + 1);
+            order.setRecipientName("벤치마크");
+            order.setRecipientPhone("010-1234-5678");
+            order.setShippingAddress("서울특별시 강남구 테헤란로 1");
+            orders.add(order);
+        }
+    }
+
+    @Benchmark
+    public List<OrderDTO> fromEntity() {
+        List<OrderDTO> result = new ArrayList<>(orders.size());
+        for (Order order : orders) {
+            result.add(OrderDTO.fromEntity(order));
+        }
+        return result;
+    }
+}
@@ -0,0 +1,46 @@
+package com.onandhome.order.entity;
+
+import com.onandhome.admin.adminProduct.entity.Product;
+import com.onandhome.user.entity.User;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 주문 생성 (Order.create - 주문상품 연결 + 총액 계산)
+ * 주문상품은 미리 만들어 둔다. (createOrderItem 은 재고를 차감하므로 측정 중에 반복 호출하지 않음)
+ */
+@State(Scope.Benchmark)
+public class OrderCreateBenchmark {
+
+    @Param({"1", "10", "50"})
+    public int itemCount;
+
+    private User user;
+    private List<OrderItem> items;
+
+    @Setup
+    public void setUp() {
+        user = User.builder().id(1L).userId("bench-user").build();
+        items = new ArrayList<>(itemCount);
+        for (int i = 0; i < itemCount; i++) {
+            Product product = Product.builder()
+                    .id((long) i + 1)
+                    .name("OnAndHome 상품 " + i)
+                    .price(50_000 + i * 1_000)
+                    .stock(Integer.MAX_VALUE)
+                    .build();
+            items.add(OrderItem.createOrderItem(product, product.getPrice(), 1 + i % 3));
+        }
+    }
+
+    @Benchmark
+    public Order create() {
+        return Order.create(user, items, Order.PaymentMethod.CARD, "ORD100000");
+    }
+}
@@ -0,0 +1,74 @@
+package com.onandhome.review.dto;
+
+import com.onandhome.review.entity.Review;
+import com.onandhome.review.entity.ReviewImage;
+import com.onandhome.review.entity.ReviewReply;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 상품 리뷰 목록 변환 (ReviewService.findByProductId / findByProductIdWithLikes)
+ * 리뷰마다 답글 1개, 이미지 3장 (이미지는 ID 순 정렬을 두 번 거친다)
+ */
+@State(Scope.Benchmark)
+public class ReviewDTOBenchmark {
+
+    private static final int REPLIES_PER_REVIEW = 1;
+    private static final int IMAGES_PER_REVIEW = 3;
+
+    @Param({"20", "200"})
+    public int reviewCount;
+
+    private List<Review> reviews;
+
+    @Setup
+    public void setUp() {
+        reviews = new ArrayList<>(reviewCount);
+        long imageId = 1;
+        for (int i = 0; i < reviewCount; i++) {
+            Review review = new Review();
+            review.setId((long) i + 1);
+            review.setContent("배송이 빠르고 설치 기사님도 친절했습니다. 소음도 거의 없어요. " + i);
+            review.setRating(1 + i % 5);
+            review.setProductName("OnAndHome 양문형 냉장고 832L");
+            review.setAuthor("구매자" + i);
+            review.setUsername("user" + i);
+            review.setLikeCount(i % 7);
+
+            for (int r = 0; r < REPLIES_PER_REVIEW; r++) {
+                ReviewReply reply = new ReviewReply();
+                reply.setId((long) i * REPLIES_PER_REVIEW + r + 1);
+                reply.setContent("소중한 리뷰 감사합니다.");
+                reply.setUserId(1L);
+                reply.setAuthor("관리자");
+                reply.setUsername("admin");
+                reply.setCreatedAt(LocalDateTime.now());
+                review.addReply(reply);
+            }
+            for (int m = 0; m < IMAGES_PER_REVIEW; m++) {
+                ReviewImage image = new ReviewImage();
+                image.setId(imageId++);
+                image.setImageUrl("/uploads/reviews/" + i + "_" + m + ".jpg");
+                image.setThumbUrl("/uploads/reviews/" + i + "_" + m + "_thumb.jpg");
+                review.addImage(image);
+            }
+            reviews.add(review);
+        }
+    }
+
+    @Benchmark
+    public List<ReviewDTO> fromEntity() {
+        List<ReviewDTO> result = new ArrayList<>(reviews.size());
+        for (Review review : reviews) {
+            result.add(ReviewDTO.fromEntity(review));
+        }
+        return result;
+    }
+}
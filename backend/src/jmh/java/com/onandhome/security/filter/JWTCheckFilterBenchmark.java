@@ -0,0 +1,43 @@
+package com.onandhome.security.filter;
+
+import com.onandhome.util.JWTUtil;
+import jakarta.servlet.ServletException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+/**
+ * JWTCheckFilter.shouldNotFilter 경로 판별 (모든 요청마다 실행)
+ * 공개 경로(앞쪽 분기에서 끝남)부터 인증 경로(모든 분기를 지나 false)까지 경로별로 측정한다.
+ * 로그 레벨은 WARN (src/jmh/resources/logback.xml) 이라 분기 안의 log.info 는 레벨 확인만 한다.
+ */
+@State(Scope.Benchmark)
+public class JWTCheckFilterBenchmark {
+
+    @Param({
+            "GET /css/main.css",
+            "GET /api/products/12",
+            "GET /api/reviews/product/12",
+            "POST /api/orders",
+            "GET /api/cart/items"
+    })
+    public String route;
+
+    private JWTCheckFilter filter;
+    private MockHttpServletRequest request;
+
+    @Setup
+    public void setUp() {
+        filter = new JWTCheckFilter(new JWTUtil());
+        String[] parts = route.split(" ", 2);
+        request = new MockHttpServletRequest(parts[0], parts[1]);
+    }
+
+    @Benchmark
+    public boolean shouldNotFilter() throws ServletException {
+        return filter.shouldNotFilter(request);
+    }
+}
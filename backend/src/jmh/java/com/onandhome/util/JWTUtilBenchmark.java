@@ -0,0 +1,42 @@
+package com.onandhome.util;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * JWT 발급 / 검증 (로그인 응답, 인증이 필요한 모든 요청의 JWTCheckFilter)
+ * 클레임은 UserController 로그인과 같은 구성 (id, userId, role, marketingConsent)
+ */
+@State(Scope.Benchmark)
+public class JWTUtilBenchmark {
+
+    private JWTUtil jwtUtil;
+    private Map<String, Object> claims;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtUtil = new JWTUtil();
+        claims = new HashMap<>();
+        claims.put("id", 1024L);
+        claims.put("userId", "bench-user");
+        claims.put("role", 1);
+        claims.put("marketingConsent", false);
+        token = jwtUtil.generateToken(claims, 60);
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return jwtUtil.generateToken(claims, 60);
+    }
+
+    @Benchmark
+    public Map<String, Object> validateToken() {
+        return jwtUtil.validateToken(token);
+    }
+}
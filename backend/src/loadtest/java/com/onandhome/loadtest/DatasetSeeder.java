@@ -0,0 +1,262 @@
+package com.onandhome.loadtest;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * 부하 테스트 시드 데이터 (JdbcTemplate.batchUpdate - 1000건씩)
+ *
+ * 회원 → 상품 → 주문/주문상품 → 알림 순으로 채운다. 같은 seed 면 같은 데이터가 만들어진다.
+ * ID 를 직접 넣으므로 끝나면 IDENTITY 컬럼과 pooled 시퀀스를 최대 ID 뒤로 옮겨
+ * 앱이 새로 만드는 행(주문/알림 등)과 겹치지 않게 한다.
+ */
+@Slf4j
+class DatasetSeeder {
+
+    static final String[] CATEGORIES = {"TV", "오디오", "냉장고", "세탁기", "건조기", "에어컨", "청소기", "전자레인지", "식기세척기", "공기청정기"};
+    static final String[] MANUFACTURERS = {"OnAndHome", "삼성전자", "LG전자", "위니아", "쿠쿠", "다이슨", "필립스"};
+    private static final String[] COUNTRIES = {"대한민국", "중국", "베트남", "말레이시아"};
+    private static final String[] NOTIFICATION_TYPES = {"ORDER", "NOTICE", "QNA_REPLY", "REVIEW_REPLY"};
+
+    private static final int BATCH_SIZE = 1_000;
+    private static final int INITIAL_STOCK = 1_000_000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final LoadTestSettings settings;
+    private final Random random;
+    private final LocalDateTime now = LocalDateTime.now();
+
+    /* 주문상품 가격 계산용 (상품 ID - 1 → 판매가) */
+    private int[] productPrices;
+
+    DatasetSeeder(JdbcTemplate jdbcTemplate, LoadTestSettings settings) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.settings = settings;
+        this.random = new Random(settings.seed());
+    }
+
+    /**
+     * 전체 시드 (테이블별 건수 / 소요 시간을 돌려준다 - 보고서용)
+     */
+    Map<String, Object> seed() {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("user", timed("user", settings.users(), this::seedUsers));
+        result.put("product", timed("product", settings.products(), this::seedProducts));
+        result.put("orders", timed("orders", settings.orders(), this::seedOrders));
+        result.put("notifications", timed("notifications", settings.notifications(), this::seedNotifications));
+        moveIdsPastSeed();
+        return result;
+    }
+
+    /** 1번은 관리자(role 0), 나머지는 일반 회원 */
+    private void seedUsers() {
+        String sql = "INSERT INTO user (id, user_id, password, email, username, phone, address, role, active, " +
+                "created_at, marketing_consent, privacy_consent) VALUES (?, ?, 'loadtest', ?, ?, ?, ?, ?, 1, ?, 0, 1)";
+        batch("user", sql, settings.users(), (ps, i) -> {
+            long id = i + 1;
+            ps.setLong(1, id);
+            ps.setString(2, id == 1 ? "loadadmin" : "load" + id);
+            ps.setString(3, "load" + id + "@onandhome.local");
+            ps.setString(4, "부하회원" + id);
+            ps.setString(5, "010-0000-" + String.format("%04d", id % 10_000));
+            ps.setString(6, "서울특별시 강남구 테헤란로 " + id);
+            ps.setInt(7, id == 1 ? 0 : 1);
+            ps.setTimestamp(8, daysAgo(365));
+        });
+    }
+
+    /** 상품명 끝의 "M{id}" 로 검색 시나리오가 몇 건만 걸리는 키워드를 만든다 */
+    private void seedProducts() {
+        productPrices = new int[settings.products()];
+        String sql = "INSERT INTO product (id, product_code, name, description, price, sale_price, stock, " +
+                "thumbnail_image, category, manufacturer, country, status, effective_price, sold_count, created_at, updated_at) " +
+                "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, '판매중', ?, ?, ?, ?)";
+        batch("product", sql, settings.products(), (ps, i) -> {
+            long id = i + 1;
+            String category = CATEGORIES[random.nextInt(CATEGORIES.length)];
+            String manufacturer = MANUFACTURERS[random.nextInt(MANUFACTURERS.length)];
+            int price = (50 + random.nextInt(3_000)) * 1_000;
+            Integer salePrice = random.nextInt(4) == 0 ? price * 9 / 10 : null;
+            int effectivePrice = salePrice != null ? salePrice : price;
+            productPrices[i] = effectivePrice;
+            Timestamp createdAt = daysAgo(730);
+
+            ps.setLong(1, id);
+            ps.setString(2, "LT-" + id);
+            ps.setString(3, manufacturer + " " + category + " M" + id);
+            ps.setString(4, "에너지 소비효율 1등급, 무상 설치, 2년 무상 A/S");
+            ps.setInt(5, price);
+            if (salePrice != null) {
+                ps.setInt(6, salePrice);
+            } else {
+                ps.setNull(6, Types.INTEGER);
+            }
+            ps.setInt(7, INITIAL_STOCK);
+            ps.setString(8, "/product_img/loadtest/" + (id % 100) + ".jpg");
+            ps.setString(9, category);
+            ps.setString(10, manufacturer);
+            ps.setString(11, COUNTRIES[random.nextInt(COUNTRIES.length)]);
+            ps.setInt(12, effectivePrice);
+            ps.setLong(13, random.nextInt(500));
+            ps.setTimestamp(14, createdAt);
+            ps.setTimestamp(15, createdAt);
+        });
+    }
+
+    /** 주문마다 주문상품 itemsPerOrder 개 (주문상품 ID 는 주문 순서대로) */
+    private void seedOrders() {
+        int itemsPerOrder = settings.itemsPerOrder();
+        long[][] items = new long[BATCH_SIZE * itemsPerOrder][];
+
+        String orderSql = "INSERT INTO orders (order_id, user_id, created_at, status, total_price, order_number, " +
+                "paid_at, payment_method, recipient_name, recipient_phone, shipping_address, hidden) " +
+                "VALUES (?, ?, ?, ?, ?, ?, ?, 'CARD', ?, '010-0000-0000', '서울특별시 강남구 테헤란로 1', FALSE)";
+        String itemSql = "INSERT INTO order_item (order_item_id, product_id, order_id, order_price, count) VALUES (?, ?, ?, ?, ?)";
+
+        for (int start = 0; start < settings.orders(); start += BATCH_SIZE) {
+            int size = Math.min(BATCH_SIZE, settings.orders() - start);
+            int first = start;
+            int[] totals = new int[size];
+            for (int o = 0; o < size; o++) {
+                long orderId = first + o + 1;
+                for (int k = 0; k < itemsPerOrder; k++) {
+                    int productIndex = random.nextInt(productPrices.length);
+                    int count = 1 + random.nextInt(3);
+                    long itemId = (orderId - 1) * itemsPerOrder + k + 1;
+                    items[o * itemsPerOrder + k] = new long[]{itemId, productIndex + 1, orderId, productPrices[productIndex], count};
+                    totals[o] += productPrices[productIndex] * count;
+                }
+            }
+
+            jdbcTemplate.batchUpdate(orderSql, new BatchPreparedStatementSetter() {
+                @Override
+                public void setValues(PreparedStatement ps, int o) throws SQLException {
+                    long orderId = first + o + 1;
+                    Timestamp createdAt = daysAgo(365);
+                    ps.setLong(1, orderId);
+                    ps.setLong(2, 2 + random.nextInt(Math.max(1, settings.users() - 1)));
+                    ps.setTimestamp(3, createdAt);
+                    ps.setString(4, orderStatus());
+                    ps.setInt(5, totals[o]);
+                    ps.setString(6, String.format("LT%012d", orderId));
+                    ps.setTimestamp(7, createdAt);
+                    ps.setString(8, "부하회원");
+                }
+
+                @Override
+                public int getBatchSize() {
+                    return size;
+                }
+            });
+            jdbcTemplate.batchUpdate(itemSql, new BatchPreparedStatementSetter() {
+                @Override
+                public void setValues(PreparedStatement ps, int n) throws SQLException {
+                    long[] item = items[n];
+                    ps.setLong(1, item[0]);
+                    ps.setLong(2, item[1]);
+                    ps.setLong(3, item[2]);
+                    ps.setInt(4, (int) item[3]);
+                    ps.setInt(5, (int) item[4]);
+                }
+
+                @Override
+                public int getBatchSize() {
+                    return size * itemsPerOrder;
+                }
+            });
+            logProgress("orders", first + size, settings.orders());
+        }
+    }
+
+    private void seedNotifications() {
+        String sql = "INSERT INTO notifications (id, user_id, title, content, type, reference_id, is_read, created_at) " +
+                "VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+        batch("notifications", sql, settings.notifications(), (ps, i) -> {
+            String type = NOTIFICATION_TYPES[random.nextInt(NOTIFICATION_TYPES.length)];
+            ps.setLong(1, i + 1);
+            ps.setLong(2, 1 + random.nextInt(settings.users()));
+            ps.setString(3, "[" + type + "] 알림");
+            ps.setString(4, "부하 테스트 알림 " + (i + 1));
+            ps.setString(5, type);
+            ps.setLong(6, 1 + random.nextInt(Math.max(1, settings.orders())));
+            ps.setBoolean(7, random.nextInt(3) == 0);
+            ps.setTimestamp(8, daysAgo(180));
+        });
+    }
+
+    /**
+     * 직접 넣은 ID 뒤에서 번호를 이어가도록 조정
+     * pooled 시퀀스(allocationSize 50)는 받은 값의 49개 앞부터 쓰므로 여유를 두고 옮긴다.
+     */
+    private void moveIdsPastSeed() {
+        jdbcTemplate.execute("ALTER TABLE user ALTER COLUMN id RESTART WITH " + (settings.users() + 1));
+        jdbcTemplate.execute("ALTER TABLE product ALTER COLUMN id RESTART WITH " + (settings.products() + 1));
+        jdbcTemplate.execute("ALTER TABLE orders ALTER COLUMN order_id RESTART WITH " + (settings.orders() + 1));
+        long orderItems = (long) settings.orders() * settings.itemsPerOrder();
+        jdbcTemplate.execute("ALTER SEQUENCE order_item_seq RESTART WITH " + (orderItems + 100));
+        jdbcTemplate.execute("ALTER SEQUENCE notifications_seq RESTART WITH " + (settings.notifications() + 100));
+    }
+
+    private String orderStatus() {
+        int roll = random.nextInt(100);
+        if (roll < 70) {
+            return "DELIVERED";
+        }
+        if (roll < 85) {
+            return "DELIVERING";
+        }
+        return roll < 95 ? "ORDERED" : "CANCELED";
+    }
+
+    private Timestamp daysAgo(int maxDays) {
+        return Timestamp.valueOf(now.minusMinutes(random.nextInt(maxDays * 24 * 60)));
+    }
+
+    private Map<String, Object> timed(String table, int rows, Runnable seeder) {
+        long startedAt = System.currentTimeMillis();
+        seeder.run();
+        long millis = System.currentTimeMillis() - startedAt;
+        log.info("시드 완료 - {} {}건 ({} ms)", table, rows, millis);
+        return Map.of("rows", rows, "millis", millis);
+    }
+
+    private void batch(String table, String sql, int rows, RowBinder binder) {
+        for (int start = 0; start < rows; start += BATCH_SIZE) {
+            int size = Math.min(BATCH_SIZE, rows - start);
+            int first = start;
+            jdbcTemplate.batchUpdate(sql, new BatchPreparedStatementSetter() {
+                @Override
+                public void setValues(PreparedStatement ps, int n) throws SQLException {
+                    binder.bind(ps, first + n);
+                }
+
+                @Override
+                public int getBatchSize() {
+                    return size;
+                }
+            });
+            logProgress(table, first + size, rows);
+        }
+    }
+
+    private static void logProgress(String table, int done, int total) {
+        if (done % 100_000 == 0 || done == total) {
+            log.info("시드 진행 - {} {}/{}", table, done, total);
+        }
+    }
+
+    @FunctionalInterface
+    private interface RowBinder {
+        void bind(PreparedStatement ps, int index) throws SQLException;
+    }
+}
@@ -0,0 +1,115 @@
+package com.onandhome.loadtest;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 닫힌 루프(closed-loop) HTTP 부하 발생기
+ *
+ * 워커 N개가 각자 "요청 → 응답 대기 → 다음 요청" 을 반복한다.
+ * 워밍업 구간(JIT / 캐시 / 커넥션 풀 준비)의 요청은 기록하지 않고, 측정 구간만 지연 시간을 남긴다.
+ * 워커마다 Random(seed + 워커 번호) 를 쓰므로 워커별 요청 순서는 실행마다 같다.
+ * 워커는 가상 스레드 - 동시 연결 수천 개(loadtest.concurrency=5000)에서도 부하 발생기 쪽 스레드가 병목이 되지 않는다.
+ */
+@Slf4j
+class HttpLoadDriver {
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    private final HttpClient client;
+    private final LoadTestSettings settings;
+
+    HttpLoadDriver(LoadTestSettings settings) {
+        this.settings = settings;
+        this.client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+    }
+
+    /** 워커 Random 으로 다음 요청을 만든다 */
+    @FunctionalInterface
+    interface RequestFactory {
+        HttpRequest next(Random random);
+    }
+
+    /** 시나리오 이름 / 동시 워커 수 / 요청 생성기 */
+    record Scenario(String name, int concurrency, RequestFactory requests) {
+    }
+
+    Map<String, Object> run(Scenario scenario) throws InterruptedException {
+        LatencyRecorder recorder = new LatencyRecorder(scenario.name());
+        long warmupEnd = System.nanoTime() + settings.warmup().toNanos();
+        long end = warmupEnd + settings.duration().toNanos();
+
+        log.info("시나리오 시작 - {} (워커 {}개, 워밍업 {}s, 측정 {}s)", scenario.name(), scenario.concurrency(),
+                settings.warmup().toSeconds(), settings.duration().toSeconds());
+
+        ExecutorService workers = Executors.newVirtualThreadPerTaskExecutor();
+        for (int w = 0; w < scenario.concurrency(); w++) {
+            Random random = new Random(settings.seed() + w);
+            LatencyRecorder.Samples samples = recorder.newSamples();
+            workers.execute(() -> loop(scenario, recorder, samples, random, warmupEnd, end));
+        }
+        workers.shutdown();
+        if (!workers.awaitTermination(settings.warmup().plus(settings.duration()).toSeconds() + 60, TimeUnit.SECONDS)) {
+            workers.shutdownNow();
+            log.warn("시나리오 {} - 제한 시간 안에 끝나지 않은 워커가 있습니다.", scenario.name());
+        }
+
+        Map<String, Object> summary = recorder.summarize(settings.duration().toNanos());
+        log.info("시나리오 완료 - {}", summary);
+        return summary;
+    }
+
+    private void loop(Scenario scenario, LatencyRecorder recorder, LatencyRecorder.Samples samples,
+                      Random random, long warmupEnd, long end) {
+        long now;
+        while ((now = System.nanoTime()) < end) {
+            boolean measured = now >= warmupEnd;
+            HttpRequest request = scenario.requests().next(random);
+            long startedAt = System.nanoTime();
+            try {
+                HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                long elapsed = System.nanoTime() - startedAt;
+                if (!measured) {
+                    continue;
+                }
+                samples.record(elapsed);
+                recorder.outcome(String.valueOf(response.statusCode()));
+                if (response.statusCode() >= 400) {
+                    samples.error();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                if (measured) {
+                    samples.record(System.nanoTime() - startedAt);
+                    samples.error();
+                    recorder.outcome(e.getClass().getSimpleName());
+                }
+            }
+        }
+    }
+
+    /** 측정과 별개로 한 번 호출 (지표 수집 등) */
+    String get(String uri) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(uri)).timeout(REQUEST_TIMEOUT).GET().build();
+        return client.send(request, HttpResponse.BodyHandlers.ofString()).body();
+    }
+
+    static HttpRequest.Builder request(String uri) {
+        return HttpRequest.newBuilder(URI.create(uri)).timeout(REQUEST_TIMEOUT);
+    }
+}
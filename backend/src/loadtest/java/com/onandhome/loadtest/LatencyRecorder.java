@@ -0,0 +1,122 @@
+package com.onandhome.loadtest;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 시나리오 1개의 지연 시간 / 결과 기록
+ *
+ * 워커 스레드마다 자기 Samples(long 배열)에만 쓰고, 측정이 끝난 뒤 합쳐서 정렬해 백분위를 계산한다.
+ * (공유 히스토그램에 락을 잡으면 그 대기 시간이 측정값에 섞이므로)
+ */
+class LatencyRecorder {
+
+    private static final double[] PERCENTILES = {50, 90, 95, 99, 99.9};
+
+    private final String name;
+    private final List<Samples> samples = new CopyOnWriteArrayList<>();
+    private final Map<String, AtomicLong> outcomes = new ConcurrentHashMap<>();
+
+    LatencyRecorder(String name) {
+        this.name = name;
+    }
+
+    String getName() {
+        return name;
+    }
+
+    /** 워커 1개 전용 기록기 */
+    Samples newSamples() {
+        Samples worker = new Samples();
+        samples.add(worker);
+        return worker;
+    }
+
+    /** 응답 코드 / 예외 종류별 건수 (예: "200", "500", "HttpTimeoutException") */
+    void outcome(String key) {
+        outcomes.computeIfAbsent(key, k -> new AtomicLong()).incrementAndGet();
+    }
+
+    /**
+     * 측정 결과 요약
+     * @param elapsedNanos 측정 구간 길이 (처리량 계산용, 0 이하면 처리량 생략)
+     */
+    Map<String, Object> summarize(long elapsedNanos) {
+        long[] all = merge();
+        long errors = samples.stream().mapToLong(s -> s.errors).sum();
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("scenario", name);
+        result.put("requests", all.length);
+        result.put("errors", errors);
+        if (elapsedNanos > 0) {
+            result.put("seconds", round(elapsedNanos / 1e9));
+            result.put("throughput", round(all.length / (elapsedNanos / 1e9)));
+        }
+        if (all.length > 0) {
+            result.put("meanMs", round(Arrays.stream(all).average().orElse(0) / 1e6));
+            for (double percentile : PERCENTILES) {
+                result.put(label(percentile), millis(all, percentile));
+            }
+            result.put("maxMs", round(all[all.length - 1] / 1e6));
+        }
+        Map<String, Long> outcomeCounts = new LinkedHashMap<>();
+        outcomes.entrySet().stream()
+                .sorted(Map.Entry.comparingByKey())
+                .forEach(e -> outcomeCounts.put(e.getKey(), e.getValue().get()));
+        result.put("outcomes", outcomeCounts);
+        return result;
+    }
+
+    private long[] merge() {
+        int total = samples.stream().mapToInt(s -> s.size).sum();
+        long[] all = new long[total];
+        int offset = 0;
+        for (Samples worker : samples) {
+            System.arraycopy(worker.values, 0, all, offset, worker.size);
+            offset += worker.size;
+        }
+        Arrays.sort(all);
+        return all;
+    }
+
+    private static double millis(long[] sorted, double percentile) {
+        int index = (int) Math.ceil(percentile / 100.0 * sorted.length) - 1;
+        return round(sorted[Math.max(0, Math.min(index, sorted.length - 1))] / 1e6);
+    }
+
+    private static String label(double percentile) {
+        String value = percentile == Math.rint(percentile)
+                ? String.valueOf((int) percentile)
+                : String.valueOf(percentile).replace(".", "");
+        return "p" + value + "Ms";
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 100) / 100.0;
+    }
+
+    /** 워커 스레드 1개가 쓰는 지연 시간 배열 (나노초) */
+    static final class Samples {
+
+        private long[] values = new long[16_384];
+        private int size;
+        private long errors;
+
+        void record(long nanos) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = nanos;
+        }
+
+        void error() {
+            errors++;
+        }
+    }
+}
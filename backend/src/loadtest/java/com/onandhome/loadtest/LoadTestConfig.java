@@ -0,0 +1,42 @@
+package com.onandhome.loadtest;
+
+import jakarta.mail.internet.MimeMessage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 부하 테스트 전용 빈 (loadtest 프로필)
+ * - 메일은 SMTP 로 보내지 않고 건수만 센다.
+ */
+@Configuration
+@Profile("loadtest")
+@Slf4j
+public class LoadTestConfig {
+
+    // JavaMailSender 빈이 있으면 Spring Boot 의 SMTP 발송기는 만들어지지 않는다
+    @Bean
+    public CountingMailSender countingMailSender() {
+        return new CountingMailSender();
+    }
+
+    /** 발송 요청을 버리고 건수만 기록하는 JavaMailSender */
+    public static class CountingMailSender extends JavaMailSenderImpl {
+
+        private final AtomicLong sent = new AtomicLong();
+
+        @Override
+        protected void doSend(MimeMessage[] mimeMessages, Object[] originalMessages) {
+            sent.addAndGet(mimeMessages.length);
+            log.debug("메일 {}건 발송 생략 (부하 테스트)", mimeMessages.length);
+        }
+
+        public long getSent() {
+            return sent.get();
+        }
+    }
+}
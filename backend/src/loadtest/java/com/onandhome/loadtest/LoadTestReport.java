@@ -0,0 +1,95 @@
+package com.onandhome.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 부하 테스트 보고서 (report.json - 커밋 간 비교용 / report.md - 사람이 읽는 요약)
+ */
+@Slf4j
+class LoadTestReport {
+
+    private static final String[] COLUMNS = {"requests", "errors", "throughput", "meanMs", "p50Ms", "p90Ms", "p95Ms", "p99Ms", "p999Ms", "maxMs"};
+
+    private final Map<String, Object> body = new LinkedHashMap<>();
+    private final List<Map<String, Object>> scenarios = new ArrayList<>();
+
+    LoadTestReport(LoadTestSettings settings) {
+        Map<String, Object> config = new LinkedHashMap<>();
+        config.put("users", settings.users());
+        config.put("products", settings.products());
+        config.put("orders", settings.orders());
+        config.put("notifications", settings.notifications());
+        config.put("concurrency", settings.concurrency());
+        config.put("warmupSeconds", settings.warmup().toSeconds());
+        config.put("durationSeconds", settings.duration().toSeconds());
+        config.put("wsSubscribers", settings.wsSubscribers());
+        config.put("virtualThreads", settings.virtualThreads());
+        config.put("seed", settings.seed());
+
+        body.put("startedAt", LocalDateTime.now().toString());
+        body.put("javaVersion", System.getProperty("java.version"));
+        body.put("availableProcessors", Runtime.getRuntime().availableProcessors());
+        body.put("settings", config);
+        body.put("scenarios", scenarios);
+    }
+
+    void put(String key, Object value) {
+        body.put(key, value);
+    }
+
+    void addScenario(Map<String, Object> summary) {
+        scenarios.add(summary);
+    }
+
+    void write(Path dir) throws IOException {
+        Files.createDirectories(dir);
+        body.put("finishedAt", LocalDateTime.now().toString());
+
+        ObjectMapper mapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+        mapper.writeValue(dir.resolve("report.json").toFile(), body);
+        Files.writeString(dir.resolve("report.md"), markdown());
+        log.info("보고서 저장 - {}", dir.toAbsolutePath());
+    }
+
+    private String markdown() {
+        StringBuilder md = new StringBuilder("# OnAndHome 부하 테스트\n\n");
+        md.append("- 실행: ").append(body.get("startedAt")).append(" ~ ").append(body.get("finishedAt")).append('\n');
+        md.append("- Java ").append(body.get("javaVersion")).append(", CPU ").append(body.get("availableProcessors")).append("코어\n");
+        md.append("- 설정: ").append(body.get("settings")).append('\n');
+        md.append("- 시드: ").append(body.get("seed")).append("\n\n");
+
+        md.append("| 시나리오 |");
+        for (String column : COLUMNS) {
+            md.append(' ').append(column).append(" |");
+        }
+        md.append("\n|---|");
+        md.append("---:|".repeat(COLUMNS.length));
+        md.append('\n');
+        for (Map<String, Object> scenario : scenarios) {
+            md.append("| ").append(scenario.get("scenario")).append(" |");
+            for (String column : COLUMNS) {
+                md.append(' ').append(scenario.getOrDefault(column, "-")).append(" |");
+            }
+            md.append('\n');
+        }
+
+        for (Map.Entry<String, Object> entry : body.entrySet()) {
+            if (entry.getKey().equals("webSocket") || entry.getKey().equals("mail")) {
+                md.append("\n- ").append(entry.getKey()).append(": ").append(entry.getValue());
+            }
+        }
+        md.append("\n\n상태 코드 / 예외 분포는 report.json 의 outcomes, 서버 지표는 prometheus.txt 참고\n");
+        return md.toString();
+    }
+}
@@ -0,0 +1,193 @@
+package com.onandhome.loadtest;
+
+import com.onandhome.OnAndHomeApplication;
+import com.onandhome.util.JWTUtil;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.net.URLEncoder;
+import java.net.http.HttpRequest;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 부하 테스트 실행기 (./gradlew loadTest)
+ *
+ * 1. loadtest 프로필로 앱 기동 (H2 MySQL 모드 + 가짜 메일 발송기, 임의 포트, loadtest.virtual-threads 면 가상 스레드 모드)
+ * 2. DatasetSeeder 로 시드 (기본 상품 10만 / 주문 100만 / 알림 500만)
+ * 3. 시나리오 실행: 탐색 → 검색 → 장바구니 담기 → 주문 → 공지 등록(WebSocket 구독자 수신)
+ * 4. build/reports/loadtest 에 report.json / report.md / prometheus.txt 저장
+ */
+@Slf4j
+public class LoadTestRunner {
+
+    private static final String[] SORTS = {"latest", "price_asc", "price_desc"};
+    private static final int TOKEN_MINUTES = 24 * 60;
+
+    public static void main(String[] args) throws Exception {
+        LoadTestSettings settings = LoadTestSettings.fromSystemProperties();
+        LoadTestReport report = new LoadTestReport(settings);
+
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(OnAndHomeApplication.class)
+                .profiles("loadtest")
+                .run(appArgs(args, settings))) {
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            String baseUrl = "http://localhost:" + port;
+
+            report.put("seed", new DatasetSeeder(context.getBean(JdbcTemplate.class), settings).seed());
+
+            String[] tokens = issueTokens(context.getBean(JWTUtil.class), settings.users());
+            HttpLoadDriver driver = new HttpLoadDriver(settings);
+
+            report.addScenario(driver.run(browse(baseUrl, settings)));
+            report.addScenario(driver.run(search(baseUrl, settings)));
+            report.addScenario(driver.run(addToCart(baseUrl, settings, tokens)));
+            report.addScenario(driver.run(checkout(baseUrl, settings, tokens)));
+            noticeBroadcast(baseUrl, settings, tokens, driver, report);
+
+            report.put("mail", Map.of("sent", context.getBean(LoadTestConfig.CountingMailSender.class).getSent()));
+
+            Files.createDirectories(settings.reportDir());
+            // actuator 는 관리 포트(loadtest 프로필은 임의 포트)에만 열린다
+            String managementUrl = "http://localhost:" + context.getEnvironment().getProperty("local.management.port");
+            Files.writeString(settings.reportDir().resolve("prometheus.txt"), driver.get(managementUrl + "/actuator/prometheus"));
+            report.write(settings.reportDir());
+            log.info("부하 테스트 완료");
+        }
+    }
+
+    /** 상품 탐색 - 패싯 목록 3 : 상품 상세 1 */
+    private static HttpLoadDriver.Scenario browse(String baseUrl, LoadTestSettings settings) {
+        return new HttpLoadDriver.Scenario("browse", settings.concurrency(), random -> {
+            if (random.nextInt(4) == 0) {
+                return HttpLoadDriver.request(baseUrl + "/api/products/" + productId(random, settings)).GET().build();
+            }
+            String uri = baseUrl + "/api/products/browse?category=" + encode(pick(random, DatasetSeeder.CATEGORIES))
+                    + "&manufacturer=" + encode(pick(random, DatasetSeeder.MANUFACTURERS))
+                    + "&sort=" + pick(random, SORTS)
+                    + "&page=" + random.nextInt(5)
+                    + "&size=20";
+            return HttpLoadDriver.request(uri).GET().build();
+        });
+    }
+
+    /** 상품 검색 - 상품명 끝의 "M{id}" 로 몇 건만 걸리는 키워드 */
+    private static HttpLoadDriver.Scenario search(String baseUrl, LoadTestSettings settings) {
+        return new HttpLoadDriver.Scenario("search", settings.concurrency(), random ->
+                HttpLoadDriver.request(baseUrl + "/api/products/search?keyword=" + encode("M" + productId(random, settings)))
+                        .GET().build());
+    }
+
+    private static HttpLoadDriver.Scenario addToCart(String baseUrl, LoadTestSettings settings, String[] tokens) {
+        return new HttpLoadDriver.Scenario("add-to-cart", settings.concurrency(), random -> {
+            String body = "{\"productId\":" + productId(random, settings) + ",\"quantity\":1}";
+            return HttpLoadDriver.request(baseUrl + "/api/cart/add")
+                    .header("Authorization", "Bearer " + tokens[memberIndex(random, settings)])
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(body))
+                    .build();
+        });
+    }
+
+    /** 주문 생성 - 요청마다 새 Idempotency-Key (재시도 중복 방지 경로까지 포함해 측정) */
+    private static HttpLoadDriver.Scenario checkout(String baseUrl, LoadTestSettings settings, String[] tokens) {
+        return new HttpLoadDriver.Scenario("checkout", settings.concurrency(), random -> {
+            int index = memberIndex(random, settings);
+            String body = "{\"userId\":" + (index + 1)
+                    + ",\"orderItems\":[{\"productId\":" + productId(random, settings) + ",\"quantity\":1},"
+                    + "{\"productId\":" + productId(random, settings) + ",\"quantity\":2}]"
+                    + ",\"paymentMethod\":\"CARD\",\"recipientName\":\"부하회원\",\"recipientPhone\":\"010-0000-0000\""
+                    + ",\"shippingAddress\":\"서울특별시 강남구 테헤란로 1\",\"shippingRequest\":\"문 앞\"}";
+            return HttpLoadDriver.request(baseUrl + "/api/orders/create")
+                    .header("Authorization", "Bearer " + tokens[index])
+                    .header("Idempotency-Key", new UUID(random.nextLong(), random.nextLong()).toString())
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(body, StandardCharsets.UTF_8))
+                    .build();
+        });
+    }
+
+    /**
+     * 공지 등록 - 관리자 1명이 연달아 등록, 공지마다 전체 회원 알림 저장 + WebSocket 전송
+     * 구독자는 2번 회원부터 ws-subscribers 명
+     */
+    private static void noticeBroadcast(String baseUrl, LoadTestSettings settings, String[] tokens,
+                                        HttpLoadDriver driver, LoadTestReport report) throws InterruptedException {
+        List<String> subscribers = new ArrayList<>();
+        for (int id = 2; id <= Math.min(settings.users(), settings.wsSubscribers() + 1); id++) {
+            subscribers.add("load" + id);
+        }
+
+        try (WebSocketSubscribers webSocket = new WebSocketSubscribers()) {
+            webSocket.connect(baseUrl + "/ws", subscribers);
+
+            AtomicLong posted = new AtomicLong();
+            report.addScenario(driver.run(new HttpLoadDriver.Scenario("notice-broadcast", 1, random -> {
+                String body = "{\"title\":\"부하 테스트 공지 " + posted.incrementAndGet() + "\",\"writer\":\"관리자\","
+                        + "\"content\":\"공지 본문\"}";
+                return HttpLoadDriver.request(baseUrl + "/api/notices")
+                        .header("Authorization", "Bearer " + tokens[0])
+                        .header("Content-Type", "application/json")
+                        .POST(HttpRequest.BodyPublishers.ofString(body, StandardCharsets.UTF_8))
+                        .build();
+            })));
+
+            webSocket.awaitQuiet(Duration.ofSeconds(2));
+            report.put("webSocket", webSocket.summarize(posted.get() * webSocket.connected()));
+        }
+    }
+
+    /**
+     * 실행 인자 + 스레드 모드
+     * 기본값(threads.properties, @PropertySource)이 SpringApplicationBuilder.properties 보다 우선하므로 명령행 인자로 넘긴다.
+     */
+    private static String[] appArgs(String[] args, LoadTestSettings settings) {
+        String[] appArgs = Arrays.copyOf(args, args.length + 1);
+        appArgs[args.length] = "--spring.threads.virtual.enabled=" + settings.virtualThreads();
+        return appArgs;
+    }
+
+    /** 회원별 토큰 (UserController 로그인과 같은 클레임 구성), 0번이 관리자 */
+    private static String[] issueTokens(JWTUtil jwtUtil, int users) {
+        String[] tokens = new String[users];
+        for (int i = 0; i < users; i++) {
+            long id = i + 1;
+            Map<String, Object> claims = new HashMap<>();
+            claims.put("id", id);
+            claims.put("userId", id == 1 ? "loadadmin" : "load" + id);
+            claims.put("role", id == 1 ? 0 : 1);
+            claims.put("marketingConsent", false);
+            tokens[i] = jwtUtil.generateToken(claims, TOKEN_MINUTES);
+        }
+        return tokens;
+    }
+
+    /** 일반 회원(2번부터)의 토큰 배열 인덱스 */
+    private static int memberIndex(Random random, LoadTestSettings settings) {
+        return 1 + random.nextInt(settings.users() - 1);
+    }
+
+    private static long productId(Random random, LoadTestSettings settings) {
+        return 1 + random.nextInt(settings.products());
+    }
+
+    private static String pick(Random random, String[] values) {
+        return values[random.nextInt(values.length)];
+    }
+
+    private static String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,55 @@
+package com.onandhome.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * 부하 테스트 설정 (시스템 속성 loadtest.* - ./gradlew loadTest -Ploadtest.xxx=값 으로 전달)
+ *
+ * loadtest.scale         시드 규모 배율 (기본 1 = 상품 10만 / 주문 100만 / 알림 500만, 빠른 확인은 0.01)
+ * loadtest.users         회원 수 (기본 2000 - 공지 1건당 알림/WebSocket 전송 수)
+ * loadtest.concurrency   시나리오별 동시 요청 수 (기본 32)
+ * loadtest.duration      시나리오별 측정 시간(초, 기본 30) / loadtest.warmup 워밍업 시간(초, 기본 5)
+ * loadtest.ws-subscribers WebSocket 구독자 수 (기본 200)
+ * loadtest.virtual-threads 앱을 가상 스레드 모드로 실행 (기본 false - spring.threads.virtual.enabled)
+ * loadtest.seed          난수 시드 (기본 42 - 같은 값이면 같은 데이터와 같은 요청 순서)
+ * loadtest.report-dir    보고서 위치 (기본 build/reports/loadtest)
+ */
+record LoadTestSettings(int users,
+                        int products,
+                        int orders,
+                        int itemsPerOrder,
+                        int notifications,
+                        int concurrency,
+                        Duration duration,
+                        Duration warmup,
+                        int wsSubscribers,
+                        boolean virtualThreads,
+                        long seed,
+                        Path reportDir) {
+
+    static LoadTestSettings fromSystemProperties() {
+        double scale = Double.parseDouble(System.getProperty("loadtest.scale", "1"));
+        return new LoadTestSettings(
+                Math.max(2, intProperty("loadtest.users", 2_000)),
+                scaled(100_000, scale),
+                scaled(1_000_000, scale),
+                2,
+                scaled(5_000_000, scale),
+                intProperty("loadtest.concurrency", 32),
+                Duration.ofSeconds(intProperty("loadtest.duration", 30)),
+                Duration.ofSeconds(intProperty("loadtest.warmup", 5)),
+                intProperty("loadtest.ws-subscribers", 200),
+                Boolean.parseBoolean(System.getProperty("loadtest.virtual-threads", "false")),
+                Long.parseLong(System.getProperty("loadtest.seed", "42")),
+                Path.of(System.getProperty("loadtest.report-dir", "build/reports/loadtest")));
+    }
+
+    private static int intProperty(String name, int defaultValue) {
+        return Integer.parseInt(System.getProperty(name, String.valueOf(defaultValue)));
+    }
+
+    private static int scaled(int base, double scale) {
+        return Math.max(1, (int) Math.round(base * scale));
+    }
+}
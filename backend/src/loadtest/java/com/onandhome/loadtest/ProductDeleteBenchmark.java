@@ -0,0 +1,110 @@
+package com.onandhome.loadtest;
+
+import com.onandhome.OnAndHomeApplication;
+import com.onandhome.admin.adminProduct.ProductRepository;
+import com.onandhome.admin.adminProduct.ProductService;
+import com.onandhome.admin.adminProduct.entity.Product;
+import com.onandhome.review.ReviewRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 리뷰 1만 건 상품 삭제 벤치마크 (./gradlew productDeleteBenchmark)
+ *
+ * loadtest 프로필에 메모리 H2(MySQL 모드)로 앱을 띄우고 상품/리뷰/답글/좋아요를 JDBC 배치로 넣은 뒤
+ * 엔티티 단위 삭제(예전 deleteByProduct 방식)와 ProductService.delete(집합 단위 삭제)를 비교한다.
+ * 삭제 결과가 맞지 않으면 IllegalStateException 으로 실패하고, 소요 시간은 로그로 남긴다.
+ * 리뷰 수 조절: -Pbenchmark.reviews=50000
+ */
+@Slf4j
+public class ProductDeleteBenchmark {
+
+    private static final String DATASOURCE_URL = "jdbc:h2:mem:product-delete-benchmark;MODE=MySQL;DATABASE_TO_LOWER=TRUE;"
+            + "CASE_INSENSITIVE_IDENTIFIERS=TRUE;NON_KEYWORDS=USER;DB_CLOSE_DELAY=-1";
+
+    public static void main(String[] args) {
+        int reviews = Integer.parseInt(System.getProperty("benchmark.reviews", "10000"));
+
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(OnAndHomeApplication.class)
+                .profiles("loadtest")
+                .run("--spring.datasource.url=" + DATASOURCE_URL)) {
+            JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+            ProductRepository productRepository = context.getBean(ProductRepository.class);
+            ReviewRepository reviewRepository = context.getBean(ReviewRepository.class);
+            Seeder seeder = new Seeder(jdbcTemplate, productRepository, createUser(jdbcTemplate), reviews);
+
+            // 1. 엔티티 단위 삭제 (리뷰를 모두 로딩한 뒤 한 건씩 DELETE, 하위 컬렉션도 건별)
+            Long legacyId = seeder.seedProduct("엔티티 삭제");
+            long legacyStart = System.nanoTime();
+            context.getBean(TransactionTemplate.class).executeWithoutResult(status -> {
+                reviewRepository.deleteAll(reviewRepository.findByProductId(legacyId));
+                productRepository.deleteById(legacyId);
+            });
+            long legacyMillis = (System.nanoTime() - legacyStart) / 1_000_000;
+            verifyDeleted(jdbcTemplate, productRepository, legacyId);
+
+            // 2. 집합 단위 삭제 (FK 순서대로 IN 절 DELETE, 리뷰 ID 1000개씩)
+            Long productId = seeder.seedProduct("집합 삭제");
+            long start = System.nanoTime();
+            context.getBean(ProductService.class).delete(productId);
+            long millis = (System.nanoTime() - start) / 1_000_000;
+            verifyDeleted(jdbcTemplate, productRepository, productId);
+
+            log.info("상품 삭제 벤치마크 - 리뷰 {}건: 엔티티 단위 {}ms / 집합 단위 {}ms", reviews, legacyMillis, millis);
+        }
+    }
+
+    private static Long createUser(JdbcTemplate jdbcTemplate) {
+        jdbcTemplate.update("INSERT INTO user (user_id, password, username, role, active, created_at, " +
+                "marketing_consent, privacy_consent) VALUES ('bench', 'x', '벤치마크', 1, TRUE, NOW(), FALSE, TRUE)");
+        return jdbcTemplate.queryForObject("SELECT id FROM user WHERE user_id = 'bench'", Long.class);
+    }
+
+    /* 상품과 리뷰/답글/좋아요가 모두 지워졌는지 확인 */
+    private static void verifyDeleted(JdbcTemplate jdbcTemplate, ProductRepository productRepository, Long productId) {
+        if (productRepository.existsById(productId)) {
+            throw new IllegalStateException("상품이 삭제되지 않았습니다. id=" + productId);
+        }
+        Long remaining = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM review WHERE product_id = ?", Long.class, productId);
+        if (remaining != null && remaining > 0) {
+            throw new IllegalStateException("리뷰 " + remaining + "건이 남았습니다. productId=" + productId);
+        }
+    }
+
+    /* 상품 1개 + 리뷰 N건 (리뷰마다 좋아요 1건, 10건 중 1건은 답글) */
+    private record Seeder(JdbcTemplate jdbcTemplate, ProductRepository productRepository, Long userId, int reviews) {
+
+        Long seedProduct(String name) {
+            Product product = productRepository.save(Product.builder()
+                    .name("[벤치마크] " + name)
+                    .price(10_000)
+                    .stock(10)
+                    .build());
+            Long productId = product.getId();
+            Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+            List<Object[]> rows = new ArrayList<>(reviews);
+            for (int i = 0; i < reviews; i++) {
+                rows.add(new Object[]{"리뷰 " + i, i % 5 + 1, product.getName(), "벤치마크", now, productId, userId});
+            }
+            jdbcTemplate.batchUpdate("INSERT INTO review (content, rating, product_name, author, created_at, like_count, " +
+                    "product_id, user_id) VALUES (?, ?, ?, ?, ?, 0, ?, ?)", rows);
+
+            jdbcTemplate.update("INSERT INTO review_likes (review_id, user_id, created_at) " +
+                    "SELECT id, user_id, created_at FROM review WHERE product_id = ?", productId);
+            jdbcTemplate.update("INSERT INTO review_reply (content, created_at, review_id, user_id, author, username) " +
+                    "SELECT '답글', created_at, id, user_id, '관리자', 'admin' FROM review " +
+                    "WHERE product_id = ? AND MOD(id, 10) = 0", productId);
+            return productId;
+        }
+    }
+}
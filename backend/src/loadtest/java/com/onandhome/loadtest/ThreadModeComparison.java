@@ -0,0 +1,82 @@
+package com.onandhome.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 플랫폼 스레드 / 가상 스레드 모드 부하 테스트 결과 비교 (./gradlew loadTestThreadComparison)
+ *
+ * 두 모드의 report.json 을 읽어 시나리오별 처리량 / p50 / p99 / 오류 수를 나란히 적은 표를 만든다.
+ * 인자: 플랫폼 보고서 폴더, 가상 스레드 보고서 폴더, 결과 파일
+ */
+@Slf4j
+public class ThreadModeComparison {
+
+    private static final String[] METRICS = {"throughput", "p50Ms", "p99Ms", "errors"};
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 3) {
+            throw new IllegalArgumentException("사용법: ThreadModeComparison <platform 폴더> <virtual 폴더> <결과 파일>");
+        }
+        ObjectMapper mapper = new ObjectMapper();
+        JsonNode platform = mapper.readTree(Path.of(args[0], "report.json").toFile());
+        JsonNode virtual = mapper.readTree(Path.of(args[1], "report.json").toFile());
+
+        StringBuilder md = new StringBuilder("# 플랫폼 스레드 vs 가상 스레드\n\n");
+        md.append("- 동시 연결: ").append(platform.path("settings").path("concurrency").asInt())
+                .append(" / ").append(virtual.path("settings").path("concurrency").asInt()).append('\n');
+        md.append("- Java ").append(virtual.path("javaVersion").asText())
+                .append(", CPU ").append(virtual.path("availableProcessors").asInt()).append("코어\n\n");
+
+        md.append("| 시나리오 |");
+        for (String metric : METRICS) {
+            md.append(' ').append(metric).append(" (플랫폼) | ").append(metric).append(" (가상) |");
+        }
+        md.append(" 처리량 배율 |\n|---|");
+        md.append("---:|".repeat(METRICS.length * 2 + 1));
+        md.append('\n');
+
+        Map<String, JsonNode> virtualScenarios = byName(virtual);
+        for (Map.Entry<String, JsonNode> entry : byName(platform).entrySet()) {
+            JsonNode p = entry.getValue();
+            JsonNode v = virtualScenarios.get(entry.getKey());
+            if (v == null) {
+                continue;
+            }
+            md.append("| ").append(entry.getKey()).append(" |");
+            for (String metric : METRICS) {
+                md.append(' ').append(p.path(metric).asText("-")).append(" | ")
+                        .append(v.path(metric).asText("-")).append(" |");
+            }
+            double base = p.path("throughput").asDouble();
+            md.append(' ').append(base > 0 ? String.format("%.2fx", v.path("throughput").asDouble() / base) : "-").append(" |\n");
+        }
+
+        md.append("\n- WebSocket 수신 (플랫폼): ").append(platform.path("webSocket").path("received").asLong())
+                .append(" / ").append(platform.path("webSocket").path("expected").asLong());
+        md.append("\n- WebSocket 수신 (가상): ").append(virtual.path("webSocket").path("received").asLong())
+                .append(" / ").append(virtual.path("webSocket").path("expected").asLong());
+        md.append("\n\n가상 스레드 고정(pinning) 구간은 virtual/prometheus.txt 의 jvm_threads_virtual_pinned_seconds 와 "
+                + "virtual/recording.jfr (jfr print --events jdk.VirtualThreadPinned) 참고\n");
+
+        Path out = Path.of(args[2]);
+        Files.createDirectories(out.toAbsolutePath().getParent());
+        Files.writeString(out, md.toString());
+        log.info("비교 결과 저장 - {}", out.toAbsolutePath());
+    }
+
+    private static Map<String, JsonNode> byName(JsonNode report) {
+        Map<String, JsonNode> scenarios = new LinkedHashMap<>();
+        for (JsonNode scenario : report.path("scenarios")) {
+            scenarios.put(scenario.path("scenario").asText(), scenario);
+        }
+        return scenarios;
+    }
+}
@@ -0,0 +1,141 @@
+package com.onandhome.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.messaging.converter.StringMessageConverter;
+import org.springframework.messaging.simp.stomp.StompFrameHandler;
+import org.springframework.messaging.simp.stomp.StompHeaders;
+import org.springframework.messaging.simp.stomp.StompSession;
+import org.springframework.messaging.simp.stomp.StompSessionHandlerAdapter;
+import org.springframework.web.socket.client.standard.StandardWebSocketClient;
+import org.springframework.web.socket.messaging.WebSocketStompClient;
+import org.springframework.web.socket.sockjs.client.SockJsClient;
+import org.springframework.web.socket.sockjs.client.WebSocketTransport;
+
+import java.lang.reflect.Type;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 공지 알림 WebSocket 구독자
+ *
+ * 프론트와 같은 방식(SockJS /ws + STOMP, "/user/{userId}/queue/notifications" 구독)으로 N명을 붙여 두고
+ * 공지 등록 시나리오 동안 받은 알림 수와 전달 지연(payload timestamp → 수신 시각)을 기록한다.
+ * 받은 수는 기대값(공지 수 × 구독자 수)과 함께 보고서에 그대로 남긴다.
+ */
+@Slf4j
+class WebSocketSubscribers implements AutoCloseable {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final WebSocketStompClient stompClient;
+    private final List<StompSession> sessions = new ArrayList<>();
+    private final LatencyRecorder connects = new LatencyRecorder("ws-connect");
+    private final LatencyRecorder deliveries = new LatencyRecorder("ws-delivery");
+    private final LatencyRecorder.Samples connectSamples = connects.newSamples();
+    private final LatencyRecorder.Samples deliverySamples = deliveries.newSamples();
+    private final AtomicLong received = new AtomicLong();
+
+    WebSocketSubscribers() {
+        stompClient = new WebSocketStompClient(new SockJsClient(List.of(new WebSocketTransport(new StandardWebSocketClient()))));
+        stompClient.setMessageConverter(new StringMessageConverter());
+        // 하트비트를 쓰려면 TaskScheduler 가 필요 - 측정 시간 동안만 붙어 있으므로 끈다
+        stompClient.setDefaultHeartbeat(new long[]{0, 0});
+    }
+
+    /** 구독자 연결 (실패한 연결은 ws-connect 오류로 남기고 계속 진행) */
+    void connect(String url, List<String> loginIds) {
+        for (String loginId : loginIds) {
+            long startedAt = System.nanoTime();
+            try {
+                StompSession session = stompClient.connectAsync(url, new StompSessionHandlerAdapter() {
+                }).get(10, TimeUnit.SECONDS);
+                session.subscribe("/user/" + loginId + "/queue/notifications", new NotificationHandler());
+                synchronized (connectSamples) {
+                    connectSamples.record(System.nanoTime() - startedAt);
+                }
+                connects.outcome("CONNECTED");
+                sessions.add(session);
+            } catch (Exception e) {
+                synchronized (connectSamples) {
+                    connectSamples.error();
+                }
+                connects.outcome(e.getClass().getSimpleName());
+            }
+        }
+        log.info("WebSocket 구독자 연결 - {}/{}", sessions.size(), loginIds.size());
+    }
+
+    int connected() {
+        return sessions.size();
+    }
+
+    long received() {
+        return received.get();
+    }
+
+    /** 알림이 더 들어오지 않을 때까지 잠시 기다린다 (마지막 공지의 전송 꼬리) */
+    void awaitQuiet(Duration quietPeriod) throws InterruptedException {
+        long last = -1;
+        while (received.get() != last) {
+            last = received.get();
+            Thread.sleep(quietPeriod.toMillis());
+        }
+    }
+
+    Map<String, Object> summarize(long expected) {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("subscribers", sessions.size());
+        result.put("received", received.get());
+        result.put("expected", expected);
+        result.put("connect", connects.summarize(0));
+        synchronized (deliverySamples) {
+            result.put("delivery", deliveries.summarize(0));
+        }
+        return result;
+    }
+
+    @Override
+    public void close() {
+        for (StompSession session : sessions) {
+            try {
+                session.disconnect();
+            } catch (Exception e) {
+                log.debug("WebSocket 연결 종료 실패: {}", e.getMessage());
+            }
+        }
+        stompClient.stop();
+    }
+
+    /** 알림 수신 - 여러 세션의 수신 스레드가 동시에 들어오므로 기록은 동기화 */
+    private class NotificationHandler implements StompFrameHandler {
+
+        @Override
+        public Type getPayloadType(StompHeaders headers) {
+            return String.class;
+        }
+
+        @Override
+        public void handleFrame(StompHeaders headers, Object payload) {
+            received.incrementAndGet();
+            try {
+                JsonNode body = objectMapper.readTree((String) payload);
+                if (body.hasNonNull("timestamp")) {
+                    long nanos = Duration.between(LocalDateTime.parse(body.get("timestamp").asText()), LocalDateTime.now()).toNanos();
+                    synchronized (deliverySamples) {
+                        deliverySamples.record(Math.max(0, nanos));
+                    }
+                }
+                deliveries.outcome(body.path("type").asText("UNKNOWN"));
+            } catch (Exception e) {
+                deliveries.outcome(e.getClass().getSimpleName());
+            }
+        }
+    }
+}
@@ -6,12 +6,14 @@ import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.onandhome.Notice.dto.NoticeDto;
 import com.onandhome.Notice.entity.Notice;
+import com.onandhome.Notice.event.NoticeChangedEvent;
 import com.onandhome.notification.NotificationService;
 import com.onandhome.user.UserRepository;
 import com.onandhome.user.entity.User;
@@ -32,6 +34,8 @@ public class NoticeService {
     /* 실시간 알림(WebSocket) 메시지 전송 도구 */
     private final SimpMessagingTemplate messagingTemplate;
 
+    private final ApplicationEventPublisher eventPublisher;
+
     /** ✅ 전체 조회 (DTO 변환 포함) */
     public List<NoticeDto> findAll() {
         return noticeRepository.findAll()
@@ -61,6 +65,7 @@ public class NoticeService {
         notice.setUpdatedAt(null);
 
         Notice savedNotice = noticeRepository.save(notice);
+        eventPublisher.publishEvent(new NoticeChangedEvent(savedNotice.getId(), 1));
 
         // 모든 활성 사용자에게 알림 전송 (DB + WebSocket)
         try {
@@ -145,6 +150,7 @@ public class NoticeService {
         }
 
         noticeRepository.deleteById(id);
+        eventPublisher.publishEvent(new NoticeChangedEvent(id, -1));
         log.info("공지사항 {} 삭제 완료", id);
     }
 
@@ -0,0 +1,16 @@
+package com.onandhome.Notice.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 공지사항 등록/삭제 이벤트
+ * delta: 등록 +1, 삭제 -1
+ */
+@Getter
+@AllArgsConstructor
+public class NoticeChangedEvent {
+
+    private final Long noticeId;
+    private final int delta;
+}
@@ -8,12 +8,18 @@ import java.util.List;
 
 // JWT 토큰 생성/검증 유틸리티 - JWTCheckFilter에 주입됨
 import com.onandhome.util.JWTUtil;
+// 관리 포트(헬스 체크 / Prometheus) 요청 판별
+import com.onandhome.config.metrics.ManagementPortMatcher;
 // Spring Bean 등록 어노테이션
 import org.springframework.context.annotation.Bean;
 // Spring 설정 클래스임을 나타내는 어노테이션
 import org.springframework.context.annotation.Configuration;
+// HTTP 메서드 (GET/POST 등) 구분
+import org.springframework.http.HttpMethod;
 // Spring Security HTTP 설정 빌더
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
+// 특정 경로를 보안 필터 체인에서 완전히 제외하는 설정
+import org.springframework.security.config.annotation.web.configuration.WebSecurityCustomizer;
 // 세션 생성 정책 (JWT 사용 시 STATELESS 설정)
 import org.springframework.security.config.http.SessionCreationPolicy;
 // BCrypt 암호화 (비밀번호 해싱)
@@ -67,12 +73,16 @@ public class SecurityConfig {
     // JWTCheckFilter 생성 시 주입됨
     private final JWTUtil jwtUtil;
 
+    // 관리 포트로 들어온 헬스 체크 / Prometheus 수집 요청
+    private final ManagementPortMatcher managementPortMatcher;
+
     /**
      * 생성자 주입 - Spring이 JWTUtil Bean을 자동으로 주입
      * @param jwtUtil - JWTUtil Bean (JWTUtil.java에서 @Component로 등록됨)
      */
-    public SecurityConfig(JWTUtil jwtUtil) {
+    public SecurityConfig(JWTUtil jwtUtil, ManagementPortMatcher managementPortMatcher) {
         this.jwtUtil = jwtUtil;
+        this.managementPortMatcher = managementPortMatcher;
     }
 
     /**
@@ -97,6 +107,17 @@ public class SecurityConfig {
         return new BCryptPasswordEncoder();
     }
 
+    /**
+     * 보안 필터 체인을 아예 거치지 않는 경로
+     *
+     * 업로드 이미지(/uploads/**)는 상품 목록 한 페이지에서도 수십 건씩 요청되는 공개 파일이므로
+     * JWT 검증, 세션/보안 컨텍스트 처리 없이 바로 UploadServingController 로 전달한다.
+     */
+    @Bean
+    public WebSecurityCustomizer webSecurityCustomizer() {
+        return web -> web.ignoring().requestMatchers("/uploads/**");
+    }
+
     /**
      * Spring Security 필터 체인 설정
      * 
@@ -209,9 +230,9 @@ public class SecurityConfig {
          * 4. authorizeHttpRequests 권한 체크
          * 5. 컨트롤러 메소드 실행
          * 
-         * new JWTCheckFilter(jwtUtil): JWTUtil을 생성자로 주입
+         * new JWTCheckFilter(jwtUtil, managementPortMatcher): JWTUtil과 관리 포트 요청 판별을 생성자로 주입
          */
-        http.addFilterBefore(new JWTCheckFilter(jwtUtil), UsernamePasswordAuthenticationFilter.class);
+        http.addFilterBefore(new JWTCheckFilter(jwtUtil, managementPortMatcher), UsernamePasswordAuthenticationFilter.class);
 
         // 권한 / 경로 접근 설정
         http.authorizeHttpRequests(auth -> auth
@@ -227,6 +248,10 @@ public class SecurityConfig {
                 // ========== 웹소켓 ==========
                 .requestMatchers("/ws/**").permitAll()
 
+                // ========== 지표 수집 (Prometheus) / 헬스 체크 ==========
+                // 관리 포트(management.server.port, 내부 주소에만 바인딩)로 들어온 요청만 허용
+                .requestMatchers(managementPortMatcher).permitAll()
+
                 // ========== 인증 API (로그인, 회원가입, 토큰 갱신, 이메일 인증, 비밀번호 재설정) ==========
                 .requestMatchers("/api/user/login", "/api/user/register",
                         "/api/user/refresh",  // ⭐ 추가: 토큰 갱신
@@ -252,7 +277,7 @@ public class SecurityConfig {
                 .requestMatchers("/api/notices/**").permitAll()
 
                 // ========== 관리자 API 중 예외 ==========
-                .requestMatchers("/api/admin/products/categories").permitAll()
+                .requestMatchers(HttpMethod.GET, "/api/admin/products/categories").permitAll()
 
                 // ========== 찜하기 공개 API (찜 개수 조회) - 반드시 인증 API보다 위에 ==========
                 .requestMatchers("/api/favorites/count/**").permitAll()
@@ -320,7 +345,8 @@ public class SecurityConfig {
         // ⭐ JWT 헤더 노출 - 브라우저가 Authorization 헤더 읽을 수 있게
         config.setExposedHeaders(List.of(
                 "Authorization",
-                "Set-Cookie"
+                "Set-Cookie",
+                "Idempotent-Replayed"
         ));
 
         // Preflight 캐시 시간
@@ -0,0 +1,82 @@
+package com.onandhome.admin.adminAnalytics;
+
+import com.onandhome.admin.adminAnalytics.dto.SalesPointDTO;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// 관리자 매출 분석 REST API
+// 집계 테이블 기반 매출/판매량/취소율 차트 데이터 조회와 집계 백필을 담당한다.
+@Slf4j
+@RestController
+@RequestMapping("/api/admin/analytics")
+@RequiredArgsConstructor
+public class SalesAnalyticsRestController {
+
+    private final SalesAnalyticsService salesAnalyticsService;
+    private final SalesRollupService salesRollupService;
+
+    // 매출 시계열 조회
+    // GET /api/admin/analytics/sales?granularity=DAY&dimension=CATEGORY&from=2025-01-01&to=2025-12-31
+    // granularity: HOUR(최대 31일) / DAY, dimension: TOTAL / PRODUCT / CATEGORY / PAYMENT_METHOD
+    @GetMapping("/sales")
+    public ResponseEntity<Map<String, Object>> getSales(
+            @RequestParam(defaultValue = "DAY") SalesAnalyticsService.Granularity granularity,
+            @RequestParam(defaultValue = "TOTAL") SalesAnalyticsService.Dimension dimension,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        Map<String, Object> response = new HashMap<>();
+        try {
+            List<SalesPointDTO> points = salesAnalyticsService.getSalesSeries(granularity, dimension, from, to);
+
+            response.put("success", true);
+            response.put("granularity", granularity);
+            response.put("dimension", dimension);
+            response.put("data", points);
+            return ResponseEntity.ok(response);
+        } catch (IllegalArgumentException e) {
+            response.put("success", false);
+            response.put("message", e.getMessage());
+            return ResponseEntity.badRequest().body(response);
+        }
+    }
+
+    // 집계 백필 시작 (비동기)
+    // POST /api/admin/analytics/backfill?from=2024-01-01&to=2024-12-31
+    @PostMapping("/backfill")
+    public ResponseEntity<Map<String, Object>> startBackfill(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        Map<String, Object> response = new HashMap<>();
+        try {
+            response.put("success", true);
+            response.put("data", salesRollupService.startBackfill(from, to));
+            return ResponseEntity.status(HttpStatus.ACCEPTED).body(response);
+        } catch (IllegalArgumentException e) {
+            response.put("success", false);
+            response.put("message", e.getMessage());
+            return ResponseEntity.badRequest().body(response);
+        } catch (IllegalStateException e) {
+            response.put("success", false);
+            response.put("message", e.getMessage());
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(response);
+        }
+    }
+
+    // 집계 백필 진행 상태 조회
+    @GetMapping("/backfill")
+    public ResponseEntity<Map<String, Object>> getBackfillStatus() {
+        Map<String, Object> response = new HashMap<>();
+        response.put("success", true);
+        response.put("data", salesRollupService.getBackfillStatus());
+        return ResponseEntity.ok(response);
+    }
+}
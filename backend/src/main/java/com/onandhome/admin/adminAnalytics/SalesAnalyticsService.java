@@ -0,0 +1,87 @@
+package com.onandhome.admin.adminAnalytics;
+
+import com.onandhome.admin.adminAnalytics.dto.SalesPointDTO;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 매출 분석 조회 서비스
+ * 주문 테이블이 아닌 시간별/일별 집계 테이블에서 차트 데이터를 만든다.
+ * (1년치 일별 차트 = 최대 365개 구간 × 차원 값 수 만큼의 집계 행만 읽음)
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional(readOnly = true)
+public class SalesAnalyticsService {
+
+    /* 시간별 조회 최대 기간 (그 이상은 일별로 조회) */
+    private static final long MAX_HOURLY_RANGE_DAYS = 31;
+
+    private final SalesHourlyStatRepository hourlyStatRepository;
+    private final SalesDailyStatRepository dailyStatRepository;
+
+    public enum Granularity { HOUR, DAY }
+
+    public enum Dimension { TOTAL, PRODUCT, CATEGORY, PAYMENT_METHOD }
+
+    /**
+     * 기간별 매출 시계열 조회
+     *
+     * @param from 시작일 (포함)
+     * @param to   종료일 (포함)
+     */
+    public List<SalesPointDTO> getSalesSeries(Granularity granularity, Dimension dimension,
+                                              LocalDate from, LocalDate to) {
+        if (from == null || to == null || from.isAfter(to)) {
+            throw new IllegalArgumentException("조회 기간이 올바르지 않습니다.");
+        }
+
+        if (granularity == Granularity.HOUR) {
+            if (ChronoUnit.DAYS.between(from, to) >= MAX_HOURLY_RANGE_DAYS) {
+                throw new IllegalArgumentException("시간별 조회는 최대 " + MAX_HOURLY_RANGE_DAYS + "일까지 가능합니다.");
+            }
+            LocalDateTime start = from.atStartOfDay();
+            LocalDateTime end = to.plusDays(1).atStartOfDay();
+            return switch (dimension) {
+                case TOTAL -> toTotalPoints(hourlyStatRepository.sumByBucket(start, end));
+                case PRODUCT -> toKeyedPoints(hourlyStatRepository.sumByBucketAndProduct(start, end));
+                case CATEGORY -> toKeyedPoints(hourlyStatRepository.sumByBucketAndCategory(start, end));
+                case PAYMENT_METHOD -> toKeyedPoints(hourlyStatRepository.sumByBucketAndPaymentMethod(start, end));
+            };
+        }
+
+        return switch (dimension) {
+            case TOTAL -> toTotalPoints(dailyStatRepository.sumByDate(from, to));
+            case PRODUCT -> toKeyedPoints(dailyStatRepository.sumByDateAndProduct(from, to));
+            case CATEGORY -> toKeyedPoints(dailyStatRepository.sumByDateAndCategory(from, to));
+            case PAYMENT_METHOD -> toKeyedPoints(dailyStatRepository.sumByDateAndPaymentMethod(from, to));
+        };
+    }
+
+    /* [bucket, units, revenue, canceledUnits, canceledRevenue] */
+    private List<SalesPointDTO> toTotalPoints(List<Object[]> rows) {
+        return rows.stream()
+                .map(r -> SalesPointDTO.of(r[0], null, toLong(r[1]), toLong(r[2]), toLong(r[3]), toLong(r[4])))
+                .collect(Collectors.toList());
+    }
+
+    /* [bucket, key, units, revenue, canceledUnits, canceledRevenue] */
+    private List<SalesPointDTO> toKeyedPoints(List<Object[]> rows) {
+        return rows.stream()
+                .map(r -> SalesPointDTO.of(r[0], r[1], toLong(r[2]), toLong(r[3]), toLong(r[4]), toLong(r[5])))
+                .collect(Collectors.toList());
+    }
+
+    private static long toLong(Object value) {
+        return value instanceof Number n ? n.longValue() : 0L;
+    }
+}
@@ -0,0 +1,69 @@
+package com.onandhome.admin.adminAnalytics;
+
+import com.onandhome.admin.adminAnalytics.entity.SalesDailyStat;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface SalesDailyStatRepository extends JpaRepository<SalesDailyStat, Long> {
+
+    // 증분 반영 (없으면 INSERT, 있으면 값을 더함) - SalesHourlyStatRepository.upsert 와 동일한 방식
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "sales_daily_stat"))
+    @Modifying
+    @Query(value = "INSERT INTO sales_daily_stat " +
+            "(stat_date, product_id, category, payment_method, units, revenue, canceled_units, canceled_revenue, updated_at) " +
+            "VALUES (:statDate, :productId, :category, :paymentMethod, :units, :revenue, :canceledUnits, :canceledRevenue, NOW()) " +
+            "ON DUPLICATE KEY UPDATE " +
+            "units = units + VALUES(units), " +
+            "revenue = revenue + VALUES(revenue), " +
+            "canceled_units = canceled_units + VALUES(canceled_units), " +
+            "canceled_revenue = canceled_revenue + VALUES(canceled_revenue), " +
+            "category = VALUES(category), " +
+            "updated_at = NOW()",
+            nativeQuery = true)
+    void upsert(@Param("statDate") LocalDate statDate,
+                @Param("productId") Long productId,
+                @Param("category") String category,
+                @Param("paymentMethod") String paymentMethod,
+                @Param("units") long units,
+                @Param("revenue") long revenue,
+                @Param("canceledUnits") long canceledUnits,
+                @Param("canceledRevenue") long canceledRevenue);
+
+    // 백필 전 일자 데이터 삭제
+    @Modifying
+    @Query("DELETE FROM SalesDailyStat s WHERE s.statDate = :statDate")
+    int deleteByStatDate(@Param("statDate") LocalDate statDate);
+
+    // ==================== 차트 조회 ====================
+    // 결과 행: [bucket, (key), units, revenue, canceledUnits, canceledRevenue] - 전체 합계 쿼리는 key 없음
+
+    @Query("SELECT s.statDate, SUM(s.units), SUM(s.revenue), SUM(s.canceledUnits), SUM(s.canceledRevenue) " +
+            "FROM SalesDailyStat s WHERE s.statDate >= :from AND s.statDate <= :to " +
+            "GROUP BY s.statDate ORDER BY s.statDate")
+    List<Object[]> sumByDate(@Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    @Query("SELECT s.statDate, s.productId, SUM(s.units), SUM(s.revenue), SUM(s.canceledUnits), SUM(s.canceledRevenue) " +
+            "FROM SalesDailyStat s WHERE s.statDate >= :from AND s.statDate <= :to " +
+            "GROUP BY s.statDate, s.productId ORDER BY s.statDate, s.productId")
+    List<Object[]> sumByDateAndProduct(@Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    @Query("SELECT s.statDate, s.category, SUM(s.units), SUM(s.revenue), SUM(s.canceledUnits), SUM(s.canceledRevenue) " +
+            "FROM SalesDailyStat s WHERE s.statDate >= :from AND s.statDate <= :to " +
+            "GROUP BY s.statDate, s.category ORDER BY s.statDate, s.category")
+    List<Object[]> sumByDateAndCategory(@Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    @Query("SELECT s.statDate, s.paymentMethod, SUM(s.units), SUM(s.revenue), SUM(s.canceledUnits), SUM(s.canceledRevenue) " +
+            "FROM SalesDailyStat s WHERE s.statDate >= :from AND s.statDate <= :to " +
+            "GROUP BY s.statDate, s.paymentMethod ORDER BY s.statDate, s.paymentMethod")
+    List<Object[]> sumByDateAndPaymentMethod(@Param("from") LocalDate from, @Param("to") LocalDate to);
+}
@@ -0,0 +1,71 @@
+package com.onandhome.admin.adminAnalytics;
+
+import com.onandhome.admin.adminAnalytics.entity.SalesHourlyStat;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface SalesHourlyStatRepository extends JpaRepository<SalesHourlyStat, Long> {
+
+    // 증분 반영 (없으면 INSERT, 있으면 값을 더함)
+    // (bucket_start, product_id, payment_method) 유니크 키 기준으로 DB에서 원자적으로 처리되므로
+    // 동시에 여러 주문이 같은 행을 갱신해도 유실되지 않는다.
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "sales_hourly_stat"))
+    @Modifying
+    @Query(value = "INSERT INTO sales_hourly_stat " +
+            "(bucket_start, product_id, category, payment_method, units, revenue, canceled_units, canceled_revenue, updated_at) " +
+            "VALUES (:bucketStart, :productId, :category, :paymentMethod, :units, :revenue, :canceledUnits, :canceledRevenue, NOW()) " +
+            "ON DUPLICATE KEY UPDATE " +
+            "units = units + VALUES(units), " +
+            "revenue = revenue + VALUES(revenue), " +
+            "canceled_units = canceled_units + VALUES(canceled_units), " +
+            "canceled_revenue = canceled_revenue + VALUES(canceled_revenue), " +
+            "category = VALUES(category), " +
+            "updated_at = NOW()",
+            nativeQuery = true)
+    void upsert(@Param("bucketStart") LocalDateTime bucketStart,
+                @Param("productId") Long productId,
+                @Param("category") String category,
+                @Param("paymentMethod") String paymentMethod,
+                @Param("units") long units,
+                @Param("revenue") long revenue,
+                @Param("canceledUnits") long canceledUnits,
+                @Param("canceledRevenue") long canceledRevenue);
+
+    // 백필 전 구간 데이터 삭제
+    @Modifying
+    @Query("DELETE FROM SalesHourlyStat s WHERE s.bucketStart >= :from AND s.bucketStart < :to")
+    int deleteByBucketRange(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+    // ==================== 차트 조회 ====================
+    // 결과 행: [bucket, (key), units, revenue, canceledUnits, canceledRevenue] - 전체 합계 쿼리는 key 없음
+
+    @Query("SELECT s.bucketStart, SUM(s.units), SUM(s.revenue), SUM(s.canceledUnits), SUM(s.canceledRevenue) " +
+            "FROM SalesHourlyStat s WHERE s.bucketStart >= :from AND s.bucketStart < :to " +
+            "GROUP BY s.bucketStart ORDER BY s.bucketStart")
+    List<Object[]> sumByBucket(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+    @Query("SELECT s.bucketStart, s.productId, SUM(s.units), SUM(s.revenue), SUM(s.canceledUnits), SUM(s.canceledRevenue) " +
+            "FROM SalesHourlyStat s WHERE s.bucketStart >= :from AND s.bucketStart < :to " +
+            "GROUP BY s.bucketStart, s.productId ORDER BY s.bucketStart, s.productId")
+    List<Object[]> sumByBucketAndProduct(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+    @Query("SELECT s.bucketStart, s.category, SUM(s.units), SUM(s.revenue), SUM(s.canceledUnits), SUM(s.canceledRevenue) " +
+            "FROM SalesHourlyStat s WHERE s.bucketStart >= :from AND s.bucketStart < :to " +
+            "GROUP BY s.bucketStart, s.category ORDER BY s.bucketStart, s.category")
+    List<Object[]> sumByBucketAndCategory(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+    @Query("SELECT s.bucketStart, s.paymentMethod, SUM(s.units), SUM(s.revenue), SUM(s.canceledUnits), SUM(s.canceledRevenue) " +
+            "FROM SalesHourlyStat s WHERE s.bucketStart >= :from AND s.bucketStart < :to " +
+            "GROUP BY s.bucketStart, s.paymentMethod ORDER BY s.bucketStart, s.paymentMethod")
+    List<Object[]> sumByBucketAndPaymentMethod(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+}
@@ -0,0 +1,230 @@
+package com.onandhome.admin.adminAnalytics;
+
+import com.onandhome.admin.adminAnalytics.dto.SalesFactRow;
+import com.onandhome.config.threads.VirtualThreadConfig;
+import com.onandhome.order.OrderItemRepository;
+import com.onandhome.order.event.OrderCanceledEvent;
+import com.onandhome.order.event.OrderCreatedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Stream;
+
+/**
+ * 매출 집계(롤업) 서비스
+ *
+ * - 증분: 주문 생성/취소 이벤트가 커밋되면 해당 주문 항목을 시간별/일별 집계 행에 더한다.
+ * - 백필: 과거 주문을 하루 단위로 스트리밍 조회하여 집계 행을 다시 만든다.
+ *         (하루 구간마다 별도 트랜잭션 → 기간이 길어도 메모리/락 범위가 하루로 제한됨)
+ *
+ * 취소는 주문이 생성된 구간에 기록되므로, 한 구간의 취소율은 그 구간에 들어온 주문 기준이다.
+ */
+@Service
+@Slf4j
+public class SalesRollupService {
+
+    /* 삭제된 상품의 주문 항목을 모으는 product_id 값 */
+    static final long UNKNOWN_PRODUCT_ID = 0L;
+
+    private final OrderItemRepository orderItemRepository;
+    private final SalesHourlyStatRepository hourlyStatRepository;
+    private final SalesDailyStatRepository dailyStatRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    /* 백필 실행 스레드 (가상 스레드 모드면 가상 스레드) - 동시 실행은 backfillStatus 로 막는다 */
+    private final AsyncTaskExecutor backgroundExecutor;
+    private final AtomicReference<BackfillStatus> backfillStatus = new AtomicReference<>(BackfillStatus.idle());
+
+    public SalesRollupService(OrderItemRepository orderItemRepository,
+                              SalesHourlyStatRepository hourlyStatRepository,
+                              SalesDailyStatRepository dailyStatRepository,
+                              PlatformTransactionManager transactionManager,
+                              @Qualifier(VirtualThreadConfig.BACKGROUND_EXECUTOR) AsyncTaskExecutor backgroundExecutor) {
+        this.orderItemRepository = orderItemRepository;
+        this.hourlyStatRepository = hourlyStatRepository;
+        this.dailyStatRepository = dailyStatRepository;
+        // 커밋 이후(AFTER_COMMIT) 리스너에서도 쓰이므로 항상 새 트랜잭션으로 실행
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.backgroundExecutor = backgroundExecutor;
+    }
+
+    // ==================== 증분 집계 ====================
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onOrderCreated(OrderCreatedEvent event) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                for (SalesFactRow row : orderItemRepository.findSalesFactsByOrderId(event.getOrderId())) {
+                    apply(row, row.getCount(), row.getAmount(), 0, 0);
+                }
+            });
+        } catch (Exception e) {
+            // 집계 실패가 주문 처리에 영향을 주지 않도록 로그만 남긴다. (백필로 복구 가능)
+            log.error("매출 집계 반영 실패 - orderId: {}, {}", event.getOrderId(), e.getMessage(), e);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onOrderCanceled(OrderCanceledEvent event) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                for (SalesFactRow row : orderItemRepository.findSalesFactsByOrderId(event.getOrderId())) {
+                    apply(row, 0, 0, row.getCount(), row.getAmount());
+                }
+            });
+        } catch (Exception e) {
+            log.error("매출 취소 집계 반영 실패 - orderId: {}, {}", event.getOrderId(), e.getMessage(), e);
+        }
+    }
+
+    private void apply(SalesFactRow row, long units, long revenue, long canceledUnits, long canceledRevenue) {
+        LocalDateTime orderedAt = row.getOrderedAt();
+        Long productId = row.getProductId() != null ? row.getProductId() : UNKNOWN_PRODUCT_ID;
+        String paymentMethod = row.getPaymentMethod().name();
+
+        hourlyStatRepository.upsert(orderedAt.truncatedTo(ChronoUnit.HOURS), productId, row.getCategory(),
+                paymentMethod, units, revenue, canceledUnits, canceledRevenue);
+        dailyStatRepository.upsert(orderedAt.toLocalDate(), productId, row.getCategory(),
+                paymentMethod, units, revenue, canceledUnits, canceledRevenue);
+    }
+
+    // ==================== 백필 ====================
+
+    /**
+     * 백필 시작 (비동기)
+     * [from, to] 일자의 집계 행을 주문 이력으로부터 다시 만든다.
+     * 이미 실행 중이면 IllegalStateException.
+     */
+    public BackfillStatus startBackfill(LocalDate from, LocalDate to) {
+        if (from == null || to == null || from.isAfter(to)) {
+            throw new IllegalArgumentException("백필 기간이 올바르지 않습니다.");
+        }
+
+        BackfillStatus current = backfillStatus.get();
+        BackfillStatus started = BackfillStatus.running(from, to);
+        if (current.running() || !backfillStatus.compareAndSet(current, started)) {
+            throw new IllegalStateException("이미 백필이 진행 중입니다.");
+        }
+
+        backgroundExecutor.execute(() -> runBackfill(from, to));
+        return started;
+    }
+
+    public BackfillStatus getBackfillStatus() {
+        return backfillStatus.get();
+    }
+
+    private void runBackfill(LocalDate from, LocalDate to) {
+        log.info("매출 집계 백필 시작: {} ~ {}", from, to);
+        long totalRows = 0;
+        try {
+            for (LocalDate day = from; !day.isAfter(to); day = day.plusDays(1)) {
+                LocalDate target = day;
+                Long rows = transactionTemplate.execute(status -> rebuildDay(target));
+                totalRows += Objects.requireNonNullElse(rows, 0L);
+                backfillStatus.set(backfillStatus.get().progress(target, totalRows));
+            }
+            backfillStatus.set(backfillStatus.get().finished(null));
+            log.info("매출 집계 백필 완료: {} ~ {}, 주문 항목 {}건", from, to, totalRows);
+        } catch (Exception e) {
+            backfillStatus.set(backfillStatus.get().finished(e.getMessage()));
+            log.error("매출 집계 백필 실패: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 하루치 집계 재생성 (트랜잭션 안에서 호출)
+     * 주문 항목을 스트리밍으로 읽어 (시간, 상품, 결제수단) 키로 합산한 뒤
+     * 기존 행을 지우고 새로 저장한다.
+     *
+     * @return 처리한 주문 항목 수
+     */
+    private long rebuildDay(LocalDate day) {
+        LocalDateTime start = day.atStartOfDay();
+        LocalDateTime end = start.plusDays(1);
+
+        Map<RollupKey, long[]> hourly = new LinkedHashMap<>();
+        Map<Long, String> categories = new HashMap<>();
+        long rows = 0;
+
+        try (Stream<SalesFactRow> stream = orderItemRepository.streamSalesFacts(start, end)) {
+            for (SalesFactRow row : (Iterable<SalesFactRow>) stream::iterator) {
+                long productId = row.getProductId() != null ? row.getProductId() : UNKNOWN_PRODUCT_ID;
+                RollupKey key = new RollupKey(row.getOrderedAt().truncatedTo(ChronoUnit.HOURS),
+                        productId, row.getPaymentMethod().name());
+                long[] sums = hourly.computeIfAbsent(key, k -> new long[4]);
+                sums[0] += row.getCount();
+                sums[1] += row.getAmount();
+                if (row.isCanceled()) {
+                    sums[2] += row.getCount();
+                    sums[3] += row.getAmount();
+                }
+                categories.putIfAbsent(productId, row.getCategory());
+                rows++;
+            }
+        }
+
+        hourlyStatRepository.deleteByBucketRange(start, end);
+        dailyStatRepository.deleteByStatDate(day);
+
+        Map<RollupKey, long[]> daily = new LinkedHashMap<>();
+        hourly.forEach((key, sums) -> {
+            String category = categories.get(key.productId);
+            hourlyStatRepository.upsert(key.bucket, key.productId, category, key.paymentMethod,
+                    sums[0], sums[1], sums[2], sums[3]);
+
+            long[] daySums = daily.computeIfAbsent(new RollupKey(start, key.productId, key.paymentMethod), k -> new long[4]);
+            for (int i = 0; i < 4; i++) {
+                daySums[i] += sums[i];
+            }
+        });
+        daily.forEach((key, sums) -> dailyStatRepository.upsert(day, key.productId,
+                categories.get(key.productId), key.paymentMethod, sums[0], sums[1], sums[2], sums[3]));
+
+        log.debug("매출 집계 백필 {}: 주문 항목 {}건 → 시간별 {}행, 일별 {}행", day, rows, hourly.size(), daily.size());
+        return rows;
+    }
+
+    private record RollupKey(LocalDateTime bucket, long productId, String paymentMethod) {
+    }
+
+    /**
+     * 백필 진행 상태 (불변)
+     */
+    public record BackfillStatus(boolean running, LocalDate from, LocalDate to, LocalDate lastCompletedDate,
+                                 long processedRows, LocalDateTime startedAt, LocalDateTime finishedAt,
+                                 String error) {
+
+        static BackfillStatus idle() {
+            return new BackfillStatus(false, null, null, null, 0, null, null, null);
+        }
+
+        static BackfillStatus running(LocalDate from, LocalDate to) {
+            return new BackfillStatus(true, from, to, null, 0, LocalDateTime.now(), null, null);
+        }
+
+        BackfillStatus progress(LocalDate completed, long rows) {
+            return new BackfillStatus(true, from, to, completed, rows, startedAt, null, null);
+        }
+
+        BackfillStatus finished(String error) {
+            return new BackfillStatus(false, from, to, lastCompletedDate, processedRows, startedAt,
+                    LocalDateTime.now(), error);
+        }
+    }
+}
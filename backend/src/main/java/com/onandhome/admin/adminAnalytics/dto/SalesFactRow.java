@@ -0,0 +1,33 @@
+package com.onandhome.admin.adminAnalytics.dto;
+
+import com.onandhome.order.entity.Order;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 매출 집계 원천 행 (주문 항목 1건)
+ * OrderItemRepository의 JPQL 생성자 표현식으로 바로 채워지므로
+ * 엔티티를 영속성 컨텍스트에 올리지 않고 집계할 수 있다.
+ */
+@Getter
+@AllArgsConstructor
+public class SalesFactRow {
+
+    private final LocalDateTime orderedAt;
+    private final Long productId;   // 상품이 삭제된 경우 null
+    private final String category;
+    private final Order.PaymentMethod paymentMethod;
+    private final Order.OrderStatus status;
+    private final int count;
+    private final int orderPrice;
+
+    public long getAmount() {
+        return (long) orderPrice * count;
+    }
+
+    public boolean isCanceled() {
+        return status == Order.OrderStatus.CANCELED;
+    }
+}
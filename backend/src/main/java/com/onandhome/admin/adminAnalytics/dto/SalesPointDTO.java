@@ -0,0 +1,44 @@
+package com.onandhome.admin.adminAnalytics.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 매출 차트 데이터 포인트
+ * bucket: 시간 구간 ("2025-03-01T13:00" 또는 "2025-03-01")
+ * key: 차원 값 (상품 ID, 카테고리, 결제수단 / 전체 합계면 null)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SalesPointDTO {
+
+    private String bucket;
+    private String key;
+    private long units;            // 주문 수량
+    private long revenue;          // 주문 금액 (취소 포함)
+    private long canceledUnits;    // 취소 수량
+    private long canceledRevenue;  // 취소 금액
+    private long netRevenue;       // 순매출 (revenue - canceledRevenue)
+    private double cancellationRate; // 취소율 (canceledUnits / units)
+
+    /**
+     * 집계 쿼리 결과 [bucket, key, units, revenue, canceledUnits, canceledRevenue] 로 생성
+     */
+    public static SalesPointDTO of(Object bucket, Object key, long units, long revenue,
+                                   long canceledUnits, long canceledRevenue) {
+        return SalesPointDTO.builder()
+                .bucket(bucket != null ? bucket.toString() : null)
+                .key(key != null ? key.toString() : null)
+                .units(units)
+                .revenue(revenue)
+                .canceledUnits(canceledUnits)
+                .canceledRevenue(canceledRevenue)
+                .netRevenue(revenue - canceledRevenue)
+                .cancellationRate(units > 0 ? (double) canceledUnits / units : 0.0)
+                .build();
+    }
+}
@@ -0,0 +1,62 @@
+package com.onandhome.admin.adminAnalytics.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 시간별 매출 집계 엔티티
+ * (시간 구간, 상품, 결제수단) 조합당 한 행이 유지되며
+ * 주문/취소가 발생할 때마다 SalesRollupService가 증분으로 더한다.
+ *
+ * 취소 수치는 주문이 "생성된" 시간 구간에 기록된다.
+ * 따라서 canceledUnits / units 로 해당 구간 주문의 취소율을 바로 구할 수 있다.
+ */
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Table(name = "sales_hourly_stat",
+        uniqueConstraints = @UniqueConstraint(
+                name = "uk_sales_hourly_bucket_product_payment",
+                columnNames = {"bucket_start", "product_id", "payment_method"}),
+        indexes = {
+                @Index(name = "idx_sales_hourly_bucket", columnList = "bucket_start"),
+                @Index(name = "idx_sales_hourly_category_bucket", columnList = "category, bucket_start")
+        })
+public class SalesHourlyStat {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "bucket_start", nullable = false)
+    private LocalDateTime bucketStart; // 시간 구간 시작 (분/초 0)
+
+    @Column(name = "product_id", nullable = false)
+    private Long productId; // 상품 ID (삭제된 상품은 0)
+
+    @Column(length = 50)
+    private String category; // 집계 시점의 상품 카테고리
+
+    @Column(name = "payment_method", nullable = false, length = 20)
+    private String paymentMethod; // CARD, BANK_TRANSFER
+
+    @Column(nullable = false)
+    private long units; // 주문 수량
+
+    @Column(nullable = false)
+    private long revenue; // 주문 금액 (취소 포함)
+
+    @Column(name = "canceled_units", nullable = false)
+    private long canceledUnits; // 취소 수량
+
+    @Column(name = "canceled_revenue", nullable = false)
+    private long canceledRevenue; // 취소 금액
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,41 @@
+package com.onandhome.admin.adminBulk;
+
+import com.onandhome.admin.adminProduct.ProductService;
+import com.onandhome.inactive_user.InactiveUserService;
+import com.onandhome.review.ReviewService;
+import com.onandhome.user.UserService;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 관리자 일괄 작업 목록
+ * 새 일괄 작업은 도메인 서비스에 집합 단위 메서드를 만들고 여기에 Bean 으로 등록한다.
+ */
+@Configuration
+public class AdminBulkOperations {
+
+    public static final String PRODUCT_DELETE = "product-delete";
+    public static final String REVIEW_DELETE = "review-delete";
+    public static final String USER_DEACTIVATE = "user-deactivate";
+    public static final String INACTIVE_USER_PURGE = "inactive-user-purge";
+
+    @Bean
+    public BulkOperation productDeleteOperation(ProductService productService) {
+        return BulkOperation.of(PRODUCT_DELETE, "상품 삭제", productService::deleteInBatch);
+    }
+
+    @Bean
+    public BulkOperation reviewDeleteOperation(ReviewService reviewService) {
+        return BulkOperation.of(REVIEW_DELETE, "리뷰 삭제", reviewService::deleteInBatch);
+    }
+
+    @Bean
+    public BulkOperation userDeactivateOperation(UserService userService) {
+        return BulkOperation.of(USER_DEACTIVATE, "회원 비활성화", userService::deactivateInBatch);
+    }
+
+    @Bean
+    public BulkOperation inactiveUserPurgeOperation(InactiveUserService inactiveUserService) {
+        return BulkOperation.of(INACTIVE_USER_PURGE, "탈퇴 회원 영구 삭제", inactiveUserService::permanentDeleteInBatch);
+    }
+}
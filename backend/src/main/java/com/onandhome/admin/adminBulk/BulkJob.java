@@ -0,0 +1,82 @@
+package com.onandhome.admin.adminBulk;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * 관리자 일괄 작업 진행 상황 (메모리 보관)
+ *
+ * 작업 스레드 하나만 값을 바꾸고, 상태 조회 API 는 언제든 읽을 수 있다.
+ * 실패 목록은 앞에서부터 MAX_FAILURES 건까지만 보관한다. (개수는 failedCount 로 전부 집계)
+ */
+@Getter
+public class BulkJob {
+
+    public enum Status {
+        QUEUED,    // 대기
+        RUNNING,   // 처리 중
+        COMPLETED, // 완료 (일부 ID 실패 포함)
+        FAILED     // 작업 자체가 중단됨
+    }
+
+    /** 처리하지 못한 ID와 사유 */
+    public record Failure(Long id, String reason) {
+    }
+
+    static final int MAX_FAILURES = 100;
+
+    private final long id;
+    private final String operation;
+    private final String label;
+    private final int totalCount;
+    private final LocalDateTime createdAt = LocalDateTime.now();
+
+    private volatile Status status = Status.QUEUED;
+    private volatile int processedCount;
+    private volatile int succeededCount;
+    private volatile int failedCount;
+    private volatile LocalDateTime startedAt;
+    private volatile LocalDateTime finishedAt;
+    private volatile String lastError;
+    private final List<Failure> failures = new CopyOnWriteArrayList<>();
+
+    BulkJob(long id, String operation, String label, int totalCount) {
+        this.id = id;
+        this.operation = operation;
+        this.label = label;
+        this.totalCount = totalCount;
+    }
+
+    public boolean isFinished() {
+        return status == Status.COMPLETED || status == Status.FAILED;
+    }
+
+    // ==================== 작업 스레드에서만 호출 ====================
+
+    void start() {
+        status = Status.RUNNING;
+        startedAt = LocalDateTime.now();
+    }
+
+    void recordSuccess(int count) {
+        succeededCount += count;
+        processedCount += count;
+    }
+
+    void recordFailure(Long targetId, String reason) {
+        failedCount++;
+        processedCount++;
+        if (failures.size() < MAX_FAILURES) {
+            failures.add(new Failure(targetId, reason));
+        }
+    }
+
+    void finish(Status finalStatus, String error) {
+        lastError = error != null && error.length() > 1000 ? error.substring(0, 1000) : error;
+        finishedAt = LocalDateTime.now();
+        status = finalStatus;
+    }
+}
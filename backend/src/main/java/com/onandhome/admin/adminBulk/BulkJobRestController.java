@@ -0,0 +1,72 @@
+package com.onandhome.admin.adminBulk;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// 관리자 일괄 작업 REST API
+// 상품/리뷰/회원 일괄 처리 작업 등록과 진행 상황 조회를 담당한다.
+@Slf4j
+@RestController
+@RequestMapping("/api/admin/bulk-jobs")
+@RequiredArgsConstructor
+public class BulkJobRestController {
+
+    private final BulkOperationService bulkOperationService;
+
+    // 일괄 작업 등록
+    // POST /api/admin/bulk-jobs  {"operation": "product-delete", "ids": [1, 2, 3]}
+    // 작은 작업은 완료 결과(200), 큰 작업은 등록 직후 상태(202)를 반환한다.
+    @PostMapping
+    public ResponseEntity<Map<String, Object>> submit(@RequestBody Map<String, Object> request) {
+        Map<String, Object> response = new HashMap<>();
+        try {
+            String operation = (String) request.get("operation");
+            List<Long> ids = new ArrayList<>();
+            if (request.get("ids") instanceof List<?> list) {
+                list.forEach(id -> ids.add(Long.valueOf(id.toString())));
+            }
+
+            BulkJob job = bulkOperationService.submit(operation, ids);
+            response.put("success", true);
+            response.put("data", job);
+            return ResponseEntity.status(job.isFinished() ? HttpStatus.OK : HttpStatus.ACCEPTED).body(response);
+        } catch (IllegalArgumentException e) {
+            response.put("success", false);
+            response.put("message", e.getMessage());
+            return ResponseEntity.badRequest().body(response);
+        }
+    }
+
+    // 일괄 작업 진행 상황 조회
+    @GetMapping("/{jobId}")
+    public ResponseEntity<Map<String, Object>> getJob(@PathVariable long jobId) {
+        Map<String, Object> response = new HashMap<>();
+        try {
+            response.put("success", true);
+            response.put("data", bulkOperationService.getJob(jobId));
+            return ResponseEntity.ok(response);
+        } catch (IllegalArgumentException e) {
+            response.put("success", false);
+            response.put("message", e.getMessage());
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(response);
+        }
+    }
+
+    // 최근 일괄 작업 목록과 지원하는 작업 종류
+    @GetMapping
+    public ResponseEntity<Map<String, Object>> getRecentJobs() {
+        Map<String, Object> response = new HashMap<>();
+        response.put("success", true);
+        response.put("data", bulkOperationService.getRecentJobs());
+        response.put("operations", bulkOperationService.getOperations());
+        return ResponseEntity.ok(response);
+    }
+}
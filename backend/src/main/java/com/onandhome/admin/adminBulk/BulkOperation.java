@@ -0,0 +1,47 @@
+package com.onandhome.admin.adminBulk;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * 관리자 일괄 작업 한 종류 (상품 삭제, 리뷰 삭제 등)
+ *
+ * apply 는 ID 청크 하나를 집합 단위 SQL로 처리하고, BulkOperationService 가 청크마다 새 트랜잭션에서 호출한다.
+ * - 처리하지 못한 ID(이미 없는 대상 등)는 사유와 함께 반환한다. (나머지는 성공으로 집계)
+ * - 예외가 나면 청크 전체가 롤백되고, 해당 청크를 ID 하나씩 다시 실행해 실패한 ID만 골라낸다.
+ */
+public interface BulkOperation {
+
+    /** 작업 이름 (요청/조회 시 사용, 예: product-delete) */
+    String name();
+
+    /** 화면/로그용 이름 */
+    String label();
+
+    /**
+     * 청크 하나 처리 (트랜잭션 안에서 호출됨)
+     *
+     * @return 처리하지 못한 ID와 사유 (없으면 빈 Map)
+     */
+    Map<Long, String> apply(List<Long> ids);
+
+    static BulkOperation of(String name, String label, Function<List<Long>, Map<Long, String>> action) {
+        return new BulkOperation() {
+            @Override
+            public String name() {
+                return name;
+            }
+
+            @Override
+            public String label() {
+                return label;
+            }
+
+            @Override
+            public Map<Long, String> apply(List<Long> ids) {
+                return action.apply(ids);
+            }
+        };
+    }
+}
@@ -0,0 +1,205 @@
+package com.onandhome.admin.adminBulk;
+
+import com.onandhome.config.threads.VirtualThreadConfig;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 관리자 일괄 작업 실행기
+ *
+ * - 요청 ID를 chunk-size 개씩 나누고 청크마다 새 트랜잭션에서 BulkOperation.apply 를 호출한다.
+ *   (청크 하나가 실패해도 이미 커밋된 청크는 유지되고, 잠금도 청크 단위로 짧게 잡힌다)
+ * - 청크가 예외로 롤백되면 그 청크만 ID 하나씩 다시 실행해 실패한 ID와 사유를 기록한다.
+ * - 작업은 백그라운드 스레드에서 실행되고 진행 상황은 getJob 으로 조회한다.
+ *   한 청크 이하의 작은 작업은 완료될 때까지 기다렸다가 결과를 돌려준다.
+ * - 작업 상태는 메모리에만 최근 RETAINED_JOBS 건 보관한다. (서버 재시작 시 사라짐)
+ */
+@Service
+@Slf4j
+public class BulkOperationService {
+
+    /** 한 작업에 넣을 수 있는 최대 ID 수 */
+    public static final int MAX_TARGETS = 100_000;
+
+    /* 한 청크 이하의 작은 작업은 완료될 때까지 기다린다. */
+    private static final long INLINE_WAIT_SECONDS = 30;
+
+    /* 상태 조회용으로 보관하는 최근 작업 수 */
+    private static final int RETAINED_JOBS = 100;
+
+    private final Map<String, BulkOperation> operations = new LinkedHashMap<>();
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+    private final ExecutorService executor;
+    private final AtomicLong sequence = new AtomicLong();
+
+    /* 작업 ID 순 (가장 오래된 작업부터 정리) */
+    private final TreeMap<Long, BulkJob> jobs = new TreeMap<>();
+
+    public BulkOperationService(List<BulkOperation> operations,
+                                PlatformTransactionManager transactionManager,
+                                VirtualThreadConfig virtualThreadConfig,
+                                @Value("${admin.bulk.chunk-size:500}") int chunkSize,
+                                @Value("${admin.bulk.workers:2}") int workers) {
+        operations.forEach(op -> this.operations.put(op.name(), op));
+        // 호출하는 쪽 트랜잭션과 무관하게 청크 단위로 커밋되어야 하므로 항상 새 트랜잭션
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.chunkSize = chunkSize;
+        // 청크 트랜잭션(DB) 대기가 대부분이라 가상 스레드 모드면 가상 스레드 (workers = 동시 작업 수 상한)
+        this.executor = Executors.newFixedThreadPool(workers, virtualThreadConfig.threadFactory("admin-bulk"));
+    }
+
+    // ==================== 작업 등록 / 조회 ====================
+
+    /**
+     * 일괄 작업 등록
+     * 대상이 한 청크 이하이면 처리 완료까지 기다린 뒤 최종 상태를 반환하고,
+     * 그보다 크면 대기열에 넣은 직후의 상태를 반환한다. (진행 상황은 getJob 으로 조회)
+     *
+     * @throws IllegalArgumentException 없는 작업 이름, 빈 대상, 최대 개수 초과
+     */
+    public BulkJob submit(String operationName, Collection<Long> ids) {
+        BulkOperation operation = operations.get(operationName);
+        if (operation == null) {
+            throw new IllegalArgumentException("지원하지 않는 일괄 작업입니다: " + operationName);
+        }
+        Set<Long> targets = new LinkedHashSet<>();
+        if (ids != null) {
+            ids.stream().filter(Objects::nonNull).forEach(targets::add);
+        }
+        if (targets.isEmpty()) {
+            throw new IllegalArgumentException("처리할 대상을 선택해주세요.");
+        }
+        if (targets.size() > MAX_TARGETS) {
+            throw new IllegalArgumentException("한 번에 최대 " + MAX_TARGETS + "건까지 처리할 수 있습니다.");
+        }
+
+        BulkJob job = new BulkJob(sequence.incrementAndGet(), operation.name(), operation.label(), targets.size());
+        register(job);
+        log.info("일괄 작업 등록 - jobId: {}, {} {}건", job.getId(), operation.label(), targets.size());
+
+        List<Long> targetList = new ArrayList<>(targets);
+        Future<?> future = executor.submit(() -> run(job, operation, targetList));
+        if (targets.size() <= chunkSize) {
+            try {
+                future.get(INLINE_WAIT_SECONDS, TimeUnit.SECONDS);
+            } catch (TimeoutException e) {
+                log.warn("일괄 작업이 {}초 안에 끝나지 않아 백그라운드로 계속 진행 - jobId: {}",
+                        INLINE_WAIT_SECONDS, job.getId());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (Exception e) {
+                log.error("일괄 작업 대기 중 오류 - jobId: {}, {}", job.getId(), e.getMessage());
+            }
+        }
+        return job;
+    }
+
+    public BulkJob getJob(long jobId) {
+        synchronized (jobs) {
+            BulkJob job = jobs.get(jobId);
+            if (job == null) {
+                throw new IllegalArgumentException("존재하지 않는 작업입니다. ID: " + jobId);
+            }
+            return job;
+        }
+    }
+
+    /** 최근 작업 (최신순) */
+    public List<BulkJob> getRecentJobs() {
+        synchronized (jobs) {
+            return new ArrayList<>(jobs.descendingMap().values());
+        }
+    }
+
+    /** 지원하는 작업 이름 → 화면용 이름 */
+    public Map<String, String> getOperations() {
+        Map<String, String> result = new LinkedHashMap<>();
+        operations.forEach((name, op) -> result.put(name, op.label()));
+        return result;
+    }
+
+    // ==================== 작업 실행 ====================
+
+    private void register(BulkJob job) {
+        synchronized (jobs) {
+            jobs.put(job.getId(), job);
+            while (jobs.size() > RETAINED_JOBS) {
+                jobs.pollFirstEntry();
+            }
+        }
+    }
+
+    private void run(BulkJob job, BulkOperation operation, List<Long> ids) {
+        job.start();
+        long start = System.currentTimeMillis();
+        try {
+            for (int from = 0; from < ids.size(); from += chunkSize) {
+                processChunk(job, operation, ids.subList(from, Math.min(from + chunkSize, ids.size())));
+            }
+            job.finish(BulkJob.Status.COMPLETED, null);
+            log.info("일괄 작업 완료 - jobId: {}, {} 성공 {}건, 실패 {}건, {}ms", job.getId(), operation.label(),
+                    job.getSucceededCount(), job.getFailedCount(), System.currentTimeMillis() - start);
+        } catch (Exception e) {
+            log.error("일괄 작업 중단 - jobId: {}, {}", job.getId(), e.getMessage(), e);
+            job.finish(BulkJob.Status.FAILED, e.getMessage());
+        }
+    }
+
+    private void processChunk(BulkJob job, BulkOperation operation, List<Long> chunk) {
+        try {
+            Map<Long, String> skipped = transactionTemplate.execute(status -> operation.apply(chunk));
+            record(job, chunk, skipped);
+        } catch (Exception chunkError) {
+            log.warn("일괄 작업 청크 실패, ID별로 다시 시도 - jobId: {}, {}건, {}",
+                    job.getId(), chunk.size(), chunkError.getMessage());
+            for (Long id : chunk) {
+                try {
+                    Map<Long, String> skipped = transactionTemplate.execute(status -> operation.apply(List.of(id)));
+                    record(job, List.of(id), skipped);
+                } catch (Exception e) {
+                    job.recordFailure(id, e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName());
+                }
+            }
+        }
+    }
+
+    private static void record(BulkJob job, List<Long> ids, Map<Long, String> skipped) {
+        int failed = 0;
+        if (skipped != null) {
+            for (Map.Entry<Long, String> e : skipped.entrySet()) {
+                job.recordFailure(e.getKey(), e.getValue());
+                failed++;
+            }
+        }
+        job.recordSuccess(ids.size() - failed);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        // 처리 중이던 청크는 롤백되거나 커밋된 상태로 남는다. (남은 청크는 다시 요청해야 함)
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,60 @@
+package com.onandhome.admin.adminDashboard;
+
+import com.onandhome.admin.adminDashboard.entity.DashboardDailyStat;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface DashboardDailyStatRepository extends JpaRepository<DashboardDailyStat, Long> {
+
+    // 특정 일자의 집계 행 조회
+    Optional<DashboardDailyStat> findByStatDate(LocalDate statDate);
+
+    // 일자별 집계 행 저장 (없으면 INSERT, 있으면 덮어씀) - 보정과 자정 마감이 동시에 저장해도 한 문장으로 처리
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "dashboard_daily_stat"))
+    @Modifying
+    @Transactional
+    @Query(value = "INSERT INTO dashboard_daily_stat " +
+            "(stat_date, order_count, revenue, new_users, total_users, inactive_users, total_products, " +
+            "out_of_stock_products, total_notices, total_reviews, total_qnas, updated_at) " +
+            "VALUES (:statDate, :orderCount, :revenue, :newUsers, :totalUsers, :inactiveUsers, :totalProducts, " +
+            ":outOfStockProducts, :totalNotices, :totalReviews, :totalQnas, NOW()) " +
+            "ON DUPLICATE KEY UPDATE " +
+            "order_count = VALUES(order_count), " +
+            "revenue = VALUES(revenue), " +
+            "new_users = VALUES(new_users), " +
+            "total_users = VALUES(total_users), " +
+            "inactive_users = VALUES(inactive_users), " +
+            "total_products = VALUES(total_products), " +
+            "out_of_stock_products = VALUES(out_of_stock_products), " +
+            "total_notices = VALUES(total_notices), " +
+            "total_reviews = VALUES(total_reviews), " +
+            "total_qnas = VALUES(total_qnas), " +
+            "updated_at = NOW()",
+            nativeQuery = true)
+    void upsert(@Param("statDate") LocalDate statDate,
+                @Param("orderCount") long orderCount,
+                @Param("revenue") long revenue,
+                @Param("newUsers") long newUsers,
+                @Param("totalUsers") long totalUsers,
+                @Param("inactiveUsers") long inactiveUsers,
+                @Param("totalProducts") long totalProducts,
+                @Param("outOfStockProducts") long outOfStockProducts,
+                @Param("totalNotices") long totalNotices,
+                @Param("totalReviews") long totalReviews,
+                @Param("totalQnas") long totalQnas);
+
+    // 기간별 일별 집계 조회 (그래프용, 날짜 오름차순)
+    List<DashboardDailyStat> findByStatDateBetweenOrderByStatDateAsc(LocalDate from, LocalDate to);
+}
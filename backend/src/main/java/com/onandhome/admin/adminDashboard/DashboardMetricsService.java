@@ -0,0 +1,379 @@
+package com.onandhome.admin.adminDashboard;
+
+import com.onandhome.Notice.NoticeRepository;
+import com.onandhome.Notice.event.NoticeChangedEvent;
+import com.onandhome.admin.adminDashboard.dto.DashboardSnapshot;
+import com.onandhome.admin.adminDashboard.entity.DashboardDailyStat;
+import com.onandhome.admin.adminProduct.ProductRepository;
+import com.onandhome.admin.adminProduct.event.ProductChangedEvent;
+import com.onandhome.inactive_user.InactiveUserRepository;
+import com.onandhome.order.OrderRepository;
+import com.onandhome.order.entity.Order;
+import com.onandhome.order.event.OrderCanceledEvent;
+import com.onandhome.order.event.OrderCreatedEvent;
+import com.onandhome.qna.QnaRepository;
+import com.onandhome.qna.event.QnaChangedEvent;
+import com.onandhome.review.ReviewRepository;
+import com.onandhome.review.event.ReviewChangedEvent;
+import com.onandhome.user.UserRepository;
+import com.onandhome.user.event.UserChangedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
+import java.util.function.ObjLongConsumer;
+import java.util.function.ToLongFunction;
+
+/**
+ * 관리자 대시보드 지표 집계 서비스
+ *
+ * - 주문/회원/상품/게시판 도메인 이벤트를 받아 메모리 카운터를 증분 갱신한다.
+ * - 대시보드 조회는 미리 만들어 둔 불변 스냅샷을 그대로 반환한다. (DB 조회 없음)
+ * - 일정 주기로 DB 집계 쿼리를 실행해 카운터를 보정하고, 일별 집계 행을 저장한다.
+ * - 값이 바뀌면 "/topic/admin-dashboard"로 최신 스냅샷을 전송한다. (최대 push-interval-ms 당 1회)
+ *
+ * 이벤트는 트랜잭션 커밋 이후에만 반영되므로 롤백된 변경은 집계되지 않는다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class DashboardMetricsService {
+
+    public static final String DASHBOARD_TOPIC = "/topic/admin-dashboard";
+
+    private final OrderRepository orderRepository;
+    private final ProductRepository productRepository;
+    private final UserRepository userRepository;
+    private final InactiveUserRepository inactiveUserRepository;
+    private final NoticeRepository noticeRepository;
+    private final ReviewRepository reviewRepository;
+    private final QnaRepository qnaRepository;
+    private final DashboardDailyStatRepository dailyStatRepository;
+    private final SimpMessagingTemplate messagingTemplate;
+
+    /* 카운터 원본 (lock 으로 보호) */
+    private final Counters counters = new Counters();
+
+    /* 조회용 불변 스냅샷 - 카운터가 바뀔 때마다 통째로 교체 */
+    private volatile DashboardSnapshot snapshot = DashboardSnapshot.empty();
+
+    /* 마지막 WebSocket 전송 이후 변경 여부 */
+    private final AtomicBoolean dirty = new AtomicBoolean(false);
+
+    // ==================== 조회 ====================
+
+    /**
+     * 현재 대시보드 지표 (O(1), DB 접근 없음)
+     */
+    public DashboardSnapshot getSnapshot() {
+        LocalDate today = LocalDate.now();
+        if (!today.equals(counters.day)) {
+            // 자정 이후 이벤트가 한 건도 없었더라도 "오늘" 값은 0부터 시작해야 한다
+            synchronized (counters) {
+                rollIfNeeded(today);
+                publishSnapshot();
+            }
+        }
+        return snapshot;
+    }
+
+    /**
+     * 기간별 일별 집계 조회
+     */
+    public List<DashboardDailyStat> getDailyStats(LocalDate from, LocalDate to) {
+        return dailyStatRepository.findByStatDateBetweenOrderByStatDateAsc(from, to);
+    }
+
+    // ==================== 도메인 이벤트 ====================
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onOrderCreated(OrderCreatedEvent event) {
+        update(c -> {
+            if (event.getCreatedAt().toLocalDate().equals(c.day)) {
+                c.todayOrderCount++;
+                c.todayRevenue += event.getTotalPrice();
+            }
+            if (YearMonth.from(event.getCreatedAt()).equals(c.month)) {
+                c.monthRevenue += event.getTotalPrice();
+            }
+        });
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onOrderCanceled(OrderCanceledEvent event) {
+        update(c -> {
+            // 주문 수는 취소 여부와 관계없이 집계되므로 매출만 차감
+            if (event.getCreatedAt().toLocalDate().equals(c.day)) {
+                c.todayRevenue -= event.getTotalPrice();
+            }
+            if (YearMonth.from(event.getCreatedAt()).equals(c.month)) {
+                c.monthRevenue -= event.getTotalPrice();
+            }
+        });
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProductChanged(ProductChangedEvent event) {
+        update(c -> {
+            switch (event.getType()) {
+                case CREATED -> {
+                    c.totalProducts++;
+                    if (event.getCurrentStock() == 0) c.outOfStockProducts++;
+                }
+                case UPDATED -> {
+                    if (event.getPreviousStock() > 0 && event.getCurrentStock() == 0) c.outOfStockProducts++;
+                    if (event.getPreviousStock() == 0 && event.getCurrentStock() > 0) c.outOfStockProducts--;
+                }
+                case DELETED -> {
+                    c.totalProducts--;
+                    if (event.getPreviousStock() == 0) c.outOfStockProducts--;
+                }
+            }
+        });
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        update(c -> {
+            switch (event.getType()) {
+                case REGISTERED -> {
+                    c.totalUsers++;
+                    c.todayNewUsers++;
+                }
+                case WITHDRAWN -> {
+                    c.totalUsers--;
+                    c.inactiveUsers++;
+                }
+                case DELETED -> c.totalUsers--;
+                case PURGED -> c.inactiveUsers--;
+            }
+        });
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onNoticeChanged(NoticeChangedEvent event) {
+        update(c -> c.totalNotices += event.getDelta());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onReviewChanged(ReviewChangedEvent event) {
+        update(c -> c.totalReviews += event.getDelta());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onQnaChanged(QnaChangedEvent event) {
+        update(c -> c.totalQnas += event.getDelta());
+    }
+
+    // ==================== DB 보정 / 일별 집계 ====================
+
+    /**
+     * 애플리케이션 기동 직후 DB 기준으로 카운터 초기화
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        reconcile();
+    }
+
+    /**
+     * 주기적 보정
+     * 이벤트를 거치지 않는 변경(벌크 삭제, 직접 상태 변경 등)으로 생긴 오차를 DB 값으로 맞춘다.
+     * 지표마다 "DB 값 + 그 지표를 조회하기 시작한 뒤 들어온 이벤트 변경분" 으로 덮어쓴다.
+     * (조회 전에 들어온 이벤트는 이미 커밋되어 DB 값에 포함되므로 다시 더하면 이중 집계됨)
+     */
+    @Scheduled(initialDelayString = "${dashboard.metrics.reconcile-interval-ms:300000}",
+            fixedDelayString = "${dashboard.metrics.reconcile-interval-ms:300000}")
+    public void reconcile() {
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            LocalDate day = now.toLocalDate();
+            LocalDateTime startOfDay = day.atStartOfDay();
+            LocalDateTime startOfMonth = now.withDayOfMonth(1).toLocalDate().atStartOfDay();
+
+            List<Metric> metrics = List.of(
+                    new Metric(c -> c.todayOrderCount, (c, v) -> c.todayOrderCount = v,
+                            () -> orderRepository.countTodayOrders(startOfDay)),
+                    new Metric(c -> c.todayRevenue, (c, v) -> c.todayRevenue = v,
+                            () -> orderRepository.sumTodayRevenue(startOfDay, Order.OrderStatus.CANCELED)),
+                    new Metric(c -> c.monthRevenue, (c, v) -> c.monthRevenue = v,
+                            () -> orderRepository.sumMonthRevenue(startOfMonth, Order.OrderStatus.CANCELED)),
+                    new Metric(c -> c.totalProducts, (c, v) -> c.totalProducts = v, productRepository::countActive),
+                    new Metric(c -> c.outOfStockProducts, (c, v) -> c.outOfStockProducts = v,
+                            productRepository::countOutOfStockProducts),
+                    new Metric(c -> c.todayNewUsers, (c, v) -> c.todayNewUsers = v,
+                            () -> userRepository.countTodayNewUsers(startOfDay)),
+                    new Metric(c -> c.totalUsers, (c, v) -> c.totalUsers = v, userRepository::count),
+                    new Metric(c -> c.inactiveUsers, (c, v) -> c.inactiveUsers = v, inactiveUserRepository::count),
+                    new Metric(c -> c.totalNotices, (c, v) -> c.totalNotices = v, noticeRepository::count),
+                    new Metric(c -> c.totalReviews, (c, v) -> c.totalReviews = v, reviewRepository::count),
+                    new Metric(c -> c.totalQnas, (c, v) -> c.totalQnas = v, qnaRepository::count));
+
+            // 지표마다 조회 직전의 카운터 값(기준점)을 남기고 DB 값을 읽는다.
+            long[] base = new long[metrics.size()];
+            long[] fresh = new long[metrics.size()];
+            for (int i = 0; i < metrics.size(); i++) {
+                synchronized (counters) {
+                    rollIfNeeded(day);
+                    base[i] = metrics.get(i).get().applyAsLong(counters);
+                }
+                fresh[i] = metrics.get(i).query().getAsLong();
+            }
+
+            DashboardSnapshot reconciled;
+            synchronized (counters) {
+                if (!day.equals(LocalDate.now())) {
+                    // 조회 중 자정을 넘김 - 오늘/이달 값의 기준이 달라졌으므로 버리고 다음 주기에 보정
+                    log.debug("대시보드 지표 보정 건너뜀 - 조회 중 날짜 변경");
+                    return;
+                }
+                // DB 값 + 기준점 이후 이벤트로 늘어난 만큼
+                // (기준점 이전에 커밋된 변경은 DB 값에 이미 있으므로 다시 더하지 않는다)
+                for (int i = 0; i < metrics.size(); i++) {
+                    Metric metric = metrics.get(i);
+                    long delta = metric.get().applyAsLong(counters) - base[i];
+                    metric.set().accept(counters, fresh[i] + delta);
+                }
+                counters.reconciledAt = now;
+                reconciled = publishSnapshot();
+            }
+
+            saveDailyStat(day, reconciled);
+            log.debug("대시보드 지표 보정 완료: {}", reconciled.toMap());
+        } catch (Exception e) {
+            log.error("대시보드 지표 보정 실패: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 자정 마감
+     * 전날 주문/매출/신규 회원을 기간 쿼리로 확정 집계하여 일별 행을 덮어쓰고,
+     * 새 날짜 기준으로 카운터를 다시 보정한다.
+     */
+    @Scheduled(cron = "${dashboard.metrics.close-day-cron:5 0 0 * * *}")
+    public void closeDay() {
+        LocalDate yesterday = LocalDate.now().minusDays(1);
+        try {
+            LocalDateTime start = yesterday.atStartOfDay();
+            LocalDateTime end = start.plusDays(1);
+
+            DashboardSnapshot closing = snapshot.toBuilder()
+                    .todayOrderCount(orderRepository.countOrdersBetween(start, end))
+                    .todayRevenue(orderRepository.sumRevenueBetween(start, end, Order.OrderStatus.CANCELED))
+                    .todayNewUsers(userRepository.countNewUsersBetween(start, end))
+                    .build();
+
+            saveDailyStat(yesterday, closing);
+            log.info("대시보드 일별 집계 마감: {}", yesterday);
+        } catch (Exception e) {
+            log.error("대시보드 일별 집계 마감 실패: {} - {}", yesterday, e.getMessage(), e);
+        }
+        reconcile();
+    }
+
+    /**
+     * 변경된 스냅샷을 관리자 대시보드 구독자에게 전송
+     * 이벤트가 몰려도 push-interval-ms 당 한 번만 전송된다.
+     */
+    @Scheduled(fixedDelayString = "${dashboard.metrics.push-interval-ms:1000}")
+    public void pushIfChanged() {
+        if (!dirty.getAndSet(false)) {
+            return;
+        }
+        try {
+            messagingTemplate.convertAndSend(DASHBOARD_TOPIC, snapshot.toMap());
+        } catch (Exception e) {
+            log.error("대시보드 WebSocket 전송 실패: {}", e.getMessage());
+        }
+    }
+
+    // ==================== 내부 처리 ====================
+
+    private void update(Consumer<Counters> change) {
+        synchronized (counters) {
+            rollIfNeeded(LocalDate.now());
+            change.accept(counters);
+            publishSnapshot();
+        }
+    }
+
+    /* 날짜/월이 바뀌었으면 "오늘", "이달" 카운터를 초기화 (lock 안에서 호출) */
+    private void rollIfNeeded(LocalDate today) {
+        if (today.equals(counters.day)) {
+            return;
+        }
+        counters.day = today;
+        counters.todayOrderCount = 0;
+        counters.todayRevenue = 0;
+        counters.todayNewUsers = 0;
+
+        YearMonth month = YearMonth.from(today);
+        if (!month.equals(counters.month)) {
+            counters.month = month;
+            counters.monthRevenue = 0;
+        }
+    }
+
+    /* 카운터로부터 새 스냅샷 생성 (lock 안에서 호출) */
+    private DashboardSnapshot publishSnapshot() {
+        DashboardSnapshot next = DashboardSnapshot.builder()
+                .todayOrderCount(counters.todayOrderCount)
+                .todayRevenue(counters.todayRevenue)
+                .monthRevenue(counters.monthRevenue)
+                .totalProducts(counters.totalProducts)
+                .outOfStockProducts(counters.outOfStockProducts)
+                .todayNewUsers(counters.todayNewUsers)
+                .totalUsers(counters.totalUsers)
+                .inactiveUsers(counters.inactiveUsers)
+                .totalNotices(counters.totalNotices)
+                .totalReviews(counters.totalReviews)
+                .totalQnas(counters.totalQnas)
+                .reconciledAt(counters.reconciledAt)
+                .build();
+        snapshot = next;
+        dirty.set(true);
+        return next;
+    }
+
+    /* 일별 행 저장 - 보정 주기와 자정 마감이 겹쳐도 유니크 키(stat_date)로 한 행만 남도록 단일 upsert */
+    private void saveDailyStat(LocalDate date, DashboardSnapshot s) {
+        dailyStatRepository.upsert(date, s.getTodayOrderCount(), s.getTodayRevenue(), s.getTodayNewUsers(),
+                s.getTotalUsers(), s.getInactiveUsers(), s.getTotalProducts(), s.getOutOfStockProducts(),
+                s.getTotalNotices(), s.getTotalReviews(), s.getTotalQnas());
+    }
+
+    /* 보정 대상 지표 - 카운터 필드 읽기/쓰기 + DB 집계 쿼리 */
+    private record Metric(ToLongFunction<Counters> get, ObjLongConsumer<Counters> set, LongSupplier query) {
+    }
+
+    /**
+     * 가변 카운터 묶음 (DashboardMetricsService 내부 전용, counters lock 으로 보호)
+     */
+    private static class Counters {
+        LocalDate day;
+        YearMonth month;
+        long todayOrderCount;
+        long todayRevenue;
+        long monthRevenue;
+        long totalProducts;
+        long outOfStockProducts;
+        long todayNewUsers;
+        long totalUsers;
+        long inactiveUsers;
+        long totalNotices;
+        long totalReviews;
+        long totalQnas;
+        LocalDateTime reconciledAt;
+    }
+}
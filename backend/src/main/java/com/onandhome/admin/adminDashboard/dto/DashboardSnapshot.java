@@ -0,0 +1,66 @@
+package com.onandhome.admin.adminDashboard.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 관리자 대시보드 지표 스냅샷 (불변 객체)
+ * DashboardMetricsService가 카운터 변경 시마다 새로 만들어 교체하므로
+ * 조회 쪽에서는 DB 접근 없이 그대로 읽기만 하면 된다.
+ */
+@Getter
+@Builder(toBuilder = true)
+@AllArgsConstructor
+public class DashboardSnapshot {
+
+    // 매출 현황
+    private final long todayOrderCount;
+    private final long todayRevenue;
+    private final long monthRevenue;
+
+    // 상품 현황
+    private final long totalProducts;
+    private final long outOfStockProducts;
+
+    // 회원 현황
+    private final long todayNewUsers;
+    private final long totalUsers;
+    private final long inactiveUsers;
+
+    // 게시판 현황
+    private final long totalNotices;
+    private final long totalReviews;
+    private final long totalQnas;
+
+    private final LocalDateTime reconciledAt; // 마지막 DB 보정 시각 (보정 전이면 null)
+
+    public static DashboardSnapshot empty() {
+        return DashboardSnapshot.builder().build();
+    }
+
+    /**
+     * 기존 대시보드 API 응답과 동일한 키 구성의 Map으로 변환
+     * (React 대시보드, Thymeleaf 모델, WebSocket payload 공용)
+     */
+    public Map<String, Object> toMap() {
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("todayOrderCount", todayOrderCount);
+        map.put("todayRevenue", todayRevenue);
+        map.put("monthRevenue", monthRevenue);
+        map.put("totalProducts", totalProducts);
+        map.put("outOfStockProducts", outOfStockProducts);
+        map.put("todayNewUsers", todayNewUsers);
+        map.put("totalUsers", totalUsers);
+        map.put("inactiveUsers", inactiveUsers);
+        map.put("totalNotices", totalNotices);
+        map.put("totalReviews", totalReviews);
+        map.put("totalQnas", totalQnas);
+        map.put("reconciledAt", reconciledAt != null ? reconciledAt.toString() : null);
+        return map;
+    }
+}
@@ -0,0 +1,69 @@
+package com.onandhome.admin.adminDashboard.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 대시보드 일별 집계 엔티티
+ * 하루 단위로 한 행씩 저장되며, 보정 주기마다 당일 행을 갱신하고
+ * 자정에 전날 행을 확정값으로 덮어쓴다.
+ */
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Table(name = "dashboard_daily_stat")
+public class DashboardDailyStat {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "stat_date", nullable = false, unique = true)
+    private LocalDate statDate; // 집계 기준일
+
+    @Column(name = "order_count", nullable = false)
+    private long orderCount; // 당일 주문 수
+
+    @Column(nullable = false)
+    private long revenue; // 당일 매출 (취소 제외)
+
+    @Column(name = "new_users", nullable = false)
+    private long newUsers; // 당일 신규 회원 수
+
+    // 아래는 집계 시점의 누적 값
+    @Column(name = "total_users", nullable = false)
+    private long totalUsers;
+
+    @Column(name = "inactive_users", nullable = false)
+    private long inactiveUsers;
+
+    @Column(name = "total_products", nullable = false)
+    private long totalProducts;
+
+    @Column(name = "out_of_stock_products", nullable = false)
+    private long outOfStockProducts;
+
+    @Column(name = "total_notices", nullable = false)
+    private long totalNotices;
+
+    @Column(name = "total_reviews", nullable = false)
+    private long totalReviews;
+
+    @Column(name = "total_qnas", nullable = false)
+    private long totalQnas;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    @PrePersist
+    @PreUpdate
+    protected void onSave() {
+        this.updatedAt = LocalDateTime.now();
+    }
+}
@@ -2,8 +2,12 @@ package com.onandhome.admin.adminOrder;
 
 import com.onandhome.order.dto.OrderDTO;
 import com.onandhome.order.dto.OrderItemDTO;
+import com.onandhome.order.dto.OrderTransitionResult;
 import com.onandhome.order.entity.Order;
 import com.onandhome.order.entity.OrderItem;
+import com.onandhome.order.event.OrderStatusChangedEvent;
+import com.onandhome.order.OrderEventRepository;
+import com.onandhome.order.OrderLifecycleService;
 import com.onandhome.order.OrderRepository;
 import com.onandhome.order.OrderService;
 import lombok.RequiredArgsConstructor;
@@ -29,6 +33,8 @@ public class AdminOrderRestController {
 
     private final OrderRepository orderRepository;
     private final OrderService orderService;
+    private final OrderLifecycleService orderLifecycleService;
+    private final OrderEventRepository orderEventRepository;
 
     // 전체 주문 목록 조회 (관리자용)
     // 주문 상태와 관계없이 모든 주문을 조회한다.
@@ -82,7 +88,7 @@ public class AdminOrderRestController {
     // 주문 상태 변경 (관리자용)
     // 관리자가 직접 ORDERED, DELIVERING, DELIVERED, CANCELED 등을 변경한다.
     // 무통장 입금(BANK_TRANSFER) 경우 PAYMENT_PENDING → ORDERED 변경 전에 사용됨.
-    @Transactional
+    // 허용되지 않는 전이(예: 배송완료 → 배송중)는 400, 취소는 재고 복구까지 함께 처리된다. (OrderLifecycleService)
     @PutMapping("/{id}/status")
     public ResponseEntity<Map<String, Object>> updateOrderStatus(
             @PathVariable Long id,
@@ -102,38 +108,119 @@ public class AdminOrderRestController {
                 return ResponseEntity.badRequest().body(response);
             }
 
-            Optional<Order> orderOptional = orderRepository.findById(id);
-
-            if (orderOptional.isEmpty()) {
+            Order.OrderStatus newStatus;
+            try {
+                // 문자열을 OrderStatus Enum으로 변환
+                newStatus = Order.OrderStatus.valueOf(statusStr);
+            } catch (IllegalArgumentException e) {
                 response.put("success", false);
-                response.put("message", "주문을 찾을 수 없습니다.");
-                return ResponseEntity.status(HttpStatus.NOT_FOUND).body(response);
+                response.put("message", "유효하지 않은 상태 값입니다: " + statusStr);
+                return ResponseEntity.badRequest().body(response);
             }
 
-            Order order = orderOptional.get();
+            orderLifecycleService.transition(id, newStatus);
 
-            try {
-                // 문자열을 OrderStatus Enum으로 변환
-                Order.OrderStatus newStatus = Order.OrderStatus.valueOf(statusStr);
+            response.put("success", true);
+            response.put("message", "주문 상태가 변경되었습니다.");
+            response.put("status", newStatus.name());
+            return ResponseEntity.ok(response);
 
-                order.setStatus(newStatus);
-                orderRepository.save(order);
+        } catch (IllegalArgumentException e) {
+            response.put("success", false);
+            response.put("message", "주문을 찾을 수 없습니다.");
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(response);
 
-                response.put("success", true);
-                response.put("message", "주문 상태가 변경되었습니다.");
-                response.put("status", newStatus.name());
-                return ResponseEntity.ok(response);
+        } catch (IllegalStateException e) {
+            response.put("success", false);
+            response.put("message", e.getMessage()); // 허용되지 않는 상태 전이
+            return ResponseEntity.badRequest().body(response);
 
+        } catch (Exception e) {
+            log.error("주문 상태 변경 실패: {}", id, e);
+            response.put("success", false);
+            response.put("message", "주문 상태 변경 중 오류가 발생했습니다.");
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
+        }
+    }
+
+    // 주문 상태 일괄 변경 (관리자용)
+    // 요청 본문: { "orderIds": [1, 2, ...], "status": "DELIVERING" } (최대 5000건)
+    // 한 트랜잭션에서 잠금 → 전이 검증 → UPDATE 한 번으로 처리하고,
+    // 변경할 수 없는 주문(없는 주문, 허용되지 않는 전이)은 건너뛰고 rejected 로 돌려준다.
+    @PostMapping("/bulk-status")
+    public ResponseEntity<Map<String, Object>> bulkUpdateOrderStatus(@RequestBody Map<String, Object> request) {
+        Map<String, Object> response = new HashMap<>();
+
+        try {
+            Object statusValue = request.get("status");
+            Object idsValue = request.get("orderIds");
+            if (statusValue == null || !(idsValue instanceof List<?> rawIds) || rawIds.isEmpty()) {
+                response.put("success", false);
+                response.put("message", "orderIds 와 status 가 필요합니다.");
+                return ResponseEntity.badRequest().body(response);
+            }
+
+            Order.OrderStatus newStatus;
+            List<Long> orderIds;
+            try {
+                newStatus = Order.OrderStatus.valueOf(statusValue.toString());
+                orderIds = rawIds.stream().map(v -> Long.valueOf(v.toString())).toList();
             } catch (IllegalArgumentException e) {
                 response.put("success", false);
-                response.put("message", "유효하지 않은 상태 값입니다: " + statusStr);
+                response.put("message", "유효하지 않은 요청 값입니다.");
                 return ResponseEntity.badRequest().body(response);
             }
 
+            log.info("=== 관리자 주문 상태 일괄 변경: {}건 → {} ===", orderIds.size(), newStatus);
+            OrderTransitionResult result = orderLifecycleService.bulkTransition(orderIds, newStatus);
+
+            response.put("success", true);
+            response.put("message", result.changed().size() + "건의 주문 상태가 변경되었습니다.");
+            response.put("status", newStatus.name());
+            response.put("changedCount", result.changed().size());
+            response.put("changedOrderIds", result.changed().stream()
+                    .map(OrderStatusChangedEvent.Change::orderId).toList());
+            response.put("rejected", result.rejected());
+            return ResponseEntity.ok(response);
+
+        } catch (IllegalArgumentException e) {
+            response.put("success", false);
+            response.put("message", e.getMessage());
+            return ResponseEntity.badRequest().body(response);
+
         } catch (Exception e) {
-            log.error("주문 상태 변경 실패: {}", id, e);
+            log.error("주문 상태 일괄 변경 실패", e);
             response.put("success", false);
-            response.put("message", "주문 상태 변경 중 오류가 발생했습니다.");
+            response.put("message", "주문 상태 일괄 변경 중 오류가 발생했습니다.");
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
+        }
+    }
+
+    // 주문 상태 변경 이력 조회 (관리자용)
+    // order_event 테이블에 남은 변경 이력을 오래된 순으로 반환한다.
+    @GetMapping("/{id}/events")
+    public ResponseEntity<Map<String, Object>> getOrderEvents(@PathVariable Long id) {
+        Map<String, Object> response = new HashMap<>();
+        try {
+            List<Map<String, Object>> events = orderEventRepository.findByOrderIdOrderByIdAsc(id).stream()
+                    .map(e -> {
+                        Map<String, Object> event = new HashMap<>();
+                        event.put("id", e.getId());
+                        event.put("fromStatus", e.getFromStatus() != null ? e.getFromStatus().name() : null);
+                        event.put("toStatus", e.getToStatus().name());
+                        event.put("actor", e.getActor());
+                        event.put("createdAt", e.getCreatedAt());
+                        return event;
+                    })
+                    .toList();
+
+            response.put("success", true);
+            response.put("data", events);
+            return ResponseEntity.ok(response);
+        } catch (Exception e) {
+            log.error("주문 상태 이력 조회 실패: {}", id, e);
+            response.put("success", false);
+            response.put("message", "주문 상태 이력 조회 중 오류가 발생했습니다.");
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
         }
     }
@@ -142,7 +229,6 @@ public class AdminOrderRestController {
     // PAYMENT_PENDING → ORDERED 로 전환됨.
     // paidAt 필드도 이 과정에서 자동 기록된다.
     // 결제 방식이 BANK_TRANSFER인 경우에만 정상적으로 처리된다.
-    @Transactional
     @PostMapping("/{id}/confirm-payment")
     public ResponseEntity<Map<String, Object>> confirmPayment(@PathVariable Long id) {
         log.info("=== 무통장 입금 확인: {} ===", id);
@@ -158,6 +244,11 @@ public class AdminOrderRestController {
 
             return ResponseEntity.ok(response);
 
+        } catch (IllegalArgumentException e) {
+            response.put("success", false);
+            response.put("message", e.getMessage()); // 존재하지 않는 주문
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(response);
+
         } catch (IllegalStateException e) {
             response.put("success", false);
             response.put("message", e.getMessage()); // 상태 조건 불일치 등
@@ -1,8 +1,15 @@
 package com.onandhome.admin.adminProduct;
 
+import com.onandhome.admin.adminBulk.AdminBulkOperations;
+import com.onandhome.admin.adminBulk.BulkJob;
+import com.onandhome.admin.adminBulk.BulkOperationService;
 import com.onandhome.admin.adminProduct.dto.CategoryDTO;
 import com.onandhome.admin.adminProduct.dto.ProductDTO;
 import com.onandhome.admin.adminProduct.entity.Product;
+import com.onandhome.category.CategoryService;
+import com.onandhome.category.dto.CategoryNode;
+import com.onandhome.file.FileStorageService;
+import com.onandhome.file.dto.StoredImage;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
@@ -25,58 +32,49 @@ import java.util.stream.Collectors;
 public class AdminProductRestController {
 
     private final ProductService productService;
-    private final FileUploadService fileUploadService;
+    private final FileStorageService fileStorageService;
+    private final CategoryService categoryService;
+    private final BulkOperationService bulkOperationService;
 
     /**
      * 카테고리 목록 조회 API
      * GET /api/admin/products/categories
+     * 카테고리 트리(category 테이블)를 대분류 - 소분류 이름 목록 형태로 반환
      */
     @GetMapping("/categories")
     public ResponseEntity<List<CategoryDTO>> getCategories() {
-        log.info("=== 카테고리 목록 조회 API 호출 ===");
-        
-        // 카테고리 데이터 정의 (사용자 페이지 Header.js와 동일)
-        List<CategoryDTO> categories = new ArrayList<>();
-        
-        // TV/오디오
-        categories.add(new CategoryDTO(
-            "tv_audio",
-            "TV/오디오",
-            Arrays.asList("TV", "오디오")
-        ));
-        
-        // 주방가전
-        categories.add(new CategoryDTO(
-            "kitchen",
-            "주방가전",
-            Arrays.asList("냉장고", "전자렌지", "식기세척기")
-        ));
-        
-        // 생활가전
-        categories.add(new CategoryDTO(
-            "living",
-            "생활가전",
-            Arrays.asList("세탁기", "청소기")
-        ));
-        
-        // 에어컨/공기청정기
-        categories.add(new CategoryDTO(
-            "air",
-            "에어컨/공기청정기",
-            Arrays.asList("에어컨", "공기청정기", "정수기")
-        ));
-        
-        // 기타
-        categories.add(new CategoryDTO(
-            "etc",
-            "기타",
-            Arrays.asList("안마의자", "PC")
-        ));
-        
-        log.info("카테고리 개수: {}", categories.size());
+        List<CategoryDTO> categories = categoryService.getTree().getLegacyList();
+        log.debug("카테고리 목록 조회 - 대분류 {}개", categories.size());
         return ResponseEntity.ok(categories);
     }
 
+    /**
+     * 카테고리 추가 API
+     * POST /api/admin/products/categories
+     * body: { "parentCode": "kitchen", "code": "oven", "name": "오븐" } (parentCode 없으면 대분류)
+     */
+    @PostMapping("/categories")
+    public ResponseEntity<Map<String, Object>> createCategory(@RequestBody Map<String, String> request) {
+        Map<String, Object> response = new HashMap<>();
+        try {
+            CategoryNode created = categoryService.create(
+                    request.get("parentCode"), request.get("code"), request.get("name"));
+            response.put("success", true);
+            response.put("message", "카테고리가 추가되었습니다.");
+            response.put("data", created);
+            return ResponseEntity.ok(response);
+        } catch (IllegalArgumentException e) {
+            response.put("success", false);
+            response.put("message", e.getMessage());
+            return ResponseEntity.badRequest().body(response);
+        } catch (Exception e) {
+            log.error("카테고리 추가 실패", e);
+            response.put("success", false);
+            response.put("message", "카테고리 추가 중 오류가 발생했습니다.");
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
+        }
+    }
+
     /**
      * 상품 등록 API
      * POST /api/admin/products
@@ -116,15 +114,15 @@ public class AdminProductRestController {
             
             // 파일 업로드 처리
             if (thumbnailImage != null && !thumbnailImage.isEmpty()) {
-                String thumbnailUrl = fileUploadService.uploadFile(thumbnailImage);
-                productDTO.setThumbnailImage(thumbnailUrl);
-                log.info("썸네일 이미지 업로드: {}", thumbnailUrl);
+                StoredImage thumbnail = fileStorageService.storeImage(thumbnailImage);
+                productDTO.applyThumbnail(thumbnail);
+                log.info("썸네일 이미지 업로드: {}", thumbnail.getUrl());
             }
             
             if (detailImage != null && !detailImage.isEmpty()) {
-                String detailUrl = fileUploadService.uploadFile(detailImage);
-                productDTO.setDetailImage(detailUrl);
-                log.info("상세 이미지 업로드: {}", detailUrl);
+                StoredImage detail = fileStorageService.storeImage(detailImage);
+                productDTO.applyDetailImage(detail);
+                log.info("상세 이미지 업로드: {}", detail.getUrl());
             }
             
             ProductDTO createdProduct = productService.create(productDTO);
@@ -185,15 +183,15 @@ public class AdminProductRestController {
             
             // 파일 업로드 처리
             if (thumbnailImage != null && !thumbnailImage.isEmpty()) {
-                String thumbnailUrl = fileUploadService.uploadFile(thumbnailImage);
-                productDTO.setThumbnailImage(thumbnailUrl);
-                log.info("썸네일 이미지 업로드: {}", thumbnailUrl);
+                StoredImage thumbnail = fileStorageService.storeImage(thumbnailImage);
+                productDTO.applyThumbnail(thumbnail);
+                log.info("썸네일 이미지 업로드: {}", thumbnail.getUrl());
             }
             
             if (detailImage != null && !detailImage.isEmpty()) {
-                String detailUrl = fileUploadService.uploadFile(detailImage);
-                productDTO.setDetailImage(detailUrl);
-                log.info("상세 이미지 업로드: {}", detailUrl);
+                StoredImage detail = fileStorageService.storeImage(detailImage);
+                productDTO.applyDetailImage(detail);
+                log.info("상세 이미지 업로드: {}", detail.getUrl());
             }
             
             ProductDTO updatedProduct = productService.update(productId, productDTO);
@@ -345,28 +343,23 @@ public class AdminProductRestController {
             log.info("삭제할 상품 수: {}", productIds.size());
             log.info("상품 ID 목록: {}", productIds);
             
-            int deletedCount = 0;
-            int failedCount = 0;
-            
-            for (Long productId : productIds) {
-                try {
-                    productService.delete(productId);
-                    deletedCount++;
-                    log.info("상품 삭제 성공: {}", productId);
-                } catch (Exception e) {
-                    failedCount++;
-                    log.error("상품 ID {} 삭제 실패: {}", productId, e.getMessage());
-                }
-            }
-            
+            // 청크 단위 집합 삭제 (대상이 많으면 백그라운드로 진행, /api/admin/bulk-jobs/{jobId} 로 조회)
+            BulkJob job = bulkOperationService.submit(AdminBulkOperations.PRODUCT_DELETE, productIds);
             response.put("success", true);
+            response.put("jobId", job.getId());
+            response.put("job", job);
+            if (!job.isFinished()) {
+                response.put("message", String.format("%d개의 상품 삭제를 시작했습니다.", job.getTotalCount()));
+                return ResponseEntity.status(HttpStatus.ACCEPTED).body(response);
+            }
+
             response.put("message", String.format("%d개의 상품이 삭제되었습니다.%s", 
-                    deletedCount, 
-                    failedCount > 0 ? String.format(" (%d개 실패)", failedCount) : ""));
-            response.put("deletedCount", deletedCount);
-            response.put("failedCount", failedCount);
+                    job.getSucceededCount(), 
+                    job.getFailedCount() > 0 ? String.format(" (%d개 실패)", job.getFailedCount()) : ""));
+            response.put("deletedCount", job.getSucceededCount());
+            response.put("failedCount", job.getFailedCount());
             
-            log.info("삭제 완료 - 성공: {}, 실패: {}", deletedCount, failedCount);
+            log.info("삭제 완료 - 성공: {}, 실패: {}", job.getSucceededCount(), job.getFailedCount());
             
             return ResponseEntity.ok(response);
             
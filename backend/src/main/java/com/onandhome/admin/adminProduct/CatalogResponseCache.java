@@ -0,0 +1,269 @@
+package com.onandhome.admin.adminProduct;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.onandhome.admin.adminProduct.event.ProductChangedEvent;
+import com.onandhome.review.event.ReviewChangedEvent;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 상품 목록 응답 캐시 (미리 직렬화 + gzip 압축된 JSON 바이트)
+ *
+ * - (엔드포인트, 카테고리, 재고 있는 상품만) 조합마다 응답 JSON 을 한 번만 만들어 gzip 바이트로 보관한다.
+ * - 상품 등록/수정/삭제/재고 변동(ProductChangedEvent), 리뷰 등록/삭제/평점 수정(ReviewChangedEvent)이
+ *   커밋되면 카탈로그 리비전이 올라가고 이전 리비전의 응답은 다음 요청 때 다시 만든다.
+ * - 같은 리비전이면 DB 조회와 Jackson 직렬화 없이 저장된 바이트를 그대로 보낸다.
+ *   ETag 는 응답 JSON 의 해시이므로 If-None-Match 가 맞으면 본문 없이 304.
+ * - gzip 을 받지 않는 클라이언트에는 풀어서 보낸다. (브라우저는 모두 gzip 지원)
+ *
+ * 카테고리는 URL 에서 오는 값이라 종류가 무한할 수 있으므로 보관 개수(catalog.cache.max-entries)를 넘으면
+ * 새 조합은 캐시하지 않고 매번 만들어 보낸다.
+ */
+@Component
+@Slf4j
+public class CatalogResponseCache implements MeterBinder {
+
+    /**
+     * 캐시 키
+     *
+     * @param endpoint 응답 형태 구분 (같은 데이터라도 JSON 키 이름이 다르면 다른 엔드포인트)
+     * @param category 카테고리 (전체 목록은 null)
+     * @param inStock  재고 있는 상품만 여부
+     */
+    public record Key(String endpoint, String category, boolean inStock) {
+    }
+
+    private record Entry(long revision, String etag, byte[] gzipped) {
+    }
+
+    private final ObjectMapper objectMapper;
+    private final int maxEntries;
+
+    private final AtomicLong revision = new AtomicLong();
+    private final Map<Key, Entry> entries = new ConcurrentHashMap<>();
+    private final Map<Key, ReentrantLock> buildLocks = new ConcurrentHashMap<>();
+
+    // 지표
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong notModified = new AtomicLong();
+    private final AtomicLong builds = new AtomicLong();
+
+    public CatalogResponseCache(ObjectMapper objectMapper,
+                                @Value("${catalog.cache.max-entries:256}") int maxEntries) {
+        this.objectMapper = objectMapper;
+        this.maxEntries = maxEntries;
+    }
+
+    /**
+     * 상품 변경이 커밋되면 리비전 증가 (재고도 응답에 포함되므로 주문에 의한 재고 변동도 포함)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProductChanged(ProductChangedEvent event) {
+        long next = advance();
+        log.debug("카탈로그 리비전 증가 - {} ({} {})", next, event.getType(), event.getProductId());
+    }
+
+    /**
+     * 리뷰 변경이 커밋되면 리비전 증가
+     * 응답에 상품 평점(ratingScore) / 리뷰 수(reviewCount)가 포함되고, 이 값은 같은 트랜잭션 커밋 직전에 반영된다.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onReviewChanged(ReviewChangedEvent event) {
+        if (event.getProductId() == null) {
+            return;
+        }
+        long next = advance();
+        log.debug("카탈로그 리비전 증가 - {} (리뷰 {} 상품 {})", next, event.getReviewId(), event.getProductId());
+    }
+
+    private long advance() {
+        long next = revision.incrementAndGet();
+        entries.clear();
+        return next;
+    }
+
+    /**
+     * 캐시된 응답 전송 (없거나 리비전이 지났으면 body 로 새로 만들어 저장)
+     *
+     * @param key     캐시 키
+     * @param request If-None-Match / Accept-Encoding 확인용
+     * @param body    응답 본문 생성 (캐시 미스일 때만 호출 - DB 조회)
+     */
+    public ResponseEntity<byte[]> serve(Key key, HttpServletRequest request, Supplier<Map<String, Object>> body) {
+        Entry entry = lookup(key, body);
+
+        // 매번 서버에 확인하되(no-cache) 바뀌지 않았으면 304
+        HttpHeaders headers = new HttpHeaders();
+        headers.setETag(entry.etag());
+        headers.setCacheControl(CacheControl.noCache());
+        headers.setVary(List.of(HttpHeaders.ACCEPT_ENCODING));
+
+        if (notModified(request, entry.etag())) {
+            notModified.incrementAndGet();
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).headers(headers).build();
+        }
+
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+                .headers(headers)
+                .contentType(MediaType.APPLICATION_JSON);
+        if (acceptsGzip(request)) {
+            return builder.header(HttpHeaders.CONTENT_ENCODING, "gzip")
+                    .contentLength(entry.gzipped().length)
+                    .body(entry.gzipped());
+        }
+        byte[] plain = gunzip(entry.gzipped());
+        return builder.contentLength(plain.length).body(plain);
+    }
+
+    public Map<String, Object> getStats() {
+        return Map.of(
+                "revision", revision.get(),
+                "entries", entries.size(),
+                "hits", hits.get(),
+                "notModified", notModified.get(),
+                "builds", builds.get());
+    }
+
+    /**
+     * 지표 - catalog.cache.requests{result=hit|miss}, 적중률, 304 응답 수, 보관 항목 수
+     */
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("catalog.cache.requests", hits, AtomicLong::get)
+                .tag("result", "hit")
+                .register(registry);
+        FunctionCounter.builder("catalog.cache.requests", builds, AtomicLong::get)
+                .tag("result", "miss")
+                .register(registry);
+        FunctionCounter.builder("catalog.cache.not.modified", notModified, AtomicLong::get)
+                .register(registry);
+        Gauge.builder("catalog.cache.hit.ratio", this, CatalogResponseCache::hitRatio)
+                .register(registry);
+        Gauge.builder("catalog.cache.entries", entries, Map::size)
+                .register(registry);
+    }
+
+    private double hitRatio() {
+        long hit = hits.get();
+        long total = hit + builds.get();
+        return total == 0 ? 0 : (double) hit / total;
+    }
+
+    private Entry lookup(Key key, Supplier<Map<String, Object>> body) {
+        Entry entry = entries.get(key);
+        if (entry != null && entry.revision() == revision.get()) {
+            hits.incrementAndGet();
+            return entry;
+        }
+
+        // 같은 키를 동시에 여러 요청이 다시 만들지 않도록 키별로 한 번만 생성
+        // (목록 조회 중에 잡고 있으므로 synchronized 대신 ReentrantLock - 가상 스레드 고정 방지)
+        ReentrantLock lock = buildLocks.computeIfAbsent(key, k -> new ReentrantLock());
+        lock.lock();
+        try {
+            entry = entries.get(key);
+            long current = revision.get();
+            if (entry != null && entry.revision() == current) {
+                hits.incrementAndGet();
+                return entry;
+            }
+            // 생성 전에 읽은 리비전으로 저장 - 생성 중에 변경이 커밋되면 다음 요청 때 다시 만든다.
+            entry = build(current, body.get());
+            if (entries.containsKey(key) || entries.size() < maxEntries) {
+                entries.put(key, entry);
+            }
+            return entry;
+        } finally {
+            lock.unlock();
+            buildLocks.remove(key, lock);
+        }
+    }
+
+    private Entry build(long rev, Map<String, Object> body) {
+        builds.incrementAndGet();
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(body);
+            // gzip/비압축 두 가지로 보내므로 약한 ETag (내용이 같으면 같은 값)
+            String etag = "W/\"" + HexFormat.of().formatHex(sha256(json), 0, 16) + "\"";
+
+            ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(json.length / 4, 512));
+            try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+                gzip.write(json);
+            }
+            byte[] gzipped = out.toByteArray();
+            log.debug("카탈로그 응답 생성 - rev {}, {} → {} bytes", rev, json.length, gzipped.length);
+            return new Entry(rev, etag, gzipped);
+        } catch (IOException e) {
+            throw new UncheckedIOException("상품 목록 응답 생성 실패", e);
+        }
+    }
+
+    private static boolean notModified(HttpServletRequest request, String etag) {
+        String ifNoneMatch = request.getHeader(HttpHeaders.IF_NONE_MATCH);
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        String opaque = stripWeak(etag);
+        for (String candidate : ifNoneMatch.split(",")) {
+            String c = candidate.trim();
+            // If-None-Match 는 약한 비교
+            if (c.equals("*") || stripWeak(c).equals(opaque)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String stripWeak(String etag) {
+        return etag.startsWith("W/") ? etag.substring(2) : etag;
+    }
+
+    private static boolean acceptsGzip(HttpServletRequest request) {
+        String accept = request.getHeader(HttpHeaders.ACCEPT_ENCODING);
+        return accept != null && accept.toLowerCase().contains("gzip");
+    }
+
+    private static byte[] gunzip(byte[] gzipped) {
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(gzipped))) {
+            return in.readAllBytes();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static byte[] sha256(byte[] data) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(data);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package com.onandhome.admin.adminProduct;
 
+import com.onandhome.file.FileStorageService;
+import com.onandhome.file.dto.StoredImage;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
@@ -16,7 +18,7 @@ import java.util.Map;
 @Slf4j
 public class FileUploadController {
 
-    private final FileUploadService fileUploadService;
+    private final FileStorageService fileStorageService;
 
     /**
      * 이미지 파일 업로드
@@ -42,12 +44,13 @@ public class FileUploadController {
                 return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
             }
 
-            // 파일 업로드
-            String fileUrl = fileUploadService.uploadFile(file);
+            // 파일 업로드 (원본 + 썸네일/목록/상세 변형)
+            StoredImage image = fileStorageService.storeImage(file);
 
             response.put("success", true);
             response.put("message", "파일 업로드 성공");
-            response.put("fileUrl", fileUrl);
+            response.put("fileUrl", image.getUrl());
+            response.put("image", image);
 
             return ResponseEntity.ok(response);
 
@@ -74,7 +77,8 @@ public class FileUploadController {
         try {
             log.info("이미지 삭제 요청: {}", fileUrl);
 
-            fileUploadService.deleteFile(fileUrl);
+            // 참조 해제 (다른 곳에서 같은 파일을 쓰고 있으면 삭제되지 않음)
+            fileStorageService.release(fileUrl);
 
             response.put("success", true);
             response.put("message", "파일 삭제 성공");
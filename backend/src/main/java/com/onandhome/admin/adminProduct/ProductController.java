@@ -7,6 +7,10 @@ import java.util.Optional;
 
 import com.onandhome.admin.adminProduct.dto.ProductDTO;
 import com.onandhome.admin.adminProduct.entity.Product;
+import com.onandhome.admin.adminProduct.facet.ProductFacetService;
+import com.onandhome.admin.adminProduct.sort.ProductSortService;
+import com.onandhome.category.CategoryService;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
@@ -37,58 +41,141 @@ public class ProductController {
     // final: 한 번 할당되면 변경 불가 (생성자 주입 시 할당됨)
     // Spring이 자동으로 ProductService 객체를 주입(Dependency Injection)
 
+	private final CatalogResponseCache catalogResponseCache;
+	// 상품 목록 응답 캐시 (미리 직렬화된 gzip JSON)
+
+	private final CategoryService categoryService;
+	// 카테고리 트리 (메모리 스냅샷)
+
+	private final ProductFacetService productFacetService;
+	// 패싯 탐색 (메모리 비트셋 인덱스)
+
+	private final ProductSortService productSortService;
+	// 정렬 목록 (키셋 페이지)
+
+	private static final CatalogResponseCache.Key LIST_KEY =
+			new CatalogResponseCache.Key("/api/products/list", null, false);
+
 	/**
 	 * 모든 상품 조회
 	 * GET /api/products/list
+	 *
+	 * 응답은 CatalogResponseCache 에 gzip 바이트로 보관된다.
+	 * 상품 변경이 없으면 DB 조회/JSON 변환 없이 그대로 보내고, If-None-Match 가 맞으면 304.
+	 * 최종 응답: { "success": true, "data": [...], "count": 6 }
 	 */
 	@GetMapping("/list")
-    // @GetMapping: HTTP GET 요청을 처리하는 메서드
-    // "/list": URL 경로 (@RequestMapping과 합쳐져 /api/products/list)
-    // 프론트엔드의 fetch 요청이 이 메서드로 들어옴
-	public ResponseEntity<Map<String, Object>> list() {
-        // ResponseEntity: HTTP 응답을 나타내는 클래스
-        //   - 상태 코드 (200, 404, 500 등)
-        //   - 헤더
-        //   - 바디
-        // Map<String, Object>: 응답 바디의 타입
-        //   - String: 키 (예: "success", "data", "count")
-        //   - Object: 값 (다양한 타입 가능)
-        // list(): 메서드명 (파라미터 없음)
+	public ResponseEntity<?> list(HttpServletRequest request) {
+		try {
+			return catalogResponseCache.serve(LIST_KEY, request, () -> {
+				// 캐시 미스일 때만 실행 (상품 변경 후 첫 요청)
+				List<Product> products = productService.listAll();
+				Map<String, Object> body = new HashMap<>();
+				body.put("success", true);
+				body.put("data", products);
+				body.put("count", products.size());
+				return body;
+			});
+		} catch (Exception e) {
+			log.error("상품 목록 조회 중 오류: {}", e.getMessage());
+			Map<String, Object> response = new HashMap<>();
+			response.put("success", false);
+			response.put("message", "상품 목록 조회 중 오류가 발생했습니다.");
+			return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
+		}
+	}
+
+	/**
+	 * 카테고리 트리 조회 (헤더 메뉴용)
+	 * GET /api/products/categories
+	 *
+	 * CategoryService 가 보관한 트리 스냅샷을 그대로 반환 (DB 조회 없음)
+	 * 최종 응답: { "success": true, "data": [{ "code", "name", "productCount", "inStockCount", "children": [...] }] }
+	 */
+	@GetMapping("/categories")
+	public ResponseEntity<Map<String, Object>> categories() {
 		Map<String, Object> response = new HashMap<>();
-        // response: 응답 데이터를 담을 Map 객체 생성
-        // HashMap: Map 인터페이스의 구현체
-        // new HashMap<>(): 빈 HashMap 객체 생성
 		try {
-			List<Product> products = productService.listAll();
-            // productService.listAll(): 서비스의 listAll() 메서드 호출
-            // 모든 상품을 조회하는 비즈니스 로직 실행
-            // List<Product>: Product 엔티티의 리스트
-            // products: 조회된 상품 리스트를 저장하는 변수
 			response.put("success", true);
-            // response.put(): Map에 키-값 쌍 추가
-            // "success": 키
-            // true: 값 (성공 여부)
-			response.put("data", products);
-            // "data": 키
-            // products: 값 (상품 리스트)
-            // products는 자동으로 JSON 배열로 변환됨
-			response.put("count", products.size());
-            // "count": 키
-            // products.size(): 리스트의 크기 (상품 개수)
+			response.put("data", categoryService.getTree().getRoots());
 			return ResponseEntity.ok(response);
-            // ResponseEntity.ok(): HTTP 200 OK 응답 생성
-            // response: 응답 바디 (JSON으로 자동 변환)
-            // 최종 응답: { "success": true, "data": [...], "count": 6 }
 		} catch (Exception e) {
-            // catch: try 블록에서 예외 발생 시 실행
-            // Exception e: 발생한 예외 객체
-			log.error("상품 목록 조회 중 오류: {}", e.getMessage());
+			log.error("카테고리 조회 중 오류: {}", e.getMessage());
+			response.put("success", false);
+			response.put("message", "카테고리 조회 중 오류가 발생했습니다.");
+			return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
+		}
+	}
+
+	/**
+	 * 패싯 상품 탐색 (필터 + 정렬 + 페이지 + 필터별 상품 수)
+	 * GET /api/products/browse?category=냉장고&manufacturer=LG&manufacturer=삼성&minPrice=100000&maxPrice=2000000
+	 *     &onSale=true&inStock=true&sort=price_asc&page=0&size=20
+	 *
+	 * 메모리 패싯 인덱스로 계산하고 DB 는 결과 페이지의 상품만 조회한다.
+	 * 최종 응답: { "success": true, "data": { "products": [...], "total", "page", "size", "totalPages",
+	 *            "facets": { "category": [{ "value", "count" }], "manufacturer": [...], "country": [...], "status": [...] } } }
+	 */
+	@GetMapping("/browse")
+	public ResponseEntity<Map<String, Object>> browse(
+			@RequestParam(required = false) String category,
+			@RequestParam(required = false) List<String> manufacturer,
+			@RequestParam(required = false) List<String> country,
+			@RequestParam(required = false) List<String> status,
+			@RequestParam(required = false) Integer minPrice,
+			@RequestParam(required = false) Integer maxPrice,
+			@RequestParam(defaultValue = "false") boolean onSale,
+			@RequestParam(defaultValue = "false") boolean inStock,
+			@RequestParam(defaultValue = "latest") String sort,
+			@RequestParam(defaultValue = "0") int page,
+			@RequestParam(defaultValue = "20") int size) {
+		Map<String, Object> response = new HashMap<>();
+		try {
+			response.put("success", true);
+			response.put("data", productFacetService.browse(category, manufacturer, country, status,
+					minPrice, maxPrice, onSale, inStock, sort, page, size));
+			return ResponseEntity.ok(response);
+		} catch (IllegalArgumentException e) {
+			response.put("success", false);
+			response.put("message", e.getMessage());
+			return ResponseEntity.badRequest().body(response);
+		} catch (Exception e) {
+			log.error("상품 탐색 중 오류: {}", e.getMessage(), e);
+			response.put("success", false);
+			response.put("message", "상품 탐색 중 오류가 발생했습니다.");
+			return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
+		}
+	}
+
+	/**
+	 * 정렬 상품 목록 (키셋 페이지)
+	 * GET /api/products/sorted?sort=price_asc&category=냉장고&inStock=true&size=20&cursor=...
+	 *
+	 * sort: price_asc, price_desc, sale_price_asc, sale_price_desc, newest(기본), best_selling, rating
+	 * 다음 페이지는 응답의 nextCursor 를 cursor 로 넘긴다. (nextCursor 가 null 이면 마지막 페이지)
+	 * 최종 응답: { "success": true, "data": { "products": [...], "nextCursor", "sort", "size" } }
+	 */
+	@GetMapping("/sorted")
+	public ResponseEntity<Map<String, Object>> sorted(
+			@RequestParam(required = false) String sort,
+			@RequestParam(required = false) String category,
+			@RequestParam(defaultValue = "false") boolean inStock,
+			@RequestParam(required = false) String cursor,
+			@RequestParam(defaultValue = "20") int size) {
+		Map<String, Object> response = new HashMap<>();
+		try {
+			response.put("success", true);
+			response.put("data", productSortService.list(sort, category, inStock, cursor, size));
+			return ResponseEntity.ok(response);
+		} catch (IllegalArgumentException e) {
+			response.put("success", false);
+			response.put("message", e.getMessage());
+			return ResponseEntity.badRequest().body(response);
+		} catch (Exception e) {
+			log.error("정렬 상품 목록 조회 중 오류: {}", e.getMessage(), e);
 			response.put("success", false);
 			response.put("message", "상품 목록 조회 중 오류가 발생했습니다.");
 			return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
-            // ResponseEntity.status(): 특정 HTTP 상태 코드로 응답 생성
-            // HttpStatus.INTERNAL_SERVER_ERROR: HTTP 500 에러
-            // .body(response): 응답 바디 설정
 		}
 	}
 
@@ -1,11 +1,18 @@
 package com.onandhome.admin.adminProduct;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import com.onandhome.admin.adminProduct.entity.Product;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface ProductRepository extends JpaRepository<Product, Long> {
@@ -28,42 +35,123 @@ public interface ProductRepository extends JpaRepository<Product, Long> {
     // 3. 결과를 Product 엔티티 객체로 변환
     // 4. List<Product>로 반환
     
+    // 목록/검색/집계 조회는 삭제(보관)된 상품(deleted_at IS NOT NULL)을 제외한다.
+    // findById 는 그대로 찾는다. (주문 내역에서 보관된 상품 상세로 이동하는 경우)
+    // 수정/주문처럼 판매 중인 상품만 다뤄야 하는 곳은 findActiveById 를 쓴다.
+
     /**
-     * 상품명으로 검색
+     * 상품 단건 조회 (삭제된 상품 제외)
      */
-    List<Product> findByNameContainingIgnoreCase(String keyword);
-    
+    @Query("SELECT p FROM Product p WHERE p.id = :id AND p.deletedAt IS NULL")
+    Optional<Product> findActiveById(@Param("id") Long id);
+
     /**
-     * 카테고리별 상품 조회
+     * 전체 상품 조회 (삭제된 상품 제외)
      */
-    List<Product> findByCategory(String category);
+    @Query("SELECT p FROM Product p WHERE p.deletedAt IS NULL")
+    List<Product> findAllActive();
+
+    /**
+     * 상품 개수 (삭제된 상품 제외)
+     */
+    @Query("SELECT COUNT(p) FROM Product p WHERE p.deletedAt IS NULL")
+    long countActive();
+
+    /**
+     * 상품명으로 검색
+     */
+    @Query("SELECT p FROM Product p WHERE LOWER(p.name) LIKE LOWER(CONCAT('%', :keyword, '%')) AND p.deletedAt IS NULL")
+    List<Product> findByNameContainingIgnoreCase(@Param("keyword") String keyword);
     
     /**
-     * 카테고리명 포함 상품 조회
+     * 카테고리별 상품 조회
      */
-    List<Product> findByCategoryContaining(String category);
+    @Query("SELECT p FROM Product p WHERE p.category = :category AND p.deletedAt IS NULL")
+    List<Product> findByCategory(@Param("category") String category);
     
     /**
      * 품절 상품 개수 조회 (stock = 0)
      */
-    @Query("SELECT COUNT(p) FROM Product p WHERE p.stock = 0")
+    @Query("SELECT COUNT(p) FROM Product p WHERE p.stock = 0 AND p.deletedAt IS NULL")
     long countOutOfStockProducts();
 
     /**
      * 재고가 있는 상품만 조회 (사용자용)
      */
-    @Query("SELECT p FROM Product p WHERE p.stock > 0")
+    @Query("SELECT p FROM Product p WHERE p.stock > 0 AND p.deletedAt IS NULL")
     List<Product> findAllInStock();
 
     /**
      * 카테고리별 재고가 있는 상품만 조회 (사용자용)
      */
-    @Query("SELECT p FROM Product p WHERE p.category = :category AND p.stock > 0")
+    @Query("SELECT p FROM Product p WHERE p.category = :category AND p.stock > 0 AND p.deletedAt IS NULL")
     List<Product> findByCategoryInStock(@Param("category") String category);
 
+    /**
+     * 카테고리 ID 목록으로 상품 조회 (대분류 조회 시 하위 카테고리 포함)
+     */
+    @Query("SELECT p FROM Product p WHERE p.categoryId IN :categoryIds AND p.deletedAt IS NULL")
+    List<Product> findByCategoryIds(@Param("categoryIds") Collection<Long> categoryIds);
+
+    /**
+     * 카테고리 ID 목록으로 재고가 있는 상품만 조회 (사용자용, idx_product_category_stock 사용)
+     * 보관된 상품은 재고가 0 이라 재고 조건만으로도 빠지지만, 수정으로 재고가 생겨도 보이지 않도록 함께 건다.
+     */
+    @Query("SELECT p FROM Product p WHERE p.categoryId IN :categoryIds AND p.stock > 0 AND p.deletedAt IS NULL")
+    List<Product> findByCategoryIdsInStock(@Param("categoryIds") Collection<Long> categoryIds);
+
+    /**
+     * 패싯 인덱스용 컬럼만 조회 (id, categoryId, manufacturer, country, status, price, salePrice, stock)
+     */
+    @Query("SELECT p.id, p.categoryId, p.manufacturer, p.country, p.status, p.price, p.salePrice, p.stock " +
+            "FROM Product p WHERE p.deletedAt IS NULL ORDER BY p.id")
+    List<Object[]> findFacetRows();
+
+    /**
+     * 상품 리뷰 집계 증감 (리뷰 등록/삭제/평점 수정과 같은 트랜잭션)
+     * rating_score 를 먼저 계산해야 MySQL 에서도 증감 전 값을 기준으로 계산된다. (SET 은 왼쪽부터 적용)
+     * 대상 테이블을 product 로 지정해 2차 캐시는 Product 영역만 비운다.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "product"))
+    @Modifying
+    @Query(value = "UPDATE product SET " +
+            "rating_score = CASE WHEN review_count + :countDelta > 0 " +
+            "THEN ROUND((rating_sum + :ratingDelta) * 100 / (review_count + :countDelta)) ELSE 0 END, " +
+            "review_count = GREATEST(review_count + :countDelta, 0), " +
+            "rating_sum = GREATEST(rating_sum + :ratingDelta, 0) " +
+            "WHERE id = :productId",
+            nativeQuery = true)
+    int adjustRating(@Param("productId") Long productId,
+                     @Param("countDelta") int countDelta,
+                     @Param("ratingDelta") int ratingDelta);
+
     /**
      * 상품명 검색 - 재고가 있는 상품만 (사용자용)
      */
-    @Query("SELECT p FROM Product p WHERE LOWER(p.name) LIKE LOWER(CONCAT('%', :keyword, '%')) AND p.stock > 0")
+    @Query("SELECT p FROM Product p WHERE LOWER(p.name) LIKE LOWER(CONCAT('%', :keyword, '%')) AND p.stock > 0 AND p.deletedAt IS NULL")
     List<Product> findByNameContainingIgnoreCaseInStock(@Param("keyword") String keyword);
+
+    /**
+     * 삭제 대상 상품 요약 [id, categoryId, stock, thumbnailImage, detailImage]
+     * (삭제 이벤트/이미지 참조 해제용, 엔티티를 로딩하지 않음 - 이미 보관된 상품은 제외)
+     */
+    @Query("SELECT p.id, p.categoryId, p.stock, p.thumbnailImage, p.detailImage FROM Product p " +
+            "WHERE p.id IN :ids AND p.deletedAt IS NULL")
+    List<Object[]> findDeleteRows(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 상품 보관 처리 (주문 이력이 있는 상품 삭제)
+     * 주문 항목이 상품을 참조하므로 행은 남기고, 판매 종료 + 재고 0 으로 주문/장바구니에서 빠지게 한다.
+     */
+    @Modifying
+    @Query("UPDATE Product p SET p.deletedAt = :now, p.updatedAt = :now, p.status = '판매종료', p.stock = 0 " +
+            "WHERE p.id IN :ids AND p.deletedAt IS NULL")
+    int bulkArchive(@Param("ids") Collection<Long> ids, @Param("now") LocalDateTime now);
+
+    /**
+     * 상품 일괄 삭제 (장바구니/리뷰/QnA/찜을 먼저 지운 뒤 호출, 주문 이력이 없는 상품만)
+     */
+    @Modifying
+    @Query("DELETE FROM Product p WHERE p.id IN :ids")
+    int bulkDeleteByIds(@Param("ids") Collection<Long> ids);
 }
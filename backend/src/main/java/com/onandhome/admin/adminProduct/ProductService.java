@@ -1,16 +1,35 @@
 package com.onandhome.admin.adminProduct;
 
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
 
 import com.onandhome.admin.adminProduct.dto.ProductDTO;
 import com.onandhome.admin.adminProduct.entity.Product;
+import com.onandhome.admin.adminProduct.event.ProductChangedEvent;
+import com.onandhome.cart.CartEngine;
 import com.onandhome.cart.CartItemRepository;
+import com.onandhome.category.CategoryService;
+import com.onandhome.config.metrics.MetricsConfig;
+import com.onandhome.favorite.FavoriteRepository;
+import com.onandhome.favorite.FavoriteSetCache;
+import com.onandhome.favorite.ProductFavoriteStatRepository;
+import com.onandhome.file.FileStorageService;
 import com.onandhome.order.OrderItemRepository;
 import com.onandhome.qna.QnaRepository;
+import com.onandhome.qna.QnaService;
 import com.onandhome.review.ReviewRepository;
+import com.onandhome.review.ReviewService;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -26,6 +45,10 @@ import org.springframework.transaction.annotation.Transactional;
 // 메서드 실행 중 예외 발생 시 자동 롤백
 // 데이터베이스 작업의 원자성 보장
 public class ProductService {
+
+    /* 일괄 삭제 시 리뷰/QnA 를 IN 절 하나에 넣는 최대 ID 수 */
+    private static final int CHILD_BATCH_SIZE = 1000;
+
     private final ProductRepository productRepository;
     // productRepository: DB와 통신하는 Repository 객체
     // final: 생성자 주입 시 할당됨
@@ -34,6 +57,15 @@ public class ProductService {
     private final OrderItemRepository orderItemRepository;
     private final ReviewRepository reviewRepository;
     private final QnaRepository qnaRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final FileStorageService fileStorageService;
+    private final CategoryService categoryService;
+    private final ReviewService reviewService;
+    private final QnaService qnaService;
+    private final CartEngine cartEngine;
+    private final FavoriteRepository favoriteRepository;
+    private final ProductFavoriteStatRepository productFavoriteStatRepository;
+    private final FavoriteSetCache favoriteSetCache;
 
     /**
      * 모든 상품 조회
@@ -41,10 +73,9 @@ public class ProductService {
     public List<Product> listAll() {
         // listAll(): 모든 상품을 조회하는 메서드
         // List<Product>: 반환 타입 (Product 엔티티의 리스트)
-        List<Product> products = productRepository.findAll();
-        // productRepository.findAll(): JPA가 제공하는 메서드
-        // product 테이블의 모든 레코드를 조회
-        // SELECT * FROM product; 쿼리가 자동으로 실행됨
+        List<Product> products = productRepository.findAllActive();
+        // productRepository.findAllActive(): 삭제(보관)된 상품을 제외한 전체 조회
+        // SELECT * FROM product WHERE deleted_at IS NULL; 쿼리가 실행됨
         // 결과: List<Product> (각 행이 Product 객체로 변환됨)
         
         // 이미지 경로 로깅
@@ -65,6 +96,7 @@ public class ProductService {
      * ID로 상품 조회
      */
     @Transactional(readOnly = true)
+    @Timed(MetricsConfig.SERVICE_TIMER)
     public Optional<ProductDTO> getById(Long id) {
         // @Transactional(readOnly = true): 읽기 전용 트랜잭션
         Optional<Product> product = productRepository.findById(id);
@@ -95,7 +127,11 @@ public class ProductService {
     @Transactional(readOnly = true)
     public List<Product> getByCategory(String category) {
         log.debug("카테고리별 상품 조회: {}", category);
-        List<Product> products = productRepository.findByCategory(category);
+        // 대분류 이름/코드면 하위 카테고리 상품까지 조회, 트리에 없는 이름은 문자열로 조회
+        List<Long> categoryIds = categoryService.resolveSubtreeIds(category);
+        List<Product> products = categoryIds.isEmpty()
+                ? productRepository.findByCategory(category)
+                : productRepository.findByCategoryIds(categoryIds);
         
         // 이미지 경로 로깅
         log.info("=== 카테고리 '{}' 상품 조회 - 총 {} 개 ===", category, products.size());
@@ -111,6 +147,9 @@ public class ProductService {
      * 상품 생성 (DTO 사용)
      */
     public ProductDTO create(ProductDTO productDTO) {
+        // 검증/저장이 실패해 롤백되면 이번 요청에서 업로드한 이미지 참조를 해제
+        releaseUploadsOnRollback(productDTO);
+
         if (productDTO.getName() == null || productDTO.getName().isEmpty()) {
             throw new IllegalArgumentException("상품명은 필수입니다.");
         }
@@ -124,7 +163,10 @@ public class ProductService {
         }
 
         Product product = productDTO.toEntity();
+        product.setCategoryId(resolveCategoryId(product.getCategory()));
         Product savedProduct = productRepository.save(product);
+        eventPublisher.publishEvent(ProductChangedEvent.created(
+                savedProduct.getId(), savedProduct.getCategoryId(), savedProduct.getStock()));
 
         log.info("상품 생성: {} (ID: {})", productDTO.getName(), savedProduct.getId());
         return ProductDTO.fromEntity(savedProduct);
@@ -134,8 +176,12 @@ public class ProductService {
      * 상품 수정
      */
     public ProductDTO update(Long id, ProductDTO productDTO) {
-        Product product = productRepository.findById(id)
+        releaseUploadsOnRollback(productDTO);
+        // 삭제(보관)된 상품은 수정할 수 없다.
+        Product product = productRepository.findActiveById(id)
                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 상품입니다."));
+        int previousStock = product.getStock();
+        Long previousCategoryId = product.getCategoryId();
 
         if (productDTO.getName() != null && !productDTO.getName().isEmpty()) {
             product.setName(productDTO.getName());
@@ -152,14 +198,25 @@ public class ProductService {
         if (productDTO.getStock() >= 0) {
             product.setStock(productDTO.getStock());
         }
-        if (productDTO.getThumbnailImage() != null) {
+        // 새로 업로드했으면 같은 내용(같은 URL)이어도 참조가 하나 늘었으므로 이전 참조를 해제한다.
+        if (productDTO.isThumbnailUploaded() || (productDTO.getThumbnailImage() != null
+                && !productDTO.getThumbnailImage().equals(product.getThumbnailImage()))) {
+            // 이미지가 바뀌면 이전 변형 URL도 함께 교체 (변형이 없으면 null → 원본 사용)
+            fileStorageService.release(product.getThumbnailImage());
             product.setThumbnailImage(productDTO.getThumbnailImage());
+            product.setThumbnailThumb(productDTO.getThumbnailThumb());
+            product.setThumbnailList(productDTO.getThumbnailList());
+            product.setThumbnailDetail(productDTO.getThumbnailDetail());
         }
-        if (productDTO.getDetailImage() != null) {
+        if (productDTO.isDetailImageUploaded() || (productDTO.getDetailImage() != null
+                && !productDTO.getDetailImage().equals(product.getDetailImage()))) {
+            fileStorageService.release(product.getDetailImage());
             product.setDetailImage(productDTO.getDetailImage());
+            product.setDetailImageResized(productDTO.getDetailImageResized());
         }
         if (productDTO.getCategory() != null) {
             product.setCategory(productDTO.getCategory());
+            product.setCategoryId(resolveCategoryId(productDTO.getCategory()));
         }
         if (productDTO.getManufacturer() != null) {
             product.setManufacturer(productDTO.getManufacturer());
@@ -172,6 +229,8 @@ public class ProductService {
         }
 
         Product updatedProduct = productRepository.save(product);
+        eventPublisher.publishEvent(ProductChangedEvent.updated(id, previousCategoryId,
+                updatedProduct.getCategoryId(), previousStock, updatedProduct.getStock()));
         log.info("상품 수정: {} (ID: {})", id, updatedProduct.getName());
 
         return ProductDTO.fromEntity(updatedProduct);
@@ -181,47 +240,96 @@ public class ProductService {
      * 상품 상태 변경
      */
     public void updateStatus(Long id, String status) {
-        Product product = productRepository.findById(id)
+        // 삭제(보관)된 상품은 수정할 수 없다.
+        Product product = productRepository.findActiveById(id)
                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 상품입니다."));
         
         product.setStatus(status);
         productRepository.save(product);
+        eventPublisher.publishEvent(ProductChangedEvent.stockChanged(
+                id, product.getCategoryId(), product.getStock(), product.getStock()));
         log.info("상품 상태 변경: {} -> {}", id, status);
     }
 
     /**
      * 상품 삭제
-     * 상품 삭제 전에 관련된 모든 데이터를 먼저 삭제합니다.
+     * 주문 이력이 있으면 보관 처리(목록에서 제외), 없으면 관련 데이터와 함께 삭제한다. (deleteInBatch 참고)
      */
     public void delete(Long id) {
-        Product product = productRepository.findById(id)
-                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 상품입니다."));
+        Map<Long, String> skipped = deleteInBatch(List.of(id));
+        if (!skipped.isEmpty()) {
+            throw new IllegalArgumentException(skipped.get(id));
+        }
+    }
+
+    /**
+     * 상품 삭제 (집합 단위)
+     * 단건 삭제와 관리자 일괄 삭제(BulkOperationService 청크 트랜잭션)에서 사용된다.
+     *
+     * 엔티티를 로딩하지 않고 FK 의존 순서대로 IN 절 DELETE 를 실행한다.
+     * - 주문 이력이 있는 상품 : 보관 처리 (deleted_at, 판매종료, 재고 0)
+     *   주문 항목/리뷰/QnA/이미지는 주문 내역에서 보이도록 그대로 두고, 장바구니와 찜만 지운다.
+     * - 주문 이력이 없는 상품 : 리뷰/QnA와 그 하위 데이터 → 장바구니 → 찜 → 상품 순서로 삭제
+     *   리뷰/QnA는 ID를 CHILD_BATCH_SIZE 개씩 나눠 지운다. (리뷰 수만 건인 상품도 IN 절이 커지지 않게)
+     *
+     * @return 처리하지 못한 상품 ID와 사유 (존재하지 않거나 이미 삭제된 상품)
+     */
+    public Map<Long, String> deleteInBatch(List<Long> ids) {
+        List<Object[]> rows = productRepository.findDeleteRows(ids);
+        Set<Long> found = rows.stream().map(row -> (Long) row[0]).collect(Collectors.toSet());
+        Map<Long, String> skipped = new LinkedHashMap<>();
+        ids.stream().filter(id -> !found.contains(id))
+                .forEach(id -> skipped.put(id, "존재하지 않는 상품입니다."));
+        if (found.isEmpty()) {
+            return skipped;
+        }
 
-        log.info("상품 삭제 시작: {} (ID: {})", product.getName(), id);
+        Set<Long> archived = new HashSet<>(orderItemRepository.findOrderedProductIds(found));
+        List<Long> removed = found.stream().filter(id -> !archived.contains(id)).toList();
 
-        try {
-            // 1. 장바구니 아이템 삭제
-            cartItemRepository.deleteByProduct(product);
-            log.debug("장바구니 아이템 삭제 완료");
+        // 1. 리뷰 / QnA (알림, 이미지, 답글, 좋아요 포함) - 주문 이력이 없는 상품만
+        if (!removed.isEmpty()) {
+            forEachBatch(reviewRepository.findIdsByProductIds(removed), reviewService::deleteInBatch);
+            forEachBatch(qnaRepository.findIdsByProductIds(removed), qnaService::deleteInBatch);
+        }
 
-            // 2. 리뷰 삭제
-            reviewRepository.deleteByProduct(product);
-            log.debug("리뷰 삭제 완료");
+        // 2. 장바구니 (메모리 장바구니는 커밋 후 버림)
+        List<Long> cartUserIds = cartItemRepository.findUserIdsByProductIds(found);
+        cartItemRepository.bulkDeleteByProductIds(found);
+        cartUserIds.forEach(cartEngine::invalidateUser);
 
-            // 3. QnA 삭제
-            qnaRepository.deleteByProduct(product);
-            log.debug("QnA 삭제 완료");
+        // 3. 찜 + 찜 개수
+        List<Long> favoriteUserIds = favoriteRepository.findUserIdsByProductIds(found);
+        favoriteRepository.bulkDeleteByProductIds(found);
+        productFavoriteStatRepository.bulkDeleteByProductIds(found);
+        favoriteUserIds.forEach(favoriteSetCache::evict);
+
+        // 4. 상품 보관 / 삭제
+        if (!archived.isEmpty()) {
+            productRepository.bulkArchive(archived, LocalDateTime.now());
+        }
+        if (!removed.isEmpty()) {
+            productRepository.bulkDeleteByIds(removed);
+        }
 
-            // 4. 주문 아이템 삭제
-            orderItemRepository.deleteByProduct(product);
-            log.debug("주문 아이템 삭제 완료");
+        // 카테고리 수/패싯/카탈로그 캐시에서는 보관된 상품도 삭제와 똑같이 빠진다.
+        for (Object[] row : rows) {
+            Long productId = (Long) row[0];
+            eventPublisher.publishEvent(ProductChangedEvent.deleted(
+                    productId, (Long) row[1], ((Number) row[2]).intValue()));
+            if (!archived.contains(productId)) {
+                fileStorageService.release((String) row[3]);
+                fileStorageService.release((String) row[4]);
+            }
+        }
+        log.info("상품 삭제 완료 - 삭제 {}개, 보관 {}개 (장바구니 {}명, 찜 {}명 영향)",
+                removed.size(), archived.size(), cartUserIds.size(), favoriteUserIds.size());
+        return skipped;
+    }
 
-            // 5. 마지막으로 상품 삭제
-            productRepository.delete(product);
-            log.info("상품 삭제 완료: {} (ID: {})", product.getName(), id);
-        } catch (Exception e) {
-            log.error("상품 삭제 중 오류 발생: {}", e.getMessage(), e);
-            throw new RuntimeException("상품 삭제 중 오류가 발생했습니다: " + e.getMessage(), e);
+    private static void forEachBatch(List<Long> ids, Consumer<List<Long>> action) {
+        for (int from = 0; from < ids.size(); from += CHILD_BATCH_SIZE) {
+            action.accept(ids.subList(from, Math.min(from + CHILD_BATCH_SIZE, ids.size())));
         }
     }
 
@@ -266,7 +374,10 @@ public class ProductService {
      */
     @Transactional(readOnly = true)
     public List<Product> getByCategoryInStock(String category) {
-        List<Product> products = productRepository.findByCategoryInStock(category);
+        List<Long> categoryIds = categoryService.resolveSubtreeIds(category);
+        List<Product> products = categoryIds.isEmpty()
+                ? productRepository.findByCategoryInStock(category)
+                : productRepository.findByCategoryIdsInStock(categoryIds);
         log.info("=== 카테고리 '{}' 판매 가능 상품 - 총 {} 개 ===", category, products.size());
         return products;
     }
@@ -280,4 +391,30 @@ public class ProductService {
         log.info("=== 검색어 '{}' 판매 가능 상품 - 총 {} 개 ===", keyword, products.size());
         return products;
     }
+
+    /**
+     * 카테고리 이름 → 카테고리 ID (트리에 없는 이름이면 문자열만 저장하고 null)
+     */
+    private Long resolveCategoryId(String category) {
+        if (category == null || category.isBlank()) {
+            return null;
+        }
+        Long categoryId = categoryService.resolveId(category);
+        if (categoryId == null) {
+            log.warn("등록되지 않은 카테고리: {}", category);
+        }
+        return categoryId;
+    }
+
+    /**
+     * 이번 요청에서 업로드한 이미지는 트랜잭션이 롤백되면 참조 해제 (가리키는 상품 행이 남지 않으므로)
+     */
+    private void releaseUploadsOnRollback(ProductDTO productDTO) {
+        if (productDTO.isThumbnailUploaded()) {
+            fileStorageService.releaseOnRollback(productDTO.getThumbnailImage());
+        }
+        if (productDTO.isDetailImageUploaded()) {
+            fileStorageService.releaseOnRollback(productDTO.getDetailImage());
+        }
+    }
 }
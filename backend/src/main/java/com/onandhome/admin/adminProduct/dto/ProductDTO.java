@@ -1,6 +1,8 @@
 package com.onandhome.admin.adminProduct.dto;
 
 import com.onandhome.admin.adminProduct.entity.Product;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.onandhome.file.dto.StoredImage;
 import lombok.*;
 import java.time.LocalDateTime;
 
@@ -30,6 +32,15 @@ public class ProductDTO {
 
     private String detailImage; // 상품 상세 이미지 URL
 
+    // 변형 이미지 URL (목록 화면은 thumbnailList, 없으면 thumbnailImage 사용)
+    private String thumbnailThumb;
+
+    private String thumbnailList;
+
+    private String thumbnailDetail;
+
+    private String detailImageResized;
+
     private String category; // 소 카테고리
 
     private String manufacturer; // 제조사
@@ -46,6 +57,15 @@ public class ProductDTO {
     private  Double averageRating; // 평균 별점
     private  Long reviewCount; // 리뷰 개수
 
+    // 이번 요청에서 새로 업로드한 이미지인지 (업로드마다 파일 참조가 하나 늘어나므로 서비스에서 해제 판단용)
+    @JsonIgnore
+    @Setter(AccessLevel.NONE)
+    private boolean thumbnailUploaded;
+
+    @JsonIgnore
+    @Setter(AccessLevel.NONE)
+    private boolean detailImageUploaded;
+
     // 상품 좋아요
     /**
      * Entity를 DTO로 변환
@@ -61,6 +81,10 @@ public class ProductDTO {
                 .stock(product.getStock())
                 .thumbnailImage(product.getThumbnailImage())
                 .detailImage(product.getDetailImage())
+                .thumbnailThumb(product.getThumbnailThumb())
+                .thumbnailList(product.getThumbnailList())
+                .thumbnailDetail(product.getThumbnailDetail())
+                .detailImageResized(product.getDetailImageResized())
                 .category(product.getCategory())
                 .manufacturer(product.getManufacturer())
                 .country(product.getCountry())
@@ -70,6 +94,26 @@ public class ProductDTO {
                 .build();
     }
 
+    /**
+     * 업로드된 썸네일 이미지(원본 + 변형) 설정
+     */
+    public void applyThumbnail(StoredImage image) {
+        this.thumbnailImage = image.getUrl();
+        this.thumbnailThumb = image.getThumbUrl();
+        this.thumbnailList = image.getListUrl();
+        this.thumbnailDetail = image.getDetailUrl();
+        this.thumbnailUploaded = true;
+    }
+
+    /**
+     * 업로드된 상세 이미지(원본 + 변형) 설정
+     */
+    public void applyDetailImage(StoredImage image) {
+        this.detailImage = image.getUrl();
+        this.detailImageResized = image.getDetailUrl();
+        this.detailImageUploaded = true;
+    }
+
     /**
      * DTO를 Entity로 변환
      */
@@ -84,6 +128,10 @@ public class ProductDTO {
                 .stock(this.stock)
                 .thumbnailImage(this.thumbnailImage)
                 .detailImage(this.detailImage)
+                .thumbnailThumb(this.thumbnailThumb)
+                .thumbnailList(this.thumbnailList)
+                .thumbnailDetail(this.thumbnailDetail)
+                .detailImageResized(this.detailImageResized)
                 .category(this.category)
                 .manufacturer(this.manufacturer)
                 .country(this.country)
@@ -3,16 +3,29 @@ package com.onandhome.admin.adminProduct.entity;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
 import java.time.LocalDateTime;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "product") // prod 프로필 2차 캐시 (ehcache.xml)
 @Getter
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
 @ToString
 @Builder
-@Table(name = "product")
+@Table(name = "product", indexes = {
+		// 카테고리 상품 조회: category_id 일치 + 재고 범위 조건을 인덱스로 처리
+		@Index(name = "idx_product_category_stock", columnList = "category_id, stock"),
+		// 정렬 목록 (키셋 페이지): 카테고리 안에서 정렬값 + id(InnoDB 보조 인덱스에 포함) 순서로 인덱스만 훑음
+		@Index(name = "idx_product_category_price", columnList = "category_id, price"),
+		@Index(name = "idx_product_category_effective_price", columnList = "category_id, effective_price"),
+		@Index(name = "idx_product_category_sold", columnList = "category_id, sold_count"),
+		@Index(name = "idx_product_category_rating", columnList = "category_id, rating_score")
+})
 public class Product {
 	@Id
 	@GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -50,10 +63,30 @@ public class Product {
 	@JsonProperty("detailImage")
 	private String detailImage; // 상품 상세 이미지 URL (컬럼명: detail_image)
 
+	// 업로드 시 생성된 변형 이미지 URL (없으면 원본 사용)
+	@Column(name = "thumbnail_thumb", length = 500)
+	@JsonProperty("thumbnailThumb")
+	private String thumbnailThumb; // 썸네일 200px (장바구니 등)
+
+	@Column(name = "thumbnail_list", length = 500)
+	@JsonProperty("thumbnailList")
+	private String thumbnailList; // 썸네일 480px (상품 목록)
+
+	@Column(name = "thumbnail_detail", length = 500)
+	@JsonProperty("thumbnailDetail")
+	private String thumbnailDetail; // 썸네일 1200px (상품 상세)
+
+	@Column(name = "detail_image_resized", length = 500)
+	@JsonProperty("detailImageResized")
+	private String detailImageResized; // 상세 이미지 가로 1200px
+
 	@Column(name = "category")
 	@JsonProperty("category")
 	private String category; // 소 카테고리 (TV, 오디오, 냉장고 등)
 
+	@Column(name = "category_id")
+	private Long categoryId; // 카테고리 FK (category.id, 소분류) - category 문자열과 함께 저장
+
 	@Column(name = "manufacturer")
 	@JsonProperty("manufacturer")
 	private String manufacturer; // 제조사
@@ -67,6 +100,25 @@ public class Product {
 	@Builder.Default
 	private String status = "판매중"; // 상품 상태 (판매중, 품절, 판매중지 등)
 
+	@Column(name = "effective_price", nullable = false)
+	private int effectivePrice; // 실제 판매가 (할인가가 정상가보다 낮으면 할인가) - 저장 시 계산
+
+	@Column(name = "sold_count", nullable = false)
+	private long soldCount; // 누적 판매 수량 (주문 시 +, 취소 시 -)
+
+	// 리뷰 집계 - ReviewChangedEvent 로 DB 에서 직접 증감하므로 엔티티에서는 쓰지 않음
+	@Column(name = "review_count", nullable = false, insertable = false, updatable = false,
+			columnDefinition = "INT NOT NULL DEFAULT 0")
+	private int reviewCount;
+
+	@Column(name = "rating_sum", nullable = false, insertable = false, updatable = false,
+			columnDefinition = "BIGINT NOT NULL DEFAULT 0")
+	private long ratingSum;
+
+	@Column(name = "rating_score", nullable = false, insertable = false, updatable = false,
+			columnDefinition = "INT NOT NULL DEFAULT 0")
+	private int ratingScore; // 평균 평점 x 100 (4.35 → 435), 리뷰가 없으면 0
+
 	@Column(name = "created_at")
 	@JsonProperty("createdAt")
 	private LocalDateTime createdAt; // 등록일자
@@ -75,15 +127,28 @@ public class Product {
 	@JsonProperty("updatedAt")
 	private LocalDateTime updatedAt; // 수정일자
 
+	@Column(name = "deleted_at")
+	@JsonProperty("deletedAt")
+	private LocalDateTime deletedAt; // 삭제(보관) 일자 - 주문 이력이 있는 상품은 행을 남기고 목록에서만 제외
+
 	@PrePersist
 	protected void onCreate() {
 		this.createdAt = LocalDateTime.now();
 		this.updatedAt = LocalDateTime.now();
+		this.effectivePrice = effectivePriceOf(price, salePrice);
 	}
 
 	@PreUpdate
 	protected void onUpdate() {
 		this.updatedAt = LocalDateTime.now();
+		this.effectivePrice = effectivePriceOf(price, salePrice);
+	}
+
+	/**
+	 * 실제 판매가 (할인가가 0보다 크고 정상가보다 낮을 때만 할인가)
+	 */
+	public static int effectivePriceOf(int price, Integer salePrice) {
+		return salePrice != null && salePrice > 0 && salePrice < price ? salePrice : price;
 	}
 
 	/**
@@ -94,6 +159,7 @@ public class Product {
 			throw new IllegalArgumentException("재고가 부족합니다. 현재 재고: " + this.stock);
 		}
 		this.stock -= quantity;
+		this.soldCount += quantity;
 	}
 
 	/**
@@ -101,5 +167,6 @@ public class Product {
 	 */
 	public void addStock(int quantity) {
 		this.stock += quantity;
+		this.soldCount = Math.max(0, this.soldCount - quantity);
 	}
 }
@@ -0,0 +1,46 @@
+package com.onandhome.admin.adminProduct.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 상품 변경 이벤트
+ * 상품 등록/수정/삭제 및 주문에 의한 재고 변동 시 발행된다.
+ * 변경 전/후 재고와 카테고리를 함께 전달하여 품절 상품 수, 카테고리별 상품 수 등을 증분으로 갱신할 수 있다.
+ */
+@Getter
+@AllArgsConstructor
+public class ProductChangedEvent {
+
+    public enum Type {
+        CREATED, // 상품 등록
+        UPDATED, // 상품 정보 또는 재고 변경
+        DELETED  // 상품 삭제
+    }
+
+    private final Long productId;
+    private final Type type;
+    private final int previousStock;       // 변경 전 재고 (CREATED는 0)
+    private final int currentStock;        // 변경 후 재고 (DELETED는 0)
+    private final Long previousCategoryId; // 변경 전 카테고리 (CREATED는 null)
+    private final Long categoryId;         // 변경 후 카테고리 (DELETED는 null)
+
+    public static ProductChangedEvent created(Long productId, Long categoryId, int stock) {
+        return new ProductChangedEvent(productId, Type.CREATED, 0, stock, null, categoryId);
+    }
+
+    public static ProductChangedEvent updated(Long productId, Long previousCategoryId, Long categoryId,
+                                              int previousStock, int currentStock) {
+        return new ProductChangedEvent(productId, Type.UPDATED, previousStock, currentStock,
+                previousCategoryId, categoryId);
+    }
+
+    /** 카테고리는 그대로이고 재고만 바뀐 경우 (주문/취소) */
+    public static ProductChangedEvent stockChanged(Long productId, Long categoryId, int previousStock, int currentStock) {
+        return updated(productId, categoryId, categoryId, previousStock, currentStock);
+    }
+
+    public static ProductChangedEvent deleted(Long productId, Long categoryId, int previousStock) {
+        return new ProductChangedEvent(productId, Type.DELETED, previousStock, 0, categoryId, null);
+    }
+}
@@ -0,0 +1,49 @@
+package com.onandhome.admin.adminProduct.facet;
+
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 패싯 조회 조건
+ *
+ * @param filters     패싯별 선택 값 (패싯이 없으면 조건 없음, 빈 Set 이면 일치하는 상품 없음)
+ * @param minPrice    최소 판매가 (포함, null 이면 제한 없음)
+ * @param maxPrice    최대 판매가 (포함, null 이면 제한 없음)
+ * @param inStockOnly 재고 있는 상품만
+ * @param onSaleOnly  할인 중인 상품만
+ * @param sort        정렬
+ * @param page        페이지 (0부터)
+ * @param size        페이지 크기
+ */
+public record FacetQuery(Map<ProductFacetIndex.Dimension, Set<String>> filters,
+                         Integer minPrice, Integer maxPrice,
+                         boolean inStockOnly, boolean onSaleOnly,
+                         Sort sort, int page, int size) {
+
+    public enum Sort {
+        LATEST, PRICE_ASC, PRICE_DESC;
+
+        /** 요청 파라미터 (latest, price_asc, price_desc) → 정렬, 모르는 값은 최신순 */
+        public static Sort from(String value) {
+            if (value != null) {
+                for (Sort sort : values()) {
+                    if (sort.name().equalsIgnoreCase(value.replace('-', '_'))) {
+                        return sort;
+                    }
+                }
+            }
+            return LATEST;
+        }
+    }
+
+    public FacetQuery {
+        filters = filters != null ? Map.copyOf(filters) : Map.of();
+        sort = sort != null ? sort : Sort.LATEST;
+        if (page < 0) {
+            throw new IllegalArgumentException("page 는 0 이상이어야 합니다.");
+        }
+        if (size < 1) {
+            throw new IllegalArgumentException("size 는 1 이상이어야 합니다.");
+        }
+    }
+}
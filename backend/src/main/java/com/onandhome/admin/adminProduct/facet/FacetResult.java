@@ -0,0 +1,15 @@
+package com.onandhome.admin.adminProduct.facet;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 패싯 조회 결과
+ *
+ * @param total      조건에 맞는 전체 상품 수
+ * @param productIds 요청한 페이지의 상품 ID (정렬 순서대로)
+ * @param facets     패싯별 값 → 상품 수 (개수 내림차순)
+ */
+public record FacetResult(int total, List<Long> productIds,
+                          Map<ProductFacetIndex.Dimension, Map<String, Integer>> facets) {
+}
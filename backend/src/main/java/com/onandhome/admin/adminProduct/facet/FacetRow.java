@@ -0,0 +1,18 @@
+package com.onandhome.admin.adminProduct.facet;
+
+/**
+ * 패싯 인덱스용 상품 한 행 (필요한 컬럼만)
+ */
+public record FacetRow(long id, Long categoryId, String manufacturer, String country, String status,
+                       int price, Integer salePrice, int stock) {
+
+    /** 할인 중 (할인가가 정상가보다 낮음) */
+    public boolean onSale() {
+        return salePrice != null && salePrice > 0 && salePrice < price;
+    }
+
+    /** 실제 판매가 (가격 필터/정렬 기준) */
+    public int effectivePrice() {
+        return onSale() ? salePrice : price;
+    }
+}
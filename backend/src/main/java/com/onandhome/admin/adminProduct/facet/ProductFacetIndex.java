@@ -0,0 +1,309 @@
+package com.onandhome.admin.adminProduct.facet;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 상품 패싯 인덱스 (메모리 컬럼형, 불변)
+ *
+ * - 상품 한 개가 행 번호 하나(0..size-1, 상품 ID 오름차순)를 가진다.
+ * - 패싯 값(카테고리/제조사/제조국/상태)마다 해당 행들의 비트셋(long[])을 갖고,
+ *   재고 있음/할인 중도 비트셋으로 갖는다.
+ * - 가격(할인가가 있으면 할인가)은 가격순으로 정렬된 행 번호 배열로 갖고, 가격 범위는 이진 탐색으로 찾는다.
+ *
+ * 조회는 조건별 비트셋을 AND 해서 결과 행을 구하고, 같은 비트셋으로 패싯별 개수를 함께 센다.
+ * 패싯 개수는 "그 패싯을 제외한 나머지 조건"으로 센다. (제조사를 하나 골라도 다른 제조사 개수가 보이도록)
+ * 조건이 하나도 없을 때의 패싯 개수는 만들 때 미리 계산해 둔다.
+ */
+public final class ProductFacetIndex {
+
+    /** 패싯 (값별 비트셋을 갖는 컬럼) */
+    public enum Dimension {
+        CATEGORY, MANUFACTURER, COUNTRY, STATUS
+    }
+
+    public static final ProductFacetIndex EMPTY = build(List.of());
+
+    private final int size;
+    private final int words;
+    private final long[] ids;          // 행 번호 → 상품 ID
+    private final int[] rowsByPrice;   // 가격 오름차순 행 번호
+    private final int[] sortedPrices;  // rowsByPrice 순서의 가격 (이진 탐색용)
+    private final long[] all;
+    private final long[] inStock;
+    private final long[] onSale;
+    private final Map<Dimension, Map<String, long[]>> facets;
+    private final Map<Dimension, Map<String, Integer>> baseCounts;
+
+    private ProductFacetIndex(int size, long[] ids, int[] prices, int[] rowsByPrice,
+                              long[] inStock, long[] onSale, Map<Dimension, Map<String, long[]>> facets) {
+        this.size = size;
+        this.words = wordCount(size);
+        this.ids = ids;
+        this.rowsByPrice = rowsByPrice;
+        this.sortedPrices = new int[size];
+        for (int i = 0; i < size; i++) {
+            sortedPrices[i] = prices[rowsByPrice[i]];
+        }
+        this.all = new long[words];
+        for (int row = 0; row < size; row++) {
+            set(all, row);
+        }
+        this.inStock = inStock;
+        this.onSale = onSale;
+        this.facets = facets;
+        this.baseCounts = new EnumMap<>(Dimension.class);
+        for (Dimension dimension : Dimension.values()) {
+            Map<String, Integer> counts = new HashMap<>();
+            facets.get(dimension).forEach((value, bits) -> counts.put(value, cardinality(bits)));
+            baseCounts.put(dimension, sorted(counts));
+        }
+    }
+
+    /**
+     * 인덱스 생성 (rows 는 상품 ID 오름차순)
+     */
+    public static ProductFacetIndex build(List<FacetRow> rows) {
+        int size = rows.size();
+        int words = wordCount(size);
+        long[] ids = new long[size];
+        int[] prices = new int[size];
+        long[] inStock = new long[words];
+        long[] onSale = new long[words];
+        Map<Dimension, Map<String, long[]>> facets = new EnumMap<>(Dimension.class);
+        for (Dimension dimension : Dimension.values()) {
+            facets.put(dimension, new HashMap<>());
+        }
+
+        for (int row = 0; row < size; row++) {
+            FacetRow r = rows.get(row);
+            ids[row] = r.id();
+            prices[row] = r.effectivePrice();
+            if (r.stock() > 0) {
+                set(inStock, row);
+            }
+            if (r.onSale()) {
+                set(onSale, row);
+            }
+            add(facets, Dimension.CATEGORY, r.categoryId() != null ? String.valueOf(r.categoryId()) : null, row, words);
+            add(facets, Dimension.MANUFACTURER, r.manufacturer(), row, words);
+            add(facets, Dimension.COUNTRY, r.country(), row, words);
+            add(facets, Dimension.STATUS, r.status(), row, words);
+        }
+
+        // 가격순 행 번호 (같은 가격이면 행 번호 = 상품 ID 순)
+        Integer[] boxed = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            boxed[i] = i;
+        }
+        Arrays.sort(boxed, (a, b) -> prices[a] != prices[b] ? Integer.compare(prices[a], prices[b]) : Integer.compare(a, b));
+        int[] rowsByPrice = new int[size];
+        for (int i = 0; i < size; i++) {
+            rowsByPrice[i] = boxed[i];
+        }
+        return new ProductFacetIndex(size, ids, prices, rowsByPrice, inStock, onSale, facets);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * 조건에 맞는 상품 ID 한 페이지와 전체 개수, 패싯별 개수 계산
+     */
+    public FacetResult query(FacetQuery query) {
+        // 1. 패싯이 아닌 조건 (재고/할인/가격)
+        long[] base = all;
+        if (query.inStockOnly()) {
+            base = and(base, inStock);
+        }
+        if (query.onSaleOnly()) {
+            base = and(base, onSale);
+        }
+        if (query.minPrice() != null || query.maxPrice() != null) {
+            base = and(base, priceRange(query.minPrice(), query.maxPrice()));
+        }
+
+        // 2. 패싯별 선택 값 OR (선택 없음 = null, 선택했는데 없는 값 = 빈 비트셋)
+        Map<Dimension, long[]> selected = new EnumMap<>(Dimension.class);
+        query.filters().forEach((dimension, values) -> {
+            if (values != null) {
+                selected.put(dimension, union(dimension, values));
+            }
+        });
+
+        long[] matched = base;
+        for (long[] mask : selected.values()) {
+            matched = and(matched, mask);
+        }
+
+        // 3. 패싯 개수 (해당 패싯을 뺀 나머지 조건 기준)
+        Map<Dimension, Map<String, Integer>> counts = new EnumMap<>(Dimension.class);
+        for (Dimension dimension : Dimension.values()) {
+            long[] mask = base;
+            for (Map.Entry<Dimension, long[]> e : selected.entrySet()) {
+                if (e.getKey() != dimension) {
+                    mask = and(mask, e.getValue());
+                }
+            }
+            counts.put(dimension, mask == all ? baseCounts.get(dimension) : count(dimension, mask));
+        }
+
+        int total = matched == all ? size : cardinality(matched);
+        return new FacetResult(total, page(matched, query), counts);
+    }
+
+    // ==================== 내부 ====================
+
+    private long[] priceRange(Integer min, Integer max) {
+        int from = min != null ? lowerBound(min) : 0;
+        int to = max != null ? lowerBound(max == Integer.MAX_VALUE ? max : max + 1) : size;
+        long[] bits = new long[words];
+        for (int i = from; i < to; i++) {
+            set(bits, rowsByPrice[i]);
+        }
+        return bits;
+    }
+
+    /** 가격이 value 이상인 첫 위치 */
+    private int lowerBound(int value) {
+        int lo = 0;
+        int hi = size;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (sortedPrices[mid] < value) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+
+    private long[] union(Dimension dimension, Set<String> values) {
+        Map<String, long[]> byValue = facets.get(dimension);
+        long[] result = new long[words];
+        for (String value : values) {
+            long[] bits = byValue.get(value);
+            if (bits != null) {
+                for (int w = 0; w < words; w++) {
+                    result[w] |= bits[w];
+                }
+            }
+        }
+        return result;
+    }
+
+    private Map<String, Integer> count(Dimension dimension, long[] mask) {
+        Map<String, Integer> counts = new HashMap<>();
+        facets.get(dimension).forEach((value, bits) -> {
+            int c = 0;
+            for (int w = 0; w < words; w++) {
+                c += Long.bitCount(bits[w] & mask[w]);
+            }
+            if (c > 0) {
+                counts.put(value, c);
+            }
+        });
+        return sorted(counts);
+    }
+
+    /** 개수 내림차순, 같으면 값 이름순 */
+    private static Map<String, Integer> sorted(Map<String, Integer> counts) {
+        List<Map.Entry<String, Integer>> entries = new ArrayList<>(counts.entrySet());
+        entries.removeIf(e -> e.getValue() == 0);
+        entries.sort(Map.Entry.<String, Integer>comparingByValue().reversed().thenComparing(Map.Entry.comparingByKey()));
+        Map<String, Integer> result = new LinkedHashMap<>();
+        entries.forEach(e -> result.put(e.getKey(), e.getValue()));
+        return Collections.unmodifiableMap(result);
+    }
+
+    private List<Long> page(long[] matched, FacetQuery query) {
+        int skip = query.page() * query.size();
+        List<Long> result = new ArrayList<>(query.size());
+        switch (query.sort()) {
+            case PRICE_ASC -> {
+                for (int i = 0; i < size && result.size() < query.size(); i++) {
+                    skip = collect(matched, rowsByPrice[i], skip, result);
+                }
+            }
+            case PRICE_DESC -> {
+                for (int i = size - 1; i >= 0 && result.size() < query.size(); i--) {
+                    skip = collect(matched, rowsByPrice[i], skip, result);
+                }
+            }
+            default -> {
+                // 최신순 = 상품 ID 내림차순 = 행 번호 내림차순 (비트셋을 뒤에서부터 훑음)
+                for (int w = words - 1; w >= 0 && result.size() < query.size(); w--) {
+                    long word = matched[w];
+                    while (word != 0 && result.size() < query.size()) {
+                        int bit = 63 - Long.numberOfLeadingZeros(word);
+                        word &= ~(1L << bit);
+                        if (skip > 0) {
+                            skip--;
+                        } else {
+                            result.add(ids[(w << 6) + bit]);
+                        }
+                    }
+                }
+            }
+        }
+        return result;
+    }
+
+    private int collect(long[] matched, int row, int skip, List<Long> result) {
+        if ((matched[row >>> 6] & (1L << row)) == 0) {
+            return skip;
+        }
+        if (skip > 0) {
+            return skip - 1;
+        }
+        result.add(ids[row]);
+        return 0;
+    }
+
+    private long[] and(long[] a, long[] b) {
+        if (a == all) {
+            return b;
+        }
+        if (b == all) {
+            return a;
+        }
+        long[] result = new long[words];
+        for (int w = 0; w < words; w++) {
+            result[w] = a[w] & b[w];
+        }
+        return result;
+    }
+
+    private static void add(Map<Dimension, Map<String, long[]>> facets, Dimension dimension,
+                            String value, int row, int words) {
+        if (value == null || value.isBlank()) {
+            return;
+        }
+        set(facets.get(dimension).computeIfAbsent(value.trim(), v -> new long[words]), row);
+    }
+
+    private static void set(long[] bits, int row) {
+        bits[row >>> 6] |= 1L << row;
+    }
+
+    private static int cardinality(long[] bits) {
+        int c = 0;
+        for (long word : bits) {
+            c += Long.bitCount(word);
+        }
+        return c;
+    }
+
+    private static int wordCount(int size) {
+        return (size + 63) >>> 6;
+    }
+}
@@ -0,0 +1,255 @@
+package com.onandhome.admin.adminProduct.facet;
+
+import com.onandhome.admin.adminProduct.ProductRepository;
+import com.onandhome.admin.adminProduct.entity.Product;
+import com.onandhome.admin.adminProduct.event.ProductChangedEvent;
+import com.onandhome.admin.adminProduct.facet.ProductFacetIndex.Dimension;
+import com.onandhome.category.CategoryService;
+import com.onandhome.category.CategoryTree;
+import com.onandhome.category.dto.CategoryNode;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 패싯 상품 탐색 서비스
+ *
+ * - 상품 전체를 한 번 읽어 ProductFacetIndex 를 만들고, 필터/정렬/패싯 개수는 인덱스만으로 계산한다.
+ *   DB 는 결과 페이지의 상품(최대 size 개)을 ID 로 읽을 때만 사용한다.
+ * - 상품 변경(ProductChangedEvent)이 커밋되면 변경 표시만 하고,
+ *   주기적으로(catalog.facet.refresh-interval-ms) 한 번에 다시 만든다. (주문이 몰려도 재생성은 주기당 1회)
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ProductFacetService implements MeterBinder {
+
+    public static final int MAX_PAGE_SIZE = 100;
+
+    private final ProductRepository productRepository;
+    private final CategoryService categoryService;
+
+    private volatile ProductFacetIndex index;
+    private volatile boolean dirty = true;
+    /* 인덱스 생성은 한 번에 하나 (전체 상품 조회 동안 잡고 있으므로 synchronized 대신 - 가상 스레드 고정 방지) */
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+
+    // 지표
+    private final AtomicLong rebuilds = new AtomicLong();
+    private final AtomicLong queries = new AtomicLong();
+    private volatile long lastBuildMillis;
+
+    /**
+     * 상품 탐색 (필터 + 정렬 + 페이지 + 패싯 개수)
+     *
+     * @param category 카테고리 이름/코드 (대분류면 소분류 포함, null 이면 전체)
+     * @return { products, total, page, size, totalPages, facets: { category, manufacturer, country, status } }
+     */
+    public Map<String, Object> browse(String category, List<String> manufacturers, List<String> countries,
+                                      List<String> statuses, Integer minPrice, Integer maxPrice,
+                                      boolean onSaleOnly, boolean inStockOnly, String sort, int page, int size) {
+        if (minPrice != null && maxPrice != null && minPrice > maxPrice) {
+            throw new IllegalArgumentException("최소 가격이 최대 가격보다 클 수 없습니다.");
+        }
+        int pageSize = Math.min(size, MAX_PAGE_SIZE);
+        CategoryTree tree = categoryService.getTree();
+
+        Map<Dimension, Set<String>> filters = new EnumMap<>(Dimension.class);
+        if (category != null && !category.isBlank()) {
+            CategoryNode node = tree.find(category);
+            // 없는 카테고리는 빈 선택 → 결과 없음
+            filters.put(Dimension.CATEGORY, node == null ? Set.of()
+                    : tree.subtreeIds(node.id()).stream().map(String::valueOf).collect(Collectors.toSet()));
+        }
+        putValues(filters, Dimension.MANUFACTURER, manufacturers);
+        putValues(filters, Dimension.COUNTRY, countries);
+        putValues(filters, Dimension.STATUS, statuses);
+
+        FacetQuery query = new FacetQuery(filters, minPrice, maxPrice, inStockOnly, onSaleOnly,
+                FacetQuery.Sort.from(sort), page, pageSize);
+        FacetResult result = getIndex().query(query);
+        queries.incrementAndGet();
+
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("products", loadInOrder(result.productIds()));
+        body.put("total", result.total());
+        body.put("page", page);
+        body.put("size", pageSize);
+        body.put("totalPages", (result.total() + pageSize - 1) / pageSize);
+        body.put("facets", toResponse(result.facets(), tree));
+        return body;
+    }
+
+    public Map<String, Object> getStats() {
+        ProductFacetIndex current = index;
+        return Map.of(
+                "products", current != null ? current.size() : 0,
+                "dirty", dirty,
+                "rebuilds", rebuilds.get(),
+                "queries", queries.get(),
+                "lastBuildMillis", lastBuildMillis);
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("catalog.facet.products", this, service -> {
+                    ProductFacetIndex current = service.index;
+                    return current != null ? current.size() : 0;
+                })
+                .register(registry);
+        Gauge.builder("catalog.facet.build.duration", this, service -> service.lastBuildMillis)
+                .baseUnit("milliseconds")
+                .register(registry);
+        FunctionCounter.builder("catalog.facet.rebuilds", rebuilds, AtomicLong::get)
+                .register(registry);
+        FunctionCounter.builder("catalog.facet.queries", queries, AtomicLong::get)
+                .register(registry);
+    }
+
+    /**
+     * 상품 변경이 커밋되면 다음 주기에 다시 만들도록 표시
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProductChanged(ProductChangedEvent event) {
+        dirty = true;
+    }
+
+    /**
+     * 변경이 있었으면 인덱스 재생성 (조회 중인 요청은 이전 인덱스를 그대로 사용)
+     */
+    @Scheduled(fixedDelayString = "${catalog.facet.refresh-interval-ms:2000}")
+    public void refreshIfDirty() {
+        if (dirty && index != null) {
+            rebuild();
+        }
+    }
+
+    // ==================== 내부 ====================
+
+    private ProductFacetIndex getIndex() {
+        ProductFacetIndex current = index;
+        if (current == null) {
+            rebuildLock.lock();
+            try {
+                if (index == null) {
+                    rebuild();
+                }
+                current = index;
+            } finally {
+                rebuildLock.unlock();
+            }
+        }
+        return current;
+    }
+
+    private void rebuild() {
+        rebuildLock.lock();
+        try {
+            // 읽기 전에 내려야 읽는 도중 커밋된 변경이 다음 주기에 반영됨
+            dirty = false;
+            long start = System.currentTimeMillis();
+            try {
+                List<Object[]> rows = productRepository.findFacetRows();
+                List<FacetRow> facetRows = new ArrayList<>(rows.size());
+                for (Object[] r : rows) {
+                    facetRows.add(new FacetRow(
+                            ((Number) r[0]).longValue(),
+                            r[1] != null ? ((Number) r[1]).longValue() : null,
+                            (String) r[2],
+                            (String) r[3],
+                            (String) r[4],
+                            ((Number) r[5]).intValue(),
+                            r[6] != null ? ((Number) r[6]).intValue() : null,
+                            ((Number) r[7]).intValue()));
+                }
+                index = ProductFacetIndex.build(facetRows);
+                rebuilds.incrementAndGet();
+                lastBuildMillis = System.currentTimeMillis() - start;
+                log.debug("상품 패싯 인덱스 생성 - {}개, {}ms", facetRows.size(), lastBuildMillis);
+            } catch (RuntimeException e) {
+                dirty = true;
+                throw e;
+            }
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    private static void putValues(Map<Dimension, Set<String>> filters, Dimension dimension, List<String> values) {
+        if (values == null) {
+            return;
+        }
+        Set<String> cleaned = values.stream()
+                .filter(v -> v != null && !v.isBlank())
+                .map(String::trim)
+                .collect(Collectors.toSet());
+        if (!cleaned.isEmpty()) {
+            filters.put(dimension, cleaned);
+        }
+    }
+
+    /** ID 순서(정렬 결과)대로 상품 조회 - 쿼리 1회 */
+    private List<Product> loadInOrder(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, Product> byId = productRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(Product::getId, Function.identity()));
+        List<Product> products = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            Product product = byId.get(id);
+            if (product != null) { // 인덱스 생성 후 삭제된 상품은 제외
+                products.add(product);
+            }
+        }
+        return products;
+    }
+
+    /** 패싯 개수 응답 ({ "manufacturer": [{ "value": "LG", "count": 12 }, ...] }), 카테고리는 ID → 이름 */
+    private static Map<String, Object> toResponse(Map<Dimension, Map<String, Integer>> facets, CategoryTree tree) {
+        Map<Long, String> categoryNames = new HashMap<>();
+        collectNames(tree.getRoots(), categoryNames);
+
+        Map<String, Object> response = new LinkedHashMap<>();
+        facets.forEach((dimension, counts) -> {
+            List<Map<String, Object>> values = new ArrayList<>(counts.size());
+            counts.forEach((value, count) -> {
+                String label = value;
+                if (dimension == Dimension.CATEGORY) {
+                    label = categoryNames.get(Long.valueOf(value));
+                    if (label == null) {
+                        return;
+                    }
+                }
+                values.add(Map.of("value", label, "count", count));
+            });
+            response.put(dimension.name().toLowerCase(), values);
+        });
+        return response;
+    }
+
+    private static void collectNames(List<CategoryNode> nodes, Map<Long, String> names) {
+        for (CategoryNode node : nodes) {
+            names.put(node.id(), node.name());
+            collectNames(node.children(), names);
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.onandhome.admin.adminProduct.sort;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 정렬 목록 키셋 조회 (정렬값, id 만 조회)
+ *
+ * OFFSET 없이 "마지막으로 본 (정렬값, id) 다음" 조건으로 다음 페이지를 찾는다.
+ * 정렬값과 id 만 읽으므로 카테고리 조건이면 idx_product_category_* 인덱스 순서대로 읽는다.
+ * (재고/삭제 여부는 행에서 확인 - 보관된 상품은 드물어 LIMIT 안에서 거의 건너뛰지 않는다)
+ * 정렬 방식마다 조건/정렬 절이 달라 JPQL 을 조립하지만, 들어가는 속성명은 ProductSort 상수뿐이다.
+ */
+@Repository
+public class ProductKeysetRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * 다음 페이지의 [id, 정렬값] 목록
+     *
+     * @param categoryIds 카테고리 조건 (null 이면 전체)
+     * @param lastValue   이전 페이지 마지막 정렬값 (첫 페이지는 null)
+     * @param lastId      이전 페이지 마지막 id (첫 페이지는 null)
+     * @param limit       최대 행 수
+     */
+    public List<Object[]> findKeys(ProductSort sort, Collection<Long> categoryIds, boolean inStockOnly,
+                                   Number lastValue, Long lastId, int limit) {
+        String property = "p." + sort.getProperty();
+        String after = sort.isAscending() ? ">" : "<";
+        String direction = sort.isAscending() ? "ASC" : "DESC";
+
+        StringBuilder jpql = new StringBuilder("SELECT p.id, ").append(property).append(" FROM Product p WHERE p.deletedAt IS NULL");
+        if (categoryIds != null) {
+            jpql.append(" AND p.categoryId IN :categoryIds");
+        }
+        if (inStockOnly) {
+            jpql.append(" AND p.stock > 0");
+        }
+        if (lastId != null) {
+            if (sort.isIdOnly()) {
+                jpql.append(" AND p.id ").append(after).append(" :lastId");
+            } else {
+                jpql.append(" AND (").append(property).append(' ').append(after).append(" :lastValue OR (")
+                        .append(property).append(" = :lastValue AND p.id ").append(after).append(" :lastId))");
+            }
+        }
+        jpql.append(" ORDER BY ");
+        if (!sort.isIdOnly()) {
+            jpql.append(property).append(' ').append(direction).append(", ");
+        }
+        jpql.append("p.id ").append(direction);
+
+        TypedQuery<Object[]> query = entityManager.createQuery(jpql.toString(), Object[].class);
+        if (categoryIds != null) {
+            query.setParameter("categoryIds", categoryIds);
+        }
+        if (lastId != null) {
+            query.setParameter("lastId", lastId);
+            if (!sort.isIdOnly()) {
+                query.setParameter("lastValue", lastValue);
+            }
+        }
+        return query.setMaxResults(limit).getResultList();
+    }
+}
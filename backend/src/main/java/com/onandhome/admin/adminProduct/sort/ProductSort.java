@@ -0,0 +1,64 @@
+package com.onandhome.admin.adminProduct.sort;
+
+/**
+ * 상품 정렬 목록의 정렬 방식
+ *
+ * property 는 Product 엔티티 속성명(JPQL 에 그대로 들어가므로 외부 입력으로 만들지 않음)이고,
+ * 같은 값이면 id 로 순서를 정해 키셋(정렬값, id) 이 항상 유일하도록 한다.
+ */
+public enum ProductSort {
+
+    PRICE_ASC("price", true, Integer.class),
+    PRICE_DESC("price", false, Integer.class),
+    SALE_PRICE_ASC("effectivePrice", true, Integer.class),   // 실제 판매가 (할인가 반영)
+    SALE_PRICE_DESC("effectivePrice", false, Integer.class),
+    NEWEST("id", false, Long.class),                          // 등록순 = id 순
+    BEST_SELLING("soldCount", false, Long.class),
+    RATING("ratingScore", false, Integer.class);
+
+    private final String property;
+    private final boolean ascending;
+    private final Class<? extends Number> valueType;
+
+    ProductSort(String property, boolean ascending, Class<? extends Number> valueType) {
+        this.property = property;
+        this.ascending = ascending;
+        this.valueType = valueType;
+    }
+
+    public String getProperty() {
+        return property;
+    }
+
+    public boolean isAscending() {
+        return ascending;
+    }
+
+    /** id 자체로 정렬 (키셋이 id 하나) */
+    public boolean isIdOnly() {
+        return "id".equals(property);
+    }
+
+    /** 커서에서 읽은 값 → 엔티티 속성 타입 (JPQL 파라미터 바인딩용) */
+    public Number toValue(long raw) {
+        if (valueType != Integer.class) {
+            return raw;
+        }
+        if (raw < Integer.MIN_VALUE || raw > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("잘못된 커서입니다.");
+        }
+        return (int) raw;
+    }
+
+    /** 요청 파라미터 (price_asc, best_selling ...) → 정렬, 모르는 값이면 IllegalArgumentException */
+    public static ProductSort from(String value) {
+        if (value == null || value.isBlank()) {
+            return NEWEST;
+        }
+        try {
+            return valueOf(value.trim().replace('-', '_').toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("지원하지 않는 정렬입니다: " + value);
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package com.onandhome.admin.adminProduct.sort;
+
+import com.onandhome.admin.adminProduct.ProductRepository;
+import com.onandhome.admin.adminProduct.entity.Product;
+import com.onandhome.category.CategoryService;
+import com.onandhome.review.event.ReviewChangedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 정렬 상품 목록 (가격/할인가/최신/판매량/평점) - 키셋 페이지
+ *
+ * - 판매량(sold_count)은 주문/취소 시 재고 차감/복구와 함께 Product 에서 증감된다.
+ * - 평점(review_count / rating_sum / rating_score)은 리뷰 등록/삭제/평점 수정과 같은 트랜잭션에서 증감한다.
+ *   그래서 정렬 시 order_item / review 를 JOIN 하거나 집계하지 않는다.
+ * - 페이지는 offset 대신 커서(이전 페이지 마지막 정렬값과 id)로 넘긴다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ProductSortService {
+
+    public static final int MAX_PAGE_SIZE = 100;
+
+    private final ProductKeysetRepository productKeysetRepository;
+    private final ProductRepository productRepository;
+    private final CategoryService categoryService;
+
+    /**
+     * 정렬 목록 한 페이지
+     *
+     * @param category 카테고리 이름/코드 (대분류면 소분류 포함, null 이면 전체)
+     * @param cursor   이전 응답의 nextCursor (첫 페이지는 null)
+     * @return { products, nextCursor (마지막 페이지면 null), sort, size }
+     */
+    @Transactional(readOnly = true)
+    public Map<String, Object> list(String sortParam, String category, boolean inStockOnly, String cursor, int size) {
+        ProductSort sort = ProductSort.from(sortParam);
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+
+        List<Long> categoryIds = null;
+        if (category != null && !category.isBlank()) {
+            categoryIds = categoryService.resolveSubtreeIds(category);
+            if (categoryIds.isEmpty()) {
+                return page(sort, pageSize, List.of(), null);
+            }
+        }
+
+        Number lastValue = null;
+        Long lastId = null;
+        if (cursor != null && !cursor.isBlank()) {
+            long[] decoded = decodeCursor(cursor);
+            lastValue = sort.toValue(decoded[0]);
+            lastId = decoded[1];
+        }
+
+        // 한 건 더 읽어서 다음 페이지가 있는지 확인
+        List<Object[]> keys = productKeysetRepository.findKeys(sort, categoryIds, inStockOnly, lastValue, lastId, pageSize + 1);
+        String nextCursor = null;
+        if (keys.size() > pageSize) {
+            keys = keys.subList(0, pageSize);
+            Object[] last = keys.get(pageSize - 1);
+            nextCursor = encodeCursor(((Number) last[1]).longValue(), ((Number) last[0]).longValue());
+        }
+
+        List<Long> ids = keys.stream().map(k -> ((Number) k[0]).longValue()).toList();
+        return page(sort, pageSize, loadInOrder(ids), nextCursor);
+    }
+
+    /**
+     * 리뷰 등록/삭제/평점 수정 시 상품 평점 집계 증감 (리뷰와 같은 트랜잭션, 커밋 직전)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    @Transactional
+    public void onReviewChanged(ReviewChangedEvent event) {
+        if (event.getProductId() == null || (event.getDelta() == 0 && event.getRatingDelta() == 0)) {
+            return;
+        }
+        productRepository.adjustRating(event.getProductId(), event.getDelta(), event.getRatingDelta());
+    }
+
+    // ==================== 내부 ====================
+
+    private static Map<String, Object> page(ProductSort sort, int size, List<Product> products, String nextCursor) {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("products", products);
+        body.put("nextCursor", nextCursor);
+        body.put("sort", sort.name().toLowerCase());
+        body.put("size", size);
+        return body;
+    }
+
+    /** ID 순서(정렬 결과)대로 상품 조회 - 쿼리 1회 */
+    private List<Product> loadInOrder(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, Product> byId = productRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(Product::getId, Function.identity()));
+        List<Product> products = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            Product product = byId.get(id);
+            if (product != null) {
+                products.add(product);
+            }
+        }
+        return products;
+    }
+
+    /** 커서 = base64url("정렬값:id") */
+    private static String encodeCursor(long value, long id) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((value + ":" + id).getBytes(StandardCharsets.US_ASCII));
+    }
+
+    private static long[] decodeCursor(String cursor) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.US_ASCII);
+            int colon = decoded.indexOf(':');
+            return new long[]{
+                    Long.parseLong(decoded.substring(0, colon)),
+                    Long.parseLong(decoded.substring(colon + 1))};
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다.");
+        }
+    }
+}
@@ -6,8 +6,10 @@ import com.onandhome.qna.dto.QnaDTO;
 import com.onandhome.qna.dto.QnaReplyDTO;
 import com.onandhome.qna.entity.Qna;
 import com.onandhome.qna.entity.QnaReply;
+import com.onandhome.qna.event.QnaChangedEvent;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.ResponseEntity;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
@@ -26,6 +28,7 @@ public class AdminQnaRestController {
 
     private final QnaRepository qnaRepository;
     private final QnaReplyService qnaReplyService;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 전체 QnA 목록 조회
@@ -214,6 +217,7 @@ public class AdminQnaRestController {
                     .orElseThrow(() -> new IllegalArgumentException("QnA를 찾을 수 없습니다."));
 
             qnaRepository.delete(qna);
+            eventPublisher.publishEvent(new QnaChangedEvent(id, -1));
 
             response.put("success", true);
             response.put("message", "QnA가 삭제되었습니다.");
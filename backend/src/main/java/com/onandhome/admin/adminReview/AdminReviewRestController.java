@@ -1,5 +1,8 @@
 package com.onandhome.admin.adminReview;
 
+import com.onandhome.admin.adminBulk.AdminBulkOperations;
+import com.onandhome.admin.adminBulk.BulkJob;
+import com.onandhome.admin.adminBulk.BulkOperationService;
 import com.onandhome.review.dto.ReviewDTO;
 import com.onandhome.review.dto.ReviewReplyDTO;
 import com.onandhome.review.entity.Review;
@@ -31,6 +34,7 @@ public class AdminReviewRestController {
     private final ReviewRepository reviewRepository;
     private final ReviewService reviewService;
     private final ReviewReplyService reviewReplyService;
+    private final BulkOperationService bulkOperationService;
 
     /**
      * 전체 리뷰 목록 조회 (관리자용)
@@ -265,25 +269,21 @@ public class AdminReviewRestController {
         }
         
         try {
-            int successCount = 0;
-            int failCount = 0;
-            
-            for (Long id : ids) {
-                try {
-                    reviewService.deleteReview(id);
-                    successCount++;
-                } catch (Exception e) {
-                    log.error("리뷰 삭제 실패 - ID: {}", id, e);
-                    failCount++;
-                }
-            }
-            
+            // 청크 단위 집합 삭제 (대상이 많으면 백그라운드로 진행, /api/admin/bulk-jobs/{jobId} 로 조회)
+            BulkJob job = bulkOperationService.submit(AdminBulkOperations.REVIEW_DELETE, ids);
             response.put("success", true);
-            response.put("message", String.format("%d개의 리뷰가 삭제되었습니다.", successCount));
-            response.put("successCount", successCount);
-            response.put("failCount", failCount);
+            response.put("jobId", job.getId());
+            response.put("job", job);
+            if (!job.isFinished()) {
+                response.put("message", String.format("%d개의 리뷰 삭제를 시작했습니다.", job.getTotalCount()));
+                return ResponseEntity.status(HttpStatus.ACCEPTED).body(response);
+            }
+
+            response.put("message", String.format("%d개의 리뷰가 삭제되었습니다.", job.getSucceededCount()));
+            response.put("successCount", job.getSucceededCount());
+            response.put("failCount", job.getFailedCount());
             
-            log.info("리뷰 일괄 삭제 완료 - 성공: {}, 실패: {}", successCount, failCount);
+            log.info("리뷰 일괄 삭제 완료 - 성공: {}, 실패: {}", job.getSucceededCount(), job.getFailedCount());
             return ResponseEntity.ok(response);
         } catch (Exception e) {
             log.error("리뷰 일괄 삭제 실패", e);
@@ -1,24 +1,26 @@
 package com.onandhome.admin.controller;
 
-import com.onandhome.Notice.NoticeService;
-import com.onandhome.admin.adminProduct.ProductRepository;
-import com.onandhome.order.OrderRepository;
+import com.onandhome.admin.adminBulk.AdminBulkOperations;
+import com.onandhome.admin.adminBulk.BulkJob;
+import com.onandhome.admin.adminBulk.BulkOperationService;
+import com.onandhome.admin.adminDashboard.DashboardMetricsService;
+import com.onandhome.admin.adminDashboard.dto.DashboardSnapshot;
 import com.onandhome.order.OrderService;
 import com.onandhome.order.dto.OrderDTO;
-import com.onandhome.qna.QnaRepository;
-import com.onandhome.review.ReviewRepository;
-import com.onandhome.user.UserRepository;
+import com.onandhome.user.UserDirectoryService;
 import com.onandhome.user.UserService;
 import com.onandhome.user.dto.UserDTO;
+import com.onandhome.user.dto.UserDirectoryPage;
+import com.onandhome.user.dto.UserSummaryDTO;
 import com.onandhome.user.entity.User;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.*;
 
-import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -37,27 +39,24 @@ public class AdminController {
 
     private final OrderService orderService;
     private final UserService userService;
-    private final ProductRepository productRepository;
-    private final UserRepository userRepository;
-    private final OrderRepository orderRepository;
-    private final NoticeService noticeService;
-    private final ReviewRepository reviewRepository;
-    private final QnaRepository qnaRepository;
+    private final UserDirectoryService userDirectoryService;
+    private final DashboardMetricsService dashboardMetricsService;
+    private final BulkOperationService bulkOperationService;
 
     // ==================== 사용자 관리 (Thymeleaf 뷰) ====================
 
     @GetMapping("/user/list")
-    public String userList(@RequestParam(value = "kw", required = false) String keyword, Model model) {
+    public String userList(@RequestParam(value = "kw", required = false) String keyword,
+                           @RequestParam(value = "cursor", required = false) Long cursor,
+                           Model model) {
         try {
-            List<UserDTO> users;
-            // 검색어가 있으면 검색 결과만
+            // 검색어가 있으면 검색 결과만 (아이디/이름/이메일/전화번호 접두어 일치)
             if (keyword != null && !keyword.trim().isEmpty()) {
-                users = userService.search(keyword);
                 model.addAttribute("kw", keyword);
-            } else {
-                users = userService.getAllUsers();
             }
-            model.addAttribute("users", users);
+            UserDirectoryPage page = userDirectoryService.findUsers(keyword, cursor, UserDirectoryService.DEFAULT_PAGE_SIZE);
+            model.addAttribute("users", page.getItems());
+            model.addAttribute("nextCursor", page.getNextCursor());
 
         } catch (Exception e) {
             // 오류 시 빈 리스트 전달
@@ -117,21 +116,14 @@ public class AdminController {
                 return response;
             }
 
-            int deletedCount = 0;
-
-            // 선택된 사용자들 반복 삭제
-            for (Long userId : userIds) {
-                try {
-                    userService.deleteUser(userId);
-                    deletedCount++;
-                } catch (Exception e) {
-                    log.error("회원 ID {} 삭제 실패", userId, e);
-                }
-            }
-
+            // 청크 단위 일괄 비활성화 (대상이 많으면 백그라운드로 진행)
+            BulkJob job = bulkOperationService.submit(AdminBulkOperations.USER_DEACTIVATE, userIds);
             response.put("success", true);
-            response.put("message", deletedCount + "명의 회원이 삭제되었습니다.");
-            response.put("deletedCount", deletedCount);
+            response.put("jobId", job.getId());
+            response.put("message", job.isFinished()
+                    ? job.getSucceededCount() + "명의 회원이 삭제되었습니다."
+                    : job.getTotalCount() + "명의 회원 삭제를 시작했습니다.");
+            response.put("deletedCount", job.getSucceededCount());
         } catch (Exception e) {
             response.put("success", false);
             response.put("message", "회원 삭제 중 오류가 발생했습니다: " + e.getMessage());
@@ -147,13 +139,8 @@ public class AdminController {
         log.info("=== 관리자 회원 목록 조회 API 호출 ===");
         log.info("검색어: {}", kw);
         try {
-            List<UserDTO> users;
-            if (kw != null && !kw.trim().isEmpty()) {
-                users = userService.search(kw.trim());
-            } else {
-                users = userService.getAllUsers();
-            }
-            log.info("전체 회원 수: {}명", users.size());
+            List<UserSummaryDTO> users = userDirectoryService.findAllUsers(kw);
+            log.info("조회된 회원 수: {}명", users.size());
             return ResponseEntity.ok(users);
         } catch (Exception e) {
             log.error("회원 목록 조회 실패", e);
@@ -281,20 +268,23 @@ public class AdminController {
                 );
             }
 
-            int deletedCount = 0;
-            for (Long userId : ids) {
-                try {
-                    userService.deleteUser(userId);
-                    deletedCount++;
-                } catch (Exception e) {
-                    log.error("회원 ID {} 삭제 실패", userId, e);
-                }
+            // 청크 단위 일괄 비활성화 (대상이 많으면 백그라운드로 진행, /api/admin/bulk-jobs/{jobId} 로 조회)
+            BulkJob job = bulkOperationService.submit(AdminBulkOperations.USER_DEACTIVATE, ids);
+            if (!job.isFinished()) {
+                return ResponseEntity.status(HttpStatus.ACCEPTED).body(Map.of(
+                        "success", true,
+                        "message", job.getTotalCount() + "명의 회원 삭제를 시작했습니다.",
+                        "jobId", job.getId(),
+                        "job", job
+                ));
             }
 
             return ResponseEntity.ok(Map.of(
                     "success", true,
-                    "message", deletedCount + "명의 회원이 삭제되었습니다.",
-                    "deletedCount", deletedCount
+                    "message", job.getSucceededCount() + "명의 회원이 삭제되었습니다.",
+                    "deletedCount", job.getSucceededCount(),
+                    "jobId", job.getId(),
+                    "job", job
             ));
         } catch (Exception e) {
             return ResponseEntity.status(500).body(
@@ -355,90 +345,25 @@ public class AdminController {
 
     @GetMapping("/board/dashboard")
     public String boardDashboard(Model model) {
-        try {
-            long totalNotices = noticeService.findAll().size();
-            model.addAttribute("totalNotices", totalNotices);
-
-            long totalReviews = reviewRepository.count();
-            model.addAttribute("totalReviews", totalReviews);
+        DashboardSnapshot snapshot = dashboardMetricsService.getSnapshot();
+        model.addAttribute("totalNotices", snapshot.getTotalNotices());
+        model.addAttribute("totalReviews", snapshot.getTotalReviews());
+        model.addAttribute("totalQnas", snapshot.getTotalQnas());
 
-            long totalQnas = qnaRepository.count();
-            model.addAttribute("totalQnas", totalQnas);
-
-        } catch (Exception e) {
-            model.addAttribute("totalNotices", 0L);
-            model.addAttribute("totalReviews", 0L);
-            model.addAttribute("totalQnas", 0L);
-        }
-        
         return "admin/board/dashboard";
     }
 
     // ==================== 대시보드 ====================
 
+    /**
+     * 관리자 대시보드
+     * 지표는 DashboardMetricsService 스냅샷에서 읽는다. (요청마다 집계 쿼리를 실행하지 않음)
+     */
     @GetMapping("/dashboard")
     public String dashboard(Model model) {
-        try {
-            LocalDateTime now = LocalDateTime.now();
-            LocalDateTime startOfDay = now.toLocalDate().atStartOfDay();
-            LocalDateTime startOfMonth = now.withDayOfMonth(1).toLocalDate().atStartOfDay();
-
-            // 주문/매출 통계
-            long todayOrderCount = orderRepository.countTodayOrders(startOfDay);
-            long todayRevenue = orderRepository.sumTodayRevenue(startOfDay, com.onandhome.order.entity.Order.OrderStatus.CANCELED);
-            long monthRevenue = orderRepository.sumMonthRevenue(startOfMonth, com.onandhome.order.entity.Order.OrderStatus.CANCELED);
-
-            model.addAttribute("todayOrderCount", todayOrderCount);
-            model.addAttribute("todayRevenue", todayRevenue);
-            model.addAttribute("monthRevenue", monthRevenue);
-
-            long totalProducts = productRepository.count();
-            long outOfStockProducts = productRepository.countOutOfStockProducts();
-
-            model.addAttribute("totalProducts", totalProducts);
-            model.addAttribute("outOfStockProducts", outOfStockProducts);
-
-            long todayNewUsers = userRepository.countTodayNewUsers(startOfDay);
-            long totalUsers = userRepository.count();
-            long inactiveUsers = userRepository.countInactiveUsers();
-
-            model.addAttribute("todayNewUsers", todayNewUsers);
-            model.addAttribute("totalUsers", totalUsers);
-            model.addAttribute("inactiveUsers", inactiveUsers);
-
-            long totalNotices = noticeService.findAll().size();
-            long totalReviews = reviewRepository.count();
-            long totalQnas = qnaRepository.count();
-            // 게시판 통계
-            model.addAttribute("totalNotices", totalNotices);
-            model.addAttribute("totalReviews", totalReviews);
-            model.addAttribute("totalQnas", totalQnas);
-
-        } catch (Exception e) {
-            // 오류 발생 시 전체 항목 기본값 처리
-            model.addAttribute("todayOrderCount", 0L);
-            model.addAttribute("todayRevenue", 0L);
-            model.addAttribute("monthRevenue", 0L);
-            model.addAttribute("totalProducts", 0L);
-            model.addAttribute("outOfStockProducts", 0L);
-            model.addAttribute("todayNewUsers", 0L);
-            model.addAttribute("totalUsers", 0L);
-            model.addAttribute("inactiveUsers", 0L);
-            model.addAttribute("totalNotices", 0L);
-            model.addAttribute("totalReviews", 0L);
-            model.addAttribute("totalQnas", 0L);
-        }
-
-        log.info("=== 대시보드 데이터 조회 ===");
-        log.info("오늘 주문: {}", model.getAttribute("todayOrderCount"));
-        log.info("오늘 매출: {}", model.getAttribute("todayRevenue"));
-        log.info("이달 매출: {}", model.getAttribute("monthRevenue"));
-        log.info("전체 상품: {}", model.getAttribute("totalProducts"));
-        log.info("품절 상품: {}", model.getAttribute("outOfStockProducts"));
-        log.info("오늘 신규 회원: {}", model.getAttribute("todayNewUsers"));
-        log.info("전체 회원: {}", model.getAttribute("totalUsers"));
-        log.info("탈퇴 회원: {}", model.getAttribute("inactiveUsers"));
+        model.addAllAttributes(dashboardMetricsService.getSnapshot().toMap());
+        log.debug("대시보드 데이터 조회");
 
         return "admin/dashboard";
     }
-}
\ No newline at end of file
+}
@@ -1,21 +1,31 @@
 package com.onandhome.admin.controller;
 
-import com.onandhome.Notice.NoticeService;
-import com.onandhome.admin.adminProduct.ProductRepository;
-import com.onandhome.inactive_user.InactiveUserRepository;
+import com.onandhome.admin.adminDashboard.DashboardMetricsService;
+import com.onandhome.admin.adminDashboard.entity.DashboardDailyStat;
+import com.onandhome.admin.adminProduct.CatalogResponseCache;
+import com.onandhome.admin.adminProduct.facet.ProductFacetService;
+import com.onandhome.cart.CartEngine;
+import com.onandhome.config.querycount.QueryCountMonitor;
 import com.onandhome.inactive_user.InactiveUserService;
-import com.onandhome.inactive_user.dto.InactiveUserDTO;
-import com.onandhome.order.OrderRepository;
-import com.onandhome.qna.QnaRepository;
-import com.onandhome.review.ReviewRepository;
-import com.onandhome.user.UserRepository;
+import com.onandhome.inactive_user.UserDeactivationService;
+import com.onandhome.inactive_user.entity.DeactivationJob;
+import com.onandhome.user.UserDirectoryService;
 import com.onandhome.user.UserService;
 import com.onandhome.user.dto.UserDTO;
+import com.onandhome.user.dto.UserDirectoryPage;
+import com.onandhome.user.dto.UserSummaryDTO;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
-import java.time.LocalDateTime;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -27,93 +37,73 @@ import java.util.Map;
 @RestController
 @RequestMapping("/api/admin")
 @RequiredArgsConstructor
+@Slf4j
 public class AdminRestController {
 
     private final UserService userService;
     private final InactiveUserService inactiveUserService;
-    private final InactiveUserRepository inactiveUserRepository;
-    private final ProductRepository productRepository;
-    private final UserRepository userRepository;
-    private final OrderRepository orderRepository;
-    private final NoticeService noticeService;
-    private final ReviewRepository reviewRepository;
-    private final QnaRepository qnaRepository;
+    private final UserDeactivationService userDeactivationService;
+    private final UserDirectoryService userDirectoryService;
+    private final DashboardMetricsService dashboardMetricsService;
+    private final CartEngine cartEngine;
+    private final CatalogResponseCache catalogResponseCache;
+    private final ProductFacetService productFacetService;
+    private final QueryCountMonitor queryCountMonitor;
 
     /**
      * 관리자 대시보드 데이터 조회
+     * DashboardMetricsService가 유지하는 스냅샷을 그대로 반환한다. (DB 조회 없음)
+     * 실시간 갱신은 /topic/admin-dashboard 구독으로 받는다.
      */
     @GetMapping("/dashboard")
     public ResponseEntity<Map<String, Object>> getDashboardData() {
-        Map<String, Object> response = new HashMap<>();
-        try {
-            LocalDateTime now = LocalDateTime.now();
-            LocalDateTime startOfDay = now.toLocalDate().atStartOfDay();
-            LocalDateTime startOfMonth = now.withDayOfMonth(1).toLocalDate().atStartOfDay();
-            
-            // 매출 현황
-            long todayOrderCount = orderRepository.countTodayOrders(startOfDay);
-            long todayRevenue = orderRepository.sumTodayRevenue(startOfDay, com.onandhome.order.entity.Order.OrderStatus.CANCELED);
-            long monthRevenue = orderRepository.sumMonthRevenue(startOfMonth, com.onandhome.order.entity.Order.OrderStatus.CANCELED);
-            
-            response.put("todayOrderCount", todayOrderCount);
-            response.put("todayRevenue", todayRevenue);
-            response.put("monthRevenue", monthRevenue);
-
-            // 상품 현황
-            long totalProducts = productRepository.count();
-            long outOfStockProducts = productRepository.countOutOfStockProducts();
-            
-            response.put("totalProducts", totalProducts);
-            response.put("outOfStockProducts", outOfStockProducts);
+        return ResponseEntity.ok(dashboardMetricsService.getSnapshot().toMap());
+    }
 
-            // 회원 현황
-            long todayNewUsers = userRepository.countTodayNewUsers(startOfDay);
-            long totalUsers = userRepository.count();
-            long inactiveUsers = inactiveUserRepository.count(); // inactive_user 테이블에서 조회
-            
-            response.put("todayNewUsers", todayNewUsers);
-            response.put("totalUsers", totalUsers);
-            response.put("inactiveUsers", inactiveUsers);
+    /**
+     * 대시보드 일별 집계 조회
+     * GET /api/admin/dashboard/daily?from=2025-01-01&to=2025-01-31
+     * 기간을 지정하지 않으면 최근 30일을 반환한다.
+     */
+    @GetMapping("/dashboard/daily")
+    public ResponseEntity<List<DashboardDailyStat>> getDashboardDailyStats(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        LocalDate end = (to != null) ? to : LocalDate.now();
+        LocalDate start = (from != null) ? from : end.minusDays(29);
+        return ResponseEntity.ok(dashboardMetricsService.getDailyStats(start, end));
+    }
 
-            // 게시판 현황
-            long totalNotices = noticeService.findAll().size();
-            long totalReviews = reviewRepository.count();
-            long totalQnas = qnaRepository.count();
+    /**
+     * 장바구니 엔진 상태 (메모리 장바구니 수, 미반영 장바구니 수, 반영 지연 등)
+     */
+    @GetMapping("/cart-engine")
+    public ResponseEntity<Map<String, Object>> getCartEngineStats() {
+        return ResponseEntity.ok(cartEngine.getStats());
+    }
 
-            response.put("totalNotices", totalNotices);
-            response.put("totalReviews", totalReviews);
-            response.put("totalQnas", totalQnas);
+    /**
+     * 상품 목록 응답 캐시 상태 (카탈로그 리비전, 캐시 적중/304/재생성 횟수)
+     */
+    @GetMapping("/catalog-cache")
+    public ResponseEntity<Map<String, Object>> getCatalogCacheStats() {
+        return ResponseEntity.ok(catalogResponseCache.getStats());
+    }
 
-            System.out.println("=== 대시보드 데이터 조회 ===");
-            System.out.println("오늘 주문: " + todayOrderCount);
-            System.out.println("오늘 매출: " + todayRevenue);
-            System.out.println("이달 매출: " + monthRevenue);
-            System.out.println("전체 상품: " + totalProducts);
-            System.out.println("품절 상품: " + outOfStockProducts);
-            System.out.println("오늘 신규 회원: " + todayNewUsers);
-            System.out.println("전체 회원: " + totalUsers);
-            System.out.println("탈퇴 회원: " + inactiveUsers);
+    /**
+     * 상품 패싯 인덱스 상태 (상품 수, 재생성 횟수/시간, 조회 수)
+     */
+    @GetMapping("/catalog-facets")
+    public ResponseEntity<Map<String, Object>> getCatalogFacetStats() {
+        return ResponseEntity.ok(productFacetService.getStats());
+    }
 
-            return ResponseEntity.ok(response);
-        } catch (Exception e) {
-            System.err.println("대시보드 데이터 조회 오류: " + e.getMessage());
-            e.printStackTrace();
-            
-            // 오류 발생 시 기본값 반환
-            response.put("todayOrderCount", 0L);
-            response.put("todayRevenue", 0L);
-            response.put("monthRevenue", 0L);
-            response.put("totalProducts", 0L);
-            response.put("outOfStockProducts", 0L);
-            response.put("todayNewUsers", 0L);
-            response.put("totalUsers", 0L);
-            response.put("inactiveUsers", 0L);
-            response.put("totalNotices", 0L);
-            response.put("totalReviews", 0L);
-            response.put("totalQnas", 0L);
-            
-            return ResponseEntity.ok(response);
-        }
+    /**
+     * 쿼리 수 감시 상태 (요청/트랜잭션별 SQL 수, 기준 초과/N+1 의심 횟수, API 별 최대 쿼리 수)
+     */
+    @GetMapping("/query-counts")
+    public ResponseEntity<Map<String, Object>> getQueryCountStats() {
+        return ResponseEntity.ok(queryCountMonitor.getStats());
     }
 
     /**
@@ -124,7 +114,7 @@ public class AdminRestController {
         Map<String, Object> response = new HashMap<>();
         response.put("message", "관리자 API 정상 작동");
         response.put("timestamp", System.currentTimeMillis());
-        System.out.println("테스트 API 호출됨");
+        log.debug("테스트 API 호출됨");
         return ResponseEntity.ok(response);
     }
 
@@ -132,86 +122,106 @@ public class AdminRestController {
      * 탈퇴 회원 목록 조회 API (inactive 경로)
      */
     @GetMapping("/users/inactive")
-    public ResponseEntity<List<InactiveUserDTO>> getInactiveUserList() {
-        try {
-            List<InactiveUserDTO> users = inactiveUserService.getAllInactiveUsers();
-            return ResponseEntity.ok(users);
-        } catch (Exception e) {
-            return ResponseEntity.ok(List.of());
+    public ResponseEntity<List<UserSummaryDTO>> getInactiveUserList(
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(required = false) Integer size) {
+        if (cursor == null && size == null) {
+            return ResponseEntity.ok(userDirectoryService.findAllInactiveUsers(null));
         }
+        return toListResponse(userDirectoryService.findInactiveUsers(null, cursor, size));
     }
 
     /**
      * 탈퇴 회원 목록 조회 API (deleted 경로 - 프론트엔드 호환용)
-     * 검색 키워드 지원
+     * 검색 키워드 지원 (아이디/이름/이메일/전화번호 접두어 일치)
+     * size 를 주면 한 페이지만 반환하고 다음 페이지가 있으면 X-Next-Cursor 헤더로 알려준다. (없으면 전체)
      */
     @GetMapping("/users/deleted")
-    public ResponseEntity<List<InactiveUserDTO>> getDeletedUserList(
-            @RequestParam(value = "kw", required = false) String keyword) {
-        try {
-            System.out.println("=== 탈퇴 회원 목록 조회 API 호출 ===");
-            System.out.println("검색어: " + keyword);
-            
-            List<InactiveUserDTO> users;
-            
-            // 검색 키워드가 있는 경우 필터링
-            if (keyword != null && !keyword.trim().isEmpty()) {
-                users = inactiveUserService.searchInactiveUsers(keyword.trim());
-            } else {
-                users = inactiveUserService.getAllInactiveUsers();
-            }
-            
-            System.out.println("탈퇴 회원 수: " + users.size() + "명");
-            return ResponseEntity.ok(users);
-        } catch (Exception e) {
-            System.err.println("탈퇴 회원 목록 조회 오류: " + e.getMessage());
-            e.printStackTrace();
-            return ResponseEntity.ok(List.of());
+    public ResponseEntity<List<UserSummaryDTO>> getDeletedUserList(
+            @RequestParam(value = "kw", required = false) String keyword,
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(required = false) Integer size) {
+        log.debug("탈퇴 회원 목록 조회 - 검색어: {}, cursor: {}", keyword, cursor);
+        if (cursor == null && size == null) {
+            return ResponseEntity.ok(userDirectoryService.findAllInactiveUsers(keyword));
         }
+        return toListResponse(userDirectoryService.findInactiveUsers(keyword, cursor, size));
     }
 
     /**
      * 관리자 회원 목록 조회 API
-     * 회원 검색 또는 전체 조회
+     * 회원 검색 또는 전체 조회 (최신 가입순)
+     * size 를 주면 한 페이지만 반환하고 다음 페이지가 있으면 X-Next-Cursor 헤더로 알려준다. (없으면 전체)
      */
     @GetMapping("/users")
-    public ResponseEntity<List<UserDTO>> getUserList(@RequestParam(value = "kw", required = false) String keyword) {
-        try {
-            System.out.println("=== 관리자 회원 목록 조회 API 호출 ===");
-            System.out.println("검색어: " + keyword);
-            
-            List<UserDTO> users;
+    public ResponseEntity<List<UserSummaryDTO>> getUserList(
+            @RequestParam(value = "kw", required = false) String keyword,
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(required = false) Integer size) {
+        log.debug("회원 목록 조회 - 검색어: {}, cursor: {}", keyword, cursor);
+        if (cursor == null && size == null) {
+            return ResponseEntity.ok(userDirectoryService.findAllUsers(keyword));
+        }
+        return toListResponse(userDirectoryService.findUsers(keyword, cursor, size));
+    }
 
-            // 검색 키워드가 있는 경우: 키워드로 회원 검색
-            if (keyword != null && !keyword.trim().isEmpty()) {
-                users = userService.search(keyword);
-            }
-            // 키워드 없으면 전체 회원 조회
-            else {
-                users = userService.getAllUsers();
-                System.out.println("전체 회원 수: " + users.size() + "명");
-            }
-            
-            // 회원 정보 출력 (테스트용)
-            if (users.size() > 0) {
-                System.out.println("첫 번째 회원 정보:");
-                UserDTO firstUser = users.get(0);
-                System.out.println("  ID: " + firstUser.getId());
-                System.out.println("  UserId: " + firstUser.getUserId());
-                System.out.println("  Username: " + firstUser.getUsername());
-                System.out.println("  Email: " + firstUser.getEmail());
-                System.out.println("  Phone: " + firstUser.getPhone());
-                System.out.println("  Gender: " + firstUser.getGender());
-                System.out.println("  CreatedAt: " + firstUser.getCreatedAt());
-            }
-            
-            return ResponseEntity.ok(users);
-        } catch (Exception e) {
-            System.err.println("회원 목록 조회 오류: " + e.getMessage());
-            e.printStackTrace();
-            // 오류 발생 시 빈 리스트 반환
-            return ResponseEntity.ok(List.of());
+    /**
+     * 회원 디렉터리 (키셋 페이지네이션)
+     * GET /api/admin/users/directory?kw=kim&cursor=12345&size=50
+     * 응답의 nextCursor 를 다음 요청의 cursor 로 전달한다.
+     */
+    @GetMapping("/users/directory")
+    public ResponseEntity<UserDirectoryPage> getUserDirectory(
+            @RequestParam(value = "kw", required = false) String keyword,
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(required = false) Integer size) {
+        return ResponseEntity.ok(userDirectoryService.findUsers(keyword, cursor, size));
+    }
+
+    /**
+     * 탈퇴 회원 디렉터리 (키셋 페이지네이션)
+     */
+    @GetMapping("/users/deleted/directory")
+    public ResponseEntity<UserDirectoryPage> getDeletedUserDirectory(
+            @RequestParam(value = "kw", required = false) String keyword,
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(required = false) Integer size) {
+        return ResponseEntity.ok(userDirectoryService.findInactiveUsers(keyword, cursor, size));
+    }
+
+    /**
+     * 회원 목록 CSV 내보내기 (스트리밍)
+     */
+    @GetMapping("/users/export")
+    public ResponseEntity<StreamingResponseBody> exportUsers(
+            @RequestParam(value = "kw", required = false) String keyword) {
+        return toCsvResponse("users.csv", out -> userDirectoryService.exportCsv(false, keyword, out));
+    }
+
+    /**
+     * 탈퇴 회원 목록 CSV 내보내기 (스트리밍)
+     */
+    @GetMapping("/users/deleted/export")
+    public ResponseEntity<StreamingResponseBody> exportDeletedUsers(
+            @RequestParam(value = "kw", required = false) String keyword) {
+        return toCsvResponse("deleted-users.csv", out -> userDirectoryService.exportCsv(true, keyword, out));
+    }
+
+    /* 배열 응답을 기대하는 기존 화면용 - cursor/size 를 지정한 경우 그 페이지만 (다음 페이지는 X-Next-Cursor) */
+    private static ResponseEntity<List<UserSummaryDTO>> toListResponse(UserDirectoryPage page) {
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok();
+        if (page.isHasNext()) {
+            builder.header("X-Next-Cursor", String.valueOf(page.getNextCursor()));
         }
+        return builder.body(page.getItems());
+    }
+
+    private static ResponseEntity<StreamingResponseBody> toCsvResponse(String filename, StreamingResponseBody body) {
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        ContentDisposition.attachment().filename(filename).build().toString())
+                .contentType(new MediaType("text", "csv", StandardCharsets.UTF_8))
+                .body(body);
     }
 
     /**
@@ -254,6 +264,8 @@ public class AdminRestController {
     /**
      * 회원 다중 삭제 API (User → InactiveUser 이동)
      * 여러 명을 선택하여 삭제하는 기능
+     * UserDeactivationService 작업으로 청크 단위 처리되며,
+     * 대상이 많으면 작업 ID만 반환하고 백그라운드에서 계속 진행된다.
      */
     @PostMapping("/users/delete")
     public ResponseEntity<Map<String, Object>> deleteMultipleUsers(@RequestBody Map<String, List<Long>> request) {
@@ -270,11 +282,18 @@ public class AdminRestController {
             }
             
             // User → InactiveUser 이동 처리
-            int deletedCount = inactiveUserService.moveMultipleToInactive(userIds);
-            
-            response.put("success", true);
-            response.put("message", deletedCount + "명의 회원이 탈퇴 처리되었습니다.");
-            response.put("deletedCount", deletedCount);
+            DeactivationJob job = userDeactivationService.submit(userIds);
+
+            response.put("success", job.getStatus() != DeactivationJob.Status.FAILED);
+            if (job.getStatus() == DeactivationJob.Status.COMPLETED) {
+                response.put("message", job.getMovedCount() + "명의 회원이 탈퇴 처리되었습니다.");
+            } else if (job.getStatus() == DeactivationJob.Status.FAILED) {
+                response.put("message", "회원 탈퇴 처리 중 오류가 발생했습니다: " + job.getLastError());
+            } else {
+                response.put("message", job.getTotalCount() + "명의 회원 탈퇴 처리를 시작했습니다. (작업 ID: " + job.getId() + ")");
+            }
+            response.put("deletedCount", job.getMovedCount());
+            response.put("job", job);
             return ResponseEntity.ok(response);
         } catch (Exception e) {
             response.put("success", false);
@@ -283,6 +302,43 @@ public class AdminRestController {
         }
     }
 
+    /**
+     * 회원 일괄 탈퇴 작업 목록 (최근 20건)
+     */
+    @GetMapping("/users/deactivation-jobs")
+    public ResponseEntity<List<DeactivationJob>> getDeactivationJobs() {
+        return ResponseEntity.ok(userDeactivationService.getRecentJobs());
+    }
+
+    /**
+     * 회원 일괄 탈퇴 작업 진행 상황 조회
+     */
+    @GetMapping("/users/deactivation-jobs/{jobId}")
+    public ResponseEntity<?> getDeactivationJob(@PathVariable Long jobId) {
+        try {
+            return ResponseEntity.ok(userDeactivationService.getJob(jobId));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.notFound().build();
+        }
+    }
+
+    /**
+     * 실패한 회원 일괄 탈퇴 작업 재개 (마지막으로 커밋된 청크 이후부터)
+     */
+    @PostMapping("/users/deactivation-jobs/{jobId}/resume")
+    public ResponseEntity<Map<String, Object>> resumeDeactivationJob(@PathVariable Long jobId) {
+        Map<String, Object> response = new HashMap<>();
+        try {
+            response.put("success", true);
+            response.put("job", userDeactivationService.resume(jobId));
+            return ResponseEntity.ok(response);
+        } catch (IllegalArgumentException | IllegalStateException e) {
+            response.put("success", false);
+            response.put("message", e.getMessage());
+            return ResponseEntity.badRequest().body(response);
+        }
+    }
+
     /**
      * 다중 회원 영구 삭제 API
      */
@@ -303,7 +359,7 @@ public class AdminRestController {
                     userService.permanentDeleteUser(userId);
                     deletedCount++;
                 } catch (Exception e) {
-                    System.err.println("회원 ID " + userId + " 영구 삭제 실패: " + e.getMessage());
+                    log.error("회원 ID {} 영구 삭제 실패: {}", userId, e.getMessage());
                 }
             }
 
@@ -1,7 +1,10 @@
 package com.onandhome.advertisement;
 
 import com.onandhome.advertisement.entity.Advertisement;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -11,5 +14,7 @@ public interface AdvertisementRepository extends JpaRepository<Advertisement, Lo
     
     List<Advertisement> findAllByOrderByCreatedAtDesc();
     
+    // 노출 중인 광고 (메인 화면) - prod 프로필에서는 쿼리 캐시 사용 (advertisements 변경 시 자동 무효화)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<Advertisement> findByActiveTrueOrderByCreatedAtDesc();
 }
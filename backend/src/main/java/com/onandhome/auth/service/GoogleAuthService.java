@@ -4,9 +4,11 @@ import com.onandhome.auth.dto.GoogleTokenResponse;
 import com.onandhome.auth.dto.GoogleUserInfo;
 import com.onandhome.user.UserRepository;
 import com.onandhome.user.entity.User;
+import com.onandhome.user.event.UserChangedEvent;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.*;
 import org.springframework.stereotype.Service;
 import org.springframework.util.LinkedMultiValueMap;
@@ -48,6 +50,7 @@ import java.util.UUID;
 public class GoogleAuthService {
     
     private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
     private final RestTemplate restTemplate = new RestTemplate();
 
     // application.properties에서 주입받는 구글 OAuth 설정값
@@ -236,6 +239,9 @@ public class GoogleAuthService {
             .build();
         
         // DB에 저장하고 저장된 User 객체 반환
-        return userRepository.save(newUser);}
+        User savedUser = userRepository.save(newUser);
+        eventPublisher.publishEvent(new UserChangedEvent(savedUser.getId(), UserChangedEvent.Type.REGISTERED));
+        return savedUser;
+    }
     }
 
@@ -4,6 +4,7 @@ import java.util.Optional; // JSON 파싱을 위해 사용하는 Jackson의 핵
 import java.util.UUID; // 카카오 토큰 응답 DTO
 
 import org.springframework.beans.factory.annotation.Value; // 카카오 사용자 정보 DTO
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.HttpEntity; // DB에서 User 엔티티를 조회/저장하는 저장소
 import org.springframework.http.HttpHeaders; // User 엔티티
 import org.springframework.http.HttpMethod; // final 필드를 자동 생성자로 생성해주는 Lombok
@@ -18,6 +19,7 @@ import com.onandhome.auth.dto.KakaoTokenResponse;
 import com.onandhome.auth.dto.KakaoUserInfo;
 import com.onandhome.user.UserRepository;
 import com.onandhome.user.entity.User;
+import com.onandhome.user.event.UserChangedEvent;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -29,6 +31,7 @@ public class KakaoAuthService {
 
     // 사용자 정보를 찾거나 저장할 때 사용하는 Repository
     private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     // 외부 API 호출용 객체 (카카오 서버와 통신)
     private final RestTemplate restTemplate = new RestTemplate();
@@ -185,7 +188,9 @@ public class KakaoAuthService {
                 .build();
 
         // DB 저장 후 반환
-        return userRepository.save(newUser);
+        User savedUser = userRepository.save(newUser);
+        eventPublisher.publishEvent(new UserChangedEvent(savedUser.getId(), UserChangedEvent.Type.REGISTERED));
+        return savedUser;
     }
 }
 
@@ -4,9 +4,11 @@ import com.onandhome.auth.dto.NaverTokenResponse;
 import com.onandhome.auth.dto.NaverUserInfo;
 import com.onandhome.user.UserRepository;
 import com.onandhome.user.entity.User;
+import com.onandhome.user.event.UserChangedEvent;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.*;
 import org.springframework.stereotype.Service;
 import org.springframework.util.LinkedMultiValueMap;
@@ -22,6 +24,7 @@ import java.util.UUID;
 public class NaverAuthService {
 
     private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
     private final RestTemplate restTemplate = new RestTemplate();
 
     @Value("${naver.client-id}")
@@ -252,7 +255,9 @@ public class NaverAuthService {
                 .active(true)
                 .build();
 
-        return userRepository.save(newUser);
+        User savedUser = userRepository.save(newUser);
+        eventPublisher.publishEvent(new UserChangedEvent(savedUser.getId(), UserChangedEvent.Type.REGISTERED));
+        return savedUser;
         // userRepository.save(): JPA Repository의 저장 메서드
         // newUser 엔티티를 DB의 users 테이블에 INSERT
         // 저장 후 ID가 자동 생성되어 newUser 객체에 설정됨
@@ -1,6 +1,6 @@
 // ===================================================================
 // 주의: 이 클래스는 더 이상 사용되지 않습니다.
-// CartService와 CartBusinessService로 기능이 이동했습니다.
+// CartService(CartEngine)로 기능이 이동했습니다.
 // ===================================================================
 
 /*
@@ -0,0 +1,665 @@
+package com.onandhome.cart;
+
+import com.onandhome.cart.dto.CartItemDTO;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * 장바구니 메모리 엔진 (write-behind)
+ *
+ * - 최근 사용한 장바구니를 회원(로그인 아이디)별로 메모리에 두고 수량 변경/삭제를 메모리에서 처리한다.
+ * - 변경된 아이템은 모아 두었다가 flush-interval-ms 마다 한 트랜잭션의 배치로 DB에 반영한다.
+ *   (+/- 버튼을 연타해도 마지막 수량 한 번만 기록됨)
+ * - 보관 개수(max-carts)를 넘으면 가장 오래 안 쓴 장바구니부터, idle-ttl 동안 안 쓰면 내보낸다.
+ *   내보낼 때 변경분은 반드시 DB에 반영한다. (반영 중에 다시 접근하면 같은 상태를 되살려 사용)
+ * - 장바구니 주문은 checkout() 으로 감싸 즉시 반영하고, 주문이 끝날 때까지 새 아이템 추가를 막는다.
+ *
+ * 새 상품 담기와 전체 비우기는 행 추가/삭제가 필요하므로 DB에 바로 쓰고 메모리 상태를 다시 읽는다.
+ * 장바구니 화면은 DB 조회 결과(상품 정보)에 메모리의 수량/삭제를 덮어써서 응답한다.
+ */
+@Component
+@Slf4j
+public class CartEngine implements MeterBinder {
+
+    private final CartItemRepository cartRepo;
+    private final CartItemBatchWriter batchWriter;
+    private final TransactionTemplate transactionTemplate;
+    private final int maxCarts;
+    private final long idleTtlMillis;
+
+    /* 접근 순서 LinkedHashMap = LRU (carts 자체를 잠그고 사용) */
+    private final LinkedHashMap<String, CartState> carts = new LinkedHashMap<>(256, 0.75f, true);
+
+    /* 내보내는 중(변경분 반영 중)인 장바구니 - 그 사이 접근하면 DB 대신 이 상태를 되살린다 */
+    private final Map<String, CartState> evicting = new ConcurrentHashMap<>();
+
+    /* 회원 PK → 로그인 아이디 (주문 시 checkout / flushUser 용) */
+    private final Map<Long, String> loginIdsByUserId = new ConcurrentHashMap<>();
+
+    // 지표
+    private final AtomicLong flushedUpdates = new AtomicLong();
+    private final AtomicLong flushedDeletes = new AtomicLong();
+    private final AtomicLong flushFailures = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+    private final AtomicLong lastFlushMillis = new AtomicLong();
+    private final AtomicLong lastFlushAt = new AtomicLong();
+
+    public CartEngine(CartItemRepository cartRepo,
+                      CartItemBatchWriter batchWriter,
+                      PlatformTransactionManager transactionManager,
+                      @Value("${cart.engine.max-carts:10000}") int maxCarts,
+                      @Value("${cart.engine.idle-ttl-seconds:1800}") long idleTtlSeconds) {
+        this.cartRepo = cartRepo;
+        this.batchWriter = batchWriter;
+        // 요청 트랜잭션과 무관하게 바로 커밋 (반영이 끝나야 메모리 변경분을 지울 수 있음)
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.maxCarts = maxCarts;
+        this.idleTtlMillis = idleTtlSeconds * 1000;
+    }
+
+    // ==================== 조회 ====================
+
+    /**
+     * 장바구니 화면 (DB 조회 1회 + 메모리 수량/삭제 반영)
+     */
+    public List<CartItemDTO> view(String loginId) {
+        List<CartItemDTO> rows = cartRepo.findViewsByLoginId(loginId);
+        CartState state = peek(loginId);
+        if (state == null) {
+            return rows;
+        }
+        synchronized (state) {
+            if (!state.isDirty()) {
+                return rows;
+            }
+            List<CartItemDTO> merged = new ArrayList<>(rows.size());
+            for (CartItemDTO row : rows) {
+                Line line = state.lines.get(row.getId());
+                if (line != null) {
+                    merged.add(line.quantity == row.getQuantity() ? row : row.withQuantity(line.quantity));
+                }
+            }
+            return merged;
+        }
+    }
+
+    /**
+     * 장바구니 아이템 개수 (메모리에 있으면 DB 조회 없음)
+     */
+    public long count(String loginId) {
+        CartState state = peek(loginId);
+        if (state != null) {
+            synchronized (state) {
+                return state.lines.size();
+            }
+        }
+        return cartRepo.countByLoginId(loginId);
+    }
+
+    // ==================== 변경 ====================
+
+    /**
+     * 담기 - 이미 담긴 상품이면 메모리에서 수량만 늘리고, 처음 담는 상품이면 DB에 바로 추가
+     *
+     * @return true: 새로 추가됨, false: 기존 아이템 수량 증가
+     */
+    public boolean add(String loginId, Long productId, int quantity) {
+        CartState state = load(loginId);
+        synchronized (state) {
+            for (Map.Entry<Long, Line> entry : state.lines.entrySet()) {
+                if (entry.getValue().productId.equals(productId)) {
+                    entry.getValue().quantity += quantity;
+                    state.markDirty(entry.getKey());
+                    return false;
+                }
+            }
+        }
+
+        // 새 행이 필요하므로 밀린 변경분을 먼저 반영하고 DB에 추가한 뒤 상태를 다시 읽는다.
+        state.flushLock.lock();
+        try {
+            flushLocked(List.of(state));
+            int affected = transactionTemplate.execute(status -> cartRepo.upsert(loginId, productId, quantity));
+            if (affected == 0) {
+                throw new IllegalArgumentException("상품을 찾을 수 없습니다. ID: " + productId);
+            }
+            reload(state);
+            return affected == 1;
+        } finally {
+            state.flushLock.unlock();
+        }
+    }
+
+    /**
+     * 수량 변경 (메모리만 변경, 다음 flush 때 반영)
+     *
+     * @throws IllegalArgumentException 이 회원의 장바구니 아이템이 아닌 경우
+     */
+    public int updateQuantity(String loginId, Long cartItemId, int quantity) {
+        CartState state = load(loginId);
+        synchronized (state) {
+            Line line = state.lines.get(cartItemId);
+            if (line == null) {
+                throw new IllegalArgumentException("장바구니 아이템을 찾을 수 없습니다.");
+            }
+            line.quantity = quantity;
+            state.markDirty(cartItemId);
+            return quantity;
+        }
+    }
+
+    /**
+     * 아이템 삭제 (메모리에서 제거, 다음 flush 때 DELETE)
+     */
+    public void remove(String loginId, Long cartItemId) {
+        CartState state = load(loginId);
+        synchronized (state) {
+            if (state.lines.remove(cartItemId) == null) {
+                throw new IllegalArgumentException("장바구니 아이템을 찾을 수 없습니다.");
+            }
+            state.dirty.remove(cartItemId);
+            state.deleted.add(cartItemId);
+            state.touchDirty();
+        }
+    }
+
+    /**
+     * 전체 비우기 (DB에서 바로 삭제, 밀린 변경분은 버림)
+     */
+    public void clear(String loginId, Long userId) {
+        CartState state = load(loginId);
+        state.flushLock.lock();
+        try {
+            transactionTemplate.executeWithoutResult(status -> cartRepo.bulkDeleteByUserId(userId));
+            synchronized (state) {
+                state.lines.clear();
+                state.dirty.clear();
+                state.deleted.clear();
+                state.dirtySince = 0;
+            }
+        } finally {
+            state.flushLock.unlock();
+        }
+    }
+
+    // ==================== 반영 (flush) ====================
+
+    /**
+     * 특정 회원 장바구니의 변경분을 즉시 DB에 반영
+     * 별도 트랜잭션으로 커밋되므로 트랜잭션 밖에서 호출해야 한다. (안에서 부르면 요청 하나가 커넥션 2개를 잡음)
+     */
+    public void flushUser(Long userId) {
+        CartState state = peekByUserId(userId);
+        if (state == null) {
+            return;
+        }
+        state.flushLock.lock();
+        try {
+            flushLocked(List.of(state));
+        } finally {
+            state.flushLock.unlock();
+        }
+    }
+
+    /**
+     * 장바구니 주문 - 변경분을 반영한 뒤 order(주문 트랜잭션)를 실행한다.
+     * 주문이 끝날 때까지 flushLock 을 잡고 있으므로 그 사이 새 상품 담기(DB 행 추가)와 주기 반영은 기다린다.
+     * 반영은 별도 트랜잭션이라 주문 트랜잭션 밖(컨트롤러)에서 호출해야 한다.
+     */
+    public <T> T checkout(Long userId, Supplier<T> order) {
+        CartState state = peekByUserId(userId);
+        if (state == null) {
+            return order.get();
+        }
+        state.flushLock.lock();
+        try {
+            flushLocked(List.of(state));
+            return order.get();
+        } finally {
+            state.flushLock.unlock();
+        }
+    }
+
+    /**
+     * 주문된 장바구니 아이템을 메모리에서 뺀다. 트랜잭션 안이면 커밋된 뒤에 뺀다. (롤백되면 그대로 유지)
+     * 주문하지 않은 아이템의 수량 변경/삭제는 그대로 남는다.
+     */
+    public void removeOrdered(Long userId, Collection<Long> cartItemIds) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    removeLines(userId, cartItemIds);
+                }
+            });
+        } else {
+            removeLines(userId, cartItemIds);
+        }
+    }
+
+    /**
+     * 장바구니가 DB에서 직접 변경된 경우(주문 후 비우기 등) 메모리 상태를 버린다.
+     * 트랜잭션 안이면 커밋된 뒤에 버린다. (롤백되면 그대로 유지)
+     */
+    public void invalidateUser(Long userId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    discard(userId);
+                }
+            });
+        } else {
+            discard(userId);
+        }
+    }
+
+    /**
+     * 변경된 장바구니를 모아 한 번에 반영 + 오래 안 쓴 장바구니 정리
+     */
+    @Scheduled(fixedDelayString = "${cart.engine.flush-interval-ms:1000}")
+    public void flushDirty() {
+        List<CartState> dirty = new ArrayList<>();
+        List<CartState> expired = new ArrayList<>();
+        long now = System.currentTimeMillis();
+        synchronized (carts) {
+            Iterator<Map.Entry<String, CartState>> it = carts.entrySet().iterator();
+            while (it.hasNext()) {
+                CartState state = it.next().getValue();
+                if (now - state.lastAccess > idleTtlMillis) {
+                    it.remove();
+                    evicting.put(state.loginId, state);
+                    expired.add(state);
+                } else if (state.isDirty()) {
+                    dirty.add(state);
+                }
+            }
+        }
+
+        // 사용자 요청이 반영 중인 장바구니는 이번 주기에서 건너뜀 (다음 주기에 반영)
+        List<CartState> locked = new ArrayList<>(dirty.size());
+        for (CartState state : dirty) {
+            if (state.flushLock.tryLock()) {
+                locked.add(state);
+            }
+        }
+        try {
+            flushLocked(locked);
+        } catch (Exception e) {
+            log.error("장바구니 변경분 반영 실패 - {}개 장바구니 (다음 주기에 재시도): {}", locked.size(), e.getMessage());
+        } finally {
+            locked.forEach(state -> state.flushLock.unlock());
+        }
+
+        expired.forEach(this::flushEvicted);
+    }
+
+    @PreDestroy
+    public void flushAllOnShutdown() {
+        List<CartState> all;
+        synchronized (carts) {
+            all = new ArrayList<>(carts.values());
+        }
+        all.addAll(evicting.values());
+        for (CartState state : all) {
+            state.flushLock.lock();
+        }
+        try {
+            flushLocked(all);
+            log.info("종료 전 장바구니 변경분 반영 완료 - {}개", all.size());
+        } catch (Exception e) {
+            log.error("종료 전 장바구니 변경분 반영 실패: {}", e.getMessage(), e);
+        } finally {
+            all.forEach(state -> state.flushLock.unlock());
+        }
+    }
+
+    /**
+     * 변경분을 한 트랜잭션 배치로 반영 (호출하는 쪽이 각 상태의 flushLock 을 잡고 있어야 함)
+     * 실패하면 변경분을 다시 표시하고 예외를 던진다.
+     */
+    private void flushLocked(List<CartState> states) {
+        List<Snapshot> snapshots = new ArrayList<>();
+        for (CartState state : states) {
+            Snapshot snapshot = state.takeSnapshot();
+            if (snapshot != null) {
+                snapshots.add(snapshot);
+            }
+        }
+        if (snapshots.isEmpty()) {
+            return;
+        }
+
+        long started = System.currentTimeMillis();
+        List<long[]> updates = new ArrayList<>();
+        List<Long> deletes = new ArrayList<>();
+        for (Snapshot snapshot : snapshots) {
+            snapshot.updates.forEach((id, quantity) -> updates.add(new long[]{id, quantity}));
+            deletes.addAll(snapshot.deletes);
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                batchWriter.updateQuantities(updates);
+                if (!deletes.isEmpty()) {
+                    cartRepo.bulkDeleteByIds(deletes);
+                }
+            });
+        } catch (RuntimeException e) {
+            flushFailures.incrementAndGet();
+            snapshots.forEach(Snapshot::restore);
+            throw e;
+        }
+
+        flushedUpdates.addAndGet(updates.size());
+        flushedDeletes.addAndGet(deletes.size());
+        lastFlushMillis.set(System.currentTimeMillis() - started);
+        lastFlushAt.set(System.currentTimeMillis());
+        log.debug("장바구니 변경분 반영 - 장바구니 {}개, 수량 {}건, 삭제 {}건",
+                snapshots.size(), updates.size(), deletes.size());
+    }
+
+    /* 내보낸 장바구니의 변경분 반영 (실패하면 다시 메모리로 되돌려 다음 주기에 재시도) */
+    private void flushEvicted(CartState state) {
+        state.flushLock.lock();
+        try {
+            flushLocked(List.of(state));
+            evicting.remove(state.loginId, state);
+            synchronized (carts) {
+                // 반영 중에 다시 사용되어 되살아난 경우는 매핑 유지
+                if (state.userId != null && carts.get(state.loginId) != state) {
+                    loginIdsByUserId.remove(state.userId, state.loginId);
+                }
+            }
+            evictions.incrementAndGet();
+        } catch (Exception e) {
+            log.error("장바구니 내보내기 반영 실패 - {} (메모리에 유지): {}", state.loginId, e.getMessage());
+            evicting.remove(state.loginId, state);
+            synchronized (carts) {
+                carts.putIfAbsent(state.loginId, state);
+            }
+        } finally {
+            state.flushLock.unlock();
+        }
+    }
+
+    // ==================== 상태 관리 ====================
+
+    /* 메모리에 있는 상태만 조회 (DB를 읽지 않음) */
+    private CartState peek(String loginId) {
+        synchronized (carts) {
+            CartState state = carts.get(loginId);
+            if (state != null) {
+                state.lastAccess = System.currentTimeMillis();
+                return state;
+            }
+        }
+        return evicting.get(loginId);
+    }
+
+    /* 상태 조회 (없으면 DB에서 읽어 등록, 보관 개수를 넘으면 LRU 내보내기) */
+    private CartState load(String loginId) {
+        CartState state = peek(loginId);
+        if (state != null) {
+            if (evicting.containsKey(loginId)) {
+                synchronized (carts) {
+                    carts.putIfAbsent(loginId, state);
+                }
+            }
+            return state;
+        }
+
+        CartState fresh = new CartState(loginId);
+        reload(fresh);
+
+        List<CartState> overflow = new ArrayList<>();
+        CartState registered;
+        synchronized (carts) {
+            registered = carts.putIfAbsent(loginId, fresh);
+            if (registered == null) {
+                registered = fresh;
+                Iterator<Map.Entry<String, CartState>> it = carts.entrySet().iterator();
+                while (carts.size() > maxCarts && it.hasNext()) {
+                    CartState eldest = it.next().getValue();
+                    it.remove();
+                    evicting.put(eldest.loginId, eldest);
+                    overflow.add(eldest);
+                }
+            }
+        }
+        overflow.forEach(this::flushEvicted);
+        return registered;
+    }
+
+    private void reload(CartState state) {
+        List<Object[]> rows = cartRepo.findLinesByLoginId(state.loginId);
+        synchronized (state) {
+            state.lines.clear();
+            for (Object[] row : rows) {
+                // [cartItemId, productId, quantity, userId]
+                state.lines.put((Long) row[0], new Line((Long) row[1], ((Number) row[2]).intValue()));
+                state.userId = (Long) row[3];
+            }
+            state.dirty.clear();
+            state.deleted.clear();
+            state.dirtySince = 0;
+        }
+        if (state.userId != null) {
+            loginIdsByUserId.put(state.userId, state.loginId);
+        }
+    }
+
+    private CartState peekByUserId(Long userId) {
+        String loginId = loginIdsByUserId.get(userId);
+        return loginId != null ? peek(loginId) : null;
+    }
+
+    private void removeLines(Long userId, Collection<Long> cartItemIds) {
+        CartState state = peekByUserId(userId);
+        if (state == null) {
+            return;
+        }
+        synchronized (state) {
+            cartItemIds.forEach(state.lines::remove);
+            state.dirty.removeAll(cartItemIds);
+            state.deleted.removeAll(cartItemIds);
+            if (state.dirty.isEmpty() && state.deleted.isEmpty()) {
+                state.dirtySince = 0;
+            }
+        }
+    }
+
+    private void discard(Long userId) {
+        String loginId = loginIdsByUserId.remove(userId);
+        if (loginId == null) {
+            return;
+        }
+        synchronized (carts) {
+            carts.remove(loginId);
+        }
+        evicting.remove(loginId);
+    }
+
+    // ==================== 지표 ====================
+
+    /**
+     * 엔진 상태 (관리자 모니터링용)
+     * flushLagMillis: 아직 DB에 반영되지 않은 가장 오래된 변경의 경과 시간
+     */
+    public Map<String, Object> getStats() {
+        int active;
+        int dirtyCarts = 0;
+        long oldestDirty = 0;
+        synchronized (carts) {
+            active = carts.size();
+            for (CartState state : carts.values()) {
+                long since = state.dirtySince;
+                if (since > 0) {
+                    dirtyCarts++;
+                    oldestDirty = oldestDirty == 0 ? since : Math.min(oldestDirty, since);
+                }
+            }
+        }
+
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("activeCarts", active);
+        stats.put("maxCarts", maxCarts);
+        stats.put("dirtyCarts", dirtyCarts);
+        stats.put("evictingCarts", evicting.size());
+        stats.put("flushLagMillis", oldestDirty == 0 ? 0 : System.currentTimeMillis() - oldestDirty);
+        stats.put("lastFlushMillis", lastFlushMillis.get());
+        stats.put("lastFlushAt", lastFlushAt.get());
+        stats.put("flushedUpdates", flushedUpdates.get());
+        stats.put("flushedDeletes", flushedDeletes.get());
+        stats.put("flushFailures", flushFailures.get());
+        stats.put("evictions", evictions.get());
+        return stats;
+    }
+
+    /**
+     * 지표 - 메모리 장바구니 수, DB 반영 지연, 반영/실패/축출 건수
+     */
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("cart.engine.carts", this, engine -> {
+                    synchronized (engine.carts) {
+                        return engine.carts.size();
+                    }
+                })
+                .register(registry);
+        Gauge.builder("cart.engine.flush.lag", this, CartEngine::flushLagMillis)
+                .baseUnit("milliseconds")
+                .register(registry);
+        Gauge.builder("cart.engine.flush.duration", lastFlushMillis, AtomicLong::get)
+                .baseUnit("milliseconds")
+                .register(registry);
+        FunctionCounter.builder("cart.engine.flushed", flushedUpdates, AtomicLong::get)
+                .tag("type", "update")
+                .register(registry);
+        FunctionCounter.builder("cart.engine.flushed", flushedDeletes, AtomicLong::get)
+                .tag("type", "delete")
+                .register(registry);
+        FunctionCounter.builder("cart.engine.flush.failures", flushFailures, AtomicLong::get)
+                .register(registry);
+        FunctionCounter.builder("cart.engine.evictions", evictions, AtomicLong::get)
+                .register(registry);
+    }
+
+    /** 아직 DB에 반영되지 않은 가장 오래된 변경의 경과 시간 */
+    private long flushLagMillis() {
+        long oldestDirty = 0;
+        synchronized (carts) {
+            for (CartState state : carts.values()) {
+                long since = state.dirtySince;
+                if (since > 0) {
+                    oldestDirty = oldestDirty == 0 ? since : Math.min(oldestDirty, since);
+                }
+            }
+        }
+        return oldestDirty == 0 ? 0 : System.currentTimeMillis() - oldestDirty;
+    }
+
+    // ==================== 내부 구조 ====================
+
+    private static final class Line {
+        private final Long productId;
+        private int quantity;
+
+        private Line(Long productId, int quantity) {
+            this.productId = productId;
+            this.quantity = quantity;
+        }
+    }
+
+    /* 회원 한 명의 장바구니 (변경은 synchronized(this), DB 반영은 flushLock) */
+    private static final class CartState {
+        private final String loginId;
+        private final ReentrantLock flushLock = new ReentrantLock();
+        private final Map<Long, Line> lines = new LinkedHashMap<>();
+        private final Set<Long> dirty = new HashSet<>();
+        private final Set<Long> deleted = new HashSet<>();
+        private volatile Long userId;
+        private volatile long lastAccess = System.currentTimeMillis();
+        private volatile long dirtySince;
+
+        private CartState(String loginId) {
+            this.loginId = loginId;
+        }
+
+        private boolean isDirty() {
+            return dirtySince > 0;
+        }
+
+        private void markDirty(Long cartItemId) {
+            dirty.add(cartItemId);
+            touchDirty();
+        }
+
+        private void touchDirty() {
+            if (dirtySince == 0) {
+                dirtySince = System.currentTimeMillis();
+            }
+        }
+
+        private synchronized Snapshot takeSnapshot() {
+            if (dirty.isEmpty() && deleted.isEmpty()) {
+                dirtySince = 0;
+                return null;
+            }
+            Map<Long, Integer> updates = new LinkedHashMap<>();
+            for (Long id : dirty) {
+                Line line = lines.get(id);
+                if (line != null) {
+                    updates.put(id, line.quantity);
+                }
+            }
+            Snapshot snapshot = new Snapshot(this, updates, new ArrayList<>(deleted), dirtySince);
+            dirty.clear();
+            deleted.clear();
+            dirtySince = 0;
+            return snapshot;
+        }
+    }
+
+    /* 반영 중인 변경분 (실패 시 되돌리기용) */
+    private record Snapshot(CartState state, Map<Long, Integer> updates, List<Long> deletes, long dirtySince) {
+
+        void restore() {
+            synchronized (state) {
+                for (Long id : updates.keySet()) {
+                    if (state.lines.containsKey(id)) {
+                        state.dirty.add(id);
+                    }
+                }
+                state.deleted.addAll(deletes);
+                state.dirtySince = state.dirtySince == 0 ? dirtySince : Math.min(state.dirtySince, dirtySince);
+            }
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.onandhome.cart;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * 장바구니 수량 일괄 UPDATE (CartEngine 의 write-behind 반영용)
+ *
+ * 변경된 아이템마다 엔티티를 조회해 변경 감지로 저장하면 SELECT + UPDATE 가 한 건씩 나간다.
+ * 수량만 바꾸면 되므로 JDBC 배치 한 번으로 보낸다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class CartItemBatchWriter {
+
+    private static final String UPDATE_QUANTITY = "UPDATE cart_item SET quantity = ? WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * @param updates [cartItemId, quantity] 목록
+     */
+    public void updateQuantities(List<long[]> updates) {
+        if (updates.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(UPDATE_QUANTITY, updates, updates.size(), (ps, row) -> {
+            ps.setInt(1, (int) row[1]);
+            ps.setLong(2, row[0]);
+        });
+    }
+}
@@ -1,11 +1,19 @@
 package com.onandhome.cart;
 
+import com.onandhome.cart.dto.CartItemDTO;
 import com.onandhome.cart.entity.CartItem;
 import com.onandhome.admin.adminProduct.entity.Product;
 import com.onandhome.user.entity.User;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -30,7 +38,6 @@ import java.util.Optional;
  * | findByUserAndProduct(...) | SELECT c FROM CartItem c WHERE c.user = :user         |
  * |                           |   AND c.product = :product                            |
  * | deleteByUser(user)        | DELETE FROM CartItem c WHERE c.user = :user           |
- * | deleteByProduct(product)  | DELETE FROM CartItem c WHERE c.product = :product     |
  * | findByProduct(product)    | SELECT c FROM CartItem c WHERE c.product = :product   |
  *
  * ========================================
@@ -39,8 +46,12 @@ import java.util.Optional;
  * - findByUser() → getCartItems(): 사용자의 장바구니 목록 조회
  * - findByUserAndProduct() → addToCart(): 중복 상품 확인
  * - deleteByUser() → clearCart(): 장바구니 전체 비우기
- * - deleteByProduct() → (관리자) 상품 삭제 시 장바구니에서도 제거
+ * - bulkDeleteByProductIds() → (관리자) 상품 삭제 시 장바구니에서도 제거 (IN 절 DELETE 1회)
  * - findByProduct() → (관리자) 특정 상품이 담긴 장바구니 조회
+ * - findViewsByLoginId() / countByLoginId() → 장바구니 화면/배지 (쿼리 1회)
+ * - upsert() → addToCart(): 담기 (쿼리 1회, 같은 상품이면 수량 합산)
+ * - findWithProductByUserId() → 장바구니 주문 (상품 함께 로딩)
+ * - findLinesByLoginId() / bulkDeleteByIds() → CartEngine: 메모리 장바구니 로딩 / 삭제 반영
  */
 @Repository
 public interface CartItemRepository extends JpaRepository<CartItem, Long> {
@@ -92,31 +103,130 @@ public interface CartItemRepository extends JpaRepository<CartItem, Long> {
     Optional<CartItem> findByUserAndProduct(User user, Product product);
 
     /**
-     * 특정 상품이 담긴 모든 장바구니 아이템 삭제
+     * 특정 상품이 담긴 모든 장바구니 아이템 조회
      *
-     * @param product 삭제할 상품 엔티티
+     * @param product 조회할 상품 엔티티
+     * @return 해당 상품이 담긴 CartItem 리스트
      *
      * 사용 예시:
-     * - 관리자가 상품을 삭제할 때
-     * - 해당 상품이 담긴 모든 사용자의 장바구니에서 제거
+     * - 특정 상품의 장바구니 담김 현황 조회
+     * - 상품 삭제 전 영향 받는 사용자 파악
      *
-     * 주의: @Transactional 필수 (벌크 삭제 연산)
+     * 생성 쿼리: SELECT * FROM cart_item WHERE product_id = ?
+     */
+    List<CartItem> findByProduct(Product product);
+
+    /**
+     * 여러 사용자의 장바구니 일괄 삭제
      *
-     * 생성 쿼리: DELETE FROM cart_item WHERE product_id = ?
+     * 사용 예시:
+     * - UserDeactivationService: 회원 일괄 탈퇴 시 청크 단위 정리
+     *
+     * 생성 쿼리: DELETE FROM cart_item WHERE user_id IN (?, ?, ...)
      */
-    void deleteByProduct(Product product);
+    @Modifying
+    @Query("DELETE FROM CartItem c WHERE c.user.id IN :userIds")
+    int bulkDeleteByUserIds(@Param("userIds") Collection<Long> userIds);
 
     /**
-     * 특정 상품이 담긴 모든 장바구니 아이템 조회
+     * 장바구니 화면 조회 (로그인 아이디 기준)
      *
-     * @param product 조회할 상품 엔티티
-     * @return 해당 상품이 담긴 CartItem 리스트
+     * 사용 예시:
+     * - CartService.getCartView(): 장바구니 페이지 / 사이드 패널
+     *
+     * 회원 → 장바구니 → 상품을 한 번에 조인하여 화면에 필요한 컬럼만 가져온다.
+     * (회원 조회 + 장바구니 조회 + 상품 지연 로딩 없이 쿼리 1회)
+     */
+    @Query("SELECT new com.onandhome.cart.dto.CartItemDTO(" +
+            "c.id, c.quantity, p.id, p.name, p.price, p.salePrice, p.stock, p.category, " +
+            "p.thumbnailImage, p.thumbnailThumb) " +
+            "FROM CartItem c JOIN c.product p JOIN c.user u " +
+            "WHERE u.userId = :loginId ORDER BY c.id DESC")
+    List<CartItemDTO> findViewsByLoginId(@Param("loginId") String loginId);
+
+    /**
+     * 장바구니 아이템 개수 (헤더 배지용, 로그인 아이디 기준)
+     *
+     * 생성 쿼리: SELECT COUNT(*) FROM cart_item c JOIN user u ON ... WHERE u.user_id = ?
+     */
+    @Query("SELECT COUNT(c) FROM CartItem c WHERE c.user.userId = :loginId")
+    long countByLoginId(@Param("loginId") String loginId);
+
+    /**
+     * 장바구니 담기 (있으면 수량 합산, 없으면 추가)
+     *
+     * (user_id, product_id) 유니크 키로 동시에 같은 상품을 담아도 행이 하나만 생긴다.
+     * 회원/상품이 없거나 삭제(보관)된 상품이면 SELECT 결과가 없어 아무 것도 저장되지 않는다.
+     *
+     * @return 영향받은 행 수 (1: 새로 추가, 2: 수량 합산, 0: 회원 또는 상품 없음)
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "cart_item"))
+    @Modifying
+    @Query(value = "INSERT INTO cart_item (user_id, product_id, quantity) " +
+            "SELECT u.id, p.id, :quantity FROM user u JOIN product p ON p.id = :productId AND p.deleted_at IS NULL " +
+            "WHERE u.user_id = :loginId " +
+            "ON DUPLICATE KEY UPDATE quantity = quantity + VALUES(quantity)",
+            nativeQuery = true)
+    int upsert(@Param("loginId") String loginId,
+               @Param("productId") Long productId,
+               @Param("quantity") int quantity);
+
+    /**
+     * 장바구니 주문용 조회 (상품 함께 로딩)
      *
      * 사용 예시:
-     * - 특정 상품의 장바구니 담김 현황 조회
-     * - 상품 삭제 전 영향 받는 사용자 파악
+     * - OrderService.createOrderFromCart(): 아이템마다 상품을 따로 조회하지 않도록 fetch join
+     */
+    @Query("SELECT c FROM CartItem c JOIN FETCH c.product WHERE c.user.id = :userId ORDER BY c.id")
+    List<CartItem> findWithProductByUserId(@Param("userId") Long userId);
+
+    /**
+     * 특정 사용자의 장바구니 일괄 삭제 (엔티티를 로딩하지 않는 단일 DELETE)
      *
-     * 생성 쿼리: SELECT * FROM cart_item WHERE product_id = ?
+     * 사용 예시:
+     * - CartService.clearCart()
      */
-    List<CartItem> findByProduct(Product product);
+    @Modifying
+    @Query("DELETE FROM CartItem c WHERE c.user.id = :userId")
+    int bulkDeleteByUserId(@Param("userId") Long userId);
+
+    /**
+     * 장바구니 엔진 로딩용 (아이템 PK, 상품 PK, 수량, 회원 PK만 조회)
+     *
+     * 사용 예시:
+     * - CartEngine: 메모리에 없는 장바구니를 처음 사용할 때
+     */
+    @Query("SELECT c.id, c.product.id, c.quantity, c.user.id FROM CartItem c " +
+            "WHERE c.user.userId = :loginId ORDER BY c.id DESC")
+    List<Object[]> findLinesByLoginId(@Param("loginId") String loginId);
+
+    /**
+     * 장바구니 아이템 일괄 삭제 (PK 목록)
+     *
+     * 사용 예시:
+     * - CartEngine: 메모리에서 삭제한 아이템을 모아서 반영
+     * - OrderService.createOrderFromCart(): 주문한 아이템만 삭제
+     */
+    @Modifying
+    @Query("DELETE FROM CartItem c WHERE c.id IN :ids")
+    int bulkDeleteByIds(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 해당 상품들을 장바구니에 담은 회원 PK 목록
+     *
+     * 사용 예시:
+     * - 상품 일괄 삭제 후 CartEngine 메모리 장바구니 무효화
+     */
+    @Query("SELECT DISTINCT c.user.id FROM CartItem c WHERE c.product.id IN :productIds")
+    List<Long> findUserIdsByProductIds(@Param("productIds") Collection<Long> productIds);
+
+    /**
+     * 여러 상품이 담긴 장바구니 아이템 일괄 삭제
+     *
+     * 사용 예시:
+     * - 관리자 상품 일괄 삭제 (청크 단위)
+     */
+    @Modifying
+    @Query("DELETE FROM CartItem c WHERE c.product.id IN :productIds")
+    int bulkDeleteByProductIds(@Param("productIds") Collection<Long> productIds);
 }
@@ -4,7 +4,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
-import com.onandhome.cart.entity.CartItem;
+import com.onandhome.cart.dto.CartItemDTO;
 import com.onandhome.user.UserRepository;
 import com.onandhome.user.entity.User;
 import com.onandhome.util.JWTUtil;
@@ -100,7 +100,7 @@ public class CartRestController {
      * ========================================
      * 1. JWT 토큰 검증 및 사용자 추출
      * 2. 입력값 검증 (productId, quantity)
-     * 3. CartService.addToCart() 호출
+     * 3. CartService.addToCart() 호출 (upsert 쿼리 1회)
      *    - 기존 상품이면 수량 증가
      *    - 새 상품이면 CartItem 생성
      * 4. 결과 반환
@@ -112,10 +112,9 @@ public class CartRestController {
      *   "success": true,
      *   "message": "장바구니에 상품이 추가되었습니다.",
      *   "data": {
-     *     "id": 1,
-     *     "user": {...},
-     *     "product": {...},
-     *     "quantity": 2
+     *     "productId": 1,
+     *     "quantity": 2,
+     *     "created": true     // false: 이미 담긴 상품의 수량 증가
      *   }
      * }
      *
@@ -146,16 +145,10 @@ public class CartRestController {
             Map<String, Object> claims = jwtUtil.validateToken(token);
             String userId = (String) claims.get("userId");
             
-            log.info("[addToCart] JWT 검증 성공 - 사용자: {}", userId);
-            
-            // 2. 사용자 조회
-            User user = userRepository.findByUserId(userId)
-                    .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
-
-            log.info("[addToCart] 장바구니 담기 요청 - 사용자 ID: {}, 상품 ID: {}, 수량: {}", 
-                    user.getId(), request.getProductId(), request.getQuantity());
+            log.info("[addToCart] 장바구니 담기 요청 - 사용자: {}, 상품 ID: {}, 수량: {}",
+                    userId, request.getProductId(), request.getQuantity());
 
-            // 3. 입력값 검증
+            // 2. 입력값 검증
             if (request.getProductId() == null || request.getProductId() <= 0) {
                 response.put("success", false);
                 response.put("message", "올바른 상품 ID를 입력하세요.");
@@ -168,18 +161,17 @@ public class CartRestController {
                 return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
             }
 
-            // 4. 장바구니 담기 실행
-            CartItem cartItem = cartService.addToCart(
-                    user.getId(), 
-                    request.getProductId(),
-                    request.getQuantity()
-            );
+            // 3. 장바구니 담기 실행 (회원/상품 확인 + 추가/수량 합산을 쿼리 1회로 처리)
+            boolean created = cartService.addToCart(userId, request.getProductId(), request.getQuantity());
 
-            // 5. 성공 응답
+            // 4. 성공 응답
+            Map<String, Object> data = new HashMap<>();
+            data.put("productId", request.getProductId());
+            data.put("quantity", request.getQuantity());
+            data.put("created", created);
             response.put("success", true);
             response.put("message", "장바구니에 상품이 추가되었습니다.");
-            response.put("data", cartItem);
-            log.info("[addToCart] 장바구니 담기 성공 - 장바구니 ID: {}", cartItem.getId());
+            response.put("data", data);
             return ResponseEntity.ok(response);
 
         } catch (IllegalArgumentException e) {
@@ -209,8 +201,8 @@ public class CartRestController {
      * 📌 처리 흐름
      * ========================================
      * 1. JWT 토큰 검증 및 사용자 추출
-     * 2. CartService.getCartItems() 호출
-     * 3. CartItem 리스트 반환 (Product 정보 포함)
+     * 2. CartService.getCartView() 호출 (쿼리 1회)
+     * 3. CartItemDTO 리스트 반환 (Product 가격/재고/썸네일 포함)
      *
      * ========================================
      * 📌 응답 예시 (성공)
@@ -254,17 +246,11 @@ public class CartRestController {
             String token = authHeader.substring(7);
             Map<String, Object> claims = jwtUtil.validateToken(token);
             String userId = (String) claims.get("userId");
-            
-            // 2. 사용자 조회
-            User user = userRepository.findByUserId(userId)
-                    .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
-
-            log.info("장바구니 조회 요청 - 사용자 ID: {}", user.getId());
 
-            // 3. 장바구니 목록 조회
-            List<CartItem> cartItems = cartService.getCartItems(user.getId());
+            // 2. 장바구니 목록 조회 (회원/상품 조인 쿼리 1회)
+            List<CartItemDTO> cartItems = cartService.getCartView(userId);
 
-            // 4. 성공 응답
+            // 3. 성공 응답
             response.put("success", true);
             response.put("data", cartItems);
             response.put("count", cartItems.size());
@@ -324,18 +310,11 @@ public class CartRestController {
             String token = authHeader.substring(7);
             Map<String, Object> claims = jwtUtil.validateToken(token);
             String userId = (String) claims.get("userId");
-            
-            // 3. 사용자 조회
-            User user = userRepository.findByUserId(userId)
-                    .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
-
-            // log.info("장바구니 개수 조회 요청 - 사용자 ID: {}", user.getId());
 
-            // 4. 장바구니 개수 조회
-            List<CartItem> cartItems = cartService.getCartItems(user.getId());
-            int count = cartItems.size();
+            // 3. 장바구니 개수 조회 (COUNT 쿼리 1회, 아이템을 로딩하지 않음)
+            long count = cartService.countItems(userId);
 
-            // 5. 성공 응답
+            // 4. 성공 응답
             response.put("success", true);
             response.put("count", count);
             // log.info("장바구니 개수 조회 성공 - 아이템 개수: {}", count);
@@ -371,10 +350,10 @@ public class CartRestController {
      * ========================================
      * 📌 처리 흐름
      * ========================================
-     * 1. JWT 토큰 검증 및 사용자 확인
+     * 1. JWT 토큰 검증
      * 2. 수량 유효성 검증 (1 이상)
-     * 3. CartService.updateQuantity() 호출
-     * 4. 업데이트된 CartItem 반환
+     * 3. CartService.updateQuantity() 호출 (본인 장바구니 아이템이 아니면 404)
+     * 4. 변경된 수량 반환
      *
      * ========================================
      * 📌 프론트엔드 호출
@@ -399,30 +378,33 @@ public class CartRestController {
             String token = authHeader.substring(7);
             Map<String, Object> claims = jwtUtil.validateToken(token);
             String userId = (String) claims.get("userId");
-            
-            // 2. 사용자 조회
-            User user = userRepository.findByUserId(userId)
-                    .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
 
-            // 3. 수량 유효성 검증
+            // 2. 수량 유효성 검증
             if (request.getQuantity() <= 0) {
                 response.put("success", false);
                 response.put("message", "수량은 1 이상이어야 합니다.");
                 return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
             }
 
-            log.info("장바구니 수량 수정 요청 - 사용자 ID: {}, 아이템 ID: {}, 새 수량: {}", 
-                    user.getId(), cartItemId, request.getQuantity());
+            log.info("장바구니 수량 수정 요청 - 사용자: {}, 아이템 ID: {}, 새 수량: {}",
+                    userId, cartItemId, request.getQuantity());
 
-            // 4. 수량 업데이트
-            CartItem updatedItem = cartService.updateQuantity(cartItemId, request.getQuantity());
+            // 3. 수량 업데이트 (본인 장바구니 아이템만, DB 반영은 CartEngine 이 모아서 처리)
+            int quantity = cartService.updateQuantity(userId, cartItemId, request.getQuantity());
 
-            // 5. 성공 응답
+            // 4. 성공 응답
+            Map<String, Object> data = new HashMap<>();
+            data.put("id", cartItemId);
+            data.put("quantity", quantity);
             response.put("success", true);
             response.put("message", "장바구니 아이템 수량이 수정되었습니다.");
-            response.put("data", updatedItem);
+            response.put("data", data);
             return ResponseEntity.ok(response);
 
+        } catch (IllegalArgumentException e) {
+            response.put("success", false);
+            response.put("message", e.getMessage());
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(response);
         } catch (Exception e) {
             log.error("장바구니 수량 수정 중 오류: {}", e.getMessage(), e);
             response.put("success", false);
@@ -444,8 +426,8 @@ public class CartRestController {
      * ========================================
      * 📌 처리 흐름
      * ========================================
-     * 1. JWT 토큰 검증 및 사용자 확인
-     * 2. CartService.removeItem() 호출
+     * 1. JWT 토큰 검증
+     * 2. CartService.removeItem() 호출 (본인 장바구니 아이템이 아니면 404)
      * 3. 성공 응답 반환
      *
      * ========================================
@@ -470,22 +452,21 @@ public class CartRestController {
             String token = authHeader.substring(7);
             Map<String, Object> claims = jwtUtil.validateToken(token);
             String userId = (String) claims.get("userId");
-            
-            // 2. 사용자 조회
-            User user = userRepository.findByUserId(userId)
-                    .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
 
-            log.info("장바구니 아이템 삭제 요청 - 사용자 ID: {}, 아이템 ID: {}", 
-                    user.getId(), cartItemId);
+            log.info("장바구니 아이템 삭제 요청 - 사용자: {}, 아이템 ID: {}", userId, cartItemId);
 
-            // 3. 아이템 삭제
-            cartService.removeItem(cartItemId);
+            // 2. 아이템 삭제 (본인 장바구니 아이템만)
+            cartService.removeItem(userId, cartItemId);
 
-            // 4. 성공 응답
+            // 3. 성공 응답
             response.put("success", true);
             response.put("message", "장바구니에서 상품이 제거되었습니다.");
             return ResponseEntity.ok(response);
 
+        } catch (IllegalArgumentException e) {
+            response.put("success", false);
+            response.put("message", e.getMessage());
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(response);
         } catch (Exception e) {
             log.error("장바구니 아이템 삭제 중 오류: {}", e.getMessage(), e);
             response.put("success", false);
@@ -545,7 +526,7 @@ public class CartRestController {
             log.info("장바구니 전체 비우기 요청 - 사용자 ID: {}", user.getId());
 
             // 3. 장바구니 전체 삭제
-            cartService.clearCart(user.getId());
+            cartService.clearCart(userId, user.getId());
 
             // 4. 성공 응답
             response.put("success", true);
@@ -782,19 +763,16 @@ public class CartRestController {
  *    ↓
  * 5. [CartRestController] addToCart() 메서드 실행
  *    - JWT 토큰 검증 → userId 추출
- *    - User 엔티티 조회
  *    - 입력값 검증
  *    ↓
  * 6. [CartService] addToCart(userId, productId, qty) 호출
- *    - User, Product 엔티티 조회
- *    - 기존 CartItem 확인 (findByUserAndProduct)
- *    - 있으면 수량 증가, 없으면 새로 생성
  *    ↓
- * 7. [CartItemRepository] save(cartItem)
+ * 7. [CartItemRepository] upsert(userId, productId, qty)
  *    ↓
- * 8. [Database] INSERT/UPDATE cart_item 테이블
+ * 8. [Database] INSERT ... SELECT ... ON DUPLICATE KEY UPDATE (쿼리 1회)
+ *    - 처음 담는 상품이면 추가, 이미 담긴 상품이면 수량 합산
  *    ↓
- * 9. [Response] { success: true, message: "...", data: CartItem }
+ * 9. [Response] { success: true, message: "...", data: { productId, quantity, created } }
  *    ↓
  * 10. [Frontend] 장바구니 UI 업데이트, 배지 개수 갱신
  *
@@ -1,17 +1,11 @@
 package com.onandhome.cart;
 
 import java.util.List;
-import java.util.Optional;
 
-import com.onandhome.cart.entity.CartItem;
-import com.onandhome.admin.adminProduct.entity.Product;
-import com.onandhome.admin.adminProduct.ProductRepository;
-import com.onandhome.user.UserRepository;
-import com.onandhome.user.entity.User;
+import com.onandhome.cart.dto.CartItemDTO;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 /**
  * 장바구니 서비스
@@ -27,68 +21,64 @@ import org.springframework.transaction.annotation.Transactional;
  * ========================================
  * | 메서드명         | 기능                | 트랜잭션 |
  * |-----------------|--------------------|---------:|
- * | getCartItems()  | 장바구니 목록 조회   | X (읽기) |
- * | addToCart()     | 장바구니 담기        | O        |
- * | updateQuantity()| 수량 변경           | O        |
- * | removeItem()    | 아이템 삭제         | O        |
- * | clearCart()     | 전체 비우기         | O        |
+ * | getCartView()   | 장바구니 화면 조회   | 읽기 전용 |
+ * | countItems()    | 장바구니 개수 조회   | 읽기 전용 |
+ * | addToCart()     | 장바구니 담기(upsert)| 즉시 반영 |
+ * | updateQuantity()| 수량 변경           | 지연 반영 |
+ * | removeItem()    | 아이템 삭제         | 지연 반영 |
+ * | clearCart()     | 전체 비우기         | 즉시 반영 |
  *
  * ========================================
  * 📌 의존성
  * ========================================
- * - CartItemRepository: 장바구니 아이템 데이터 액세스
- * - ProductRepository: 상품 정보 조회
- * - UserRepository: 사용자 정보 조회
+ * - CartEngine: 메모리 장바구니 + DB 지연 반영(write-behind)
  *
  * ========================================
  * 📌 트랜잭션 관리
  * ========================================
- * - @Transactional: 데이터 변경 작업에 적용
- * - 예외 발생 시 자동 롤백
- * - 여러 DB 작업의 원자성(Atomicity) 보장
+ * - 수량 변경/삭제는 메모리에서 처리하고 CartEngine 이 주기적으로 모아서 DB에 반영
+ *   (cart.engine.flush-interval-ms, 기본 1초)
+ * - 주문 시에는 OrderController 가 CartEngine.checkout() 으로 주문 트랜잭션 밖에서 먼저 반영한 뒤 주문을 실행
  */
 @RequiredArgsConstructor
 @Service
 @Slf4j
 public class CartService {
 
-    /** 장바구니 아이템 데이터 액세스 리포지토리 */
-    private final CartItemRepository cartRepo;
-
-    /** 상품 정보 조회 리포지토리 */
-    private final ProductRepository productRepo;
-
-    /** 사용자 정보 조회 리포지토리 */
-    private final UserRepository userRepo;
+    /** 메모리 장바구니 엔진 */
+    private final CartEngine cartEngine;
 
 
     /**
-     * 사용자의 장바구니 목록 조회
+     * 사용자의 장바구니 화면 조회
      *
      * ========================================
      * 📌 처리 흐름
      * ========================================
-     * 1. userId로 User 엔티티 조회
-     * 2. User가 없으면 빈 리스트 반환
-     * 3. CartItemRepository.findByUser()로 장바구니 조회
+     * 1. 로그인 아이디(JWT의 userId)로 회원 → 장바구니 → 상품을 조인하여 한 번에 조회
+     *    (회원을 먼저 조회하지 않음, 상품 지연 로딩 없음 → 쿼리 1회)
+     * 2. 아직 DB에 반영되지 않은 수량 변경/삭제를 덮어씀
      *
      * ========================================
      * 📌 반환 데이터
      * ========================================
-     * - CartItem 리스트 (EAGER 로딩으로 Product 정보 포함)
-     * - 빈 장바구니면 빈 리스트 반환 (null 아님)
+     * - CartItemDTO 리스트 (상품 가격/재고/썸네일 포함, 최근 담은 순)
+     * - 빈 장바구니 또는 없는 회원이면 빈 리스트 반환 (null 아님)
      *
-     * @param userId 사용자 PK (user.id)
+     * @param loginId 로그인 아이디 (user.user_id)
      * @return 장바구니 아이템 리스트
      */
-    public List<CartItem> getCartItems(Long userId) {
-        // 사용자 조회 (없으면 빈 리스트 반환)
-        User user = userRepo.findById(userId).orElse(null);
-        if (user == null)
-            return List.of();
+    public List<CartItemDTO> getCartView(String loginId) {
+        return cartEngine.view(loginId);
+    }
 
-        // 사용자의 장바구니 전체 조회
-        return cartRepo.findByUser(user);
+    /**
+     * 장바구니 아이템 개수 (헤더 배지용, 메모리에 없으면 COUNT 쿼리 1회)
+     *
+     * @param loginId 로그인 아이디 (user.user_id)
+     */
+    public long countItems(String loginId) {
+        return cartEngine.count(loginId);
     }
 
     /**
@@ -97,12 +87,10 @@ public class CartService {
      * ========================================
      * 📌 처리 흐름
      * ========================================
-     * 1. userId로 User 엔티티 조회 (없으면 예외)
-     * 2. productId로 Product 엔티티 조회 (없으면 예외)
-     * 3. 기존에 같은 상품이 장바구니에 있는지 확인
-     *    - 있으면: 기존 수량 + 요청 수량
-     *    - 없으면: 새 CartItem 생성
-     * 4. 저장 후 CartItem 반환
+     * 1. 메모리 장바구니에 이미 담긴 상품이면 수량만 증가 (다음 flush 때 반영)
+     * 2. 처음 담는 상품이면 INSERT ... SELECT ... ON DUPLICATE KEY UPDATE 로 바로 추가
+     *    - (user_id, product_id) 유니크 키 충돌 시 → 기존 수량 + 요청 수량
+     * 3. 영향받은 행이 없으면 회원 또는 상품이 없는 것 → 예외
      *
      * ========================================
      * 📌 수량 처리
@@ -110,50 +98,18 @@ public class CartService {
      * - Math.max(qty, 1): 최소 수량 1 보장
      * - 음수나 0이 입력되어도 1로 처리됨
      *
-     * ========================================
-     * 📌 중복 상품 처리
-     * ========================================
-     * - 이미 장바구니에 있는 상품 → 수량만 증가
-     * - 새 CartItem을 생성하지 않음 (중복 방지)
-     *
-     * @param userId 사용자 PK
+     * @param loginId 로그인 아이디 (user.user_id)
      * @param productId 상품 PK
      * @param qty 담을 수량
-     * @return 저장된 CartItem
+     * @return true: 새로 추가됨, false: 기존 아이템 수량 증가
      * @throws IllegalArgumentException 사용자 또는 상품이 없는 경우
      */
-    @Transactional
-    public CartItem addToCart(Long userId, Long productId, int qty) {
-        log.info("장바구니 담기 시작 - userId: {}, productId: {}, qty: {}", userId, productId, qty);
-
-        // 1. 사용자 조회 (필수)
-        User user = userRepo.findById(userId).orElseThrow(() -> 
-            new IllegalArgumentException("사용자를 찾을 수 없습니다."));
-
-        // 2. 상품 조회 (필수)
-        Product p = productRepo.findById(productId).orElseThrow(() -> 
-            new IllegalArgumentException("상품을 찾을 수 없습니다. ID: " + productId));
-        
-        log.info("사용자 조회 성공: {}, 상품 조회 성공: {}", user.getId(), p.getId());
-
-        // 3. 이미 장바구니에 있는 상품인지 확인
-        Optional<CartItem> existing = cartRepo.findByUserAndProduct(user, p);
-        if (existing.isPresent()) {
-            // 3-1. 기존 아이템이 있으면 수량 증가
-            CartItem item = existing.get();
-            int newQty = item.getQuantity() + Math.max(qty, 1);
-            item.setQuantity(newQty);
-            log.info("기존 장바구니 아이템 수량 증가: {}", newQty);
-            return cartRepo.save(item);
-        }
-
-        // 3-2. 새로운 아이템 추가
-        CartItem item = new CartItem();
-        item.setUser(user);
-        item.setProduct(p);
-        item.setQuantity(Math.max(qty, 1));  // 최소 수량 1 보장
-        log.info("새로운 장바구니 아이템 생성 - quantity: {}", item.getQuantity());
-        return cartRepo.save(item);
+    public boolean addToCart(String loginId, Long productId, int qty) {
+        int quantity = Math.max(qty, 1);
+        boolean created = cartEngine.add(loginId, productId, quantity);
+        log.info("장바구니 담기 - loginId: {}, productId: {}, qty: {}, {}",
+                loginId, productId, quantity, created ? "새로 추가" : "수량 합산");
+        return created;
     }
 
     /**
@@ -162,9 +118,9 @@ public class CartService {
      * ========================================
      * 📌 처리 흐름
      * ========================================
-     * 1. cartItemId로 CartItem 조회 (없으면 예외)
-     * 2. 수량 업데이트 (최소 1 보장)
-     * 3. 저장 후 반환
+     * 1. 로그인 회원의 장바구니에서 cartItemId 확인 (없거나 남의 아이템이면 예외)
+     * 2. 메모리 수량 업데이트 (최소 1 보장, 다음 flush 때 DB 반영)
+     * 3. 변경된 수량 반환
      *
      * ========================================
      * 📌 프론트엔드 연동
@@ -172,18 +128,13 @@ public class CartService {
      * - Cart.js: +/- 버튼으로 수량 조절
      * - CartSidePanel.js: 사이드 패널에서 수량 변경
      *
+     * @param loginId 로그인 아이디 (user.user_id)
      * @param cartItemId 장바구니 아이템 PK
      * @param quantity 변경할 수량
-     * @return 업데이트된 CartItem
+     * @return 변경된 수량
      */
-    @Transactional
-    public CartItem updateQuantity(Long cartItemId, int quantity) {
-        // 장바구니 아이템 조회
-        CartItem item = cartRepo.findById(cartItemId).orElseThrow();
-
-        // 수량 업데이트 (최소 1 보장)
-        item.setQuantity(Math.max(quantity, 1));
-        return cartRepo.save(item);
+    public int updateQuantity(String loginId, Long cartItemId, int quantity) {
+        return cartEngine.updateQuantity(loginId, cartItemId, Math.max(quantity, 1));
     }
 
     /**
@@ -192,7 +143,7 @@ public class CartService {
      * ========================================
      * 📌 처리 흐름
      * ========================================
-     * 1. cartItemId로 해당 아이템 삭제
+     * 1. 로그인 회원의 장바구니에서 해당 아이템 제거 (다음 flush 때 DELETE)
      *
      * ========================================
      * 📌 사용 시나리오
@@ -200,11 +151,11 @@ public class CartService {
      * - 장바구니에서 개별 상품 삭제
      * - "X" 버튼 클릭 시 호출
      *
+     * @param loginId 로그인 아이디 (user.user_id)
      * @param cartItemId 삭제할 장바구니 아이템 PK
      */
-    @Transactional
-    public void removeItem(Long cartItemId) {
-        cartRepo.deleteById(cartItemId);
+    public void removeItem(String loginId, Long cartItemId) {
+        cartEngine.remove(loginId, cartItemId);
     }
 
     /**
@@ -213,8 +164,8 @@ public class CartService {
      * ========================================
      * 📌 처리 흐름
      * ========================================
-     * 1. userId로 User 엔티티 조회 (없으면 예외)
-     * 2. 해당 사용자의 모든 CartItem 삭제
+     * 1. 해당 사용자의 모든 CartItem 삭제 (엔티티를 로딩하지 않는 단일 DELETE, 즉시 반영)
+     * 2. 메모리 장바구니도 비움 (밀린 변경분은 버림)
      *
      * ========================================
      * 📌 사용 시나리오
@@ -222,14 +173,10 @@ public class CartService {
      * - "장바구니 비우기" 버튼 클릭
      * - 주문 완료 후 장바구니 정리
      *
+     * @param loginId 로그인 아이디 (user.user_id)
      * @param userId 사용자 PK
      */
-    @Transactional
-    public void clearCart(Long userId) {
-        // 사용자 조회 (필수)
-        User user = userRepo.findById(userId).orElseThrow();
-
-        // 사용자의 모든 장바구니 아이템 삭제
-        cartRepo.deleteByUser(user);
+    public void clearCart(String loginId, Long userId) {
+        cartEngine.clear(loginId, userId);
     }
 }
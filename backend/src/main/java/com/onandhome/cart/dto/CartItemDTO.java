@@ -0,0 +1,65 @@
+package com.onandhome.cart.dto;
+
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * 장바구니 화면용 DTO
+ * 장바구니 아이템과 상품 가격/재고/썸네일을 JPQL 생성자 표현식으로 한 번에 조회한다.
+ * 응답 형태는 기존 엔티티 응답과 같게 유지한다. ({ id, quantity, product: { ... } })
+ */
+@Getter
+@ToString
+public class CartItemDTO {
+
+    private final Long id;
+    private final int quantity;
+    private final ProductSummary product;
+
+    public CartItemDTO(Long id, int quantity, Long productId, String name, int price, Integer salePrice,
+                       int stock, String category, String thumbnailImage, String thumbnailThumb) {
+        this.id = id;
+        this.quantity = quantity;
+        this.product = new ProductSummary(productId, name, price, salePrice, stock, category,
+                thumbnailImage, thumbnailThumb);
+    }
+
+    private CartItemDTO(Long id, int quantity, ProductSummary product) {
+        this.id = id;
+        this.quantity = quantity;
+        this.product = product;
+    }
+
+    /**
+     * 수량만 바꾼 사본 (장바구니 엔진의 아직 반영 안 된 수량을 덮어쓸 때 사용)
+     */
+    public CartItemDTO withQuantity(int quantity) {
+        return new CartItemDTO(id, quantity, product);
+    }
+
+    @Getter
+    @ToString
+    public static class ProductSummary {
+
+        private final Long id;
+        private final String name;
+        private final int price;
+        private final Integer salePrice;
+        private final int stock;
+        private final String category;
+        private final String thumbnailImage;
+        private final String thumbnailThumb; // 200px 썸네일 (없으면 thumbnailImage 사용)
+
+        ProductSummary(Long id, String name, int price, Integer salePrice, int stock, String category,
+                       String thumbnailImage, String thumbnailThumb) {
+            this.id = id;
+            this.name = name;
+            this.price = price;
+            this.salePrice = salePrice;
+            this.stock = stock;
+            this.category = category;
+            this.thumbnailImage = thumbnailImage;
+            this.thumbnailThumb = thumbnailThumb;
+        }
+    }
+}
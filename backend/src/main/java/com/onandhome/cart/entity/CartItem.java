@@ -22,8 +22,14 @@ import lombok.*;
  * ========================================
  * 📌 FetchType 설명
  * ========================================
- * - EAGER 로딩 사용: 장바구니 조회 시 상품/사용자 정보가 항상 필요하므로
- *   즉시 로딩하여 N+1 문제 방지 및 성능 최적화
+ * - LAZY 로딩 사용: 장바구니 화면/개수는 CartItemDTO 조회 쿼리로 한 번에 가져오고,
+ *   상품이 필요한 주문 처리는 fetch join(findWithProductByUserId)으로 함께 로딩한다.
+ *   (EAGER 는 아이템마다 회원/상품 조회가 추가로 발생)
+ *
+ * ========================================
+ * 📌 제약조건
+ * ========================================
+ * - (user_id, product_id) 유니크: 같은 상품은 한 행으로만 담기고 수량이 합산됨
  *
  * ========================================
  **/
@@ -33,19 +39,22 @@ import lombok.*;
     @NoArgsConstructor
     @AllArgsConstructor
     @ToString
-    @Table(name = "cart_item")
+    @Table(name = "cart_item", uniqueConstraints = @UniqueConstraint(
+            name = "uk_cart_item_user_product", columnNames = {"user_id", "product_id"}))
     public class CartItem {
 
 	@Id
 	@GeneratedValue(strategy = GenerationType.IDENTITY)
 	private Long id;
 
-	@ManyToOne(optional = false, fetch = FetchType.EAGER)
+	@ManyToOne(optional = false, fetch = FetchType.LAZY)
 	@JoinColumn(name = "user_id", nullable = false)
+	@ToString.Exclude
 	private User user;
 
-	@ManyToOne(optional = false, fetch = FetchType.EAGER)
+	@ManyToOne(optional = false, fetch = FetchType.LAZY)
 	@JoinColumn(name = "product_id", nullable = false)
+	@ToString.Exclude
 	private Product product;
 
 	@Column(nullable = false)
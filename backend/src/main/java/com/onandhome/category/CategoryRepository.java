@@ -0,0 +1,41 @@
+package com.onandhome.category;
+
+import com.onandhome.category.entity.Category;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface CategoryRepository extends JpaRepository<Category, Long> {
+
+    // 트리 구성용 전체 조회 (결과 행: [id, parentId, code, name, productCount, inStockCount]) - 쿼리 1회
+    @Query("SELECT c.id, p.id, c.code, c.name, c.productCount, c.inStockCount " +
+            "FROM Category c LEFT JOIN c.parent p ORDER BY c.sortOrder, c.id")
+    List<Object[]> findTreeRows();
+
+    // 상품 수 / 재고 있는 상품 수 증감
+    @Modifying
+    @Query("UPDATE Category c SET c.productCount = c.productCount + :products, " +
+            "c.inStockCount = c.inStockCount + :inStock WHERE c.id = :id")
+    int adjustCounts(@Param("id") Long id, @Param("products") long products, @Param("inStock") long inStock);
+
+    // 카테고리가 연결되지 않은 상품을 이름으로 연결 (기존 데이터 / 카테고리 추가 후)
+    @Modifying
+    @Query(value = "UPDATE product p JOIN category c ON c.name = p.category " +
+            "SET p.category_id = c.id WHERE p.category_id IS NULL",
+            nativeQuery = true)
+    int linkUnassignedProducts();
+
+    // 카운터 전체 재계산 (기동 시 보정, 삭제(보관)된 상품 제외)
+    @Modifying
+    @Query(value = "UPDATE category c SET " +
+            "product_count = (SELECT COUNT(*) FROM product p WHERE p.category_id = c.id AND p.deleted_at IS NULL), " +
+            "in_stock_count = (SELECT COUNT(*) FROM product p WHERE p.category_id = c.id AND p.stock > 0 " +
+            "AND p.deleted_at IS NULL)",
+            nativeQuery = true)
+    int recountAll();
+}
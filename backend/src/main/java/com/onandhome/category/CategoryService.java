@@ -0,0 +1,247 @@
+package com.onandhome.category;
+
+import com.onandhome.admin.adminProduct.event.ProductChangedEvent;
+import com.onandhome.category.dto.CategoryNode;
+import com.onandhome.category.entity.Category;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 카테고리 서비스
+ *
+ * - 카테고리 트리는 DB(category 테이블)에서 한 번 읽어 불변 스냅샷(CategoryTree)으로 보관한다.
+ *   헤더 메뉴/관리자 화면/카테고리 상품 조회는 이 스냅샷만 사용한다. (DB 조회 없음)
+ * - 카테고리별 상품 수/재고 있는 상품 수는 ProductChangedEvent 를 받아 상품 변경과 같은 트랜잭션에서 증감하고,
+ *   커밋되면 스냅샷을 다시 만든다. (다음 조회 시 쿼리 1회)
+ * - 기동 시: 카테고리가 비어 있으면 기본 트리를 넣고, 카테고리가 없는 상품을 이름으로 연결한 뒤 카운터를 재계산한다.
+ */
+@Service
+@Slf4j
+public class CategoryService {
+
+    /* 기본 카테고리 (대분류 코드, 대분류 이름, 소분류 [코드, 이름]...) - 테이블이 비어 있을 때만 사용 */
+    private static final Object[][] DEFAULT_TREE = {
+            {"tv_audio", "TV/오디오", new String[][]{{"tv", "TV"}, {"audio", "오디오"}}},
+            {"kitchen", "주방가전", new String[][]{{"refrigerator", "냉장고"}, {"microwave", "전자레인지"},
+                    {"dishwasher", "식기세척기"}}},
+            {"living", "생활가전", new String[][]{{"washer", "세탁기"}, {"vacuum", "청소기"}}},
+            {"air", "에어컨/공기청정기", new String[][]{{"air_conditioner", "에어컨"}, {"air_purifier", "공기청정기"},
+                    {"water_purifier", "정수기"}}},
+            {"etc", "기타", new String[][]{{"massage_chair", "안마의자"}, {"pc", "PC"}}},
+    };
+
+    private final CategoryRepository categoryRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    private volatile CategoryTree tree = CategoryTree.EMPTY;
+    private volatile boolean stale = true;
+    /* 트리 다시 읽기는 한 번에 하나 (DB 조회 중에 잡고 있으므로 synchronized 대신 - 가상 스레드 고정 방지) */
+    private final ReentrantLock reloadLock = new ReentrantLock();
+
+    public CategoryService(CategoryRepository categoryRepository, PlatformTransactionManager transactionManager) {
+        this.categoryRepository = categoryRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    // ==================== 조회 ====================
+
+    /**
+     * 현재 카테고리 트리 (변경이 있었으면 다시 읽음)
+     */
+    public CategoryTree getTree() {
+        if (stale) {
+            reloadLock.lock();
+            try {
+                if (stale) {
+                    // 읽기 전에 내려야 읽는 도중 들어온 변경이 다음 조회에 반영됨
+                    stale = false;
+                    try {
+                        tree = CategoryTree.fromRows(categoryRepository.findTreeRows());
+                    } catch (RuntimeException e) {
+                        stale = true;
+                        throw e;
+                    }
+                }
+            } finally {
+                reloadLock.unlock();
+            }
+        }
+        return tree;
+    }
+
+    /**
+     * 상품의 카테고리 문자열(소분류 이름)에 해당하는 카테고리 ID (없으면 null)
+     */
+    public Long resolveId(String categoryName) {
+        CategoryNode node = getTree().find(categoryName);
+        return node != null ? node.id() : null;
+    }
+
+    /**
+     * 카테고리 상품 조회용 ID 목록 (이름/코드, 대분류면 소분류 포함, 없으면 빈 목록)
+     */
+    public List<Long> resolveSubtreeIds(String nameOrCode) {
+        CategoryTree current = getTree();
+        CategoryNode node = current.find(nameOrCode);
+        return node != null ? current.subtreeIds(node.id()) : List.of();
+    }
+
+    // ==================== 관리 ====================
+
+    /**
+     * 카테고리 추가 (parentCode 가 없으면 대분류)
+     * 같은 이름으로 등록돼 있던 상품은 바로 연결된다.
+     */
+    @Transactional
+    public CategoryNode create(String parentCode, String code, String name) {
+        if (code == null || code.isBlank() || name == null || name.isBlank()) {
+            throw new IllegalArgumentException("카테고리 코드와 이름은 필수입니다.");
+        }
+        CategoryTree current = getTree();
+        if (current.find(code) != null || current.find(name) != null) {
+            throw new IllegalArgumentException("이미 있는 카테고리입니다: " + name);
+        }
+        Category parent = null;
+        int sortOrder = current.getRoots().size();
+        if (parentCode != null && !parentCode.isBlank()) {
+            CategoryNode parentNode = current.find(parentCode);
+            if (parentNode == null) {
+                throw new IllegalArgumentException("상위 카테고리를 찾을 수 없습니다: " + parentCode);
+            }
+            parent = categoryRepository.getReferenceById(parentNode.id());
+            sortOrder = parentNode.children().size();
+        }
+
+        Category saved = categoryRepository.save(Category.builder()
+                .code(code.trim())
+                .name(name.trim())
+                .parent(parent)
+                .sortOrder(sortOrder)
+                .build());
+        categoryRepository.flush();
+        if (categoryRepository.linkUnassignedProducts() > 0) {
+            categoryRepository.recountAll();
+        }
+        markStaleAfterCommit();
+        log.info("카테고리 추가 - {} ({})", saved.getName(), saved.getCode());
+        return new CategoryNode(saved.getId(), saved.getCode(), saved.getName(), 0, 0, List.of());
+    }
+
+    /**
+     * 커밋된 뒤 트리 스냅샷 갱신 표시
+     * 커밋 전에 표시하면 그 사이 다른 요청이 커밋 전 트리를 다시 읽어 새 카테고리가 빠진 스냅샷이 남는다.
+     */
+    private void markStaleAfterCommit() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    stale = true;
+                }
+            });
+        } else {
+            stale = true;
+        }
+    }
+
+    // ==================== 카운터 (상품 변경 이벤트) ====================
+
+    /**
+     * 상품 변경과 같은 트랜잭션에서 카테고리 카운터 증감 (커밋 직전)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    @Transactional
+    public void onProductChanged(ProductChangedEvent event) {
+        boolean wasInStock = event.getPreviousStock() > 0;
+        boolean inStock = event.getCurrentStock() > 0;
+        switch (event.getType()) {
+            case CREATED -> adjust(event.getCategoryId(), 1, inStock ? 1 : 0);
+            case DELETED -> adjust(event.getPreviousCategoryId(), -1, wasInStock ? -1 : 0);
+            case UPDATED -> {
+                if (!Objects.equals(event.getPreviousCategoryId(), event.getCategoryId())) {
+                    adjust(event.getPreviousCategoryId(), -1, wasInStock ? -1 : 0);
+                    adjust(event.getCategoryId(), 1, inStock ? 1 : 0);
+                } else if (wasInStock != inStock) {
+                    adjust(event.getCategoryId(), 0, inStock ? 1 : -1);
+                }
+            }
+        }
+    }
+
+    /**
+     * 커밋된 뒤 트리 스냅샷 갱신 표시 (카운터가 바뀌지 않은 변경은 무시)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void afterProductChanged(ProductChangedEvent event) {
+        boolean countsChanged = event.getType() != ProductChangedEvent.Type.UPDATED
+                || !Objects.equals(event.getPreviousCategoryId(), event.getCategoryId())
+                || (event.getPreviousStock() > 0) != (event.getCurrentStock() > 0);
+        if (countsChanged) {
+            stale = true;
+        }
+    }
+
+    private void adjust(Long categoryId, long products, long inStock) {
+        if (categoryId != null && (products != 0 || inStock != 0)) {
+            categoryRepository.adjustCounts(categoryId, products, inStock);
+        }
+    }
+
+    // ==================== 기동 시 초기화 ====================
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                if (categoryRepository.count() == 0) {
+                    seedDefaults();
+                }
+                int linked = categoryRepository.linkUnassignedProducts();
+                categoryRepository.recountAll();
+                if (linked > 0) {
+                    log.info("카테고리 미지정 상품 {}개 연결", linked);
+                }
+            });
+            stale = true;
+            log.info("카테고리 트리 준비 완료 - 대분류 {}개", getTree().getRoots().size());
+        } catch (Exception e) {
+            // 카테고리 테이블이 아직 없는 등의 경우에도 애플리케이션은 기동되도록 함
+            log.error("카테고리 초기화 실패: {}", e.getMessage(), e);
+        }
+    }
+
+    private void seedDefaults() {
+        int rootOrder = 0;
+        for (Object[] group : DEFAULT_TREE) {
+            Category root = categoryRepository.save(Category.builder()
+                    .code((String) group[0])
+                    .name((String) group[1])
+                    .sortOrder(rootOrder++)
+                    .build());
+            int childOrder = 0;
+            for (String[] child : (String[][]) group[2]) {
+                categoryRepository.save(Category.builder()
+                        .code(child[0])
+                        .name(child[1])
+                        .parent(root)
+                        .sortOrder(childOrder++)
+                        .build());
+            }
+        }
+        categoryRepository.flush();
+        log.info("기본 카테고리 생성 - 대분류 {}개", DEFAULT_TREE.length);
+    }
+}
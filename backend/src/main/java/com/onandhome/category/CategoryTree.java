@@ -0,0 +1,111 @@
+package com.onandhome.category;
+
+import com.onandhome.admin.adminProduct.dto.CategoryDTO;
+import com.onandhome.category.dto.CategoryNode;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 카테고리 트리 스냅샷 (불변 - 변경 시 CategoryService 가 새로 만들어 교체)
+ */
+public final class CategoryTree {
+
+    static final CategoryTree EMPTY = new CategoryTree(List.of());
+
+    private final List<CategoryNode> roots;
+    private final Map<String, CategoryNode> byKey;      // 이름/코드 → 노드
+    private final Map<Long, List<Long>> subtreeIds;    // 노드 ID → 자신 + 하위 노드 ID
+    private final List<CategoryDTO> legacyList;
+
+    private CategoryTree(List<CategoryNode> roots) {
+        this.roots = roots;
+        Map<String, CategoryNode> keys = new HashMap<>();
+        Map<Long, List<Long>> subtrees = new HashMap<>();
+        List<CategoryDTO> legacy = new ArrayList<>(roots.size());
+        for (CategoryNode root : roots) {
+            index(root, keys, subtrees);
+            legacy.add(new CategoryDTO(root.code(), root.name(),
+                    root.children().stream().map(CategoryNode::name).toList()));
+        }
+        this.byKey = Collections.unmodifiableMap(keys);
+        this.subtreeIds = Collections.unmodifiableMap(subtrees);
+        this.legacyList = Collections.unmodifiableList(legacy);
+    }
+
+    /**
+     * DB 행으로 트리 생성
+     *
+     * @param rows [id, parentId, code, name, productCount, inStockCount] (정렬 순서대로)
+     */
+    static CategoryTree fromRows(List<Object[]> rows) {
+        Map<Long, Object[]> byId = new LinkedHashMap<>();
+        Map<Long, List<Long>> childIds = new HashMap<>();
+        List<Long> rootIds = new ArrayList<>();
+        for (Object[] row : rows) {
+            Long id = (Long) row[0];
+            Long parentId = (Long) row[1];
+            byId.put(id, row);
+            if (parentId == null) {
+                rootIds.add(id);
+            } else {
+                childIds.computeIfAbsent(parentId, k -> new ArrayList<>()).add(id);
+            }
+        }
+        List<CategoryNode> roots = new ArrayList<>(rootIds.size());
+        for (Long id : rootIds) {
+            roots.add(node(id, byId, childIds));
+        }
+        return new CategoryTree(List.copyOf(roots));
+    }
+
+    private static CategoryNode node(Long id, Map<Long, Object[]> byId, Map<Long, List<Long>> childIds) {
+        Object[] row = byId.get(id);
+        List<CategoryNode> children = new ArrayList<>();
+        long products = ((Number) row[4]).longValue();
+        long inStock = ((Number) row[5]).longValue();
+        for (Long childId : childIds.getOrDefault(id, List.of())) {
+            CategoryNode child = node(childId, byId, childIds);
+            children.add(child);
+            products += child.productCount();
+            inStock += child.inStockCount();
+        }
+        return new CategoryNode(id, (String) row[2], (String) row[3], products, inStock, List.copyOf(children));
+    }
+
+    private static List<Long> index(CategoryNode node, Map<String, CategoryNode> keys, Map<Long, List<Long>> subtrees) {
+        keys.put(node.name(), node);
+        keys.putIfAbsent(node.code(), node);
+        List<Long> ids = new ArrayList<>();
+        ids.add(node.id());
+        for (CategoryNode child : node.children()) {
+            ids.addAll(index(child, keys, subtrees));
+        }
+        subtrees.put(node.id(), List.copyOf(ids));
+        return ids;
+    }
+
+    /** 대분류 목록 (소분류 포함) - 헤더 메뉴용 */
+    public List<CategoryNode> getRoots() {
+        return roots;
+    }
+
+    /** 이름 또는 코드로 노드 찾기 (없으면 null) */
+    public CategoryNode find(String nameOrCode) {
+        return nameOrCode == null ? null : byKey.get(nameOrCode);
+    }
+
+    /** 자신 + 하위 카테고리 ID (대분류로 조회하면 소분류 상품까지 포함) */
+    public List<Long> subtreeIds(Long categoryId) {
+        return subtreeIds.getOrDefault(categoryId, List.of(categoryId));
+    }
+
+    /** 관리자 상품 등록/수정 화면용 기존 형식 (대분류 코드/이름 + 소분류 이름 목록) */
+    public List<CategoryDTO> getLegacyList() {
+        return legacyList;
+    }
+}
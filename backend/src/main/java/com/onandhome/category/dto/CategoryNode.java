@@ -0,0 +1,17 @@
+package com.onandhome.category.dto;
+
+import java.util.List;
+
+/**
+ * 카테고리 트리 노드 (불변)
+ *
+ * @param productCount 상품 수 (대분류는 소분류 합계 포함)
+ * @param inStockCount 재고 있는 상품 수 (대분류는 소분류 합계 포함)
+ */
+public record CategoryNode(Long id,
+                           String code,
+                           String name,
+                           long productCount,
+                           long inStockCount,
+                           List<CategoryNode> children) {
+}
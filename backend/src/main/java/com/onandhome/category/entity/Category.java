@@ -0,0 +1,51 @@
+package com.onandhome.category.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * 상품 카테고리 (2단계 트리: 대분류 → 소분류)
+ *
+ * - 상품은 소분류에 연결된다. (product.category_id)
+ * - productCount / inStockCount 는 상품 등록/수정/삭제/재고 변동 시 증분으로 갱신된다.
+ *   (CategoryService.onProductChanged - 상품 변경과 같은 트랜잭션)
+ * - 대분류 개수는 저장하지 않고 트리를 만들 때 소분류 합계로 계산한다.
+ */
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@ToString(exclude = "parent")
+@Table(name = "category",
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uk_category_code", columnNames = "code"),
+                @UniqueConstraint(name = "uk_category_name", columnNames = "name")
+        },
+        indexes = @Index(name = "idx_category_parent", columnList = "parent_id, sort_order"))
+public class Category {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, length = 50)
+    private String code; // 영문 코드 (tv_audio, kitchen ...)
+
+    @Column(nullable = false, length = 50)
+    private String name; // 표시 이름 (TV/오디오, 냉장고 ...) - product.category 값과 같음
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "parent_id")
+    private Category parent; // 대분류는 null
+
+    @Column(name = "sort_order", nullable = false)
+    private int sortOrder;
+
+    @Column(name = "product_count", nullable = false)
+    private long productCount; // 이 카테고리에 직접 연결된 상품 수
+
+    @Column(name = "in_stock_count", nullable = false)
+    private long inStockCount; // 그 중 재고 있는 상품 수
+}
@@ -1,6 +1,9 @@
 package com.onandhome.company;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
@@ -13,6 +16,8 @@ public interface CompanyInfoRepository extends JpaRepository<CompanyInfo, Long>
     
     /**
      * 첫 번째 회사 정보 조회 (일반적으로 하나만 있음)
+     * 모든 페이지 하단에서 조회하므로 prod 프로필에서는 쿼리 캐시 사용 (company_info 변경 시 자동 무효화)
      */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<CompanyInfo> findFirstByOrderByIdAsc();
 }
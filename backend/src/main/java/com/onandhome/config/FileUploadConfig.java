@@ -1,13 +1,21 @@
 package com.onandhome.config;
 
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
 import java.io.File;
 
+/**
+ * /uploads/** 를 Spring 기본 리소스 핸들러로 서비스하는 설정
+ *
+ * 기본값(file.serving.mode=optimized)에서는 UploadServingController 가 처리하며,
+ * 이 설정은 file.serving.mode=resource 일 때만 사용된다. (성능 비교 / 문제 발생 시 되돌리기용)
+ */
 @Configuration
+@ConditionalOnProperty(name = "file.serving.mode", havingValue = "resource")
 public class FileUploadConfig implements WebMvcConfigurer {
 
     @Value("${file.upload-dir:uploads}")
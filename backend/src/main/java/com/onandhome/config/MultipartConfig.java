@@ -0,0 +1,46 @@
+package com.onandhome.config;
+
+import jakarta.servlet.MultipartConfigElement;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.servlet.MultipartConfigFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * 멀티파트 업로드 설정
+ *
+ * - 파트는 메모리에 모으지 않고 수신되는 즉시 업로드 임시 디렉터리(file.staging-dir)에 기록한다. (threshold 0)
+ *   FileStorageService 도 같은 디렉터리를 쓰므로 임시 파일이 같은 디스크 안에서만 이동한다.
+ * - 파일 한 개 / 요청 전체 크기 제한을 넘으면 컨트롤러에 도달하기 전에 거절된다.
+ *   (spring.servlet.multipart.* 설정이 있으면 그 값을 사용)
+ */
+@Configuration
+public class MultipartConfig {
+
+    @Bean
+    public MultipartConfigElement multipartConfigElement(
+            @Value("${file.staging-dir:upload-staging}") String stagingDir,
+            @Value("${spring.servlet.multipart.max-file-size:10MB}") DataSize maxFileSize,
+            @Value("${spring.servlet.multipart.max-request-size:60MB}") DataSize maxRequestSize) {
+        Path location = Paths.get(stagingDir).toAbsolutePath().normalize();
+        try {
+            Files.createDirectories(location);
+        } catch (IOException e) {
+            throw new UncheckedIOException("업로드 임시 디렉터리를 생성할 수 없습니다: " + location, e);
+        }
+
+        MultipartConfigFactory factory = new MultipartConfigFactory();
+        factory.setLocation(location.toString());
+        factory.setFileSizeThreshold(DataSize.ofBytes(0));
+        factory.setMaxFileSize(maxFileSize);
+        factory.setMaxRequestSize(maxRequestSize);
+        return factory.createMultipartConfig();
+    }
+}
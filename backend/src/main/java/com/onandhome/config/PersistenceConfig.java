@@ -0,0 +1,30 @@
+package com.onandhome.config;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class PersistenceConfig {
+
+    /**
+     * 2차 캐시 기본값 끄기
+     * hibernate-jcache 가 클래스패스에 있으면 Hibernate 가 설정 없이도 2차 캐시를 켜서
+     * (ehcache.xml 없이) 크기 제한 없는 캐시를 만든다. prod 프로필에서 명시적으로 켠 경우에만 쓴다.
+     */
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheDefault() {
+        return properties -> properties.putIfAbsent(AvailableSettings.USE_SECOND_LEVEL_CACHE, "false");
+    }
+
+    /**
+     * 지연 로딩 배치 크기 기본값
+     * 목록을 DTO 로 바꾸면서 연관 엔티티/컬렉션을 건별로 읽던 N+1 (주문 → 회원/주문상품 → 상품, 리뷰 → 답글/이미지,
+     * 찜 → 상품)을 IN 절 한 번(최대 100건씩)으로 묶는다.
+     */
+    @Bean
+    public HibernatePropertiesCustomizer batchFetchSizeDefault() {
+        return properties -> properties.putIfAbsent(AvailableSettings.DEFAULT_BATCH_FETCH_SIZE, "100");
+    }
+}
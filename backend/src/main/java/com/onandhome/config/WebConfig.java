@@ -27,9 +27,7 @@ public class WebConfig implements WebMvcConfigurer {
      */
     @Override
     public void addResourceHandlers(ResourceHandlerRegistry registry) {
-        // 업로드 파일
-        registry.addResourceHandler("/uploads/**")
-                .addResourceLocations("file:uploads/");
+        // 업로드 파일(/uploads/**)은 UploadServingController / FileUploadConfig 에서 처리
 
         // 상품 이미지
         registry.addResourceHandler("/product_img/**")
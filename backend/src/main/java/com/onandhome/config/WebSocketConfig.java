@@ -1,9 +1,12 @@
 package com.onandhome.config;
 
-import org.springframework.context.annotation.Bean;
+import com.onandhome.config.metrics.WebSocketMetrics;
+import com.onandhome.config.threads.VirtualThreadConfig;
+import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
-import org.springframework.web.socket.config.WebSocketMessageBrokerStats;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
 import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
@@ -13,8 +16,15 @@ import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerCo
 // STOMP(WebSocket 기반 메시징) 기능을 활성화하는 설정.
 // 실시간 알림, 관리자 브로드캐스트, 개인 알림 등에 필요한 핵심 기능.
 @EnableWebSocketMessageBroker
+@RequiredArgsConstructor
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
+    // 세션 수 / 메시지 수 / 채널 대기열 지표 (/actuator/prometheus)
+    private final WebSocketMetrics webSocketMetrics;
+
+    // 가상 스레드 모드면 채널 메시지 처리도 가상 스레드로 (spring.threads.virtual.enabled)
+    private final VirtualThreadConfig virtualThreadConfig;
+
     @Override
     public void configureMessageBroker(MessageBrokerRegistry config) {
 
@@ -51,16 +61,26 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
                 .withSockJS();
     }
 
-    /**
-     * WebSocket 통계 로그 설정
-     * 실행 시 "WebSocketMessageBrokerStats[...]" 로그가 반복적으로 출력되는 것을 방지하기 위해
-     * 로깅 주기를 0으로 설정하여 비활성화합니다.
-     */
-    @Bean
-    public WebSocketMessageBrokerStats customWebSocketMessageBrokerStats() {
-        WebSocketMessageBrokerStats stats = new WebSocketMessageBrokerStats();
-        stats.setLoggingPeriod(0); // 0으로 설정하면 통계 로그를 출력하지 않음
-        return stats;
+    // 클라이언트 → 서버 메시지 수 집계
+    @Override
+    public void configureClientInboundChannel(ChannelRegistration registration) {
+        registration.interceptors(webSocketMetrics.inboundInterceptor());
+        useChannelExecutor(registration);
+    }
+
+    // 서버 → 클라이언트 메시지 수 집계
+    @Override
+    public void configureClientOutboundChannel(ChannelRegistration registration) {
+        registration.interceptors(webSocketMetrics.outboundInterceptor());
+        useChannelExecutor(registration);
+    }
+
+    // 플랫폼 스레드 모드면 Spring 기본 채널 풀(CPU 코어 수 × 2) 그대로 사용
+    private void useChannelExecutor(ChannelRegistration registration) {
+        ThreadPoolTaskExecutor executor = virtualThreadConfig.channelExecutor();
+        if (executor != null) {
+            registration.taskExecutor(executor);
+        }
     }
 }
 
@@ -70,5 +90,7 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 2. "/queue" + "/user" → 특정 사용자에게만 보내는 개인 알림 경로.
 3. "/app" → 프론트가 서버로 메시지를 보낼 때 사용하는 prefix.
 4. "/ws" → WebSocket/SockJS 연결의 실제 엔드포인트.
-5. 실시간 알림, 관리자 알림, 1:1 사용자 알림 구조를 모두 총괄하는 핵심 설정 파일.
+5. 세션 / 메시지 / 채널 대기열은 WebSocketMetrics 지표로 수집 (/actuator/prometheus).
+   가상 스레드 모드에서는 채널 메시지도 가상 스레드에서 처리 (VirtualThreadConfig).
+6. 실시간 알림, 관리자 알림, 1:1 사용자 알림 구조를 모두 총괄하는 핵심 설정 파일.
 */
@@ -0,0 +1,33 @@
+package com.onandhome.config.metrics;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.core.env.Environment;
+import org.springframework.security.web.util.matcher.RequestMatcher;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+
+/**
+ * 관리 포트(management.server.port)로 들어온 헬스 체크 / Prometheus 수집 요청
+ *
+ * actuator 는 관리 포트에만 열리고, 관리 서버에도 같은 Security 필터 체인이 걸린다.
+ * 이 요청만 토큰 없이 통과시키고 공개 포트로 들어온 같은 경로는 일반 요청과 똑같이 다룬다.
+ * 관리 포트 번호는 관리 서버가 뜬 뒤 Spring Boot 가 local.management.port 에 채운다. (port=0 이어도 실제 포트)
+ */
+@Component
+public class ManagementPortMatcher implements RequestMatcher {
+
+    private static final Set<String> PATHS = Set.of("/actuator/health", "/actuator/prometheus");
+
+    private final Environment environment;
+
+    public ManagementPortMatcher(Environment environment) {
+        this.environment = environment;
+    }
+
+    @Override
+    public boolean matches(HttpServletRequest request) {
+        Integer port = environment.getProperty("local.management.port", Integer.class);
+        return port != null && request.getLocalPort() == port && PATHS.contains(request.getRequestURI());
+    }
+}
@@ -0,0 +1,39 @@
+package com.onandhome.config.metrics;
+
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.actuate.autoconfigure.web.server.ManagementPortType;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.PropertySource;
+import org.springframework.core.env.Environment;
+
+/**
+ * 지표 설정
+ *
+ * - 기본값(노출 엔드포인트, 관리 포트, Tomcat MBean, 히스토그램)은 metrics.properties 에 둔다.
+ * - actuator(헬스 체크 / Prometheus)는 공개 포트와 다른 관리 포트에서만 연다. 같은 포트로 설정되면 기동하지 않는다.
+ * - 핵심 서비스 메서드는 @Timed(SERVICE_TIMER) 로 지연 시간을 잰다. (class / method / exception 태그)
+ *   주문 생성, 상품 상세, 토큰 검증, 알림 생성, 리뷰 목록
+ * - 커넥션 풀(hikaricp.*), Tomcat(tomcat.*), JVM, HTTP 요청(http.server.requests)은 Spring Boot 가 등록하고
+ *   캐시/장바구니/쿼리 수/WebSocket/가상 스레드 고정은 각 컴포넌트가 MeterBinder 로 등록한다.
+ */
+@Configuration
+@PropertySource("classpath:metrics.properties")
+public class MetricsConfig {
+
+    /** 핵심 서비스 메서드 타이머 이름 (Prometheus: onandhome_service_seconds) */
+    public static final String SERVICE_TIMER = "onandhome.service";
+
+    public MetricsConfig(Environment environment) {
+        // 관리 포트를 끈 경우(-1)는 actuator 자체가 열리지 않으므로 허용
+        if (ManagementPortType.get(environment) == ManagementPortType.SAME) {
+            throw new IllegalStateException("actuator 는 공개 포트와 다른 관리 포트(management.server.port)에서만 열 수 있습니다.");
+        }
+    }
+
+    @Bean
+    public TimedAspect timedAspect(MeterRegistry registry) {
+        return new TimedAspect(registry);
+    }
+}
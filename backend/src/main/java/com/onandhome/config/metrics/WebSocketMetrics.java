@@ -0,0 +1,121 @@
+package com.onandhome.config.metrics;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.messaging.SessionConnectedEvent;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * WebSocket(STOMP) 지표
+ *
+ * - websocket.sessions: 연결된 STOMP 세션 수
+ * - websocket.messages{direction=inbound|outbound}: 채널을 지난 메시지 수 (Prometheus rate() 로 초당 메시지 수)
+ * - websocket.executor.queued / active{channel=inbound|outbound}: 채널 스레드 풀 대기열 / 실행 중 작업 수
+ *
+ * 메시지 수는 WebSocketConfig 가 이 인터셉터를 채널에 붙여서 센다.
+ */
+@Component
+public class WebSocketMetrics implements MeterBinder {
+
+    private final ObjectProvider<TaskExecutor> inboundExecutor;
+    private final ObjectProvider<TaskExecutor> outboundExecutor;
+
+    private final Set<String> sessions = ConcurrentHashMap.newKeySet();
+    private final LongAdder inboundMessages = new LongAdder();
+    private final LongAdder outboundMessages = new LongAdder();
+
+    public WebSocketMetrics(@Qualifier("clientInboundChannelExecutor") ObjectProvider<TaskExecutor> inboundExecutor,
+                            @Qualifier("clientOutboundChannelExecutor") ObjectProvider<TaskExecutor> outboundExecutor) {
+        this.inboundExecutor = inboundExecutor;
+        this.outboundExecutor = outboundExecutor;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("websocket.sessions", sessions, Set::size)
+                .description("연결된 STOMP 세션 수")
+                .register(registry);
+
+        FunctionCounter.builder("websocket.messages", inboundMessages, LongAdder::sum)
+                .tag("direction", "inbound")
+                .register(registry);
+        FunctionCounter.builder("websocket.messages", outboundMessages, LongAdder::sum)
+                .tag("direction", "outbound")
+                .register(registry);
+
+        bindExecutor(registry, "inbound", inboundExecutor);
+        bindExecutor(registry, "outbound", outboundExecutor);
+    }
+
+    /** 클라이언트 → 서버 채널 인터셉터 */
+    public ChannelInterceptor inboundInterceptor() {
+        return counting(inboundMessages);
+    }
+
+    /** 서버 → 클라이언트 채널 인터셉터 */
+    public ChannelInterceptor outboundInterceptor() {
+        return counting(outboundMessages);
+    }
+
+    @EventListener
+    public void onConnected(SessionConnectedEvent event) {
+        String sessionId = SimpMessageHeaderAccessor.getSessionId(event.getMessage().getHeaders());
+        if (sessionId != null) {
+            sessions.add(sessionId);
+        }
+    }
+
+    // DISCONNECT 프레임과 연결 종료 양쪽에서 올 수 있으므로 세션 ID 집합으로 관리
+    @EventListener
+    public void onDisconnected(SessionDisconnectEvent event) {
+        sessions.remove(event.getSessionId());
+    }
+
+    private static ChannelInterceptor counting(LongAdder counter) {
+        return new ChannelInterceptor() {
+            @Override
+            public Message<?> preSend(Message<?> message, MessageChannel channel) {
+                counter.increment();
+                return message;
+            }
+        };
+    }
+
+    private static void bindExecutor(MeterRegistry registry, String channel, ObjectProvider<TaskExecutor> executor) {
+        Gauge.builder("websocket.executor.queued", executor, e -> queued(e.getIfAvailable()))
+                .tag("channel", channel)
+                .description("채널 스레드 풀 대기열 길이")
+                .register(registry);
+        Gauge.builder("websocket.executor.active", executor, e -> active(e.getIfAvailable()))
+                .tag("channel", channel)
+                .description("채널 스레드 풀 실행 중 작업 수")
+                .register(registry);
+    }
+
+    // 스레드 풀이 아닌 실행기(가상 스레드 등)는 대기열이 없으므로 NaN
+    private static double queued(TaskExecutor executor) {
+        return executor instanceof ThreadPoolTaskExecutor pool
+                ? pool.getThreadPoolExecutor().getQueue().size()
+                : Double.NaN;
+    }
+
+    private static double active(TaskExecutor executor) {
+        return executor instanceof ThreadPoolTaskExecutor pool ? pool.getActiveCount() : Double.NaN;
+    }
+}
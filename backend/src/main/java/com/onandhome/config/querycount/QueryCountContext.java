@@ -0,0 +1,56 @@
+package com.onandhome.config.querycount;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * 스레드별로 열린 집계 구간 스택
+ *
+ * 요청 안에서 트랜잭션이 열리면 요청/트랜잭션 구간이 함께 열려 있고, SQL 한 건은 열린 구간 모두에 더해진다.
+ * (REQUIRES_NEW 로 중첩된 트랜잭션도 각각 구간 하나)
+ */
+public final class QueryCountContext {
+
+    private static final ThreadLocal<Deque<QueryCountScope>> SCOPES = ThreadLocal.withInitial(ArrayDeque::new);
+
+    private QueryCountContext() {
+    }
+
+    /** 구간 시작 - 반드시 같은 스레드에서 close 할 것 */
+    public static QueryCountScope open(QueryCountScope.Kind kind, String name) {
+        QueryCountScope scope = new QueryCountScope(kind, name);
+        SCOPES.get().push(scope);
+        return scope;
+    }
+
+    /** 구간 종료 (안쪽 구간이 먼저 닫히지 않았어도 해당 구간만 뺀다) */
+    public static void close(QueryCountScope scope) {
+        Deque<QueryCountScope> scopes = SCOPES.get();
+        scopes.removeFirstOccurrence(scope);
+        if (scopes.isEmpty()) {
+            SCOPES.remove();
+        }
+    }
+
+    /** 현재 스레드에 열린 구간이 있는지 */
+    public static boolean isActive() {
+        Deque<QueryCountScope> scopes = SCOPES.get();
+        if (scopes.isEmpty()) {
+            SCOPES.remove();
+            return false;
+        }
+        return true;
+    }
+
+    /** SQL 실행 1회 기록 (QueryCountListener 에서 호출) */
+    static void record(String sql, boolean batch) {
+        Deque<QueryCountScope> scopes = SCOPES.get();
+        if (scopes.isEmpty()) {
+            SCOPES.remove(); // 구간 밖(트랜잭션 없는 스케줄러 작업 등)에서 실행된 SQL 은 세지 않는다
+            return;
+        }
+        for (QueryCountScope scope : scopes) {
+            scope.record(sql, batch);
+        }
+    }
+}
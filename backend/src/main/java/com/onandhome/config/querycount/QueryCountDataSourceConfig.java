@@ -0,0 +1,35 @@
+package com.onandhome.config.querycount;
+
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+
+/**
+ * DataSource 를 datasource-proxy 로 감싸 실행된 SQL 을 QueryCountContext 에 기록한다.
+ * query-count.enabled=false 면 감싸지 않는다. (요청/트랜잭션 구간은 열리지만 항상 0건)
+ */
+@Configuration
+public class QueryCountDataSourceConfig {
+
+    // BeanPostProcessor 는 다른 빈보다 먼저 만들어지므로 static 으로 등록하고 설정은 Environment 에서 직접 읽는다
+    @Bean
+    public static BeanPostProcessor queryCountingDataSource(Environment environment) {
+        boolean enabled = environment.getProperty("query-count.enabled", Boolean.class, true);
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (enabled && bean instanceof DataSource dataSource) {
+                    return ProxyDataSourceBuilder.create(dataSource)
+                            .name(beanName)
+                            .listener(new QueryCountListener())
+                            .build();
+                }
+                return bean;
+            }
+        };
+    }
+}
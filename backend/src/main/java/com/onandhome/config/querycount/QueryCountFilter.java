@@ -0,0 +1,46 @@
+package com.onandhome.config.querycount;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/**
+ * HTTP 요청 하나에서 실행된 SQL 수 집계
+ *
+ * 보안 필터보다 먼저 실행해 요청 전체(인증, 컨트롤러, 뷰/직렬화 중 지연 로딩)를 하나의 구간으로 센다.
+ * 구간 이름은 처리 후 매핑 패턴(GET /api/orders/{orderId})으로 바꿔 같은 API 끼리 모이게 한다.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RequiredArgsConstructor
+public class QueryCountFilter extends OncePerRequestFilter {
+
+    private final QueryCountMonitor monitor;
+
+    @Override
+    protected void doFilterInternal(@NonNull HttpServletRequest request,
+                                    @NonNull HttpServletResponse response,
+                                    @NonNull FilterChain filterChain) throws ServletException, IOException {
+        QueryCountScope scope = QueryCountContext.open(QueryCountScope.Kind.REQUEST,
+                request.getMethod() + " " + request.getRequestURI());
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            if (pattern != null) {
+                scope.rename(request.getMethod() + " " + pattern);
+            }
+            monitor.finish(scope);
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.onandhome.config.querycount;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+
+import java.util.List;
+
+/**
+ * datasource-proxy 리스너 - 실행된 SQL 을 현재 스레드의 집계 구간에 기록한다.
+ */
+public class QueryCountListener implements QueryExecutionListener {
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        for (QueryInfo query : queryInfoList) {
+            QueryCountContext.record(query.getQuery(), execInfo.isBatch());
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package com.onandhome.config.querycount;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 쿼리 수 감시 (요청/트랜잭션 구간이 끝날 때 호출)
+ *
+ * - 구간의 SQL 수가 기준(request-threshold / transaction-threshold)을 넘으면 WARN 로그
+ * - 같은 SELECT 가 n-plus-one-threshold 번 이상 반복되면 N+1 의심으로 WARN 로그 (반복된 SQL 포함)
+ * - 구간 이름(요청 매핑 패턴 / 트랜잭션 메서드)별 최대 쿼리 수를 모아 /api/admin/query-counts 로 보여준다.
+ * - 건수 합계는 query.count.* 지표로도 내보낸다. (/actuator/prometheus)
+ */
+@Component
+@Slf4j
+public class QueryCountMonitor implements MeterBinder {
+
+    private static final int MAX_TRACKED_NAMES = 500;
+    private static final int MAX_SQL_LOG_LENGTH = 300;
+
+    private final int requestThreshold;
+    private final int transactionThreshold;
+    private final int nPlusOneThreshold;
+
+    private final AtomicLong requests = new AtomicLong();
+    private final AtomicLong transactions = new AtomicLong();
+    private final AtomicLong requestQueries = new AtomicLong();
+    private final AtomicLong transactionQueries = new AtomicLong();
+    private final AtomicLong requestsOverThreshold = new AtomicLong();
+    private final AtomicLong transactionsOverThreshold = new AtomicLong();
+    private final AtomicLong nPlusOneSuspects = new AtomicLong();
+
+    /* 구간 이름 → 지금까지 본 최대 쿼리 수 */
+    private final Map<String, Integer> maxQueriesByName = new ConcurrentHashMap<>();
+
+    public QueryCountMonitor(@Value("${query-count.request-threshold:30}") int requestThreshold,
+                             @Value("${query-count.transaction-threshold:30}") int transactionThreshold,
+                             @Value("${query-count.n-plus-one-threshold:10}") int nPlusOneThreshold) {
+        this.requestThreshold = requestThreshold;
+        this.transactionThreshold = transactionThreshold;
+        this.nPlusOneThreshold = nPlusOneThreshold;
+    }
+
+    /** 구간 종료 - 컨텍스트에서 빼고 기준 검사 */
+    public void finish(QueryCountScope scope) {
+        QueryCountContext.close(scope);
+
+        int threshold;
+        if (scope.getKind() == QueryCountScope.Kind.REQUEST) {
+            requests.incrementAndGet();
+            requestQueries.addAndGet(scope.getTotal());
+            threshold = requestThreshold;
+        } else {
+            transactions.incrementAndGet();
+            transactionQueries.addAndGet(scope.getTotal());
+            threshold = transactionThreshold;
+        }
+        if (scope.getTotal() == 0) {
+            return;
+        }
+        if (maxQueriesByName.containsKey(scope.getName()) || maxQueriesByName.size() < MAX_TRACKED_NAMES) {
+            maxQueriesByName.merge(scope.getName(), scope.getTotal(), Math::max);
+        }
+
+        if (scope.getTotal() > threshold) {
+            (scope.getKind() == QueryCountScope.Kind.REQUEST ? requestsOverThreshold : transactionsOverThreshold)
+                    .incrementAndGet();
+            log.warn("쿼리 수 기준 초과 {} / 기준 {}", scope.summary(), threshold);
+        }
+
+        // N+1 은 가장 바깥 구간에서만 알린다 (요청 안의 트랜잭션에서 같은 내용을 두 번 남기지 않도록)
+        Map.Entry<String, Integer> repeated = QueryCountContext.isActive() ? null : scope.mostRepeatedSelect();
+        if (repeated != null && repeated.getValue() >= nPlusOneThreshold) {
+            nPlusOneSuspects.incrementAndGet();
+            log.warn("N+1 의심 {} - 같은 SELECT {}회: {}", scope.summary(), repeated.getValue(), abbreviate(repeated.getKey()));
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        bindCounter(registry, "query.count.scopes", "request", requests);
+        bindCounter(registry, "query.count.scopes", "transaction", transactions);
+        bindCounter(registry, "query.count.queries", "request", requestQueries);
+        bindCounter(registry, "query.count.queries", "transaction", transactionQueries);
+        bindCounter(registry, "query.count.over.threshold", "request", requestsOverThreshold);
+        bindCounter(registry, "query.count.over.threshold", "transaction", transactionsOverThreshold);
+        FunctionCounter.builder("query.count.n.plus.one", nPlusOneSuspects, AtomicLong::get)
+                .register(registry);
+    }
+
+    private static void bindCounter(MeterRegistry registry, String name, String kind, AtomicLong value) {
+        FunctionCounter.builder(name, value, AtomicLong::get)
+                .tag("kind", kind)
+                .register(registry);
+    }
+
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("requestThreshold", requestThreshold);
+        stats.put("transactionThreshold", transactionThreshold);
+        stats.put("nPlusOneThreshold", nPlusOneThreshold);
+        stats.put("requests", requests.get());
+        stats.put("requestQueries", requestQueries.get());
+        stats.put("requestsOverThreshold", requestsOverThreshold.get());
+        stats.put("transactions", transactions.get());
+        stats.put("transactionQueries", transactionQueries.get());
+        stats.put("transactionsOverThreshold", transactionsOverThreshold.get());
+        stats.put("nPlusOneSuspects", nPlusOneSuspects.get());
+
+        // 최대 쿼리 수가 많은 순 상위 20개
+        Map<String, Integer> top = new LinkedHashMap<>();
+        maxQueriesByName.entrySet().stream()
+                .sorted(Map.Entry.<String, Integer>comparingByValue(Comparator.reverseOrder()))
+                .limit(20)
+                .forEach(e -> top.put(e.getKey(), e.getValue()));
+        stats.put("maxQueriesByName", top);
+        return stats;
+    }
+
+    private static String abbreviate(String sql) {
+        return sql.length() <= MAX_SQL_LOG_LENGTH ? sql : sql.substring(0, MAX_SQL_LOG_LENGTH) + "...";
+    }
+}
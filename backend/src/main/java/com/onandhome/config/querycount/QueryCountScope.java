@@ -0,0 +1,139 @@
+package com.onandhome.config.querycount;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 구간(HTTP 요청 / 트랜잭션 / 테스트) 하나에서 실행된 SQL 집계
+ *
+ * 한 스레드 안에서만 쓰므로 동기화하지 않는다. (QueryCountContext 가 스레드별로 관리)
+ * 배치(executeBatch)는 DB 왕복 1회로 센다.
+ */
+public final class QueryCountScope {
+
+    public enum Kind {REQUEST, TRANSACTION, TEST}
+
+    private static final int MAX_STATEMENTS = 50;      // 실패 메시지/로그용으로 남기는 SQL 수
+    private static final int MAX_DISTINCT_SELECTS = 200; // 반복 SELECT 집계 대상 수
+
+    private final Kind kind;
+    private String name;
+    private final long startedAt = System.nanoTime();
+
+    private int total;
+    private int selects;
+    private int inserts;
+    private int updates;
+    private int deletes;
+    private int batches;
+
+    private final List<String> statements = new ArrayList<>();
+    private final Map<String, Integer> selectRepeats = new HashMap<>();
+
+    QueryCountScope(Kind kind, String name) {
+        this.kind = kind;
+        this.name = name;
+    }
+
+    void record(String sql, boolean batch) {
+        total++;
+        if (batch) {
+            batches++;
+        }
+        switch (verb(sql)) {
+            case "select" -> {
+                selects++;
+                if (selectRepeats.containsKey(sql) || selectRepeats.size() < MAX_DISTINCT_SELECTS) {
+                    selectRepeats.merge(sql, 1, Integer::sum);
+                }
+            }
+            case "insert" -> inserts++;
+            case "update" -> updates++;
+            case "delete" -> deletes++;
+            default -> {
+            }
+        }
+        if (statements.size() < MAX_STATEMENTS) {
+            statements.add(sql);
+        }
+    }
+
+    /** 가장 많이 반복된 SELECT (N+1 감지용, 없으면 null) */
+    public Map.Entry<String, Integer> mostRepeatedSelect() {
+        return selectRepeats.entrySet().stream()
+                .max(Map.Entry.comparingByValue())
+                .orElse(null);
+    }
+
+    /** 구간 이름 변경 (HTTP 요청은 처리 후에 매핑 패턴을 알 수 있음) */
+    void rename(String name) {
+        this.name = name;
+    }
+
+    public Kind getKind() {
+        return kind;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getTotal() {
+        return total;
+    }
+
+    public int getSelects() {
+        return selects;
+    }
+
+    public int getInserts() {
+        return inserts;
+    }
+
+    public int getUpdates() {
+        return updates;
+    }
+
+    public int getDeletes() {
+        return deletes;
+    }
+
+    public int getBatches() {
+        return batches;
+    }
+
+    public long getElapsedMillis() {
+        return (System.nanoTime() - startedAt) / 1_000_000;
+    }
+
+    /** 실행된 SQL (앞에서부터 최대 MAX_STATEMENTS 건) */
+    public List<String> getStatements() {
+        return Collections.unmodifiableList(statements);
+    }
+
+    public String summary() {
+        return String.format("[%s] %s - %d건 (select %d, insert %d, update %d, delete %d, batch %d), %dms",
+                kind, name, total, selects, inserts, updates, deletes, batches, getElapsedMillis());
+    }
+
+    private static String verb(String sql) {
+        String s = sql.stripLeading();
+        // Hibernate 주석(/* ... */) 건너뛰기
+        while (s.startsWith("/*")) {
+            int end = s.indexOf("*/");
+            if (end < 0) {
+                return "";
+            }
+            s = s.substring(end + 2).stripLeading();
+        }
+        int space = 0;
+        while (space < s.length() && !Character.isWhitespace(s.charAt(space))) {
+            space++;
+        }
+        return s.substring(0, space).toLowerCase(Locale.ROOT);
+    }
+}
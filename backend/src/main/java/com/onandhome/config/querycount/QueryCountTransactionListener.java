@@ -0,0 +1,53 @@
+package com.onandhome.config.querycount;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.TransactionExecution;
+import org.springframework.transaction.TransactionExecutionListener;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 트랜잭션 하나에서 실행된 SQL 수 집계
+ *
+ * Spring Boot 가 TransactionExecutionListener 빈을 트랜잭션 매니저에 등록하므로
+ * @Transactional / TransactionTemplate 으로 새로 시작한 트랜잭션마다 구간이 하나씩 열린다. (참여한 트랜잭션은 제외)
+ * 구간 이름은 트랜잭션 이름(클래스.메서드)이다.
+ */
+@Component
+@RequiredArgsConstructor
+public class QueryCountTransactionListener implements TransactionExecutionListener {
+
+    private final QueryCountMonitor monitor;
+
+    /* 진행 중인 트랜잭션 → 구간 (시작/종료가 같은 스레드라 스레드별 스택과 짝이 맞는다) */
+    private final Map<TransactionExecution, QueryCountScope> scopes = new ConcurrentHashMap<>();
+
+    @Override
+    public void afterBegin(TransactionExecution transaction, @Nullable Throwable beginFailure) {
+        if (beginFailure == null) {
+            String name = transaction.getTransactionName();
+            scopes.put(transaction, QueryCountContext.open(QueryCountScope.Kind.TRANSACTION,
+                    name.isEmpty() ? "transaction" : name));
+        }
+    }
+
+    @Override
+    public void afterCommit(TransactionExecution transaction, @Nullable Throwable commitFailure) {
+        finish(transaction);
+    }
+
+    @Override
+    public void afterRollback(TransactionExecution transaction, @Nullable Throwable rollbackFailure) {
+        finish(transaction);
+    }
+
+    private void finish(TransactionExecution transaction) {
+        QueryCountScope scope = scopes.remove(transaction);
+        if (scope != null) {
+            monitor.finish(scope);
+        }
+    }
+}
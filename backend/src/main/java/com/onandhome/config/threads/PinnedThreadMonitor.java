@@ -0,0 +1,124 @@
+package com.onandhome.config.threads;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * 가상 스레드 고정(pinning) 감시 (가상 스레드 모드에서만 동작)
+ *
+ * synchronized 블록 안에서 DB / 파일 I/O 로 막히면 가상 스레드가 캐리어(플랫폼) 스레드를 놓지 못한다.
+ * JFR jdk.VirtualThreadPinned 이벤트를 앱 안에서 구독해 threshold 이상 고정된 구간을
+ * - jvm.threads.virtual.pinned{site} 타이머 (site = 스택에서 처음 나오는 com.onandhome 프레임)
+ * - 위치별 첫 발생 시 스택 경고 로그
+ * 로 남긴다. 파일로 받으려면 -XX:StartFlightRecording 으로 기록하고 jfr print --events jdk.VirtualThreadPinned.
+ */
+@Component
+@Slf4j
+public class PinnedThreadMonitor implements MeterBinder {
+
+    private static final String EVENT = "jdk.VirtualThreadPinned";
+    private static final String APP_PACKAGE = "com.onandhome.";
+    private static final int MAX_SITES = 50;
+    private static final int LOGGED_FRAMES = 12;
+
+    private final boolean enabled;
+    private final Duration threshold;
+    private final Set<String> sites = ConcurrentHashMap.newKeySet();
+
+    private volatile MeterRegistry registry;
+    private RecordingStream stream;
+
+    public PinnedThreadMonitor(VirtualThreadConfig virtualThreadConfig,
+                               @Value("${onandhome.threads.pinned.enabled:true}") boolean enabled,
+                               @Value("${onandhome.threads.pinned.threshold:20ms}") Duration threshold) {
+        this.enabled = enabled && virtualThreadConfig.isVirtualThreads();
+        this.threshold = threshold;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void start() {
+        if (!enabled || stream != null) {
+            return;
+        }
+        stream = new RecordingStream();
+        stream.enable(EVENT).withThreshold(threshold).withStackTrace();
+        stream.onEvent(EVENT, this::onPinned);
+        stream.startAsync();
+        log.info("가상 스레드 고정 감시 시작 - {} 이상", threshold);
+    }
+
+    @PreDestroy
+    public synchronized void stop() {
+        if (stream != null) {
+            stream.close();
+            stream = null;
+        }
+    }
+
+    private void onPinned(RecordedEvent event) {
+        List<RecordedFrame> frames = event.getStackTrace() != null
+                ? event.getStackTrace().getFrames()
+                : List.of();
+        String site = site(frames);
+        if (!sites.contains(site) && sites.size() >= MAX_SITES) {
+            site = "other";
+        }
+        if (sites.add(site)) {
+            log.warn("가상 스레드 고정 {}ms - {}\n{}", event.getDuration().toMillis(), site, format(event.getStackTrace()));
+        }
+
+        MeterRegistry current = registry;
+        if (current != null) {
+            Timer.builder("jvm.threads.virtual.pinned")
+                    .description("캐리어 스레드를 붙잡은 가상 스레드 구간 (threshold 이상)")
+                    .tag("site", site)
+                    .register(current)
+                    .record(event.getDuration());
+        }
+    }
+
+    /* 스택에서 처음 나오는 앱 코드 위치 (없으면 맨 위 프레임) */
+    private static String site(List<RecordedFrame> frames) {
+        RecordedFrame chosen = frames.stream()
+                .filter(f -> f.isJavaFrame() && f.getMethod().getType().getName().startsWith(APP_PACKAGE))
+                .findFirst()
+                .orElse(frames.isEmpty() ? null : frames.get(0));
+        if (chosen == null) {
+            return "unknown";
+        }
+        String type = chosen.getMethod().getType().getName();
+        return type.substring(type.lastIndexOf('.') + 1) + "." + chosen.getMethod().getName() + ":" + chosen.getLineNumber();
+    }
+
+    private static String format(RecordedStackTrace stackTrace) {
+        if (stackTrace == null) {
+            return "    (스택 없음)";
+        }
+        return stackTrace.getFrames().stream()
+                .limit(LOGGED_FRAMES)
+                .map(f -> "    at " + f.getMethod().getType().getName() + "." + f.getMethod().getName() + ":" + f.getLineNumber())
+                .collect(Collectors.joining("\n"));
+    }
+}
@@ -0,0 +1,98 @@
+package com.onandhome.config.threads;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.PropertySource;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * 스레드 실행 모드 설정 (spring.threads.virtual.enabled, 기본값은 threads.properties)
+ *
+ * 가상 스레드 모드에서
+ * - Tomcat 요청 처리: Spring Boot 가 요청마다 가상 스레드를 만든다.
+ * - 백그라운드 작업(backgroundTaskExecutor 주입 - 매출 백필): 작업마다 가상 스레드
+ * - 서비스 전용 실행기(이미지 업로드 / 주문 상태 알림 / 회원 일괄 탈퇴 / 관리자 일괄 작업): threadFactory() 로
+ *   스레드만 가상 스레드로 만든다. 풀 크기 / 대기열 / 처리 순서(단일 스레드)는 그대로 동시 처리 상한으로 남는다.
+ *   이미지 변형(ImageVariantService)은 CPU 작업이라 모드와 관계없이 플랫폼 스레드 풀을 쓴다.
+ * - STOMP 채널: WebSocketConfig 가 channelExecutor() 로 가상 스레드 실행기를 붙인다.
+ * - synchronized 안에서 막히는 구간은 PinnedThreadMonitor 가 지표 / 로그로 남긴다.
+ *
+ * 채널 실행기는 WebSocketMetrics 의 대기열 / 실행 중 지표가 그대로 나오도록 ThreadPoolTaskExecutor 를 쓰되
+ * 스레드만 가상 스레드로 만든다. (풀 크기 = 동시 처리 상한)
+ */
+@Configuration
+@PropertySource("classpath:threads.properties")
+@Slf4j
+public class VirtualThreadConfig {
+
+    /** 백그라운드 작업 실행기 빈 이름 ("taskExecutor" 별칭 - 이름으로 기본 실행기를 찾는 Spring 구성요소용) */
+    public static final String BACKGROUND_EXECUTOR = "backgroundTaskExecutor";
+
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreads;
+
+    @Value("${onandhome.threads.background.pool-size:8}")
+    private int backgroundPoolSize;
+
+    @Value("${onandhome.threads.websocket.max-concurrency:256}")
+    private int websocketMaxConcurrency;
+
+    /**
+     * 백그라운드 작업 실행기 (매출 백필)
+     * 가상 스레드 모드: 작업마다 가상 스레드, 플랫폼 모드: 고정 크기 풀
+     */
+    @Bean(name = {BACKGROUND_EXECUTOR, "taskExecutor"})
+    public AsyncTaskExecutor backgroundTaskExecutor() {
+        if (virtualThreads) {
+            SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("background-");
+            executor.setVirtualThreads(true);
+            log.info("백그라운드 작업 실행기 - 가상 스레드");
+            return executor;
+        }
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(backgroundPoolSize);
+        executor.setMaxPoolSize(backgroundPoolSize);
+        executor.setThreadNamePrefix("background-");
+        executor.setDaemon(true);
+        return executor;
+    }
+
+    /**
+     * STOMP 채널 실행기 (가상 스레드 모드가 아니면 null - 기본 채널 풀 사용)
+     * 유휴 스레드는 60초 뒤 정리되므로 상한까지 스레드가 남아 있지 않는다.
+     */
+    public ThreadPoolTaskExecutor channelExecutor() {
+        if (!virtualThreads) {
+            return null;
+        }
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setVirtualThreads(true);
+        executor.setCorePoolSize(websocketMaxConcurrency);
+        executor.setMaxPoolSize(websocketMaxConcurrency);
+        executor.setKeepAliveSeconds(60);
+        executor.setAllowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    /**
+     * 서비스 전용 실행기의 스레드 생성기 (이름: prefix-1, prefix-2 ...)
+     * 가상 스레드 모드: 가상 스레드, 플랫폼 모드: 데몬 플랫폼 스레드
+     * 막히는 I/O(DB / 파일 / 메시지 전송)를 기다리는 작업용 - CPU 작업은 플랫폼 스레드 풀을 그대로 쓴다.
+     */
+    public ThreadFactory threadFactory(String prefix) {
+        if (virtualThreads) {
+            return Thread.ofVirtual().name(prefix + "-", 1).factory();
+        }
+        return Thread.ofPlatform().name(prefix + "-", 1).daemon(true).factory();
+    }
+
+    public boolean isVirtualThreads() {
+        return virtualThreads;
+    }
+}
@@ -1,9 +1,16 @@
 package com.onandhome.favorite;
 
 import com.onandhome.favorite.entity.Favorite;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -27,5 +34,34 @@ public interface FavoriteRepository extends JpaRepository<Favorite, Long> {
     // 특정 사용자의 찜 개수
     long countByUserId(Long userId);
 
-}
+    // 여러 사용자의 찜 일괄 삭제 (회원 일괄 탈퇴 시 사용)
+    @Modifying
+    @Query("DELETE FROM Favorite f WHERE f.user.id IN :userIds")
+    int bulkDeleteByUserIds(@Param("userIds") Collection<Long> userIds);
+
+    // 특정 사용자가 찜한 상품 ID 목록 (FavoriteSetCache 로딩용 - 상품/회원 조인 없음)
+    @Query("SELECT f.product.id FROM Favorite f WHERE f.user.id = :userId")
+    List<Long> findProductIdsByUserId(@Param("userId") Long userId);
+
+    // 찜 삭제 (조회 없이 DELETE 한 번, 삭제된 행 수 반환)
+    @Modifying
+    @Query("DELETE FROM Favorite f WHERE f.user.id = :userId AND f.product.id = :productId")
+    int deleteByUserIdAndProductId(@Param("userId") Long userId, @Param("productId") Long productId);
 
+    // 찜 추가 (회원/상품 조회 없이 INSERT 한 번 - 상품이 없거나 삭제(보관)됐거나 이미 찜한 경우 0 반환)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "favorite"))
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO favorite (user_id, product_id, created_at) " +
+            "SELECT :userId, p.id, NOW() FROM product p WHERE p.id = :productId AND p.deleted_at IS NULL",
+            nativeQuery = true)
+    int insertIfAbsent(@Param("userId") Long userId, @Param("productId") Long productId);
+
+    // 해당 상품들을 찜한 회원 ID (상품 일괄 삭제 후 FavoriteSetCache 무효화용)
+    @Query("SELECT DISTINCT f.user.id FROM Favorite f WHERE f.product.id IN :productIds")
+    List<Long> findUserIdsByProductIds(@Param("productIds") Collection<Long> productIds);
+
+    // 여러 상품의 찜 일괄 삭제 (상품 일괄 삭제 시 사용)
+    @Modifying
+    @Query("DELETE FROM Favorite f WHERE f.product.id IN :productIds")
+    int bulkDeleteByProductIds(@Param("productIds") Collection<Long> productIds);
+}
@@ -30,7 +30,9 @@ import java.util.Map;
  * | GET    | /api/favorites                | 사용자의 찜 목록 조회      | O        |
  * | POST   | /api/favorites/toggle         | 찜하기 토글 (추가/삭제)    | O        |
  * | GET    | /api/favorites/check/{id}     | 특정 상품 찜 여부 확인     | △ (선택) |
+ * | GET    | /api/favorites/check?productIds=1,2 | 여러 상품 찜 여부 확인 | △ (선택) |
  * | GET    | /api/favorites/count/product/{id} | 상품별 찜 개수 조회    | X        |
+ * | GET    | /api/favorites/count/products?productIds=1,2 | 여러 상품 찜 개수 | X |
  * | GET    | /api/favorites/count          | 사용자의 찜 개수 조회      | △ (선택) |
  * | DELETE | /api/favorites/product/{id}   | 특정 상품 찜 삭제         | O        |
  *
@@ -64,6 +66,9 @@ import java.util.Map;
 @Slf4j //로깅 객체를 코드를 직접 작성하지 않고도 자동으로 사용할 수 있게 해줍니다.
 public class FavoriteRestController {
 
+    /** 여러 상품 일괄 확인/조회 시 한 번에 받을 수 있는 최대 상품 수 (상품 목록 한 페이지 기준) */
+    private static final int MAX_BATCH_IDS = 100;
+
     /** 찜하기 비즈니스 로직 처리 서비스 */
     private final FavoriteService favoriteService;
 
@@ -209,8 +214,8 @@ public class FavoriteRestController {
      * 1. JWT 토큰에서 사용자 정보 추출
      * 2. productId 유효성 검증 (null 또는 0 이하 체크)
      * 3. FavoriteService.toggleFavorite() 호출
-     *    - 이미 찜한 상품 → 삭제 후 null 반환
-     *    - 찜하지 않은 상품 → 추가 후 FavoriteDTO 반환
+     *    - 이미 찜한 상품 → 삭제 후 false 반환
+     *    - 찜하지 않은 상품 → 추가 후 true 반환
      * 4. 결과에 따라 응답 구성
      *
      * ========================================
@@ -219,8 +224,7 @@ public class FavoriteRestController {
      * {
      *   "success": true,
      *   "message": "찜하기에 추가되었습니다.",
-     *   "isFavorite": true,
-     *   "data": { ... FavoriteDTO ... }
+     *   "isFavorite": true
      * }
      *
      * ========================================
@@ -259,12 +263,12 @@ public class FavoriteRestController {
             log.info("[toggleFavorite] 찜하기 토글 요청 - 사용자 ID: {}, 상품 ID: {}",
                     user.getId(), request.getProductId());
 
-            // 3. 토글 로직 실행: 이미 찜했으면 삭제(null 반환), 아니면 추가(DTO 반환)
-            FavoriteDTO result = favoriteService.toggleFavorite(user.getId(), request.getProductId());
+            // 3. 토글 로직 실행: 이미 찜했으면 삭제(false), 아니면 추가(true)
+            boolean added = favoriteService.toggleFavorite(user.getId(), request.getProductId());
 
             // 4. 결과에 따라 응답 구성
             response.put("success", true);
-            if (result == null) {
+            if (!added) {
                 // 찜하기 취소된 경우
                 response.put("message", "찜하기가 취소되었습니다.");
                 response.put("isFavorite", false);
@@ -273,8 +277,7 @@ public class FavoriteRestController {
                 // 찜하기 추가된 경우
                 response.put("message", "찜하기에 추가되었습니다.");
                 response.put("isFavorite", true);
-                response.put("data", result);
-                log.info("[toggleFavorite] 찜하기 추가 성공 - favoriteId: {}", result.getId());
+                log.info("[toggleFavorite] 찜하기 추가 성공");
             }
 
             return ResponseEntity.ok(response);
@@ -358,6 +361,64 @@ public class FavoriteRestController {
         }
     }
 
+    /**
+     * 여러 상품의 찜 여부 한 번에 확인 (상품 목록 화면용)
+     * ========================================
+     * 📌 API 정보
+     * ========================================
+     * - HTTP Method: GET
+     * - URL: /api/favorites/check?productIds=1,2,3
+     * - 인증: 선택 (비로그인 시 빈 목록 반환)
+     * - 한 번에 최대 MAX_BATCH_IDS 개
+     *
+     * ========================================
+     * 📌 처리 흐름
+     * ========================================
+     * 상품 카드마다 /check/{id} 를 호출하는 대신 화면의 상품 ID를 모아 한 번만 호출한다.
+     * 회원 찜 집합(FavoriteSetCache)에서 확인하므로 캐시에 있으면 찜 테이블을 조회하지 않는다.
+     *
+     * ========================================
+     * 📌 응답 예시
+     * ========================================
+     * {
+     *   "success": true,
+     *   "favoriteProductIds": [1, 3]   // 요청한 상품 중 찜한 상품 ID
+     * }
+     */
+    @GetMapping("/check")
+    public ResponseEntity<Map<String, Object>> checkFavorites(
+            @RequestParam List<Long> productIds,
+            @RequestHeader(value = "Authorization", required = false) String authHeader) {
+        Map<String, Object> response = new HashMap<>();
+        if (productIds.size() > MAX_BATCH_IDS) {
+            response.put("success", false);
+            response.put("message", "상품은 한 번에 최대 " + MAX_BATCH_IDS + "개까지 확인할 수 있습니다.");
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
+        }
+        try {
+            // 로그인하지 않은 경우 → 빈 목록 반환 (에러 없이)
+            if (authHeader == null || !authHeader.startsWith("Bearer ")) {
+                response.put("success", true);
+                response.put("favoriteProductIds", List.of());
+                return ResponseEntity.ok(response);
+            }
+
+            User user = getUserFromToken(authHeader);
+            List<Long> favorited = favoriteService.findFavoritedProductIds(user.getId(), productIds);
+
+            response.put("success", true);
+            response.put("favoriteProductIds", favorited);
+            return ResponseEntity.ok(response);
+
+        } catch (Exception e) {
+            // 오류 발생 시에도 빈 목록 반환 (사용자 경험 우선)
+            log.error("찜 여부 일괄 확인 중 오류: {}", e.getMessage(), e);
+            response.put("success", true);
+            response.put("favoriteProductIds", List.of());
+            return ResponseEntity.ok(response);
+        }
+    }
+
     /**
      * 특정 상품의 찜 개수 조회
      * ========================================
@@ -402,6 +463,45 @@ public class FavoriteRestController {
         }
     }
 
+    /**
+     * 여러 상품의 찜 개수 한 번에 조회
+     * ========================================
+     * 📌 API 정보
+     * ========================================
+     * - HTTP Method: GET
+     * - URL: /api/favorites/count/products?productIds=1,2,3
+     * - 인증: 불필요 (공개 API)
+     * - 한 번에 최대 MAX_BATCH_IDS 개
+     * ========================================
+     * 📌 응답 예시
+     * ========================================
+     * {
+     *   "success": true,
+     *   "counts": { "1": 42, "2": 0, "3": 7 }
+     * }
+     */
+    @GetMapping("/count/products")
+    public ResponseEntity<Map<String, Object>> getFavoriteCountsByProducts(
+            @RequestParam List<Long> productIds) {
+        Map<String, Object> response = new HashMap<>();
+        if (productIds.size() > MAX_BATCH_IDS) {
+            response.put("success", false);
+            response.put("message", "상품은 한 번에 최대 " + MAX_BATCH_IDS + "개까지 조회할 수 있습니다.");
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
+        }
+        try {
+            response.put("success", true);
+            response.put("counts", favoriteService.getFavoriteCounts(productIds));
+            return ResponseEntity.ok(response);
+
+        } catch (Exception e) {
+            log.error("상품 찜 개수 일괄 조회 중 오류: {}", e.getMessage(), e);
+            response.put("success", false);
+            response.put("message", "찜 개수를 조회하는 중 오류가 발생했습니다.");
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
+        }
+    }
+
     /**
      * 사용자의 찜 개수 조회
      *
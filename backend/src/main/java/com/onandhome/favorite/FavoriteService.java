@@ -4,18 +4,21 @@ import com.onandhome.admin.adminProduct.ProductRepository;
 import com.onandhome.admin.adminProduct.entity.Product;
 import com.onandhome.favorite.dto.FavoriteDTO;
 import com.onandhome.favorite.entity.Favorite;
-import com.onandhome.user.UserRepository;
-import com.onandhome.user.entity.User;
+import com.onandhome.favorite.entity.ProductFavoriteStat;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 //역할: 찜하기 관련 비즈니스 로직 처리
+//찜 여부/회원별 찜 개수: FavoriteSetCache (회원별 찜 상품 집합, 메모리)
+//상품별 찜 개수: product_favorite_stat 카운터 (찜 추가/취소 시 같은 트랜잭션에서 증감)
 
 @Service
 @RequiredArgsConstructor
@@ -23,8 +26,9 @@ import java.util.stream.Collectors;
 public class FavoriteService {
 
     private final FavoriteRepository favoriteRepository;
-    private final UserRepository userRepository;
+    private final ProductFavoriteStatRepository statRepository;
     private final ProductRepository productRepository;
+    private final FavoriteSetCache favoriteSetCache;
 
 
     @Transactional(readOnly = true)
@@ -42,52 +46,45 @@ public class FavoriteService {
 
     @Transactional
     //찜하기 토글 (있으면 삭제, 없으면 추가)
-    public FavoriteDTO toggleFavorite(Long userId, Long productId) {
+    //조회 없이 DELETE 먼저 시도 → 지운 행이 없으면 INSERT (회원/상품 엔티티 조회 없음)
+    //반환값: true = 찜 추가됨, false = 찜 취소됨
+    public boolean toggleFavorite(Long userId, Long productId) {
         log.info("찜하기 토글 - userId: {}, productId: {}", userId, productId);
 
-        // 이미 찜한 상품인지 확인 Optional이용해서 null값 허용
-        Optional<Favorite> existingFavorite = favoriteRepository.findByUserIdAndProductId(userId, productId);
-
-        if (existingFavorite.isPresent()) {
-            // 이미 찜한 경우 -> 삭제
-            favoriteRepository.delete(existingFavorite.get());
-            log.info("찜하기 취소 완료 - favoriteId: {}", existingFavorite.get().getId());
-            return null; // 삭제했음을 나타내기 위해 null 반환
-        } else {
-            // 찜하지 않은 경우 -> 추가
-            return addFavorite(userId, productId);
+        if (favoriteRepository.deleteByUserIdAndProductId(userId, productId) > 0) {
+            onRemoved(userId, productId);
+            log.info("찜하기 취소 완료 - userId: {}, productId: {}", userId, productId);
+            return false;
         }
+        insertFavorite(userId, productId); // 동시에 들어온 요청이 먼저 찜했어도 결과는 "찜한 상태"
+        return true;
     }
 
 
     @Transactional
     //찜 하기 추가
-    public FavoriteDTO addFavorite(Long userId, Long productId) {
+    public void addFavorite(Long userId, Long productId) {
         log.info("찜하기 추가 - userId: {}, productId: {}", userId, productId);
 
-        // 사용자 확인
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다. ID: " + userId));
-
-        // 상품 확인
-        Product product = productRepository.findById(productId)
-                .orElseThrow(() -> new IllegalArgumentException("상품을 찾을 수 없습니다. ID: " + productId));
-
-        // 이미 찜한 상품인지 재확인
-        if (favoriteRepository.existsByUserIdAndProductId(userId, productId)) {
+        if (!insertFavorite(userId, productId)) {
             throw new IllegalStateException("이미 찜한 상품입니다.");
         }
+    }
 
-        // 찜하기 생성
-        Favorite favorite = Favorite.builder()
-                .user(user)
-                .product(product)
-                .build();
-
-        Favorite savedFavorite = favoriteRepository.save(favorite);
-        log.info("찜하기 추가 완료 - favoriteId: {}", savedFavorite.getId());
+    //찜 INSERT + 상품 찜 개수 증가 + 회원 찜 집합 갱신 (커밋 후)
+    //반환값: false = 이미 찜한 상품 (상품이 없으면 예외)
+    private boolean insertFavorite(Long userId, Long productId) {
+        if (favoriteRepository.insertIfAbsent(userId, productId) == 0) {
+            if (!productRepository.existsById(productId)) {
+                throw new IllegalArgumentException("상품을 찾을 수 없습니다. ID: " + productId);
+            }
+            return false;
+        }
 
-        return convertToDTO(savedFavorite);
+        statRepository.increment(productId, 1);
+        favoriteSetCache.added(userId, productId);
+        log.info("찜하기 추가 완료 - userId: {}, productId: {}", userId, productId);
+        return true;
     }
 
 
@@ -96,32 +93,60 @@ public class FavoriteService {
     public void removeFavorite(Long userId, Long productId) {
         log.info("찜하기 삭제 - userId: {}, productId: {}", userId, productId);
 
-        Favorite favorite = favoriteRepository.findByUserIdAndProductId(userId, productId)
-                .orElseThrow(() -> new IllegalArgumentException("찜 목록에서 찾을 수 없습니다."));
+        if (favoriteRepository.deleteByUserIdAndProductId(userId, productId) == 0) {
+            throw new IllegalArgumentException("찜 목록에서 찾을 수 없습니다.");
+        }
+        onRemoved(userId, productId);
+        log.info("찜하기 삭제 완료 - userId: {}, productId: {}", userId, productId);
+    }
 
-        favoriteRepository.delete(favorite);
-        log.info("찜하기 삭제 완료 - favoriteId: {}", favorite.getId());
+    //찜 취소 후처리: 상품 찜 개수 차감 + 회원 찜 집합 갱신 (커밋 후)
+    private void onRemoved(Long userId, Long productId) {
+        statRepository.increment(productId, -1);
+        favoriteSetCache.removed(userId, productId);
     }
 
 
-    @Transactional(readOnly = true)
-    //특정 상품이 찜되어 있는지 확인
+    //특정 상품이 찜되어 있는지 확인 (회원 찜 집합 캐시 사용)
     public boolean isFavorite(Long userId, Long productId) {
-        return favoriteRepository.existsByUserIdAndProductId(userId, productId);
+        return favoriteSetCache.get(userId).contains(productId);
+    }
+
+
+    //여러 상품 중 찜한 상품 ID만 골라서 반환 (상품 목록 화면용 - 캐시에 있으면 DB 조회 없음)
+    public List<Long> findFavoritedProductIds(Long userId, Collection<Long> productIds) {
+        ProductIdSet favorites = favoriteSetCache.get(userId);
+        return productIds.stream()
+                .filter(id -> id != null && favorites.contains(id))
+                .distinct()
+                .collect(Collectors.toList());
     }
 
 
     @Transactional(readOnly = true)
-    //특정 상품의 찜 개수 조회
+    //특정 상품의 찜 개수 조회 (카운터 테이블 PK 조회)
     public long getFavoriteCountByProductId(Long productId) {
-        return favoriteRepository.countByProductId(productId);
+        return statRepository.findById(productId)
+                .map(ProductFavoriteStat::getFavoriteCount)
+                .orElse(0L);
     }
 
 
     @Transactional(readOnly = true)
-    //사용자별 찜 개수 조회
+    //여러 상품의 찜 개수 조회 (쿼리 1회, 찜이 없는 상품은 0)
+    public Map<Long, Long> getFavoriteCounts(Collection<Long> productIds) {
+        Map<Long, Long> counts = new LinkedHashMap<>();
+        productIds.forEach(id -> counts.put(id, 0L));
+        for (Object[] row : statRepository.findCounts(productIds)) {
+            counts.put((Long) row[0], ((Number) row[1]).longValue());
+        }
+        return counts;
+    }
+
+
+    //사용자별 찜 개수 조회 (회원 찜 집합 캐시 사용)
     public long getFavoriteCountByUserId(Long userId) {
-        return favoriteRepository.countByUserId(userId);
+        return favoriteSetCache.get(userId).size();
     }
 
    //FavoriteEntity를 FavoriteDTO로 변환
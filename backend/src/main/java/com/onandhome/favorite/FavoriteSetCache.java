@@ -0,0 +1,127 @@
+package com.onandhome.favorite;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.UnaryOperator;
+
+/**
+ * 회원별 찜 상품 집합 캐시
+ *
+ * - 처음 조회할 때 찜한 상품 ID만 한 번 읽어 ProductIdSet 으로 보관한다.
+ *   이후 "이 상품들 중 찜한 것" 확인은 DB 조회 없이 메모리에서 처리한다.
+ * - 찜 추가/취소는 트랜잭션이 커밋된 뒤에 캐시에 반영한다. (롤백되면 반영 안 함)
+ * - 보관 회원 수(favorite.cache.max-users)를 넘으면 가장 오래 안 쓴 회원부터 버린다.
+ * - 지표: favorite.cache.requests{result=hit|miss}, favorite.cache.users
+ */
+@Component
+@Slf4j
+public class FavoriteSetCache implements MeterBinder {
+
+    private final FavoriteRepository favoriteRepository;
+    private final int maxUsers;
+
+    /* 접근 순서 LinkedHashMap = LRU (sets 자체를 잠그고 사용) */
+    private final LinkedHashMap<Long, ProductIdSet> sets;
+
+    /* 찜 변경이 커밋될 때마다 증가 - 로딩 중에 변경이 끼어들면 로딩 결과를 캐시에 넣지 않음 */
+    private final AtomicLong generation = new AtomicLong();
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    public FavoriteSetCache(FavoriteRepository favoriteRepository,
+                            @Value("${favorite.cache.max-users:20000}") int maxUsers) {
+        this.favoriteRepository = favoriteRepository;
+        this.maxUsers = maxUsers;
+        this.sets = new LinkedHashMap<>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, ProductIdSet> eldest) {
+                return size() > FavoriteSetCache.this.maxUsers;
+            }
+        };
+    }
+
+    /**
+     * 회원의 찜 상품 집합 (없으면 DB에서 한 번 읽음)
+     */
+    ProductIdSet get(Long userId) {
+        synchronized (sets) {
+            ProductIdSet cached = sets.get(userId);
+            if (cached != null) {
+                hits.incrementAndGet();
+                return cached;
+            }
+        }
+
+        misses.incrementAndGet();
+        long loadedAt = generation.get();
+        ProductIdSet loaded = ProductIdSet.of(favoriteRepository.findProductIdsByUserId(userId));
+        synchronized (sets) {
+            if (generation.get() == loadedAt) {
+                sets.putIfAbsent(userId, loaded);
+            }
+        }
+        return loaded;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("favorite.cache.requests", hits, AtomicLong::get)
+                .tag("result", "hit")
+                .register(registry);
+        FunctionCounter.builder("favorite.cache.requests", misses, AtomicLong::get)
+                .tag("result", "miss")
+                .register(registry);
+        Gauge.builder("favorite.cache.users", this, cache -> {
+                    synchronized (cache.sets) {
+                        return cache.sets.size();
+                    }
+                })
+                .register(registry);
+    }
+
+    /** 찜 추가 (커밋 후 반영) */
+    void added(Long userId, Long productId) {
+        afterCommit(userId, set -> set.with(productId));
+    }
+
+    /** 찜 취소 (커밋 후 반영) */
+    void removed(Long userId, Long productId) {
+        afterCommit(userId, set -> set.without(productId));
+    }
+
+    /** 회원 캐시 제거 (회원 일괄 탈퇴 등, 커밋 후 반영) */
+    public void evict(Long userId) {
+        afterCommit(userId, set -> null);
+    }
+
+    private void afterCommit(Long userId, UnaryOperator<ProductIdSet> change) {
+        Runnable apply = () -> {
+            generation.incrementAndGet();
+            synchronized (sets) {
+                sets.computeIfPresent(userId, (id, set) -> change.apply(set));
+            }
+        };
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    apply.run();
+                }
+            });
+        } else {
+            apply.run();
+        }
+    }
+}
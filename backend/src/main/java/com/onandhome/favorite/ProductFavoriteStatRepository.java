@@ -0,0 +1,47 @@
+package com.onandhome.favorite;
+
+import com.onandhome.favorite.entity.ProductFavoriteStat;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+//역할 : 상품별 찜 개수 카운터 증분 반영 / 조회
+
+@Repository
+public interface ProductFavoriteStatRepository extends JpaRepository<ProductFavoriteStat, Long> {
+
+    // 찜 개수 증감 (없으면 INSERT, 있으면 더함 - 0 미만으로 내려가지 않음)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "product_favorite_stat"))
+    @Modifying
+    @Query(value = "INSERT INTO product_favorite_stat (product_id, favorite_count) " +
+            "VALUES (:productId, GREATEST(:delta, 0)) " +
+            "ON DUPLICATE KEY UPDATE favorite_count = GREATEST(favorite_count + :delta, 0)",
+            nativeQuery = true)
+    void increment(@Param("productId") Long productId, @Param("delta") long delta);
+
+    // 여러 상품의 찜 개수 (결과 행: [productId, favoriteCount] - 카운터가 없는 상품은 제외됨)
+    @Query("SELECT s.productId, s.favoriteCount FROM ProductFavoriteStat s WHERE s.productId IN :productIds")
+    List<Object[]> findCounts(@Param("productIds") Collection<Long> productIds);
+
+    // 회원 일괄 탈퇴 시 해당 회원들의 찜만큼 차감 (찜 삭제 전에 호출)
+    @Modifying
+    @Query(value = "UPDATE product_favorite_stat s " +
+            "JOIN (SELECT product_id, COUNT(*) AS cnt FROM favorite WHERE user_id IN (:userIds) GROUP BY product_id) d " +
+            "ON d.product_id = s.product_id " +
+            "SET s.favorite_count = GREATEST(s.favorite_count - d.cnt, 0)",
+            nativeQuery = true)
+    int decrementForUsers(@Param("userIds") Collection<Long> userIds);
+
+    // 상품 일괄 삭제 시 해당 상품들의 찜 개수 행 삭제
+    @Modifying
+    @Query("DELETE FROM ProductFavoriteStat s WHERE s.productId IN :productIds")
+    int bulkDeleteByProductIds(@Param("productIds") Collection<Long> productIds);
+}
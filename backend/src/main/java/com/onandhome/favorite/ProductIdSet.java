@@ -0,0 +1,59 @@
+package com.onandhome.favorite;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * 회원 한 명의 찜한 상품 ID 집합 (정렬된 long 배열, 변경 시 새 객체 생성)
+ *
+ * HashSet<Long> 은 원소마다 박싱 객체 + 엔트리가 붙어 수십 바이트를 쓰지만
+ * 여기서는 상품 하나당 8바이트만 쓴다. 조회는 이진 탐색.
+ * 찜 추가/취소는 조회보다 훨씬 드물어서 copy-on-write 로 충분하다. (읽을 때 잠금 불필요)
+ */
+final class ProductIdSet {
+
+    static final ProductIdSet EMPTY = new ProductIdSet(new long[0]);
+
+    private final long[] ids;
+
+    private ProductIdSet(long[] sortedIds) {
+        this.ids = sortedIds;
+    }
+
+    static ProductIdSet of(Collection<Long> productIds) {
+        long[] ids = productIds.stream().mapToLong(Long::longValue).sorted().distinct().toArray();
+        return ids.length == 0 ? EMPTY : new ProductIdSet(ids);
+    }
+
+    boolean contains(long productId) {
+        return Arrays.binarySearch(ids, productId) >= 0;
+    }
+
+    int size() {
+        return ids.length;
+    }
+
+    ProductIdSet with(long productId) {
+        int pos = Arrays.binarySearch(ids, productId);
+        if (pos >= 0) {
+            return this;
+        }
+        int insertAt = -pos - 1;
+        long[] next = new long[ids.length + 1];
+        System.arraycopy(ids, 0, next, 0, insertAt);
+        next[insertAt] = productId;
+        System.arraycopy(ids, insertAt, next, insertAt + 1, ids.length - insertAt);
+        return new ProductIdSet(next);
+    }
+
+    ProductIdSet without(long productId) {
+        int pos = Arrays.binarySearch(ids, productId);
+        if (pos < 0) {
+            return this;
+        }
+        long[] next = new long[ids.length - 1];
+        System.arraycopy(ids, 0, next, 0, pos);
+        System.arraycopy(ids, pos + 1, next, pos, ids.length - pos - 1);
+        return new ProductIdSet(next);
+    }
+}
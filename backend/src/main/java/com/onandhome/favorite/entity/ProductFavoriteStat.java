@@ -0,0 +1,25 @@
+package com.onandhome.favorite.entity;
+
+//역할 : 상품별 찜 개수 카운터 (찜 추가/취소 시 증분 반영)
+//
+//특징
+//product 테이블과 분리: 관리자 상품 수정(전체 컬럼 UPDATE)이 카운터를 덮어쓰지 않도록 별도 테이블로 관리
+//COUNT(*) 대신 PK 조회 한 번으로 찜 개수를 읽는다.
+
+import jakarta.persistence.*;
+import lombok.*;
+
+@Entity
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "product_favorite_stat")
+public class ProductFavoriteStat {
+
+    @Id
+    @Column(name = "product_id")
+    private Long productId;
+
+    @Column(name = "favorite_count", nullable = false)
+    private long favoriteCount;
+}
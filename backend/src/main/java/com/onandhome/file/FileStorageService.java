@@ -1,71 +1,382 @@
 package com.onandhome.file;
 
+import com.onandhome.file.dto.StoredImage;
+import com.onandhome.file.entity.StoredFile;
+import com.onandhome.file.storage.FileStorageBackend;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.util.StringUtils;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.StandardCopyOption;
-import java.util.UUID;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.zip.GZIPOutputStream;
 
 /**
- * 로컬 디스크에 파일을 저장하는 서비스
+ * 업로드 파일 저장 서비스 (상품/리뷰/QnA 업로드 공통)
+ *
+ * - 업로드 스트림을 임시 파일로 복사하면서 SHA-256 을 함께 계산한다. (파일을 두 번 읽지 않음)
+ * - 내용 해시가 같으면 기존 파일을 재사용하고 참조 수(ref_count)만 늘린다.
+ * - 저장 위치는 해시 앞 4자리로 나눈 2단계 디렉터리 (ab/cd/abcd...ef.jpg)
+ * - release() 로 참조를 해제하며, 참조가 0이 될 때만 원본과 변형 파일을 삭제한다.
+ * - 텍스트 계열(SVG 등)은 gzip 사본(<key>.gz)을 함께 저장한다.
+ * - 실제 저장은 FileStorageBackend 구현(기본: 로컬 디스크)에 위임한다.
  */
 @Service
+@Slf4j
 public class FileStorageService {
 
-    private final Path uploadPath;
+    /* 같은 해시에 대한 저장/해제가 겹치지 않도록 하는 잠금 (해시 기준 분할)
+     * 잠근 채로 DB / 파일 I/O 를 하므로 synchronized 대신 ReentrantLock (가상 스레드가 캐리어 스레드를 붙잡지 않도록) */
+    private static final int LOCK_STRIPES = 64;
 
-    public FileStorageService(@Value("${file.upload-dir}") String uploadDir) {
-        // application.properties의 file.upload-dir=uploads 사용
-        this.uploadPath = Paths.get(uploadDir).toAbsolutePath().normalize();
+    /* 미리 gzip 으로 압축해 둘 형식 (이미지/동영상 등은 이미 압축되어 있으므로 제외) */
+    private static final Set<String> COMPRESSIBLE_TYPES = Set.of(
+            "image/svg+xml", "application/json", "application/javascript", "application/xml");
+    private static final long COMPRESS_MIN_SIZE = 1024;
 
+    /* 미리 압축된 파일의 key 접미사 (UploadServingController 가 Accept-Encoding 에 맞춰 서빙) */
+    private static final String GZIP_SUFFIX = ".gz";
+
+    private final FileStorageBackend backend;
+    private final StoredFileRepository storedFileRepository;
+    private final ImageVariantService imageVariantService;
+    private final TransactionTemplate transactionTemplate;
+    private final Path stagingDir;
+    private final ReentrantLock[] locks = new ReentrantLock[LOCK_STRIPES];
+
+    public FileStorageService(@Value("${file.staging-dir:upload-staging}") String stagingDir,
+                              FileStorageBackend backend,
+                              StoredFileRepository storedFileRepository,
+                              ImageVariantService imageVariantService,
+                              PlatformTransactionManager transactionManager) {
+        this.backend = backend;
+        this.storedFileRepository = storedFileRepository;
+        this.imageVariantService = imageVariantService;
+        // 참조 수 변경은 호출하는 쪽 트랜잭션과 별개로 바로 커밋 (파일 상태와 항상 일치하도록)
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        for (int i = 0; i < LOCK_STRIPES; i++) {
+            locks[i] = new ReentrantLock();
+        }
+
+        this.stagingDir = Paths.get(stagingDir).toAbsolutePath().normalize();
         try {
-            Files.createDirectories(this.uploadPath); // 폴더가 없으면 생성
+            Files.createDirectories(this.stagingDir);
         } catch (IOException e) {
-            throw new RuntimeException("업로드 디렉터리를 생성할 수 없습니다: " + this.uploadPath, e);
+            throw new RuntimeException("업로드 임시 디렉터리를 생성할 수 없습니다: " + this.stagingDir, e);
         }
     }
 
     /**
-     * 파일을 저장하고, 브라우저에서 접근 가능한 URL(/uploads/파일명)을 반환
+     * 파일을 저장하고, 브라우저에서 접근 가능한 URL을 반환
      */
     public String storeFile(MultipartFile file) {
+        return backend.url(store(file, false).getStorageKey());
+    }
+
+    /**
+     * 이미지를 저장하고 썸네일/목록/상세 변형까지 생성
+     * (같은 내용의 이미지가 이미 있으면 디코딩 없이 기존 변형을 그대로 사용)
+     */
+    public StoredImage storeImage(MultipartFile file) {
+        return toStoredImage(store(file, true));
+    }
+
+    /**
+     * 파일 참조 해제
+     * 트랜잭션 안에서 호출되면 커밋된 뒤에 해제한다. (롤백되면 파일은 그대로 유지)
+     */
+    public void release(String url) {
+        if (url == null || url.isBlank()) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    releaseNow(url);
+                }
+            });
+        } else {
+            releaseNow(url);
+        }
+    }
+
+    /**
+     * 방금 저장한 파일을 호출하는 트랜잭션이 롤백되면 참조 해제
+     * (파일은 저장됐지만 이를 가리키는 DB 행이 남지 않는 경우 정리용)
+     */
+    public void releaseOnRollback(String url) {
+        if (url == null || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_ROLLED_BACK) {
+                    releaseNow(url);
+                }
+            }
+        });
+    }
+
+    /**
+     * 트랜잭션과 무관하게 즉시 참조 해제 (저장 직후 실패한 작업 되돌리기용)
+     */
+    public void discard(String url) {
+        if (url != null && !url.isBlank()) {
+            releaseNow(url);
+        }
+    }
+
+    // ==================== 저장 ====================
+
+    private StoredFile store(MultipartFile file, boolean image) {
         if (file == null || file.isEmpty()) {
             throw new IllegalArgumentException("업로드할 파일이 없습니다.");
         }
 
-        // 원본 파일명 (null 체크)
-        String originalFilename = file.getOriginalFilename();
-        if (originalFilename == null) {
-            originalFilename = "file";
+        String originalFilename = file.getOriginalFilename() != null
+                ? StringUtils.cleanPath(file.getOriginalFilename()) : "file";
+        String ext = extension(originalFilename);
+
+        Path temp = null;
+        Path gzip = null;
+        ImageVariantService.Rendition rendition = null;
+        try {
+            temp = Files.createTempFile(stagingDir, "upload-", ext.isEmpty() ? "" : "." + ext);
+
+            // 1) 임시 파일로 복사하면서 해시 계산
+            MessageDigest digest = sha256();
+            long size;
+            try (InputStream in = new DigestInputStream(file.getInputStream(), digest)) {
+                size = Files.copy(in, temp, StandardCopyOption.REPLACE_EXISTING);
+            }
+            String hash = HexFormat.of().formatHex(digest.digest());
+
+            ReentrantLock lock = lockFor(hash);
+            lock.lock();
+            try {
+                // 2) 같은 내용이 이미 있으면 참조 수만 증가
+                StoredFile existing = transactionTemplate.execute(status -> {
+                    Optional<StoredFile> found = storedFileRepository.findByHash(hash);
+                    found.ifPresent(f -> storedFileRepository.incrementRefCount(f.getId()));
+                    return found.orElse(null);
+                });
+                if (existing != null) {
+                    if (!backend.exists(existing.getStorageKey())) {
+                        // 디스크에서 수동으로 지워진 경우 복구
+                        backend.put(temp, existing.getStorageKey(), existing.getContentType());
+                    }
+                    log.info("중복 파일 재사용 - {} ({})", existing.getStorageKey(), originalFilename);
+                    return existing;
+                }
+
+                // 3) 새 파일: 변형 생성 → 저장소로 이동 → 행 저장
+                String key = shardPrefix(hash) + hash + (ext.isEmpty() ? "" : "." + ext);
+                StoredFile.StoredFileBuilder row = StoredFile.builder()
+                        .hash(hash)
+                        .storageKey(key)
+                        .size(size)
+                        .contentType(file.getContentType())
+                        .refCount(1);
+
+                if (image) {
+                    rendition = imageVariantService.render(temp);
+                }
+                if (rendition != null) {
+                    row.width(rendition.width()).height(rendition.height());
+                    for (Map.Entry<ImageVariant, Path> entry : rendition.files().entrySet()) {
+                        Path variantFile = entry.getValue();
+                        String variantKey = shardPrefix(hash) + hash + "_" + entry.getKey().getSuffix()
+                                + "." + extension(variantFile.getFileName().toString());
+                        backend.put(variantFile, variantKey, Files.probeContentType(variantFile));
+                        switch (entry.getKey()) {
+                            case THUMB -> row.thumbKey(variantKey);
+                            case LIST -> row.listKey(variantKey);
+                            case DETAIL -> row.detailKey(variantKey);
+                        }
+                    }
+                }
+                gzip = precompress(temp, size, file.getContentType());
+                if (gzip != null) {
+                    backend.put(gzip, key + GZIP_SUFFIX, file.getContentType());
+                }
+                backend.put(temp, key, file.getContentType());
+
+                StoredFile saved = transactionTemplate.execute(status -> storedFileRepository.save(row.build()));
+                log.info("파일 저장 완료 - {} ({}, {} bytes)", key, originalFilename, size);
+                return saved;
+            } finally {
+                lock.unlock();
+            }
+        } catch (IOException e) {
+            throw new RuntimeException("파일 저장 중 오류가 발생했습니다: " + originalFilename, e);
+        } finally {
+            // 저장소로 옮겨지지 않은 임시 파일 정리
+            deleteQuietly(temp);
+            deleteQuietly(gzip);
+            if (rendition != null) {
+                rendition.files().values().forEach(this::deleteQuietly);
+            }
         }
-        originalFilename = StringUtils.cleanPath(originalFilename);
+    }
+
+    private StoredImage toStoredImage(StoredFile file) {
+        String url = backend.url(file.getStorageKey());
+        return StoredImage.builder()
+                .url(url)
+                .thumbUrl(variantUrl(file, file.getThumbKey(), url))
+                .listUrl(variantUrl(file, file.getListKey(), url))
+                .detailUrl(variantUrl(file, file.getDetailKey(), url))
+                .width(file.getWidth() != null ? file.getWidth() : 0)
+                .height(file.getHeight() != null ? file.getHeight() : 0)
+                .build();
+    }
 
-        // 확장자 추출
-        String ext = "";
-        int dotIndex = originalFilename.lastIndexOf('.');
-        if (dotIndex != -1 && dotIndex < originalFilename.length() - 1) {
-            ext = originalFilename.substring(dotIndex + 1);
+    /* 변형 key가 없으면: 변형이 필요 없는 작은 이미지 → 원본 URL, 이미지가 아님/처리 실패 → null */
+    private String variantUrl(StoredFile file, String variantKey, String originalUrl) {
+        if (variantKey != null) {
+            return backend.url(variantKey);
+        }
+        return file.getWidth() != null ? originalUrl : null;
+    }
+
+    // ==================== 해제 ====================
+
+    private void releaseNow(String url) {
+        String key = backend.keyOf(url);
+        if (key == null) {
+            return;
+        }
+
+        Optional<StoredFile> found = storedFileRepository.findByStorageKey(key);
+        if (found.isEmpty()) {
+            // 해시 저장 이전에 올라간 파일(uploads/ 바로 아래 UUID 파일)은 예전처럼 바로 삭제
+            if (!key.contains("/")) {
+                deleteObject(key);
+            }
+            return;
         }
 
-        // 충돌 방지를 위해 UUID 기반 새 파일명 생성
-        String uuid = UUID.randomUUID().toString().replace("-", "");
-        String storedFilename = uuid + (ext.isEmpty() ? "" : "." + ext);
+        StoredFile file = found.get();
+        ReentrantLock lock = lockFor(file.getHash());
+        lock.lock();
+        try {
+            Boolean unreferenced = transactionTemplate.execute(status -> {
+                storedFileRepository.decrementRefCount(file.getId());
+                return storedFileRepository.deleteIfUnreferenced(file.getId()) > 0;
+            });
+            if (Boolean.TRUE.equals(unreferenced)) {
+                deleteObject(file.getStorageKey());
+                deleteObject(file.getStorageKey() + GZIP_SUFFIX);
+                deleteObject(file.getThumbKey());
+                deleteObject(file.getListKey());
+                deleteObject(file.getDetailKey());
+                log.info("참조가 없는 파일 삭제 - {}", file.getStorageKey());
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
 
+    private void deleteObject(String key) {
+        if (key == null) {
+            return;
+        }
         try {
-            Path targetLocation = this.uploadPath.resolve(storedFilename);
-            Files.copy(file.getInputStream(), targetLocation, StandardCopyOption.REPLACE_EXISTING);
+            backend.delete(key);
         } catch (IOException e) {
-            throw new RuntimeException("파일 저장 중 오류가 발생했습니다: " + originalFilename, e);
+            log.error("파일 삭제 실패: {}", key, e);
+        }
+    }
+
+    // ==================== 내부 유틸 ====================
+
+    /**
+     * 텍스트 계열 파일은 gzip 사본을 미리 만들어 둔다. (요청마다 압축하지 않도록)
+     * 압축 효과가 10% 미만이면 만들지 않는다.
+     */
+    private Path precompress(Path source, long size, String contentType) throws IOException {
+        if (contentType == null || size < COMPRESS_MIN_SIZE) {
+            return null;
+        }
+        String type = contentType.toLowerCase(Locale.ROOT);
+        int semicolon = type.indexOf(';');
+        if (semicolon >= 0) {
+            type = type.substring(0, semicolon).trim();
+        }
+        if (!type.startsWith("text/") && !COMPRESSIBLE_TYPES.contains(type)) {
+            return null;
         }
 
-        // static-locations: file:uploads/ 로 매핑되어 있으므로
-        // /uploads/파일명 으로 접근 가능
-        return "/uploads/" + storedFilename;
+        Path target = source.resolveSibling(source.getFileName() + GZIP_SUFFIX);
+        try (OutputStream out = new GZIPOutputStream(Files.newOutputStream(target))) {
+            Files.copy(source, out);
+        }
+        if (Files.size(target) > size * 9 / 10) {
+            deleteQuietly(target);
+            return null;
+        }
+        return target;
+    }
+
+    private ReentrantLock lockFor(String hash) {
+        return locks[Math.floorMod(hash.hashCode(), LOCK_STRIPES)];
+    }
+
+    /* 해시 앞 4자리로 2단계 디렉터리 (디렉터리당 파일 수 제한) */
+    private static String shardPrefix(String hash) {
+        return hash.substring(0, 2) + "/" + hash.substring(2, 4) + "/";
+    }
+
+    /* 확장자 (소문자 영숫자 10자 이내만 허용, 그 외는 확장자 없음) */
+    private static String extension(String filename) {
+        int dot = filename.lastIndexOf('.');
+        if (dot == -1 || dot == filename.length() - 1) {
+            return "";
+        }
+        String ext = filename.substring(dot + 1).toLowerCase(Locale.ROOT);
+        return ext.matches("[a-z0-9]{1,10}") ? ext : "";
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private void deleteQuietly(Path path) {
+        if (path == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("임시 파일 삭제 실패: {}", path);
+        }
     }
 }
@@ -0,0 +1,57 @@
+package com.onandhome.file;
+
+import com.onandhome.file.dto.StoredImage;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 첨부 이미지 행(review_image / qna_image) 일괄 INSERT
+ *
+ * 이미지 엔티티는 IDENTITY 키라서 JPA saveAll 로는 INSERT 가 한 건씩 나간다.
+ * 저장 직후 엔티티로 다시 쓸 일이 없으므로 JDBC 배치 한 번으로 넣는다.
+ * (같은 트랜잭션/커넥션을 사용하므로 롤백도 함께 된다)
+ */
+@Repository
+@RequiredArgsConstructor
+@Slf4j
+public class ImageRowBatchWriter {
+
+    /**
+     * 이미지가 붙는 대상 (테이블/FK 컬럼은 고정값 - 외부 입력으로 만들지 않음)
+     */
+    public enum Owner {
+        REVIEW("review_image", "review_id"),
+        QNA("qna_image", "qna_id");
+
+        private final String sql;
+
+        Owner(String table, String ownerColumn) {
+            this.sql = "INSERT INTO " + table + " (" + ownerColumn
+                    + ", image_url, thumb_url, list_url, detail_url, created_at) VALUES (?, ?, ?, ?, ?, ?)";
+        }
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void insert(Owner owner, Long ownerId, List<StoredImage> images) {
+        if (images == null || images.isEmpty()) {
+            return;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(owner.sql, images, images.size(), (ps, image) -> {
+            ps.setLong(1, ownerId);
+            ps.setString(2, image.getUrl());
+            ps.setString(3, image.getThumbUrl());
+            ps.setString(4, image.getListUrl());
+            ps.setString(5, image.getDetailUrl());
+            ps.setTimestamp(6, now);
+        });
+        log.debug("{} 이미지 행 {}건 일괄 저장 - ownerId: {}", owner, images.size(), ownerId);
+    }
+}
@@ -0,0 +1,167 @@
+package com.onandhome.file;
+
+import com.onandhome.config.threads.VirtualThreadConfig;
+import com.onandhome.file.dto.StoredImage;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 여러 장 이미지 업로드 처리 (리뷰/QnA 첨부 이미지)
+ *
+ * - 개수/크기/형식 검증을 먼저 끝낸 뒤 저장한다. (하나라도 잘못되면 아무것도 저장하지 않음)
+ *   형식은 Content-Type 이 아니라 파일 앞부분(시그니처)으로 판단한다.
+ * - 저장(해시 계산 + 변형 생성)은 고정 크기 작업 풀에서 병렬로 실행한다.
+ *   풀이 가득 차면 요청 스레드가 직접 처리한다. (작업이 무한히 쌓이지 않음)
+ * - 트랜잭션 안에서 호출되면 롤백 시 저장한 파일의 참조를 자동으로 해제한다.
+ *
+ * 업로드 파트 자체는 MultipartConfig 설정에 따라 수신 즉시 디스크에 기록되며,
+ * 여기서는 그 임시 파일을 한 번만 읽는다.
+ */
+@Service
+@Slf4j
+public class ImageUploadService {
+
+    private final FileStorageService fileStorageService;
+    private final ThreadPoolExecutor executor;
+    private final int maxCount;
+    private final long maxSize;
+
+    public ImageUploadService(FileStorageService fileStorageService,
+                              VirtualThreadConfig virtualThreadConfig,
+                              @Value("${upload.image.workers:4}") int workers,
+                              @Value("${upload.image.queue-capacity:32}") int queueCapacity,
+                              @Value("${upload.image.max-count:10}") int maxCount,
+                              @Value("${upload.image.max-size:10MB}") DataSize maxSize) {
+        this.fileStorageService = fileStorageService;
+        this.maxCount = maxCount;
+        this.maxSize = maxSize.toBytes();
+
+        // 임시 파일 복사 / 참조 수 갱신 / 변형 대기는 I/O 라 가상 스레드 모드면 가상 스레드
+        // (workers 는 스레드 비용이 아니라 동시 저장 수 상한이므로 모드와 관계없이 유지)
+        this.executor = new ThreadPoolExecutor(workers, workers, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), virtualThreadConfig.threadFactory("image-upload"),
+                new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    /**
+     * 이미지 여러 장 검증 + 병렬 저장
+     *
+     * @param files 업로드 파일 (null/빈 파일은 무시)
+     * @return 저장 결과 (입력 순서 유지)
+     * @throws IllegalArgumentException 개수/크기/형식이 허용 범위를 벗어난 경우
+     */
+    public List<StoredImage> storeImages(List<MultipartFile> files) {
+        List<MultipartFile> targets = validate(files);
+        if (targets.isEmpty()) {
+            return List.of();
+        }
+
+        List<Future<StoredImage>> futures = new ArrayList<>(targets.size());
+        for (MultipartFile file : targets) {
+            futures.add(executor.submit(() -> fileStorageService.storeImage(file)));
+        }
+
+        // 모든 작업이 끝날 때까지 기다린 뒤, 하나라도 실패하면 성공한 파일도 되돌린다.
+        List<StoredImage> stored = new ArrayList<>(targets.size());
+        RuntimeException failure = null;
+        for (Future<StoredImage> future : futures) {
+            try {
+                stored.add(future.get());
+            } catch (ExecutionException e) {
+                if (failure == null) {
+                    failure = e.getCause() instanceof RuntimeException re
+                            ? re : new RuntimeException(e.getCause());
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                if (failure == null) {
+                    failure = new IllegalStateException("이미지 저장이 중단되었습니다.", e);
+                }
+            }
+        }
+
+        if (failure != null) {
+            stored.forEach(image -> fileStorageService.discard(image.getUrl()));
+            throw failure;
+        }
+
+        stored.forEach(image -> fileStorageService.releaseOnRollback(image.getUrl()));
+        log.info("이미지 {}장 저장 완료", stored.size());
+        return stored;
+    }
+
+    // ==================== 검증 ====================
+
+    private List<MultipartFile> validate(List<MultipartFile> files) {
+        if (files == null) {
+            return List.of();
+        }
+        List<MultipartFile> targets = files.stream()
+                .filter(f -> f != null && !f.isEmpty())
+                .toList();
+
+        if (targets.size() > maxCount) {
+            throw new IllegalArgumentException("이미지는 최대 " + maxCount + "장까지 첨부할 수 있습니다.");
+        }
+        for (MultipartFile file : targets) {
+            if (file.getSize() > maxSize) {
+                throw new IllegalArgumentException("이미지 한 장의 크기는 "
+                        + DataSize.ofBytes(maxSize).toMegabytes() + "MB 이하여야 합니다: " + file.getOriginalFilename());
+            }
+            if (!isImage(file)) {
+                throw new IllegalArgumentException("이미지 파일(JPG, PNG, GIF, WEBP, BMP)만 첨부할 수 있습니다: "
+                        + file.getOriginalFilename());
+            }
+        }
+        return targets;
+    }
+
+    /* 파일 시그니처로 이미지 형식 확인 (앞 12바이트만 읽음) */
+    private static boolean isImage(MultipartFile file) {
+        byte[] head;
+        try (InputStream in = file.getInputStream()) {
+            head = in.readNBytes(12);
+        } catch (IOException e) {
+            return false;
+        }
+        return startsWith(head, 0xFF, 0xD8, 0xFF)                          // JPEG
+                || startsWith(head, 0x89, 'P', 'N', 'G')                     // PNG
+                || startsWith(head, 'G', 'I', 'F', '8')                      // GIF
+                || startsWith(head, 'B', 'M')                                // BMP
+                || (startsWith(head, 'R', 'I', 'F', 'F')                     // WEBP
+                    && head.length >= 12
+                    && Arrays.equals(Arrays.copyOfRange(head, 8, 12), new byte[]{'W', 'E', 'B', 'P'}));
+    }
+
+    private static boolean startsWith(byte[] data, int... signature) {
+        if (data.length < signature.length) {
+            return false;
+        }
+        for (int i = 0; i < signature.length; i++) {
+            if ((data[i] & 0xFF) != signature[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
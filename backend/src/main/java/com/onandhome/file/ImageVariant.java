@@ -0,0 +1,21 @@
+package com.onandhome.file;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 업로드 이미지 변형(리사이즈) 규격
+ * maxWidth / maxHeight 안에 비율을 유지하며 축소한다. (0 = 제한 없음, 확대는 하지 않음)
+ */
+@Getter
+@RequiredArgsConstructor
+public enum ImageVariant {
+
+    DETAIL("detail", 1200, 0),   // 상세 화면 (세로로 긴 상세 이미지도 가로만 제한)
+    LIST("list", 480, 480),      // 상품 목록 / 카드
+    THUMB("thumb", 200, 200);    // 장바구니, 미니 썸네일
+
+    private final String suffix; // 파일명 접미사 (abc.jpg → abc_thumb.jpg)
+    private final int maxWidth;
+    private final int maxHeight;
+}
@@ -0,0 +1,257 @@
+package com.onandhome.file;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 업로드 이미지 변형(썸네일/목록/상세) 생성 서비스
+ *
+ * - 원본을 한 번만 디코딩한 뒤 큰 규격부터 차례로 축소한다. (DETAIL → LIST → THUMB)
+ * - 디코딩은 메모리를 많이 쓰므로 고정 크기 작업 풀에서만 실행한다.
+ *   대기열이 가득 차면 변형 없이 원본만 사용한다. (요청 스레드에서 디코딩하지 않음)
+ * - 순수 Java(ImageIO + TwelveMonkeys 플러그인)만 사용한다.
+ *   WebP는 읽기만 지원되므로 변형은 JPEG(투명 이미지는 PNG)로 저장한다.
+ * - 변형 파일은 원본 옆에 접미사를 붙여 만들어진다. (abc.jpg → abc_thumb.jpg, abc_list.jpg, abc_detail.jpg)
+ */
+@Service
+@Slf4j
+public class ImageVariantService {
+
+    /* 원본을 그대로 변형 URL로 써도 되는 형식 (브라우저 공통 지원) */
+    private static final Set<String> WEB_FORMATS = Set.of("jpeg", "jpg", "png");
+
+    private final ThreadPoolExecutor executor;
+    private final long maxPixels;
+    private final float jpegQuality;
+    private final long timeoutMillis;
+
+    public ImageVariantService(@Value("${image.processing.workers:0}") int workers,
+                               @Value("${image.processing.queue-capacity:32}") int queueCapacity,
+                               @Value("${image.processing.max-pixels:50000000}") long maxPixels,
+                               @Value("${image.processing.jpeg-quality:0.85}") float jpegQuality,
+                               @Value("${image.processing.timeout-ms:30000}") long timeoutMillis) {
+        // 0이면 CPU 수 기준 (최대 4)
+        // 디코딩/리사이즈는 CPU 작업이라 가상 스레드 모드에서도 플랫폼 스레드 풀 (풀 크기 = CPU / 메모리 사용 상한)
+        int poolSize = workers > 0 ? workers
+                : Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors() / 2));
+        AtomicInteger seq = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), r -> {
+                    Thread t = new Thread(r, "image-variant-" + seq.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                }, new ThreadPoolExecutor.AbortPolicy());
+        this.maxPixels = maxPixels;
+        this.jpegQuality = jpegQuality;
+        this.timeoutMillis = timeoutMillis;
+
+        // 실행 가능한 jar 안의 ImageIO 플러그인(TwelveMonkeys) 등록
+        ImageIO.scanForPlugins();
+    }
+
+    /**
+     * 원본 이미지의 변형 파일을 만든다.
+     * 변형 파일은 원본과 같은 디렉터리에 "원본이름_접미사.확장자" 로 생성되며,
+     * 저장소로 옮기는 것은 호출하는 쪽(FileStorageService)의 몫이다.
+     *
+     * @return 변형 결과 (이미지가 아니거나 처리에 실패하면 null - 원본만 사용)
+     */
+    public Rendition render(Path original) {
+        Future<Rendition> future;
+        try {
+            future = executor.submit(() -> generate(original));
+        } catch (RejectedExecutionException e) {
+            log.warn("이미지 변형 작업 대기열 초과 - 원본만 사용: {}", original.getFileName());
+            return null;
+        }
+
+        try {
+            return future.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            log.warn("이미지 변형 생성 시간 초과 - 원본만 사용: {}", original.getFileName());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            log.warn("이미지 변형 생성 실패 - 원본만 사용: {}, {}", original.getFileName(), e.getMessage());
+        }
+        return null;
+    }
+
+    // ==================== 변형 생성 (작업 풀 스레드) ====================
+
+    private Rendition generate(Path original) throws IOException {
+        try (ImageInputStream in = ImageIO.createImageInputStream(original.toFile())) {
+            if (in == null) {
+                return null;
+            }
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(in);
+            if (!readers.hasNext()) {
+                log.debug("이미지 형식이 아니어서 변형을 만들지 않음: {}", original.getFileName());
+                return null;
+            }
+
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(in, true, true);
+                int width = reader.getWidth(0);
+                int height = reader.getHeight(0);
+
+                // 해상도 폭탄 방지: 디코딩 전에 크기만 읽어 확인
+                if ((long) width * height > maxPixels) {
+                    log.warn("이미지 해상도가 너무 커서 변형을 만들지 않음: {} ({}x{})",
+                            original.getFileName(), width, height);
+                    return new Rendition(width, height, Map.of());
+                }
+
+                String format = reader.getFormatName().toLowerCase(Locale.ROOT);
+                BufferedImage source = reader.read(0);
+                return writeVariants(original, source, WEB_FORMATS.contains(format));
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    private Rendition writeVariants(Path original, BufferedImage source, boolean webFormat) throws IOException {
+        boolean alpha = source.getColorModel().hasAlpha();
+        String ext = alpha ? "png" : "jpg";
+        String base = baseName(original.getFileName().toString());
+        Map<ImageVariant, Path> files = new EnumMap<>(ImageVariant.class);
+
+        // 큰 규격부터 축소하며 직전 결과를 다음 입력으로 사용 (디코딩 1회, 축소 비용 최소화)
+        BufferedImage current = source;
+        for (ImageVariant variant : ImageVariant.values()) {
+            if (webFormat && fits(source, variant)) {
+                // 이미 작은 웹 이미지는 다시 인코딩하지 않고 원본을 그대로 사용
+                continue;
+            }
+            current = resize(current, variant, alpha);
+            Path target = original.resolveSibling(base + "_" + variant.getSuffix() + "." + ext);
+            write(current, target, alpha);
+            files.put(variant, target);
+        }
+
+        log.info("이미지 변형 생성 완료: {} ({}x{}, 변형 {}개)",
+                original.getFileName(), source.getWidth(), source.getHeight(), files.size());
+        return new Rendition(source.getWidth(), source.getHeight(), files);
+    }
+
+    private static boolean fits(BufferedImage image, ImageVariant variant) {
+        return (variant.getMaxWidth() == 0 || image.getWidth() <= variant.getMaxWidth())
+                && (variant.getMaxHeight() == 0 || image.getHeight() <= variant.getMaxHeight());
+    }
+
+    /**
+     * 비율을 유지하며 규격 안으로 축소
+     * 한 번에 크게 줄이면 계단 현상이 생기므로 절반씩 단계적으로 줄인 뒤 마지막에 목표 크기로 맞춘다.
+     */
+    private static BufferedImage resize(BufferedImage image, ImageVariant variant, boolean alpha) {
+        double scale = 1.0;
+        if (variant.getMaxWidth() > 0) {
+            scale = Math.min(scale, (double) variant.getMaxWidth() / image.getWidth());
+        }
+        if (variant.getMaxHeight() > 0) {
+            scale = Math.min(scale, (double) variant.getMaxHeight() / image.getHeight());
+        }
+        int targetWidth = Math.max(1, (int) Math.round(image.getWidth() * scale));
+        int targetHeight = Math.max(1, (int) Math.round(image.getHeight() * scale));
+
+        BufferedImage current = image;
+        int w = image.getWidth();
+        int h = image.getHeight();
+        do {
+            w = Math.max(targetWidth, w / 2);
+            h = Math.max(targetHeight, h / 2);
+            current = draw(current, w, h, alpha);
+        } while (w != targetWidth || h != targetHeight);
+        return current;
+    }
+
+    private static BufferedImage draw(BufferedImage source, int width, int height, boolean alpha) {
+        BufferedImage target = new BufferedImage(width, height,
+                alpha ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = target.createGraphics();
+        try {
+            g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            if (!alpha) {
+                g.setColor(Color.WHITE); // 팔레트 투명색 등은 흰 배경으로
+                g.fillRect(0, 0, width, height);
+            }
+            g.drawImage(source, 0, 0, width, height, null);
+        } finally {
+            g.dispose();
+        }
+        return target;
+    }
+
+    private void write(BufferedImage image, Path target, boolean alpha) throws IOException {
+        if (alpha) {
+            ImageIO.write(image, "png", target.toFile());
+            return;
+        }
+
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        Files.deleteIfExists(target);
+        try (ImageOutputStream out = ImageIO.createImageOutputStream(target.toFile())) {
+            writer.setOutput(out);
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(jpegQuality);
+            if (param.canWriteProgressive()) {
+                param.setProgressiveMode(ImageWriteParam.MODE_DEFAULT);
+            }
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+    }
+
+    private static String baseName(String fileName) {
+        int dot = fileName.lastIndexOf('.');
+        return dot > 0 ? fileName.substring(0, dot) : fileName;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * 변형 생성 결과
+     *
+     * @param files 생성된 변형 파일 (없는 규격은 원본을 그대로 사용)
+     */
+    public record Rendition(int width, int height, Map<ImageVariant, Path> files) {
+    }
+}
@@ -0,0 +1,32 @@
+package com.onandhome.file;
+
+import com.onandhome.file.entity.StoredFile;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface StoredFileRepository extends JpaRepository<StoredFile, Long> {
+
+    Optional<StoredFile> findByHash(String hash);
+
+    Optional<StoredFile> findByStorageKey(String storageKey);
+
+    // 참조 수 증감은 항상 DB에서 원자적으로 처리
+    @Modifying
+    @Query("UPDATE StoredFile f SET f.refCount = f.refCount + 1 WHERE f.id = :id")
+    int incrementRefCount(@Param("id") Long id);
+
+    @Modifying
+    @Query("UPDATE StoredFile f SET f.refCount = f.refCount - 1 WHERE f.id = :id AND f.refCount > 0")
+    int decrementRefCount(@Param("id") Long id);
+
+    // 참조가 모두 해제된 경우에만 삭제 (삭제된 행 수 반환)
+    @Modifying
+    @Query("DELETE FROM StoredFile f WHERE f.id = :id AND f.refCount <= 0")
+    int deleteIfUnreferenced(@Param("id") Long id);
+}
@@ -0,0 +1,29 @@
+package com.onandhome.file;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.multipart.MaxUploadSizeExceededException;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 업로드 크기 제한(MultipartConfig) 초과 응답
+ * 컨트롤러에 도달하기 전에 발생하므로 각 컨트롤러의 try/catch 대신 여기서 처리한다.
+ */
+@RestControllerAdvice
+@Slf4j
+public class UploadExceptionHandler {
+
+    @ExceptionHandler(MaxUploadSizeExceededException.class)
+    public ResponseEntity<Map<String, Object>> handleMaxUploadSize(MaxUploadSizeExceededException e) {
+        log.warn("업로드 크기 제한 초과: {}", e.getMessage());
+        Map<String, Object> response = new HashMap<>();
+        response.put("success", false);
+        response.put("message", "업로드 가능한 파일 크기를 초과했습니다.");
+        return ResponseEntity.status(HttpStatus.PAYLOAD_TOO_LARGE).body(response);
+    }
+}
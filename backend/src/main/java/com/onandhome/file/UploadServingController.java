@@ -0,0 +1,304 @@
+package com.onandhome.file;
+
+import com.onandhome.file.storage.FileStorageBackend;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.util.UriUtils;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 업로드 파일(/uploads/**) 전용 서빙 컨트롤러
+ *
+ * - 해시 이름 파일(ab/cd/<sha256>[_변형].<ext>)은 내용이 절대 바뀌지 않으므로
+ *   해시를 강한 ETag 로 쓰고 1년 immutable 캐시를 준다.
+ *   예전 UUID 파일은 수정 시각/크기 기반 약한 ETag + 하루 캐시.
+ * - If-None-Match / If-Modified-Since → 304, Range(단일 구간) / If-Range → 206 지원
+ *   형식이 잘못된 Range 는 무시하고 전체(200)를 보내며, 파일 범위를 벗어난 구간만 416 으로 응답한다. (RFC 9110)
+ * - 같은 이름의 .br / .gz 파일이 있으면 Accept-Encoding 에 맞춰 미리 압축된 파일을 보낸다.
+ * - 본문 전송: sendfile-min-size 이상이고 커넥터가 sendfile 을 지원하면 Tomcat sendfile(커널 zero-copy)로 보낸다.
+ *   그보다 작은 파일(또는 sendfile 미지원)은 응답 스트림으로 복사한다. (버퍼를 거치는 일반 복사)
+ *
+ * file.serving.mode=resource 로 두면 기존 Spring 리소스 핸들러(FileUploadConfig)가 대신 처리한다. (성능 비교용)
+ */
+@Controller
+@ConditionalOnProperty(name = "file.serving.mode", havingValue = "optimized", matchIfMissing = true)
+@Slf4j
+public class UploadServingController {
+
+    private static final String URL_PREFIX = "/uploads/";
+
+    /* 해시 이름: ab/cd/<64자리 해시>[_접미사].<확장자> */
+    private static final Pattern HASHED_KEY =
+            Pattern.compile("([0-9a-f]{2})/([0-9a-f]{2})/(\\1\\2[0-9a-f]{60}(?:_[a-z]+)?)\\.[a-z0-9]+");
+
+    private static final String IMMUTABLE_CACHE = "public, max-age=31536000, immutable";
+    private static final String LEGACY_CACHE = "public, max-age=86400";
+
+    /* Tomcat sendfile 요청 속성 (org.apache.coyote.Constants) */
+    private static final String SENDFILE_SUPPORTED = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    /* parseRange 결과 - 파일 범위를 벗어난 구간 (416) */
+    static final long[] UNSATISFIABLE = new long[0];
+
+    private final FileStorageBackend backend;
+    private final long sendfileMinSize;
+
+    public UploadServingController(FileStorageBackend backend,
+                                   @Value("${file.serving.sendfile-min-size:49152}") long sendfileMinSize) {
+        this.backend = backend;
+        this.sendfileMinSize = sendfileMinSize;
+    }
+
+    @RequestMapping(value = "/uploads/**", method = {RequestMethod.GET, RequestMethod.HEAD})
+    public void serve(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        String key = keyOf(request);
+        Path file;
+        try {
+            file = key != null ? backend.localPath(key) : null;
+        } catch (IllegalArgumentException e) {
+            file = null;
+        }
+        if (file == null || !Files.isRegularFile(file)) {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+
+        Matcher hashed = HASHED_KEY.matcher(key);
+        boolean immutable = hashed.matches();
+
+        // 1) 미리 압축된 파일 선택 (Range 요청은 원본 기준으로만 처리)
+        String rangeHeader = request.getHeader(HttpHeaders.RANGE);
+        String encoding = null;
+        Path body = file;
+        if (rangeHeader == null) {
+            String accept = request.getHeader(HttpHeaders.ACCEPT_ENCODING);
+            if (accepts(accept, "br") && Files.isRegularFile(sibling(file, ".br"))) {
+                encoding = "br";
+            } else if (accepts(accept, "gzip") && Files.isRegularFile(sibling(file, ".gz"))) {
+                encoding = "gzip";
+            }
+            if (encoding != null) {
+                body = sibling(file, encoding.equals("br") ? ".br" : ".gz");
+            }
+        }
+
+        BasicFileAttributes attrs = Files.readAttributes(body, BasicFileAttributes.class);
+        long length = attrs.size();
+        long lastModified = attrs.lastModifiedTime().toMillis() / 1000 * 1000;
+
+        // 2) 캐시 헤더
+        String etag = immutable
+                ? "\"" + hashed.group(3) + (encoding != null ? "-" + encoding : "") + "\""
+                : "W/\"" + Long.toHexString(length) + "-" + Long.toHexString(lastModified)
+                  + (encoding != null ? "-" + encoding : "") + "\"";
+        response.setHeader(HttpHeaders.ETAG, etag);
+        response.setDateHeader(HttpHeaders.LAST_MODIFIED, lastModified);
+        response.setHeader(HttpHeaders.CACHE_CONTROL, immutable ? IMMUTABLE_CACHE : LEGACY_CACHE);
+        response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        response.setHeader("X-Content-Type-Options", "nosniff");
+
+        if (notModified(request, etag, lastModified)) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
+
+        String mimeType = request.getServletContext().getMimeType(file.getFileName().toString());
+        response.setContentType(mimeType != null ? mimeType : "application/octet-stream");
+        if (encoding != null) {
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, encoding);
+        }
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+
+        // 3) Range 처리 (단일 구간만 지원, 여러 구간/잘못된 형식은 무시하고 전체 응답 - RFC 9110 허용)
+        long start = 0;
+        long end = length - 1;
+        if (rangeHeader != null && rangeApplies(request, etag, lastModified)) {
+            long[] range = parseRange(rangeHeader, length);
+            if (range == UNSATISFIABLE) {
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + length);
+                response.sendError(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+                return;
+            }
+            if (range != null) {
+                start = range[0];
+                end = range[1];
+                response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + length);
+            }
+        }
+
+        long count = end - start + 1;
+        response.setContentLengthLong(count);
+        if ("HEAD".equals(request.getMethod()) || count == 0) {
+            return;
+        }
+
+        // 4) 본문 전송 (임계값 이상은 sendfile, 나머지는 복사)
+        if (count >= sendfileMinSize && Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORTED))) {
+            request.setAttribute(SENDFILE_FILENAME, body.toString());
+            request.setAttribute(SENDFILE_START, start);
+            request.setAttribute(SENDFILE_END, end + 1);
+            return;
+        }
+        transfer(body, start, count, response.getOutputStream());
+    }
+
+    // ==================== 내부 처리 ====================
+
+    private static String keyOf(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        if (!path.startsWith(URL_PREFIX) || path.length() == URL_PREFIX.length()) {
+            return null;
+        }
+        String key = UriUtils.decode(path.substring(URL_PREFIX.length()), StandardCharsets.UTF_8);
+        return key.contains("\\") ? null : key;
+    }
+
+    private static Path sibling(Path file, String suffix) {
+        return file.resolveSibling(file.getFileName() + suffix);
+    }
+
+    /* Accept-Encoding 에 해당 인코딩이 q=0 이 아닌 값으로 포함되어 있는지 */
+    private static boolean accepts(String acceptEncoding, String coding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String part : acceptEncoding.split(",")) {
+            String[] tokens = part.trim().split(";");
+            if (tokens[0].trim().equalsIgnoreCase(coding)) {
+                for (int i = 1; i < tokens.length; i++) {
+                    String param = tokens[i].trim();
+                    if (param.startsWith("q=") && param.substring(2).matches("0(\\.0*)?")) {
+                        return false;
+                    }
+                }
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean notModified(HttpServletRequest request, String etag, long lastModified) {
+        String ifNoneMatch = request.getHeader(HttpHeaders.IF_NONE_MATCH);
+        if (ifNoneMatch != null) {
+            // If-None-Match 는 약한 비교
+            String opaque = stripWeak(etag);
+            for (String candidate : ifNoneMatch.split(",")) {
+                String c = candidate.trim();
+                if (c.equals("*") || stripWeak(c).equals(opaque)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+        long ifModifiedSince = dateHeader(request, HttpHeaders.IF_MODIFIED_SINCE);
+        return ifModifiedSince != -1 && lastModified <= ifModifiedSince;
+    }
+
+    /* If-Range 가 현재 표현과 일치할 때만 Range 적용 (ETag 는 강한 비교) */
+    private static boolean rangeApplies(HttpServletRequest request, String etag, long lastModified) {
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        if (ifRange == null) {
+            return true;
+        }
+        if (ifRange.startsWith("\"") || ifRange.startsWith("W/")) {
+            return !etag.startsWith("W/") && ifRange.trim().equals(etag);
+        }
+        long date = dateHeader(request, HttpHeaders.IF_RANGE);
+        return date != -1 && lastModified <= date;
+    }
+
+    /**
+     * "bytes=a-b" / "bytes=a-" / "bytes=-n" 해석
+     *
+     * @return {start, end} / 여러 구간 또는 형식이 잘못된 값(b < a 포함) → null(무시하고 전체 응답)
+     *         / 파일 범위를 벗어난 구간 → UNSATISFIABLE(416)
+     */
+    static long[] parseRange(String header, long length) {
+        if (!header.startsWith("bytes=") || header.indexOf(',') >= 0) {
+            return null;
+        }
+        String spec = header.substring("bytes=".length()).trim();
+        int dash = spec.indexOf('-');
+        if (dash < 0) {
+            return null;
+        }
+        try {
+            String first = spec.substring(0, dash).trim();
+            String last = spec.substring(dash + 1).trim();
+            if (first.isEmpty()) {
+                long suffix = Long.parseLong(last);
+                if (suffix < 0) {
+                    return null;
+                }
+                if (suffix == 0 || length == 0) {
+                    return UNSATISFIABLE;
+                }
+                return new long[]{Math.max(0, length - suffix), length - 1};
+            }
+            long start = Long.parseLong(first);
+            long end = last.isEmpty() ? Long.MAX_VALUE : Long.parseLong(last);
+            if (start < 0 || end < start) {
+                return null;
+            }
+            if (start >= length) {
+                return UNSATISFIABLE;
+            }
+            return new long[]{start, Math.min(end, length - 1)};
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    /* 응답 스트림으로 복사 (sendfile 을 쓰지 않는 작은 파일용 - transferTo 가 임시 버퍼를 거쳐 스트림에 씀) */
+    private static void transfer(Path file, long position, long count, ServletOutputStream out) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            WritableByteChannel target = Channels.newChannel(out);
+            long sent = 0;
+            while (sent < count) {
+                long n = channel.transferTo(position + sent, count - sent, target);
+                if (n <= 0) {
+                    break;
+                }
+                sent += n;
+            }
+        } catch (IOException e) {
+            // 클라이언트가 중간에 연결을 끊은 경우 (이미지 로딩 취소 등)
+            log.debug("업로드 파일 전송 중단: {} ({})", file.getFileName(), e.getMessage());
+        }
+    }
+
+    private static String stripWeak(String etag) {
+        return etag.startsWith("W/") ? etag.substring(2) : etag;
+    }
+
+    private static long dateHeader(HttpServletRequest request, String name) {
+        try {
+            return request.getDateHeader(name);
+        } catch (IllegalArgumentException e) {
+            return -1;
+        }
+    }
+}
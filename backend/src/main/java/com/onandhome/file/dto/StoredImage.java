@@ -0,0 +1,24 @@
+package com.onandhome.file.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 저장된 업로드 이미지와 변형 이미지 URL
+ * 변형 생성에 실패했거나 이미지가 아닌 경우 변형 URL은 null 이며, 원본 URL을 대신 사용한다.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class StoredImage {
+
+    private String url;        // 원본
+    private String thumbUrl;   // ImageVariant.THUMB
+    private String listUrl;    // ImageVariant.LIST
+    private String detailUrl;  // ImageVariant.DETAIL
+    private int width;         // 원본 가로 (px, 알 수 없으면 0)
+    private int height;        // 원본 세로 (px, 알 수 없으면 0)
+}
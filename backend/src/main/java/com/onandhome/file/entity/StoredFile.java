@@ -0,0 +1,62 @@
+package com.onandhome.file.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 업로드 파일 (내용 주소 기반)
+ * 같은 내용(SHA-256)의 파일은 한 번만 저장되고, 참조할 때마다 refCount 가 늘어난다.
+ * refCount 가 0이 되면 원본과 변형 파일이 함께 삭제된다.
+ */
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Table(name = "stored_file")
+public class StoredFile {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, unique = true, length = 64)
+    private String hash; // 내용 SHA-256 (hex)
+
+    @Column(name = "storage_key", nullable = false, unique = true)
+    private String storageKey; // 저장소 key (ab/cd/<hash>.jpg)
+
+    @Column(nullable = false)
+    private long size; // 바이트
+
+    @Column(name = "content_type", length = 100)
+    private String contentType;
+
+    @Column(name = "ref_count", nullable = false)
+    private int refCount;
+
+    // 이미지인 경우 원본 크기와 변형 key (원본을 그대로 쓰는 변형은 null)
+    private Integer width;
+
+    private Integer height;
+
+    @Column(name = "thumb_key")
+    private String thumbKey;
+
+    @Column(name = "list_key")
+    private String listKey;
+
+    @Column(name = "detail_key")
+    private String detailKey;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @PrePersist
+    protected void onCreate() {
+        this.createdAt = LocalDateTime.now();
+    }
+}
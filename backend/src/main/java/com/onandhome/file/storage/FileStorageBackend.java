@@ -0,0 +1,41 @@
+package com.onandhome.file.storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+
+/**
+ * 업로드 파일 저장소 백엔드
+ * FileStorageService 가 내용 해시로 만든 key(예: ab/cd/abcd...ef.jpg)로 파일을 저장/삭제한다.
+ * 기본 구현은 로컬 디스크(LocalFileStorageBackend)이며, file.storage.backend 설정으로 교체할 수 있다.
+ */
+public interface FileStorageBackend {
+
+    /**
+     * 임시 파일을 key 위치로 옮겨 저장 (같은 key가 이미 있으면 덮어씀 - 내용이 같으므로 안전)
+     */
+    void put(Path source, String key, String contentType) throws IOException;
+
+    boolean exists(String key);
+
+    InputStream open(String key) throws IOException;
+
+    void delete(String key) throws IOException;
+
+    /**
+     * 브라우저에서 접근 가능한 URL
+     */
+    String url(String key);
+
+    /**
+     * url() 로 만든 URL → key (이 백엔드의 URL이 아니면 null)
+     */
+    String keyOf(String url);
+
+    /**
+     * 로컬 파일 경로 (/uploads/** 직접 서빙용, 로컬 디스크가 아닌 백엔드는 null)
+     */
+    default Path localPath(String key) {
+        return null;
+    }
+}
@@ -0,0 +1,92 @@
+package com.onandhome.file.storage;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+
+/**
+ * 로컬 디스크 저장소 (file.upload-dir 아래, /uploads/** 로 서비스됨)
+ */
+@Component
+@ConditionalOnProperty(name = "file.storage.backend", havingValue = "local", matchIfMissing = true)
+@Slf4j
+public class LocalFileStorageBackend implements FileStorageBackend {
+
+    private static final String URL_PREFIX = "/uploads/";
+
+    private final Path root;
+
+    public LocalFileStorageBackend(@Value("${file.upload-dir:uploads}") String uploadDir) {
+        this.root = Paths.get(uploadDir).toAbsolutePath().normalize();
+        try {
+            Files.createDirectories(root);
+        } catch (IOException e) {
+            throw new IllegalStateException("업로드 디렉터리를 생성할 수 없습니다: " + root, e);
+        }
+    }
+
+    @Override
+    public void put(Path source, String key, String contentType) throws IOException {
+        Path target = resolve(key);
+        Files.createDirectories(target.getParent());
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            // 임시 디렉터리가 다른 파일시스템에 있는 경우
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    @Override
+    public boolean exists(String key) {
+        return Files.exists(resolve(key));
+    }
+
+    @Override
+    public InputStream open(String key) throws IOException {
+        return Files.newInputStream(resolve(key));
+    }
+
+    @Override
+    public void delete(String key) throws IOException {
+        Files.deleteIfExists(resolve(key));
+    }
+
+    @Override
+    public String url(String key) {
+        return URL_PREFIX + key;
+    }
+
+    @Override
+    public String keyOf(String url) {
+        if (url == null || !url.startsWith(URL_PREFIX)) {
+            return null;
+        }
+        String key = url.substring(URL_PREFIX.length());
+        int query = key.indexOf('?');
+        return query >= 0 ? key.substring(0, query) : key;
+    }
+
+    @Override
+    public Path localPath(String key) {
+        return resolve(key);
+    }
+
+    /* key → 실제 경로 (업로드 디렉터리 밖으로 나가는 경로는 거부) */
+    private Path resolve(String key) {
+        Path path = root.resolve(key).normalize();
+        if (!path.startsWith(root)) {
+            throw new IllegalArgumentException("잘못된 파일 경로입니다: " + key);
+        }
+        return path;
+    }
+}
@@ -0,0 +1,40 @@
+package com.onandhome.inactive_user;
+
+import com.onandhome.inactive_user.entity.DeactivationJobItem;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 회원 일괄 탈퇴 대상 Repository
+ */
+@Repository
+public interface DeactivationJobItemRepository extends JpaRepository<DeactivationJobItem, Long> {
+
+    /**
+     * 대상 등록 (INSERT ... SELECT)
+     * user 테이블에 존재하는 ID만 등록되며, 중복 ID는 무시된다.
+     */
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO user_deactivation_job_item (job_id, user_id) " +
+            "SELECT :jobId, u.id FROM user u WHERE u.id IN (:userIds)",
+            nativeQuery = true)
+    int insertTargets(@Param("jobId") Long jobId, @Param("userIds") Collection<Long> userIds);
+
+    long countByJobId(Long jobId);
+
+    /**
+     * 체크포인트(afterUserId) 이후의 다음 청크 대상 (user_id 오름차순)
+     */
+    @Query("SELECT i.userId FROM DeactivationJobItem i " +
+            "WHERE i.jobId = :jobId AND i.userId > :afterUserId ORDER BY i.userId")
+    List<Long> findNextTargets(@Param("jobId") Long jobId,
+                               @Param("afterUserId") long afterUserId,
+                               Pageable pageable);
+}
@@ -0,0 +1,25 @@
+package com.onandhome.inactive_user;
+
+import com.onandhome.inactive_user.entity.DeactivationJob;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 회원 일괄 탈퇴 작업 Repository
+ */
+@Repository
+public interface DeactivationJobRepository extends JpaRepository<DeactivationJob, Long> {
+
+    /**
+     * 서버 재시작 시 이어서 처리할 작업 조회
+     */
+    List<DeactivationJob> findByStatusInOrderByIdAsc(Collection<DeactivationJob.Status> statuses);
+
+    /**
+     * 최근 작업 목록
+     */
+    List<DeactivationJob> findTop20ByOrderByIdDesc();
+}
@@ -1,9 +1,16 @@
 package com.onandhome.inactive_user;
 
 import com.onandhome.inactive_user.entity.InactiveUser;
+import com.onandhome.user.dto.UserSummaryDTO;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -47,5 +54,58 @@ public interface InactiveUserRepository extends JpaRepository<InactiveUser, Long
      * userId로 검색
      */
     List<InactiveUser> findByUserIdContaining(String userId);
-}
 
+    /**
+     * 탈퇴 회원 디렉터리 (키셋 페이지네이션, id 내림차순 = 최근 탈퇴 순)
+     */
+    @Query("SELECT new com.onandhome.user.dto.UserSummaryDTO(" +
+            "u.id, u.userId, u.username, u.email, u.phone, u.gender, u.birthDate, u.createdAt, u.deletedAt) " +
+            "FROM InactiveUser u WHERE u.id < :cursor ORDER BY u.id DESC")
+    List<UserSummaryDTO> findDirectoryPage(@Param("cursor") Long cursor, Pageable pageable);
+
+    /**
+     * 탈퇴 회원 디렉터리 검색 (userId / username / email / phone 접두어 일치)
+     * 컬럼별 하위 쿼리를 UNION 해 각 컬럼 인덱스를 쓴다. (UserRepository.searchDirectoryIds 와 같은 구조)
+     * 하위 쿼리마다 접두어 일치 행을 모두 읽어 id 로 정렬하므로 비용은 일치 건수에 비례한다.
+     */
+    @Query(value = "SELECT t.id FROM (" +
+            "(SELECT id FROM inactive_user WHERE user_id LIKE :prefix ESCAPE '!' AND id < :cursor ORDER BY id DESC LIMIT :limit) " +
+            "UNION (SELECT id FROM inactive_user WHERE username LIKE :prefix ESCAPE '!' AND id < :cursor ORDER BY id DESC LIMIT :limit) " +
+            "UNION (SELECT id FROM inactive_user WHERE email LIKE :prefix ESCAPE '!' AND id < :cursor ORDER BY id DESC LIMIT :limit) " +
+            "UNION (SELECT id FROM inactive_user WHERE phone LIKE :prefix ESCAPE '!' AND id < :cursor ORDER BY id DESC LIMIT :limit)" +
+            ") t ORDER BY t.id DESC LIMIT :limit", nativeQuery = true)
+    List<Long> searchDirectoryIds(@Param("prefix") String prefix,
+                                  @Param("cursor") Long cursor,
+                                  @Param("limit") int limit);
+
+    /**
+     * 검색으로 찾은 id 의 탈퇴 회원 목록 행 (id 내림차순)
+     */
+    @Query("SELECT new com.onandhome.user.dto.UserSummaryDTO(" +
+            "u.id, u.userId, u.username, u.email, u.phone, u.gender, u.birthDate, u.createdAt, u.deletedAt) " +
+            "FROM InactiveUser u WHERE u.id IN :ids ORDER BY u.id DESC")
+    List<UserSummaryDTO> findDirectoryRows(@Param("ids") Collection<Long> ids);
+
+    /**
+     * user → inactive_user 일괄 복사 (INSERT ... SELECT)
+     * 회원 엔티티를 로딩하지 않고 DB 안에서 한 문장으로 복사한다.
+     *
+     * @return 복사된 행 수
+     */
+    @Modifying
+    @Query(value = "INSERT INTO inactive_user " +
+            "(user_id, password, email, username, phone, gender, birth_date, address, created_at, deleted_at) " +
+            "SELECT u.user_id, u.password, u.email, u.username, u.phone, u.gender, u.birth_date, u.address, " +
+            "u.created_at, :deletedAt FROM user u WHERE u.id IN (:userIds)",
+            nativeQuery = true)
+    int copyFromUsers(@Param("userIds") Collection<Long> userIds, @Param("deletedAt") LocalDateTime deletedAt);
+
+    // 대상 ID 중 실제 존재하는 탈퇴 회원 ID
+    @Query("SELECT i.id FROM InactiveUser i WHERE i.id IN :ids ORDER BY i.id")
+    List<Long> findExistingIds(@Param("ids") Collection<Long> ids);
+
+    // 탈퇴 회원 일괄 영구 삭제
+    @Modifying
+    @Query("DELETE FROM InactiveUser i WHERE i.id IN :ids")
+    int bulkDeleteByIds(@Param("ids") Collection<Long> ids);
+}
@@ -1,8 +1,14 @@
 package com.onandhome.inactive_user;
 
+import com.onandhome.admin.adminBulk.AdminBulkOperations;
+import com.onandhome.admin.adminBulk.BulkJob;
+import com.onandhome.admin.adminBulk.BulkOperationService;
 import com.onandhome.inactive_user.dto.InactiveUserDTO;
+import com.onandhome.user.UserDirectoryService;
+import com.onandhome.user.dto.UserSummaryDTO;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -21,25 +27,24 @@ import java.util.Map;
 public class InactiveUserRestController {
 
     private final InactiveUserService inactiveUserService;
+    private final UserDirectoryService userDirectoryService;
+    private final BulkOperationService bulkOperationService;
 
     /**
      * 탈퇴 회원 목록 조회
      * GET /api/admin/inactive-users
      */
     @GetMapping
-    public ResponseEntity<List<InactiveUserDTO>> getInactiveUserList(
-            @RequestParam(value = "kw", required = false) String keyword) {
+    public ResponseEntity<List<UserSummaryDTO>> getInactiveUserList(
+            @RequestParam(value = "kw", required = false) String keyword,
+            @RequestParam(required = false) Long cursor) {
         try {
             log.info("=== 탈퇴 회원 목록 조회 ===");
             log.info("검색어: {}", keyword);
 
-            List<InactiveUserDTO> users;
-
-            if (keyword != null && !keyword.trim().isEmpty()) {
-                users = inactiveUserService.searchInactiveUsers(keyword);
-            } else {
-                users = inactiveUserService.getAllInactiveUsers();
-            }
+            List<UserSummaryDTO> users = userDirectoryService
+                    .findInactiveUsers(keyword, cursor, UserDirectoryService.MAX_PAGE_SIZE)
+                    .getItems();
 
             log.info("조회된 탈퇴 회원 수: {}", users.size());
             return ResponseEntity.ok(users);
@@ -102,11 +107,18 @@ public class InactiveUserRestController {
                 return ResponseEntity.badRequest().body(response);
             }
 
-            int deletedCount = inactiveUserService.permanentDeleteMultiple(ids);
-
+            // 청크 단위 집합 삭제 (대상이 많으면 백그라운드로 진행, /api/admin/bulk-jobs/{jobId} 로 조회)
+            BulkJob job = bulkOperationService.submit(AdminBulkOperations.INACTIVE_USER_PURGE, ids);
             response.put("success", true);
-            response.put("message", deletedCount + "명의 탈퇴 회원이 영구 삭제되었습니다.");
-            response.put("deletedCount", deletedCount);
+            response.put("jobId", job.getId());
+            response.put("job", job);
+            if (!job.isFinished()) {
+                response.put("message", job.getTotalCount() + "명의 탈퇴 회원 영구 삭제를 시작했습니다.");
+                return ResponseEntity.status(HttpStatus.ACCEPTED).body(response);
+            }
+
+            response.put("message", job.getSucceededCount() + "명의 탈퇴 회원이 영구 삭제되었습니다.");
+            response.put("deletedCount", job.getSucceededCount());
             return ResponseEntity.ok(response);
         } catch (Exception e) {
             log.error("탈퇴 회원 다중 삭제 오류: {}", e.getMessage());
@@ -1,21 +1,22 @@
 package com.onandhome.inactive_user;
 
-import com.onandhome.cart.CartItemRepository;
 import com.onandhome.inactive_user.dto.InactiveUserDTO;
 import com.onandhome.inactive_user.entity.InactiveUser;
-import com.onandhome.notification.NotificationRepository;
-import com.onandhome.order.OrderRepository;
-import com.onandhome.review.ReviewRepository;
 import com.onandhome.user.UserRepository;
 import com.onandhome.user.entity.User;
+import com.onandhome.user.event.UserChangedEvent;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
-import java.util.stream.Collectors;
+import java.util.Set;
 
 /**
  * 탈퇴 회원 Service
@@ -29,15 +30,13 @@ public class InactiveUserService {
 
     private final InactiveUserRepository inactiveUserRepository;
     private final UserRepository userRepository;
-    private final OrderRepository orderRepository;
-    private final CartItemRepository cartItemRepository;
-    private final ReviewRepository reviewRepository;
-    private final NotificationRepository notificationRepository;
+    private final UserDeactivationService userDeactivationService;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 회원 탈퇴 처리 (User → InactiveUser 이동)
      * 1. User 데이터를 InactiveUser로 복사
-     * 2. 연관 데이터 삭제 (알림, 장바구니, 주문, 리뷰)
+     * 2. 연관 데이터 삭제 (리뷰, 주문, 장바구니, 찜, 알림) - 일괄 탈퇴와 같은 처리 (찜 개수/캐시, 리뷰 집계 포함)
      * 3. User 테이블에서 삭제
      */
     public InactiveUserDTO moveToInactive(Long userId) {
@@ -54,10 +53,11 @@ public class InactiveUserService {
         log.info("InactiveUser 저장 완료 - ID: {}", savedInactiveUser.getId());
 
         // 3. 연관 데이터 삭제
-        deleteRelatedData(user);
+        userDeactivationService.deleteRelatedData(List.of(userId));
 
         // 4. User 테이블에서 삭제
         userRepository.delete(user);
+        eventPublisher.publishEvent(new UserChangedEvent(userId, UserChangedEvent.Type.WITHDRAWN));
         log.info("User 테이블에서 삭제 완료");
 
         log.info("=== 회원 탈퇴 처리 완료 ===");
@@ -65,62 +65,6 @@ public class InactiveUserService {
         return InactiveUserDTO.fromEntity(savedInactiveUser);
     }
 
-    /**
-     * 여러 회원 탈퇴 처리
-     */
-    public int moveMultipleToInactive(List<Long> userIds) {
-        int successCount = 0;
-
-        for (Long userId : userIds) {
-            try {
-                moveToInactive(userId);
-                successCount++;
-            } catch (Exception e) {
-                log.error("회원 탈퇴 처리 실패 - userId: {}, error: {}", userId, e.getMessage());
-            }
-        }
-
-        return successCount;
-    }
-
-    /**
-     * 연관 데이터 삭제
-     */
-    private void deleteRelatedData(User user) {
-        try {
-            // 1. 알림 삭제
-            log.info("알림 삭제 시작 - userId: {}", user.getUserId());
-            notificationRepository.deleteAll(notificationRepository.findByUserOrderByCreatedAtDesc(user));
-
-            // 2. 장바구니 아이템 삭제
-            log.info("장바구니 삭제 시작 - userId: {}", user.getUserId());
-            cartItemRepository.deleteByUser(user);
-
-            // 3. 주문 삭제 (주문 아이템은 cascade로 자동 삭제)
-            log.info("주문 삭제 시작 - userId: {}", user.getUserId());
-            orderRepository.deleteAll(orderRepository.findByUser(user));
-
-            // 4. 리뷰 삭제 (리뷰 답글, 이미지, 좋아요는 cascade로 자동 삭제)
-            log.info("리뷰 삭제 시작 - userId: {}", user.getUserId());
-            reviewRepository.deleteAll(reviewRepository.findByUser(user));
-
-            log.info("연관 데이터 삭제 완료");
-        } catch (Exception e) {
-            log.error("연관 데이터 삭제 중 오류: {}", e.getMessage());
-            throw e;
-        }
-    }
-
-    /**
-     * 모든 탈퇴 회원 조회 (최근 탈퇴 순)
-     */
-    @Transactional(readOnly = true)
-    public List<InactiveUserDTO> getAllInactiveUsers() {
-        return inactiveUserRepository.findAllByOrderByDeletedAtDesc().stream()
-                .map(InactiveUserDTO::fromEntity)
-                .collect(Collectors.toList());
-    }
-
     /**
      * ID로 탈퇴 회원 조회
      */
@@ -139,21 +83,6 @@ public class InactiveUserService {
                 .map(InactiveUserDTO::fromEntity);
     }
 
-    /**
-     * 탈퇴 회원 검색 (이름 또는 userId)
-     */
-    @Transactional(readOnly = true)
-    public List<InactiveUserDTO> searchInactiveUsers(String keyword) {
-        return inactiveUserRepository.findAll().stream()
-                .filter(user ->
-                        (user.getUsername() != null && user.getUsername().contains(keyword)) ||
-                        (user.getUserId() != null && user.getUserId().contains(keyword))
-                )
-                .sorted((u1, u2) -> u2.getDeletedAt().compareTo(u1.getDeletedAt()))
-                .map(InactiveUserDTO::fromEntity)
-                .collect(Collectors.toList());
-    }
-
     /**
      * 탈퇴 회원 영구 삭제
      */
@@ -162,25 +91,32 @@ public class InactiveUserService {
                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 탈퇴 회원입니다. ID: " + id));
 
         inactiveUserRepository.delete(inactiveUser);
+        eventPublisher.publishEvent(new UserChangedEvent(id, UserChangedEvent.Type.PURGED));
         log.info("탈퇴 회원 영구 삭제 완료 - userId: {}", inactiveUser.getUserId());
     }
 
     /**
-     * 여러 탈퇴 회원 영구 삭제
+     * 여러 탈퇴 회원 영구 삭제 (집합 단위)
+     * 관리자 일괄 삭제(BulkOperationService 청크 트랜잭션)에서 사용된다.
+     *
+     * @return 처리하지 못한 ID와 사유
      */
-    public int permanentDeleteMultiple(List<Long> ids) {
-        int deletedCount = 0;
-
-        for (Long id : ids) {
-            try {
-                permanentDelete(id);
-                deletedCount++;
-            } catch (Exception e) {
-                log.error("탈퇴 회원 영구 삭제 실패 - ID: {}, error: {}", id, e.getMessage());
-            }
+    public Map<Long, String> permanentDeleteInBatch(List<Long> ids) {
+        List<Long> existing = inactiveUserRepository.findExistingIds(ids);
+        Set<Long> found = new HashSet<>(existing);
+        Map<Long, String> skipped = new LinkedHashMap<>();
+        ids.stream().filter(id -> !found.contains(id))
+                .forEach(id -> skipped.put(id, "존재하지 않는 탈퇴 회원입니다."));
+        if (existing.isEmpty()) {
+            return skipped;
         }
 
-        return deletedCount;
+        inactiveUserRepository.bulkDeleteByIds(existing);
+        for (Long id : existing) {
+            eventPublisher.publishEvent(new UserChangedEvent(id, UserChangedEvent.Type.PURGED));
+        }
+        log.info("탈퇴 회원 일괄 영구 삭제 완료 - {}명", existing.size());
+        return skipped;
     }
 
     /**
@@ -0,0 +1,361 @@
+package com.onandhome.inactive_user;
+
+import com.onandhome.cart.CartEngine;
+import com.onandhome.config.threads.VirtualThreadConfig;
+import com.onandhome.cart.CartItemRepository;
+import com.onandhome.favorite.FavoriteRepository;
+import com.onandhome.favorite.FavoriteSetCache;
+import com.onandhome.favorite.ProductFavoriteStatRepository;
+import com.onandhome.file.FileStorageService;
+import com.onandhome.inactive_user.entity.DeactivationJob;
+import com.onandhome.notification.NotificationRepository;
+import com.onandhome.order.OrderItemRepository;
+import com.onandhome.order.OrderRepository;
+import com.onandhome.review.ReviewImageRepository;
+import com.onandhome.review.ReviewLikeRepository;
+import com.onandhome.review.ReviewReplyRepository;
+import com.onandhome.review.ReviewRepository;
+import com.onandhome.review.event.ReviewChangedEvent;
+import com.onandhome.user.UserRepository;
+import com.onandhome.user.event.UserChangedEvent;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.TreeSet;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 회원 일괄 탈퇴 처리 서비스 (User → InactiveUser 이동)
+ *
+ * - 대상 회원을 user.id 오름차순 청크로 나누어 청크마다 별도 트랜잭션으로 처리한다.
+ * - 청크 안에서는 엔티티를 로딩하지 않고 집합 단위 SQL만 사용한다.
+ *   (좋아요/답글/이미지 → 리뷰 → 주문 항목 → 주문 → 장바구니/찜/알림 → inactive_user 복사 → user 삭제)
+ * - 청크 커밋과 함께 체크포인트(lastUserId)가 저장되므로
+ *   서버가 중간에 종료되면 재시작 시 남은 청크부터 이어서 처리한다.
+ *
+ * 작업은 단일 스레드에서 순서대로 실행된다.
+ */
+@Service
+@Slf4j
+public class UserDeactivationService {
+
+    /* 대상 등록 시 IN 절 하나에 넣는 최대 ID 수 */
+    private static final int REGISTER_BATCH_SIZE = 1000;
+
+    /* 한 청크 이하의 작은 작업은 완료될 때까지 기다렸다가 결과를 돌려준다. */
+    private static final long INLINE_WAIT_SECONDS = 30;
+
+    private final DeactivationJobRepository jobRepository;
+    private final DeactivationJobItemRepository jobItemRepository;
+    private final UserRepository userRepository;
+    private final InactiveUserRepository inactiveUserRepository;
+    private final ReviewRepository reviewRepository;
+    private final ReviewLikeRepository reviewLikeRepository;
+    private final ReviewReplyRepository reviewReplyRepository;
+    private final ReviewImageRepository reviewImageRepository;
+    private final OrderItemRepository orderItemRepository;
+    private final OrderRepository orderRepository;
+    private final CartItemRepository cartItemRepository;
+    private final CartEngine cartEngine;
+    private final FavoriteRepository favoriteRepository;
+    private final ProductFavoriteStatRepository productFavoriteStatRepository;
+    private final FavoriteSetCache favoriteSetCache;
+    private final NotificationRepository notificationRepository;
+    private final FileStorageService fileStorageService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${user.deactivation.chunk-size:500}")
+    private int chunkSize;
+
+    /* 작업은 등록 순서대로 하나씩 (청크 트랜잭션 대기가 대부분이라 가상 스레드 모드면 가상 스레드) */
+    private final ExecutorService executor;
+
+    public UserDeactivationService(DeactivationJobRepository jobRepository,
+                                   DeactivationJobItemRepository jobItemRepository,
+                                   UserRepository userRepository,
+                                   InactiveUserRepository inactiveUserRepository,
+                                   ReviewRepository reviewRepository,
+                                   ReviewLikeRepository reviewLikeRepository,
+                                   ReviewReplyRepository reviewReplyRepository,
+                                   ReviewImageRepository reviewImageRepository,
+                                   OrderItemRepository orderItemRepository,
+                                   OrderRepository orderRepository,
+                                   CartItemRepository cartItemRepository,
+                                   CartEngine cartEngine,
+                                   FavoriteRepository favoriteRepository,
+                                   ProductFavoriteStatRepository productFavoriteStatRepository,
+                                   FavoriteSetCache favoriteSetCache,
+                                   NotificationRepository notificationRepository,
+                                   FileStorageService fileStorageService,
+                                   ApplicationEventPublisher eventPublisher,
+                                   PlatformTransactionManager transactionManager,
+                                   VirtualThreadConfig virtualThreadConfig) {
+        this.jobRepository = jobRepository;
+        this.jobItemRepository = jobItemRepository;
+        this.userRepository = userRepository;
+        this.inactiveUserRepository = inactiveUserRepository;
+        this.reviewRepository = reviewRepository;
+        this.reviewLikeRepository = reviewLikeRepository;
+        this.reviewReplyRepository = reviewReplyRepository;
+        this.reviewImageRepository = reviewImageRepository;
+        this.orderItemRepository = orderItemRepository;
+        this.orderRepository = orderRepository;
+        this.cartItemRepository = cartItemRepository;
+        this.cartEngine = cartEngine;
+        this.favoriteRepository = favoriteRepository;
+        this.productFavoriteStatRepository = productFavoriteStatRepository;
+        this.favoriteSetCache = favoriteSetCache;
+        this.notificationRepository = notificationRepository;
+        this.fileStorageService = fileStorageService;
+        this.eventPublisher = eventPublisher;
+        // 호출하는 쪽 트랜잭션과 무관하게 청크 단위로 커밋되어야 하므로 항상 새 트랜잭션
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.executor = Executors.newSingleThreadExecutor(virtualThreadConfig.threadFactory("user-deactivation"));
+    }
+
+    // ==================== 작업 등록 / 조회 ====================
+
+    /**
+     * 일괄 탈퇴 작업 등록
+     * 대상이 한 청크 이하이면 처리 완료까지 기다린 뒤 최종 상태를 반환하고,
+     * 그보다 크면 대기열에 넣은 직후의 상태를 반환한다. (진행 상황은 getJob 으로 조회)
+     */
+    public DeactivationJob submit(Collection<Long> userIds) {
+        TreeSet<Long> ids = new TreeSet<>();
+        if (userIds != null) {
+            userIds.stream().filter(Objects::nonNull).forEach(ids::add);
+        }
+        if (ids.isEmpty()) {
+            throw new IllegalArgumentException("탈퇴 처리할 회원을 선택해주세요.");
+        }
+
+        DeactivationJob job = transactionTemplate.execute(status -> register(new ArrayList<>(ids)));
+        log.info("회원 일괄 탈퇴 작업 등록 - jobId: {}, 요청 {}명, 대상 {}명",
+                job.getId(), ids.size(), job.getTotalCount());
+
+        if (job.getStatus() == DeactivationJob.Status.COMPLETED) {
+            return job;
+        }
+
+        Long jobId = job.getId();
+        Future<?> future = executor.submit(() -> run(jobId));
+        if (job.getTotalCount() <= chunkSize) {
+            try {
+                future.get(INLINE_WAIT_SECONDS, TimeUnit.SECONDS);
+            } catch (TimeoutException e) {
+                log.warn("회원 일괄 탈퇴 작업이 {}초 안에 끝나지 않아 백그라운드로 계속 진행 - jobId: {}",
+                        INLINE_WAIT_SECONDS, jobId);
+            } catch (Exception e) {
+                log.error("회원 일괄 탈퇴 작업 대기 중 오류 - jobId: {}, {}", jobId, e.getMessage());
+            }
+        }
+        return getJob(jobId);
+    }
+
+    public DeactivationJob getJob(Long jobId) {
+        return jobRepository.findById(jobId)
+                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 작업입니다. ID: " + jobId));
+    }
+
+    public List<DeactivationJob> getRecentJobs() {
+        return jobRepository.findTop20ByOrderByIdDesc();
+    }
+
+    /**
+     * 실패한 작업을 마지막 체크포인트부터 다시 실행
+     */
+    public DeactivationJob resume(Long jobId) {
+        DeactivationJob job = getJob(jobId);
+        if (job.getStatus() != DeactivationJob.Status.FAILED) {
+            throw new IllegalStateException("실패한 작업만 재개할 수 있습니다. 현재 상태: " + job.getStatus());
+        }
+        updateStatus(jobId, DeactivationJob.Status.QUEUED, null);
+        executor.submit(() -> run(jobId));
+        return getJob(jobId);
+    }
+
+    /**
+     * 서버 시작 시 끝나지 않은 작업(대기/처리 중)을 이어서 실행
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void resumeUnfinishedJobs() {
+        List<DeactivationJob> unfinished = jobRepository.findByStatusInOrderByIdAsc(
+                EnumSet.of(DeactivationJob.Status.QUEUED, DeactivationJob.Status.RUNNING));
+        for (DeactivationJob job : unfinished) {
+            log.info("미완료 회원 일괄 탈퇴 작업 재개 - jobId: {}, 진행 {}/{}",
+                    job.getId(), job.getProcessedCount(), job.getTotalCount());
+            Long jobId = job.getId();
+            executor.submit(() -> run(jobId));
+        }
+    }
+
+    // ==================== 작업 실행 ====================
+
+    private DeactivationJob register(List<Long> ids) {
+        DeactivationJob job = jobRepository.save(DeactivationJob.builder()
+                .status(DeactivationJob.Status.QUEUED)
+                .build());
+
+        for (int from = 0; from < ids.size(); from += REGISTER_BATCH_SIZE) {
+            List<Long> batch = ids.subList(from, Math.min(from + REGISTER_BATCH_SIZE, ids.size()));
+            jobItemRepository.insertTargets(job.getId(), batch);
+        }
+
+        job.setTotalCount((int) jobItemRepository.countByJobId(job.getId()));
+        if (job.getTotalCount() == 0) {
+            job.setStatus(DeactivationJob.Status.COMPLETED);
+            job.setFinishedAt(LocalDateTime.now());
+        }
+        return jobRepository.save(job);
+    }
+
+    private void run(Long jobId) {
+        updateStatus(jobId, DeactivationJob.Status.RUNNING, null);
+        try {
+            while (true) {
+                Integer processed = transactionTemplate.execute(status -> processNextChunk(jobId));
+                if (processed == null || processed == 0) {
+                    break;
+                }
+            }
+            updateStatus(jobId, DeactivationJob.Status.COMPLETED, null);
+            DeactivationJob job = getJob(jobId);
+            log.info("회원 일괄 탈퇴 작업 완료 - jobId: {}, 대상 {}명, 이동 {}명",
+                    jobId, job.getTotalCount(), job.getMovedCount());
+        } catch (Exception e) {
+            log.error("회원 일괄 탈퇴 작업 실패 - jobId: {}, {}", jobId, e.getMessage(), e);
+            updateStatus(jobId, DeactivationJob.Status.FAILED, e.getMessage());
+        }
+    }
+
+    /**
+     * 체크포인트 이후 한 청크 처리 (트랜잭션 안에서 호출)
+     *
+     * @return 처리한 대상 수 (0이면 남은 대상 없음)
+     */
+    private int processNextChunk(Long jobId) {
+        DeactivationJob job = getJob(jobId);
+        List<Long> targets = jobItemRepository.findNextTargets(jobId, job.getLastUserId(),
+                PageRequest.of(0, chunkSize));
+        if (targets.isEmpty()) {
+            return 0;
+        }
+
+        // 다른 경로(단건 탈퇴, 이전 실행)로 이미 처리된 회원은 건너뛴다.
+        List<Long> userIds = userRepository.findExistingIds(targets);
+        if (!userIds.isEmpty()) {
+            moveToInactive(userIds);
+        }
+
+        job.setLastUserId(targets.get(targets.size() - 1));
+        job.setProcessedCount(job.getProcessedCount() + targets.size());
+        job.setMovedCount(job.getMovedCount() + userIds.size());
+        jobRepository.save(job);
+
+        log.debug("회원 일괄 탈퇴 청크 완료 - jobId: {}, 진행 {}/{}",
+                jobId, job.getProcessedCount(), job.getTotalCount());
+        return targets.size();
+    }
+
+    /**
+     * 연관 데이터 삭제 → inactive_user 복사 → user 삭제 (FK 의존 순서)
+     */
+    private void moveToInactive(List<Long> userIds) {
+        deleteRelatedData(userIds);
+
+        // inactive_user 복사 후 user 삭제
+        inactiveUserRepository.copyFromUsers(userIds, LocalDateTime.now());
+        userRepository.bulkDeleteByIds(userIds);
+
+        for (Long userId : userIds) {
+            eventPublisher.publishEvent(new UserChangedEvent(userId, UserChangedEvent.Type.WITHDRAWN));
+        }
+    }
+
+    /**
+     * 회원 연관 데이터 삭제 (리뷰 → 주문 → 장바구니/찜/알림) + 집계/캐시 정리
+     * 단건 탈퇴(InactiveUserService), 영구 삭제(UserService)도 같은 처리를 쓰도록 공개한다.
+     * 호출하는 쪽 트랜잭션 안에서 실행되며, 메모리 장바구니/파일 참조/집계 이벤트는 커밋된 뒤 반영된다.
+     */
+    public void deleteRelatedData(List<Long> userIds) {
+        List<Object[]> deletedReviews = reviewRepository.findSummariesByUserIds(userIds);
+        List<Long> likedReviewIds = reviewLikeRepository.findReviewIdsLikedByUsers(userIds);
+        List<String> reviewImageUrls = reviewImageRepository.findImageUrlsByReviewAuthorIds(userIds);
+
+        // 1. 리뷰 (좋아요/답글/이미지 → 리뷰)
+        reviewLikeRepository.bulkDeleteByUserIds(userIds);
+        reviewReplyRepository.bulkDeleteByReviewAuthorIds(userIds);
+        reviewImageRepository.bulkDeleteByReviewAuthorIds(userIds);
+        reviewRepository.bulkDeleteByUserIds(userIds);
+        if (!likedReviewIds.isEmpty()) {
+            // 다른 회원 리뷰에 눌렀던 좋아요가 빠졌으므로 좋아요 수 재계산
+            reviewRepository.refreshLikeCounts(likedReviewIds);
+        }
+
+        // 2. 주문 (주문 항목 → 주문)
+        orderItemRepository.bulkDeleteByOrderUserIds(userIds);
+        orderRepository.bulkDeleteByUserIds(userIds);
+
+        // 3. 장바구니 / 찜 / 알림
+        cartItemRepository.bulkDeleteByUserIds(userIds);
+        userIds.forEach(cartEngine::invalidateUser); // 메모리 장바구니는 커밋된 뒤 버린다.
+        productFavoriteStatRepository.decrementForUsers(userIds); // 찜 삭제 전에 상품별 찜 개수 차감
+        favoriteRepository.bulkDeleteByUserIds(userIds);
+        userIds.forEach(favoriteSetCache::evict);
+        notificationRepository.bulkDeleteByUserIds(userIds);
+
+        // 리뷰 이미지 파일 참조 해제 (트랜잭션이 커밋된 뒤 실행)
+        reviewImageUrls.forEach(fileStorageService::release);
+
+        // 트랜잭션이 커밋된 뒤 집계(상품 평점, 대시보드 등)에 반영된다.
+        for (Object[] row : deletedReviews) {
+            eventPublisher.publishEvent(ReviewChangedEvent.deleted(
+                    (Long) row[0], (Long) row[1], ((Number) row[2]).intValue()));
+        }
+    }
+
+    private void updateStatus(Long jobId, DeactivationJob.Status status, String error) {
+        transactionTemplate.executeWithoutResult(tx -> {
+            DeactivationJob job = getJob(jobId);
+            job.setStatus(status);
+            switch (status) {
+                case RUNNING -> {
+                    if (job.getStartedAt() == null) {
+                        job.setStartedAt(LocalDateTime.now());
+                    }
+                }
+                case COMPLETED, FAILED -> job.setFinishedAt(LocalDateTime.now());
+                default -> job.setFinishedAt(null);
+            }
+            job.setLastError(error != null && error.length() > 1000 ? error.substring(0, 1000) : error);
+            jobRepository.save(job);
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        // 처리 중이던 청크는 롤백되거나 커밋된 상태로 남고, 다음 기동 시 체크포인트부터 재개된다.
+        executor.shutdownNow();
+    }
+}
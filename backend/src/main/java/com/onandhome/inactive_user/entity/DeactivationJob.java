@@ -0,0 +1,82 @@
+package com.onandhome.inactive_user.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 회원 일괄 탈퇴 작업
+ * 대상 회원 ID는 DeactivationJobItem 에 저장되고,
+ * 청크가 커밋될 때마다 lastUserId(체크포인트)와 진행 수가 함께 갱신된다.
+ * 서버가 중간에 종료되어도 lastUserId 이후부터 이어서 처리할 수 있다.
+ */
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Table(name = "user_deactivation_job", indexes = {
+        @Index(name = "idx_user_deactivation_job_status", columnList = "status")
+})
+public class DeactivationJob {
+
+    public enum Status {
+        QUEUED,    // 대기 중
+        RUNNING,   // 처리 중
+        COMPLETED, // 완료
+        FAILED     // 실패 (재개 가능)
+    }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private Status status;
+
+    @Column(name = "total_count", nullable = false)
+    private int totalCount; // 대상 회원 수
+
+    @Column(name = "processed_count", nullable = false)
+    private int processedCount; // 처리한 대상 수 (이미 탈퇴된 회원 포함)
+
+    @Column(name = "moved_count", nullable = false)
+    private int movedCount; // 실제로 inactive_user 로 이동된 회원 수
+
+    @Column(name = "last_user_id", nullable = false)
+    private long lastUserId; // 마지막으로 커밋된 청크의 최대 user.id (체크포인트)
+
+    @Column(name = "last_error", length = 1000)
+    private String lastError;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "started_at")
+    private LocalDateTime startedAt;
+
+    @Column(name = "finished_at")
+    private LocalDateTime finishedAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    @PrePersist
+    protected void onCreate() {
+        this.createdAt = LocalDateTime.now();
+        this.updatedAt = this.createdAt;
+    }
+
+    @PreUpdate
+    protected void onUpdate() {
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    /** 진행률 (0 ~ 100) */
+    public int getProgressPercent() {
+        return totalCount == 0 ? 100 : (int) (processedCount * 100L / totalCount);
+    }
+}
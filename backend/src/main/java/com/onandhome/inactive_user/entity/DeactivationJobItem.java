@@ -0,0 +1,29 @@
+package com.onandhome.inactive_user.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 회원 일괄 탈퇴 작업 대상
+ * 작업 생성 시 INSERT ... SELECT 로 한 번에 채워지며 이후에는 변경되지 않는다.
+ * (진행 위치는 DeactivationJob.lastUserId 로 관리)
+ */
+@Entity
+@Getter
+@NoArgsConstructor
+@Table(name = "user_deactivation_job_item", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_user_deactivation_job_item", columnNames = {"job_id", "user_id"})
+})
+public class DeactivationJobItem {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "job_id", nullable = false)
+    private Long jobId;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId; // user.id
+}
@@ -1,9 +1,12 @@
 package com.onandhome.notification;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -33,6 +36,19 @@ public interface NotificationRepository extends JpaRepository<Notification, Long
     @Modifying
     @Transactional
     void deleteByTypeAndReferenceId(String type, Long referenceId);
+
+    // 5) 여러 사용자의 알림 일괄 삭제
+    // 회원 일괄 탈퇴 시 사용됨. 트랜잭션은 호출하는 쪽(청크 단위)에서 관리한다.
+    @Modifying
+    @Query("DELETE FROM Notification n WHERE n.user.id IN :userIds")
+    int bulkDeleteByUserIds(@Param("userIds") Collection<Long> userIds);
+
+    // 6) 특정 타입들 + 여러 referenceId 알림 일괄 삭제
+    // 리뷰/QnA 일괄 삭제 시 deleteByTypeAndReferenceId 를 건마다 부르지 않고 한 번에 지운다.
+    @Modifying
+    @Query("DELETE FROM Notification n WHERE n.type IN :types AND n.referenceId IN :referenceIds")
+    int bulkDeleteByTypesAndReferenceIds(@Param("types") Collection<String> types,
+                                         @Param("referenceIds") Collection<Long> referenceIds);
 }
 
 /*
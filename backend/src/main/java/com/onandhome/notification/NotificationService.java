@@ -1,17 +1,20 @@
 package com.onandhome.notification;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.stream.Collectors;
 
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.onandhome.config.metrics.MetricsConfig;
 import com.onandhome.notification.dto.NotificationDTO;
 import com.onandhome.notification.entity.Notification;
 import com.onandhome.user.UserRepository;
 import com.onandhome.user.entity.User;
 
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 
@@ -31,6 +34,7 @@ public class NotificationService {
     /* 알림 생성 메서드
        특정 사용자에게 한 건의 알림을 생성하여 DB에 저장한다.
        실시간 알림을 사용한다면 이 단계 이후에 웹소켓 알림을 전송함. */
+    @Timed(MetricsConfig.SERVICE_TIMER)
     public void createNotification(String userId, String title, String content, String type, Long referenceId, Long productId) {
 
         /* userId 기준으로 사용자 조회 */
@@ -226,6 +230,18 @@ public class NotificationService {
             log.error("알림 삭제 실패: type={}, referenceId={}", type, referenceId, e);
         }
     }
+
+
+    /* 여러 엔티티(리뷰/QnA 등) 일괄 삭제 시 관련 알림을 DELETE 한 번으로 제거
+       호출하는 쪽의 청크 트랜잭션에 함께 묶인다. (실패하면 청크 전체가 롤백됨) */
+    public int deleteByTypesAndReferenceIds(Collection<String> types, Collection<Long> referenceIds) {
+        if (referenceIds.isEmpty()) {
+            return 0;
+        }
+        int deleted = notificationRepository.bulkDeleteByTypesAndReferenceIds(types, referenceIds);
+        log.info("알림 일괄 삭제 완료: types={}, 대상 {}건, 삭제 {}건", types, referenceIds.size(), deleted);
+        return deleted;
+    }
 }
 
 /*
@@ -16,6 +16,7 @@ import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -34,9 +35,11 @@ import lombok.Setter;
 @EntityListeners(AuditingEntityListener.class) // createdAt 자동 기록
 public class Notification {
 
-    /* 알림 고유 ID (Primary Key) */
+    /* 알림 고유 ID (Primary Key)
+       대량 알림(회원 수만큼)을 배치 INSERT 하도록 pooled ID (notifications_seq 테이블에서 50개씩 예약) */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "notifications_seq")
+    @SequenceGenerator(name = "notifications_seq", sequenceName = "notifications_seq", allocationSize = 50)
     private Long id;
 
     /* 알림을 받는 사용자 (여러 알림이 한 사용자에게 귀속됨) */
@@ -6,16 +6,21 @@ import java.util.Map;
 
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.onandhome.cart.CartEngine;
 import com.onandhome.order.dto.CreateOrderRequest;
 import com.onandhome.order.dto.OrderDTO;
+import com.onandhome.order.idempotency.IdempotencyService;
+import com.onandhome.user.dto.UserDTO;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -27,15 +32,27 @@ import lombok.extern.slf4j.Slf4j;
 public class OrderController {
 
     private final OrderService orderService;
+    private final IdempotencyService idempotencyService;
+    private final CartEngine cartEngine;
 
     /**
      * 주문 생성 API
      * 주문 생성 시점에서는 결제 여부와 상관없이 Order 객체가 DB에 생성된다.
      * 결제 방법이 카드인 경우에는 생성 직후 상태가 ORDERED가 되고,
      * 무통장 입금인 경우에는 PAYMENT_PENDING 상태로 저장된다.
+     * Idempotency-Key 헤더가 있으면 같은 키의 재요청에는 주문을 다시 만들지 않고 첫 응답을 돌려준다.
+     * (키 범위는 요청 본문의 userId 가 아니라 JWT 로 인증된 회원 - 남의 키로 남의 주문 응답을 받아 갈 수 없게)
      */
     @PostMapping("/create")
-    public ResponseEntity<Map<String, Object>> create(@RequestBody CreateOrderRequest request) {
+    public ResponseEntity<Map<String, Object>> create(
+            @AuthenticationPrincipal UserDTO principal,
+            @RequestBody CreateOrderRequest request,
+            @RequestHeader(value = IdempotencyService.HEADER, required = false) String idempotencyKey) {
+        return idempotencyService.execute("order-create:" + principal.getId(), idempotencyKey, request,
+                () -> createOrder(request));
+    }
+
+    private ResponseEntity<Map<String, Object>> createOrder(CreateOrderRequest request) {
         Map<String, Object> response = new HashMap<>();
         try {
             log.info("=== 주문 생성 API 호출 ===");
@@ -126,7 +143,7 @@ public class OrderController {
     /**
      * 주문 결제 처리
      * 주문 생성 후 실제 결제가 완료될 때 호출되는 API.
-     * pay() 메서드 내에서 상태가 ORDERED로 변경되고 결제 시간이 기록된다.
+     * 결제 대기(PAYMENT_PENDING) 주문만 ORDERED로 변경되고 결제 시간이 기록된다.
      * 결제가 완료되면 알림 서비스나 WebSocket 푸시 등이 내부적으로 실행된다.
      */
     @PostMapping("/{orderId}/pay")
@@ -148,6 +165,11 @@ public class OrderController {
             response.put("success", false);
             response.put("message", e.getMessage());
             return ResponseEntity.status(HttpStatus.NOT_FOUND).body(response);
+        } catch (IllegalStateException e) {
+            // 결제 대기가 아닌 주문 (이미 결제/취소/배송된 주문)
+            response.put("success", false);
+            response.put("message", e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
         } catch (Exception e) {
             log.error("결제 중 오류: {}", e.getMessage());
             response.put("success", false);
@@ -218,9 +240,20 @@ public class OrderController {
     /**
      * 장바구니 기반 주문 생성
      * 장바구니의 모든 상품을 OrderItem으로 생성하고 주문 처리 흐름은 일반 주문과 동일하다.
+     * 멱등 키 범위는 인증된 회원 기준 (create 와 같음)
      */
     @PostMapping("/cart/create")
-    public ResponseEntity<Map<String, Object>> createFromCart(@RequestParam Long userId) {
+    public ResponseEntity<Map<String, Object>> createFromCart(
+            @AuthenticationPrincipal UserDTO principal,
+            @RequestParam Long userId,
+            @RequestHeader(value = IdempotencyService.HEADER, required = false) String idempotencyKey) {
+        // 메모리 장바구니 반영은 주문/멱등 트랜잭션 밖에서, 주문이 끝날 때까지 새 아이템 추가를 막은 채로
+        return cartEngine.checkout(userId, () -> idempotencyService.execute(
+                "cart-order-create:" + principal.getId(), idempotencyKey, Map.of("userId", userId),
+                () -> createOrderFromCart(userId)));
+    }
+
+    private ResponseEntity<Map<String, Object>> createOrderFromCart(Long userId) {
         Map<String, Object> response = new HashMap<>();
         try {
             log.info("장바구니 주문 생성: userId={}", userId);
@@ -0,0 +1,40 @@
+package com.onandhome.order;
+
+import com.onandhome.order.event.OrderStatusChangedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 주문 상태 변경 이력(order_event) 일괄 INSERT
+ *
+ * OrderEvent 는 IDENTITY 키라 saveAll 로는 한 건씩 나가므로 JDBC 배치 한 번으로 넣는다.
+ * (같은 트랜잭션/커넥션 - 상태 변경이 롤백되면 이력도 함께 롤백)
+ */
+@Repository
+@RequiredArgsConstructor
+public class OrderEventBatchWriter {
+
+    private static final String INSERT =
+            "INSERT INTO order_event (order_id, from_status, to_status, actor, created_at) VALUES (?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void append(List<OrderStatusChangedEvent.Change> changes, String actor, LocalDateTime at) {
+        if (changes.isEmpty()) {
+            return;
+        }
+        Timestamp timestamp = Timestamp.valueOf(at);
+        jdbcTemplate.batchUpdate(INSERT, changes, changes.size(), (ps, change) -> {
+            ps.setLong(1, change.orderId());
+            ps.setString(2, change.from() != null ? change.from().name() : null);
+            ps.setString(3, change.to().name());
+            ps.setString(4, actor);
+            ps.setTimestamp(5, timestamp);
+        });
+    }
+}
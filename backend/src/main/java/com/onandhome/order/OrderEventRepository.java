@@ -0,0 +1,16 @@
+package com.onandhome.order;
+
+import com.onandhome.order.entity.OrderEvent;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface OrderEventRepository extends JpaRepository<OrderEvent, Long> {
+
+    /**
+     * 주문의 상태 변경 이력 (오래된 순)
+     */
+    List<OrderEvent> findByOrderIdOrderByIdAsc(Long orderId);
+}
@@ -1,14 +1,50 @@
 package com.onandhome.order;
 
+import com.onandhome.admin.adminAnalytics.dto.SalesFactRow;
 import com.onandhome.order.entity.OrderItem;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
 @Repository
 public interface OrderItemRepository extends JpaRepository<OrderItem, Long> {
     List<OrderItem> findByOrderId(Long orderId);
     List<OrderItem> findByProduct(com.onandhome.admin.adminProduct.entity.Product product);
-    void deleteByProduct(com.onandhome.admin.adminProduct.entity.Product product);
+
+    // 매출 집계용 원천 행 조회 (주문 1건)
+    @Query("SELECT new com.onandhome.admin.adminAnalytics.dto.SalesFactRow(" +
+            "o.createdAt, p.id, p.category, o.paymentMethod, o.status, oi.count, oi.orderPrice) " +
+            "FROM OrderItem oi JOIN oi.order o LEFT JOIN oi.product p WHERE o.id = :orderId")
+    List<SalesFactRow> findSalesFactsByOrderId(@Param("orderId") Long orderId);
+
+    // 매출 집계 백필용 스트리밍 조회 [start, end)
+    // 엔티티 대신 프로젝션을 서버 커서로 fetch size(1000) 단위씩 읽어 메모리 사용량을 일정하게 유지한다.
+    // MySQL Connector/J 는 useCursorFetch=true 일 때만 fetch size 를 커서 조회로 처리한다. (prod 프로필에 설정)
+    // 이 속성이 없으면 드라이버가 결과 전체를 메모리에 받은 뒤 넘겨주므로 기간을 짧게 나눠 호출할 것.
+    // 반드시 트랜잭션 안에서 소비하고 close 해야 한다. (try-with-resources)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT new com.onandhome.admin.adminAnalytics.dto.SalesFactRow(" +
+            "o.createdAt, p.id, p.category, o.paymentMethod, o.status, oi.count, oi.orderPrice) " +
+            "FROM OrderItem oi JOIN oi.order o LEFT JOIN oi.product p " +
+            "WHERE o.createdAt >= :start AND o.createdAt < :end")
+    Stream<SalesFactRow> streamSalesFacts(@Param("start") LocalDateTime start, @Param("end") LocalDateTime end);
+
+    // 회원 일괄 탈퇴용 - 해당 회원들의 주문 항목 삭제 (orders 삭제 전에 호출)
+    @Modifying
+    @Query("DELETE FROM OrderItem oi WHERE oi.order.id IN (SELECT o.id FROM Order o WHERE o.user.id IN :userIds)")
+    int bulkDeleteByOrderUserIds(@Param("userIds") Collection<Long> userIds);
+
+    // 상품 삭제용 - 주문 이력이 있는 상품 ID (주문 항목은 지우지 않고 상품을 보관 처리)
+    @Query("SELECT DISTINCT oi.product.id FROM OrderItem oi WHERE oi.product.id IN :productIds")
+    List<Long> findOrderedProductIds(@Param("productIds") Collection<Long> productIds);
 }
@@ -0,0 +1,182 @@
+package com.onandhome.order;
+
+import com.onandhome.admin.adminProduct.entity.Product;
+import com.onandhome.admin.adminProduct.event.ProductChangedEvent;
+import com.onandhome.order.dto.OrderTransitionResult;
+import com.onandhome.order.entity.Order;
+import com.onandhome.order.entity.Order.OrderStatus;
+import com.onandhome.order.event.OrderCanceledEvent;
+import com.onandhome.order.event.OrderStatusChangedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 주문 상태 변경 (상태 전이 엔진)
+ *
+ * 모든 주문 상태 변경은 여기를 거친다.
+ * 1. 대상 주문 행을 잠그고(SELECT ... FOR UPDATE) 현재 상태를 읽는다.
+ * 2. OrderStateMachine 전이표로 검증한다. (허용되지 않는 주문은 건너뛰고 사유를 돌려준다)
+ * 3. 상태별 처리
+ *    - CANCELED : 엔티티로 취소 (주문 항목 재고 복구, 취소 매출 이벤트)
+ *    - ORDERED  : 입금 확인 - 상태 + 결제 시각을 UPDATE 한 번으로
+ *    - 그 외    : 상태만 UPDATE 한 번으로 (배송중/배송완료 수천 건도 쿼리 1회)
+ * 4. order_event 에 이력을 JDBC 배치로 남기고, OrderStatusChangedEvent 를 한 번 발행한다.
+ *    (커밋 후 OrderStatusNotifier 가 구매자에게 비동기로 알림)
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional
+public class OrderLifecycleService {
+
+    /** 일괄 변경 한 번에 받을 수 있는 최대 주문 수 */
+    public static final int MAX_BULK_ORDERS = 5000;
+
+    /** IN 절 한 번에 넣는 주문 수 */
+    private static final int CHUNK_SIZE = 1000;
+
+    private final OrderRepository orderRepository;
+    private final OrderEventBatchWriter orderEventBatchWriter;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * 주문 한 건 상태 변경
+     * 없는 주문이면 IllegalArgumentException, 허용되지 않는 전이면 IllegalStateException.
+     */
+    public OrderStatusChangedEvent.Change transition(Long orderId, OrderStatus target) {
+        OrderTransitionResult result = apply(List.of(orderId), target);
+        if (!result.rejected().isEmpty()) {
+            OrderTransitionResult.Rejection rejection = result.rejected().get(0);
+            if (rejection.currentStatus() == null) {
+                throw new IllegalArgumentException(rejection.reason());
+            }
+            throw new IllegalStateException(rejection.reason());
+        }
+        return result.changed().get(0);
+    }
+
+    /**
+     * 주문 여러 건 상태 변경 (한 트랜잭션)
+     * 변경할 수 없는 주문은 건너뛰고 결과의 rejected 에 담는다.
+     */
+    public OrderTransitionResult bulkTransition(Collection<Long> orderIds, OrderStatus target) {
+        if (orderIds == null || orderIds.isEmpty()) {
+            throw new IllegalArgumentException("주문 ID가 필요합니다.");
+        }
+        if (orderIds.size() > MAX_BULK_ORDERS) {
+            throw new IllegalArgumentException("한 번에 최대 " + MAX_BULK_ORDERS + "건까지 변경할 수 있습니다.");
+        }
+        return apply(new ArrayList<>(new LinkedHashSet<>(orderIds)), target);
+    }
+
+    // ==================== 내부 ====================
+
+    private OrderTransitionResult apply(List<Long> orderIds, OrderStatus target) {
+        if (target == null) {
+            throw new IllegalArgumentException("변경할 상태가 필요합니다.");
+        }
+        LocalDateTime now = LocalDateTime.now();
+        String actor = currentActor();
+        List<OrderStatusChangedEvent.Change> changes = new ArrayList<>();
+        List<OrderTransitionResult.Rejection> rejected = new ArrayList<>();
+
+        for (int from = 0; from < orderIds.size(); from += CHUNK_SIZE) {
+            List<Long> chunk = orderIds.subList(from, Math.min(from + CHUNK_SIZE, orderIds.size()));
+
+            // 1. 잠금 + 현재 상태
+            Map<Long, Object[]> rows = new HashMap<>();
+            for (Object[] row : orderRepository.lockStatusRows(chunk)) {
+                rows.put(((Number) row[0]).longValue(), row);
+            }
+
+            // 2. 전이 검증
+            List<Long> allowed = new ArrayList<>();
+            for (Long orderId : chunk) {
+                Object[] row = rows.get(orderId);
+                if (row == null) {
+                    rejected.add(new OrderTransitionResult.Rejection(orderId, null, "존재하지 않는 주문입니다."));
+                    continue;
+                }
+                OrderStatus current = OrderStatus.valueOf((String) row[1]);
+                if (!OrderStateMachine.canTransition(current, target)) {
+                    rejected.add(new OrderTransitionResult.Rejection(orderId, current,
+                            current + " 상태의 주문은 " + target + "(으)로 변경할 수 없습니다."));
+                    continue;
+                }
+                allowed.add(orderId);
+            }
+            if (allowed.isEmpty()) {
+                continue;
+            }
+
+            // 3. 상태별 처리
+            switch (target) {
+                case CANCELED -> cancel(allowed);
+                case ORDERED -> orderRepository.bulkMarkPaid(allowed, target, now);
+                default -> orderRepository.bulkUpdateStatus(allowed, target);
+            }
+
+            Map<Long, String> loginIds = new HashMap<>();
+            for (Object[] row : orderRepository.findBuyerLoginIds(allowed)) {
+                loginIds.put((Long) row[0], (String) row[1]);
+            }
+            for (Long orderId : allowed) {
+                Object[] row = rows.get(orderId);
+                changes.add(new OrderStatusChangedEvent.Change(
+                        orderId,
+                        (String) row[3],
+                        ((Number) row[2]).longValue(),
+                        loginIds.get(orderId),
+                        OrderStatus.valueOf((String) row[1]),
+                        target));
+            }
+        }
+
+        // 4. 이력 + 이벤트
+        orderEventBatchWriter.append(changes, actor, now);
+        if (!changes.isEmpty()) {
+            eventPublisher.publishEvent(new OrderStatusChangedEvent(changes, actor, now));
+        }
+        log.info("주문 상태 변경 → {} : 변경 {}건, 건너뜀 {}건 (by {})", target, changes.size(), rejected.size(), actor);
+        return new OrderTransitionResult(target, changes, rejected);
+    }
+
+    /**
+     * 주문 취소 - 재고 복구(주문 항목)와 취소 매출/재고 변경 이벤트
+     */
+    private void cancel(List<Long> orderIds) {
+        Map<Product, Integer> previousStocks = new IdentityHashMap<>();
+        for (Order order : orderRepository.findWithItemsByIdIn(orderIds)) {
+            order.getOrderItems().forEach(i -> previousStocks.putIfAbsent(i.getProduct(), i.getProduct().getStock()));
+            order.cancel();
+            eventPublisher.publishEvent(new OrderCanceledEvent(order.getId(), order.getTotalPrice(), order.getCreatedAt()));
+        }
+        previousStocks.forEach((product, previousStock) -> eventPublisher.publishEvent(
+                ProductChangedEvent.stockChanged(product.getId(), product.getCategoryId(),
+                        previousStock, product.getStock())));
+    }
+
+    /** 변경 주체 (로그인 사용자 아이디, 없으면 system) */
+    private static String currentActor() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()
+                || "anonymousUser".equals(authentication.getName())) {
+            return "system";
+        }
+        return authentication.getName();
+    }
+}
@@ -0,0 +1,74 @@
+package com.onandhome.order;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 주문번호 생성기 (Snowflake 방식)
+ *
+ * 64비트 = 시각(ms, 41비트) | 서버 번호(10비트) | 같은 ms 안의 순번(12비트)
+ * - 잠금 없이 CAS 로 (시각, 순번)을 올리므로 동시에 호출해도 겹치지 않는다.
+ * - 시계가 뒤로 가거나 1ms 에 4096개를 넘기면 마지막 시각을 이어 쓴다. (값은 항상 증가)
+ * - 서버가 여러 대면 order.number.worker-id 를 서버마다 다르게 준다. (0 ~ 1023)
+ *
+ * 문자열은 Crockford Base32 13자리로 고정해 문자열 순서 = 생성 순서가 되도록 했다.
+ * (orders.order_number 유니크 인덱스를 시간순 키로 쓸 수 있음)
+ */
+@Component
+public class OrderNumberGenerator {
+
+    /* 기준 시각 2025-01-01T00:00:00Z (41비트로 약 69년) */
+    private static final long EPOCH = Instant.parse("2025-01-01T00:00:00Z").toEpochMilli();
+
+    private static final int WORKER_BITS = 10;
+    private static final int SEQUENCE_BITS = 12;
+    private static final long MAX_WORKER = (1L << WORKER_BITS) - 1;
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+
+    private static final char[] ALPHABET = "0123456789ABCDEFGHJKMNPQRSTVWXYZ".toCharArray();
+    private static final int LENGTH = 13; // 64비트 / 5비트
+
+    private final long workerId;
+
+    /* (시각 << SEQUENCE_BITS) | 순번 - 마지막으로 발급한 값 */
+    private final AtomicLong last = new AtomicLong();
+
+    public OrderNumberGenerator(@Value("${order.number.worker-id:0}") long workerId) {
+        if (workerId < 0 || workerId > MAX_WORKER) {
+            throw new IllegalArgumentException("order.number.worker-id 는 0 ~ " + MAX_WORKER + " 사이여야 합니다.");
+        }
+        this.workerId = workerId;
+    }
+
+    /** 다음 ID (시간순 증가) */
+    public long nextId() {
+        while (true) {
+            long previous = last.get();
+            long now = (System.currentTimeMillis() - EPOCH) << SEQUENCE_BITS;
+            // 같은 ms(또는 시계가 뒤로 감/순번 소진)면 마지막 값 + 1 → 순번이 넘치면 다음 ms 로 이어진다
+            long next = Math.max(now, previous + 1);
+            if (last.compareAndSet(previous, next)) {
+                long timestamp = next >>> SEQUENCE_BITS;
+                long sequence = next & SEQUENCE_MASK;
+                return (timestamp << (WORKER_BITS + SEQUENCE_BITS)) | (workerId << SEQUENCE_BITS) | sequence;
+            }
+        }
+    }
+
+    /** 다음 주문번호 (13자리 고정 길이) */
+    public String next() {
+        return encode(nextId());
+    }
+
+    static String encode(long id) {
+        char[] chars = new char[LENGTH];
+        for (int i = LENGTH - 1; i >= 0; i--) {
+            chars[i] = ALPHABET[(int) (id & 31)];
+            id >>>= 5;
+        }
+        return new String(chars);
+    }
+}
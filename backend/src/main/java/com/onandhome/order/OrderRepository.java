@@ -1,10 +1,12 @@
 package com.onandhome.order;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -57,4 +59,60 @@ public interface OrderRepository extends JpaRepository<Order, Long> {
     @Query("SELECT COALESCE(SUM(o.totalPrice), 0) FROM Order o WHERE o.createdAt >= :startOfMonth AND o.status != :canceledStatus")
     long sumMonthRevenue(@Param("startOfMonth") LocalDateTime startOfMonth,
                          @Param("canceledStatus") Order.OrderStatus canceledStatus);
+
+    // 기간 주문 개수 조회 [start, end)
+    // 대시보드 일별 집계를 자정에 확정할 때 전날 하루 구간을 넘겨 사용한다.
+    @Query("SELECT COUNT(o) FROM Order o WHERE o.createdAt >= :start AND o.createdAt < :end")
+    long countOrdersBetween(@Param("start") LocalDateTime start,
+                            @Param("end") LocalDateTime end);
+
+    // 기간 매출 합계 조회 [start, end) - 취소 주문 제외
+    @Query("SELECT COALESCE(SUM(o.totalPrice), 0) FROM Order o WHERE o.createdAt >= :start AND o.createdAt < :end AND o.status != :canceledStatus")
+    long sumRevenueBetween(@Param("start") LocalDateTime start,
+                           @Param("end") LocalDateTime end,
+                           @Param("canceledStatus") Order.OrderStatus canceledStatus);
+
+    // 회원 일괄 탈퇴용 - 해당 회원들의 주문 삭제
+    // 주문 항목(order_item)을 먼저 삭제한 뒤 호출해야 한다.
+    @Modifying
+    @Query("DELETE FROM Order o WHERE o.user.id IN :userIds")
+    int bulkDeleteByUserIds(@Param("userIds") Collection<Long> userIds);
+
+    /**
+     * 상태 변경 대상 주문 행 잠금 + 조회 [order_id, status, user_id, order_number]
+     * (같은 주문을 동시에 바꾸는 요청은 커밋될 때까지 대기)
+     */
+    @Query(value = "SELECT o.order_id, o.status, o.user_id, o.order_number FROM orders o " +
+            "WHERE o.order_id IN (:orderIds) FOR UPDATE",
+            nativeQuery = true)
+    List<Object[]> lockStatusRows(@Param("orderIds") Collection<Long> orderIds);
+
+    /**
+     * 주문별 구매자 로그인 아이디 [orderId, userId(로그인 아이디)] - 상태 변경 알림 대상
+     */
+    @Query("SELECT o.id, u.userId FROM Order o JOIN o.user u WHERE o.id IN :orderIds")
+    List<Object[]> findBuyerLoginIds(@Param("orderIds") Collection<Long> orderIds);
+
+    /**
+     * 주문 상태 일괄 변경 (전이 검증과 행 잠금은 OrderLifecycleService 에서 먼저 수행)
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Order o SET o.status = :status WHERE o.id IN :orderIds")
+    int bulkUpdateStatus(@Param("orderIds") Collection<Long> orderIds, @Param("status") Order.OrderStatus status);
+
+    /**
+     * 입금 확인 일괄 처리 (상태 + 결제 시각)
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Order o SET o.status = :status, o.paidAt = :paidAt WHERE o.id IN :orderIds")
+    int bulkMarkPaid(@Param("orderIds") Collection<Long> orderIds,
+                     @Param("status") Order.OrderStatus status,
+                     @Param("paidAt") LocalDateTime paidAt);
+
+    /**
+     * 주문 + 주문 항목 + 상품 함께 조회 (취소 시 재고 복구용, 쿼리 1회)
+     */
+    @Query("SELECT DISTINCT o FROM Order o LEFT JOIN FETCH o.orderItems oi LEFT JOIN FETCH oi.product " +
+            "WHERE o.id IN :orderIds")
+    List<Order> findWithItemsByIdIn(@Param("orderIds") Collection<Long> orderIds);
 }
@@ -7,22 +7,29 @@ import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.onandhome.admin.adminProduct.ProductRepository;
 import com.onandhome.admin.adminProduct.entity.Product;
+import com.onandhome.admin.adminProduct.event.ProductChangedEvent;
+import com.onandhome.cart.CartEngine;
 import com.onandhome.cart.CartItemRepository;
 import com.onandhome.cart.entity.CartItem;
+import com.onandhome.config.metrics.MetricsConfig;
 import com.onandhome.notification.NotificationService;
 import com.onandhome.order.dto.CreateOrderRequest;
 import com.onandhome.order.dto.OrderDTO;
 import com.onandhome.order.entity.Order;
 import com.onandhome.order.entity.OrderItem;
+import com.onandhome.order.event.OrderCreatedEvent;
 import com.onandhome.user.UserRepository;
 import com.onandhome.user.entity.User;
 
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -36,11 +43,21 @@ public class OrderService {
     private final UserRepository userRepo;
     private final ProductRepository productRepo;
     private final CartItemRepository cartRepo;
+    private final CartEngine cartEngine;
     private final NotificationService notificationService;
 
     // WebSocket 메시지 전송용 템플릿
     private final SimpMessagingTemplate messagingTemplate;
 
+    // 대시보드 지표 등 후속 처리를 위한 도메인 이벤트 발행 (커밋 이후 반영)
+    private final ApplicationEventPublisher eventPublisher;
+
+    // 주문 상태 변경 (전이 검증 + 이력 + 알림)
+    private final OrderLifecycleService orderLifecycleService;
+
+    // 주문번호 발급 (시간순, 중복 없음)
+    private final OrderNumberGenerator orderNumberGenerator;
+
     // 관리자용 전체 주문 조회
     // 모든 주문을 createdAt 기준 내림차순으로 정렬하여 반환한다.
     // 관리자 페이지의 주문 관리 화면에서 사용됨.
@@ -81,6 +98,7 @@ public class OrderService {
     // 결제 방식(카드/무통장)에 따라 상태가 ORDERED 또는 PAYMENT_PENDING으로 설정된다.
     // 주문 항목 생성 시 재고 차감이 이루어진다.
     // 주문 완료 시 사용자/관리자에게 WebSocket 알림이 전송된다.
+    @Timed(MetricsConfig.SERVICE_TIMER)
     public OrderDTO createOrder(CreateOrderRequest request) {
 
         User user = userRepo.findById(request.getUserId())
@@ -95,18 +113,21 @@ public class OrderService {
         List<OrderItem> orderItems = new ArrayList<>();
         for (CreateOrderRequest.OrderItemRequest itemReq : request.getOrderItems()) {
 
-            Product product = productRepo.findById(itemReq.getProductId())
+            // 삭제(보관)된 상품은 주문할 수 없다.
+            Product product = productRepo.findActiveById(itemReq.getProductId())
                     .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 상품입니다."));
 
             if (itemReq.getQuantity() <= 0) {
                 throw new IllegalArgumentException("주문 수량은 1 이상이어야 합니다.");
             }
 
+            int previousStock = product.getStock();
             OrderItem orderItem = OrderItem.createOrderItem(
                     product,
                     product.getPrice(),
                     itemReq.getQuantity()
             );
+            publishStockChange(product, previousStock);
 
             orderItems.add(orderItem);
         }
@@ -123,7 +144,7 @@ public class OrderService {
         }
 
         // 주문 엔티티 생성
-        Order order = Order.create(user, orderItems, paymentMethod);
+        Order order = Order.create(user, orderItems, paymentMethod, orderNumberGenerator.next());
 
         // 배송 정보 저장
         order.setRecipientName(request.getRecipientName());
@@ -132,6 +153,8 @@ public class OrderService {
         order.setShippingRequest(request.getShippingRequest());
 
         Order savedOrder = orderRepo.save(order);
+        eventPublisher.publishEvent(new OrderCreatedEvent(
+                savedOrder.getId(), savedOrder.getTotalPrice(), savedOrder.getCreatedAt()));
 
         // 주문 완료 시 사용자 알림 (DB 저장 + 실시간 WebSocket)
         try {
@@ -218,56 +241,67 @@ public class OrderService {
 
     // 장바구니 기반 주문 생성
     // 장바구니에서 상품을 가져와 OrderItem으로 변환하고 주문으로 생성한다.
-    // 주문 생성 후 장바구니는 비워진다.
+    // 주문 생성 후 주문한 아이템은 장바구니에서 빠진다.
+    // 메모리 장바구니 반영은 호출하는 쪽에서 트랜잭션 밖에서 한다. (OrderController - CartEngine.checkout)
     public OrderDTO createOrderFromCart(Long userId) {
         User user = userRepo.findById(userId)
                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 사용자입니다."));
-        List<CartItem> cartItems = cartRepo.findByUser(user);
+        // 상품을 함께 로딩 (아이템마다 상품 조회가 추가로 나가지 않도록)
+        List<CartItem> cartItems = cartRepo.findWithProductByUserId(userId);
 
         if (cartItems.isEmpty()) {
             throw new IllegalArgumentException("장바구니가 비어 있습니다.");
         }
 
-        List<OrderItem> orderItems = cartItems.stream()
-                .map(c -> OrderItem.createOrderItem(
-                        c.getProduct(),
-                        c.getProduct().getPrice(),
-                        c.getQuantity()
-                ))
-                .collect(Collectors.toList());
+        List<OrderItem> orderItems = new ArrayList<>();
+        for (CartItem c : cartItems) {
+            Product product = c.getProduct();
+            int previousStock = product.getStock();
+            orderItems.add(OrderItem.createOrderItem(product, product.getPrice(), c.getQuantity()));
+            publishStockChange(product, previousStock);
+        }
 
-        Order order = Order.create(user, orderItems, Order.PaymentMethod.CARD);
+        Order order = Order.create(user, orderItems, Order.PaymentMethod.CARD, orderNumberGenerator.next());
         Order saved = orderRepo.save(order);
+        eventPublisher.publishEvent(new OrderCreatedEvent(
+                saved.getId(), saved.getTotalPrice(), saved.getCreatedAt()));
 
-        cartRepo.deleteByUser(user);
+        // 읽은 아이템만 삭제 (그 사이 다른 요청이 담은 아이템은 남김)
+        List<Long> orderedIds = cartItems.stream().map(CartItem::getId).toList();
+        cartRepo.bulkDeleteByIds(orderedIds);
+        cartEngine.removeOrdered(userId, orderedIds);
         return OrderDTO.fromEntity(saved);
     }
 
     // 주문 결제 처리
     // 결제 성공 시 상태가 ORDERED로 변경되고 결제시간이 기록된다.
+    // 입금 확인과 같은 전이이므로 행 잠금/전이 검증/이력/구매자 알림을 OrderLifecycleService 에서 처리한다.
+    // (결제 대기가 아닌 주문 - 이미 결제/취소된 주문은 IllegalStateException)
     public OrderDTO pay(Long orderId) {
-        Order order = orderRepo.findById(orderId)
-                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 주문입니다."));
-        order.pay();
-        return OrderDTO.fromEntity(orderRepo.save(order));
+        orderLifecycleService.transition(orderId, Order.OrderStatus.ORDERED);
+        return getOrder(orderId);
     }
 
     // 무통장입금 확인 등 결제 승인 처리
+    // 상태 전이 검증/이력/구매자 알림은 OrderLifecycleService 에서 처리된다.
     public OrderDTO confirmPayment(Long orderId) {
-        Order order = orderRepo.findById(orderId)
-                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 주문입니다."));
-        order.confirmPayment();
-        return OrderDTO.fromEntity(orderRepo.save(order));
+        orderLifecycleService.transition(orderId, Order.OrderStatus.ORDERED);
+        return getOrder(orderId);
     }
 
     // 주문 취소
-    // 주문 상태가 배송완료 전이면 취소 가능,
-    // OrderItem 내부에서 재고 복구 처리됨.
+    // 주문 상태가 배송완료 전이면 취소 가능 (이미 취소된 주문은 다시 취소되지 않음),
+    // OrderItem 내부에서 재고 복구 처리됨. (OrderLifecycleService)
     public OrderDTO cancel(Long orderId) {
-        Order order = orderRepo.findById(orderId)
-                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 주문입니다."));
-        order.cancel();
-        return OrderDTO.fromEntity(orderRepo.save(order));
+        orderLifecycleService.transition(orderId, Order.OrderStatus.CANCELED);
+        return getOrder(orderId);
+    }
+
+    // 재고 변경 이벤트 발행 (품절/재입고 전환 집계용)
+    private void publishStockChange(Product product, int previousStock) {
+        eventPublisher.publishEvent(
+                ProductChangedEvent.stockChanged(product.getId(), product.getCategoryId(),
+                        previousStock, product.getStock()));
     }
 
     // 주문 배송 상태 조회
@@ -287,11 +321,14 @@ public class OrderService {
     }
 
     // checkout 시 장바구니 조회용
-    @Transactional(readOnly = true)
+    // 메모리 장바구니 반영이 별도 트랜잭션이므로 트랜잭션 없이 실행한다. (조회는 리포지토리 트랜잭션)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public List<CartItem> checkout(Long userId) {
-        User user = userRepo.findById(userId)
-                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 사용자입니다."));
-        return cartRepo.findByUser(user);
+        cartEngine.flushUser(userId);
+        if (!userRepo.existsById(userId)) {
+            throw new IllegalArgumentException("존재하지 않는 사용자입니다.");
+        }
+        return cartRepo.findWithProductByUserId(userId);
     }
 
     // 관리자 검색 기능
@@ -0,0 +1,55 @@
+package com.onandhome.order;
+
+import com.onandhome.order.entity.Order.OrderStatus;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 주문 상태 전이표
+ *
+ *   PAYMENT_PENDING → ORDERED (입금 확인), CANCELED
+ *   ORDERED         → DELIVERING, CANCELED
+ *   DELIVERING      → DELIVERED, CANCELED
+ *   DELIVERED, CANCELED → (종료 상태)
+ *
+ * 주문 상태는 OrderLifecycleService 를 통해서만 바꾸고, 바꿀 때마다 이 표로 검증한다.
+ */
+public final class OrderStateMachine {
+
+    private static final Map<OrderStatus, Set<OrderStatus>> TRANSITIONS = new EnumMap<>(OrderStatus.class);
+
+    static {
+        TRANSITIONS.put(OrderStatus.PAYMENT_PENDING, EnumSet.of(OrderStatus.ORDERED, OrderStatus.CANCELED));
+        TRANSITIONS.put(OrderStatus.ORDERED, EnumSet.of(OrderStatus.DELIVERING, OrderStatus.CANCELED));
+        TRANSITIONS.put(OrderStatus.DELIVERING, EnumSet.of(OrderStatus.DELIVERED, OrderStatus.CANCELED));
+        TRANSITIONS.put(OrderStatus.DELIVERED, EnumSet.noneOf(OrderStatus.class));
+        TRANSITIONS.put(OrderStatus.CANCELED, EnumSet.noneOf(OrderStatus.class));
+    }
+
+    private OrderStateMachine() {
+    }
+
+    public static boolean canTransition(OrderStatus from, OrderStatus to) {
+        return from != null && TRANSITIONS.get(from).contains(to);
+    }
+
+    /** from 상태에서 갈 수 있는 상태 목록 */
+    public static Set<OrderStatus> nextStates(OrderStatus from) {
+        return Collections.unmodifiableSet(TRANSITIONS.get(from));
+    }
+
+    /** to 상태로 올 수 있는 이전 상태 목록 */
+    public static Set<OrderStatus> previousStates(OrderStatus to) {
+        Set<OrderStatus> result = EnumSet.noneOf(OrderStatus.class);
+        TRANSITIONS.forEach((from, targets) -> {
+            if (targets.contains(to)) {
+                result.add(from);
+            }
+        });
+        return result;
+    }
+}
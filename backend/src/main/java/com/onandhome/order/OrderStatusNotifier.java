@@ -0,0 +1,165 @@
+package com.onandhome.order;
+
+import com.onandhome.config.threads.VirtualThreadConfig;
+import com.onandhome.notification.NotificationRepository;
+import com.onandhome.notification.entity.Notification;
+import com.onandhome.order.entity.Order.OrderStatus;
+import com.onandhome.order.event.OrderStatusChangedEvent;
+import com.onandhome.user.UserRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 주문 상태 변경 구매자 알림
+ *
+ * 상태 변경이 커밋된 뒤 별도 스레드에서 구매자별 DB 알림을 저장하고
+ * WebSocket(/user/{loginId}/queue/notifications)으로 보낸다.
+ * 관리자가 수천 건을 한 번에 바꿔도 요청 스레드는 알림 전송을 기다리지 않는다.
+ */
+@Component
+@Slf4j
+public class OrderStatusNotifier {
+
+    /** 알림 저장 트랜잭션 하나에 넣는 건수 */
+    private static final int SAVE_CHUNK = 500;
+
+    /** 종료 시 남은 알림을 기다리는 최대 시간 (초) */
+    private static final long SHUTDOWN_WAIT_SECONDS = 10;
+
+    private final NotificationRepository notificationRepository;
+    private final UserRepository userRepository;
+    private final SimpMessagingTemplate messagingTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    /* 알림은 들어온 순서대로 하나씩 처리 (DB 저장 / WebSocket 전송 대기라 가상 스레드 모드면 가상 스레드) */
+    private final ExecutorService executor;
+
+    public OrderStatusNotifier(NotificationRepository notificationRepository,
+                               UserRepository userRepository,
+                               SimpMessagingTemplate messagingTemplate,
+                               PlatformTransactionManager transactionManager,
+                               VirtualThreadConfig virtualThreadConfig) {
+        this.notificationRepository = notificationRepository;
+        this.userRepository = userRepository;
+        this.messagingTemplate = messagingTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.executor = Executors.newSingleThreadExecutor(virtualThreadConfig.threadFactory("order-status-notifier"));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onStatusChanged(OrderStatusChangedEvent event) {
+        executor.submit(() -> notify(event));
+    }
+
+    /**
+     * 종료 시 이미 받은 알림은 최대 SHUTDOWN_WAIT_SECONDS 동안 마저 보낸다.
+     * (DataSource / 메시지 브로커가 닫히기 전에 끝나도록, 넘기면 중단하고 남은 건수를 남긴다)
+     */
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(SHUTDOWN_WAIT_SECONDS, TimeUnit.SECONDS)) {
+                int dropped = executor.shutdownNow().size();
+                log.warn("주문 상태 알림 종료 대기 시간 초과 - 보내지 못한 이벤트 {}건", dropped);
+            }
+        } catch (InterruptedException e) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // ==================== 내부 ====================
+
+    private void notify(OrderStatusChangedEvent event) {
+        List<OrderStatusChangedEvent.Change> changes = event.getChanges();
+
+        // 1. DB 알림 (알림 목록 화면용)
+        for (int from = 0; from < changes.size(); from += SAVE_CHUNK) {
+            List<OrderStatusChangedEvent.Change> chunk = changes.subList(from, Math.min(from + SAVE_CHUNK, changes.size()));
+            try {
+                transactionTemplate.executeWithoutResult(status -> {
+                    List<Notification> notifications = new ArrayList<>(chunk.size());
+                    for (OrderStatusChangedEvent.Change change : chunk) {
+                        notifications.add(Notification.builder()
+                                .user(userRepository.getReferenceById(change.userId()))
+                                .title(title(change.to()))
+                                .content(message(change))
+                                .type(type(change.to()))
+                                .referenceId(change.orderId())
+                                .isRead(false)
+                                .build());
+                    }
+                    notificationRepository.saveAll(notifications);
+                });
+            } catch (Exception e) {
+                log.error("주문 상태 알림 저장 실패 - {}건, {}", chunk.size(), e.getMessage(), e);
+            }
+        }
+
+        // 2. WebSocket 1:1 알림
+        int sent = 0;
+        for (OrderStatusChangedEvent.Change change : changes) {
+            if (change.loginId() == null) {
+                continue;
+            }
+            try {
+                Map<String, Object> payload = new HashMap<>();
+                payload.put("type", type(change.to()));
+                payload.put("orderId", change.orderId());
+                payload.put("orderNumber", change.orderNumber());
+                payload.put("status", change.to().name());
+                payload.put("title", title(change.to()));
+                payload.put("message", message(change));
+                payload.put("timestamp", event.getChangedAt().toString());
+
+                messagingTemplate.convertAndSendToUser(change.loginId(), "/queue/notifications", payload);
+                sent++;
+            } catch (Exception e) {
+                log.error("주문 상태 WebSocket 알림 전송 실패 - orderId: {}, {}", change.orderId(), e.getMessage());
+            }
+        }
+        log.info("주문 상태 알림 전송 - {}건 중 {}건", changes.size(), sent);
+    }
+
+    /** 입금 확인은 PAYMENT_CONFIRMED, 나머지는 ORDER_STATUS (프론트에서 주문 상세로 이동) */
+    private static String type(OrderStatus to) {
+        return to == OrderStatus.ORDERED ? "PAYMENT_CONFIRMED" : "ORDER_STATUS";
+    }
+
+    private static String title(OrderStatus to) {
+        return switch (to) {
+            case ORDERED -> "입금 확인";
+            case DELIVERING -> "배송 시작";
+            case DELIVERED -> "배송 완료";
+            case CANCELED -> "주문 취소";
+            default -> "주문 상태 변경";
+        };
+    }
+
+    private static String message(OrderStatusChangedEvent.Change change) {
+        String orderNumber = change.orderNumber();
+        return switch (change.to()) {
+            case ORDERED -> "주문번호 " + orderNumber + "의 입금이 확인되었습니다.";
+            case DELIVERING -> "주문번호 " + orderNumber + "의 상품이 배송을 시작했습니다.";
+            case DELIVERED -> "주문번호 " + orderNumber + "의 상품이 배송 완료되었습니다.";
+            case CANCELED -> "주문번호 " + orderNumber + "의 주문이 취소되었습니다.";
+            default -> "주문번호 " + orderNumber + "의 상태가 변경되었습니다.";
+        };
+    }
+}
@@ -0,0 +1,24 @@
+package com.onandhome.order.dto;
+
+import com.onandhome.order.entity.Order;
+import com.onandhome.order.event.OrderStatusChangedEvent;
+
+import java.util.List;
+
+/**
+ * 주문 상태 변경 결과 (단건/일괄 공통)
+ *
+ * @param target   변경하려는 상태
+ * @param changed  변경된 주문
+ * @param rejected 변경하지 못한 주문 (없는 주문, 허용되지 않는 전이)
+ */
+public record OrderTransitionResult(Order.OrderStatus target,
+                                    List<OrderStatusChangedEvent.Change> changed,
+                                    List<Rejection> rejected) {
+
+    /**
+     * @param currentStatus 현재 상태 (주문이 없으면 null)
+     */
+    public record Rejection(Long orderId, Order.OrderStatus currentStatus, String reason) {
+    }
+}
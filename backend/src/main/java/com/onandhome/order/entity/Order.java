@@ -3,7 +3,6 @@ package com.onandhome.order.entity;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.UUID;
 
 import com.onandhome.user.entity.User;
 import jakarta.persistence.*;
@@ -14,7 +13,8 @@ import lombok.*;
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
-@Table(name = "orders")
+@Table(name = "orders",
+        uniqueConstraints = @UniqueConstraint(name = "uk_orders_order_number", columnNames = "order_number"))
 public class Order {
 
     @Id
@@ -40,8 +40,8 @@ public class Order {
     @Column(nullable = false)
     private int totalPrice;
 
-    @Column(nullable = false)
-    private String orderNumber;
+    @Column(name = "order_number", nullable = false, length = 20)
+    private String orderNumber; // 주문번호 (OrderNumberGenerator - 시간순, 중복 없음)
 
     private LocalDateTime paidAt; //결제 시간
 
@@ -74,7 +74,7 @@ public class Order {
     }
 
     //생성 메소드
-    public static Order create(User user, List<OrderItem> orderItems, PaymentMethod paymentMethod) {
+    public static Order create(User user, List<OrderItem> orderItems, PaymentMethod paymentMethod, String orderNumber) {
         Order order = new Order();
         order.user = user;
         order.createdAt = LocalDateTime.now(); // 생성 시간 설정
@@ -86,7 +86,7 @@ public class Order {
         order.status = (paymentMethod == PaymentMethod.BANK_TRANSFER) 
             ? OrderStatus.PAYMENT_PENDING 
             : OrderStatus.ORDERED;
-        order.orderNumber = UUID.randomUUID().toString().substring(0, 12);
+        order.orderNumber = orderNumber;
         order.calculateTotalPrice();
         return order;
     }
@@ -99,16 +99,6 @@ public class Order {
 
     //비즈니스 로직
 
-    /**
-     * 주문 결제 처리
-     */
-    public void pay() {
-        //결제시 나중에 이미 취소된 주문을 결제하거나 중복 결제하는 등의 문제가 생길 수 있어 조건문 필요
-        this.status = OrderStatus.ORDERED;
-        this.calculateTotalPrice();
-        this.paidAt = LocalDateTime.now();
-    }
-
     /**
      * 무통장 입금 확인 처리 (관리자용)
      */
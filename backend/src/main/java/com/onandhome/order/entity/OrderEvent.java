@@ -0,0 +1,43 @@
+package com.onandhome.order.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 주문 상태 변경 이력 (추가만 하는 로그)
+ *
+ * 상태가 바뀔 때마다 한 행씩 쌓인다. 수정/삭제하지 않으며,
+ * 쓰기는 OrderEventBatchWriter(JDBC 배치)로만 한다. (일괄 상태 변경 시 수천 건)
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "order_event",
+        indexes = @Index(name = "idx_order_event_order", columnList = "order_id, id"))
+public class OrderEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "order_id", nullable = false, updatable = false)
+    private Long orderId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "from_status", length = 20, updatable = false)
+    private Order.OrderStatus fromStatus;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "to_status", nullable = false, length = 20, updatable = false)
+    private Order.OrderStatus toStatus;
+
+    @Column(length = 100, updatable = false)
+    private String actor; // 변경한 주체 (관리자/회원 아이디, system)
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+}
@@ -11,8 +11,10 @@ import lombok.*;
 @Table(name = "order_item")
 public class OrderItem {
 
+    // 주문 한 건에 여러 개가 함께 저장되므로 배치 INSERT 가 되도록 pooled ID (order_item_seq 테이블에서 50개씩 예약)
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "order_item_seq")
+    @SequenceGenerator(name = "order_item_seq", sequenceName = "order_item_seq", allocationSize = 50)
     @Column(name = "order_item_id")
     private Long id;
 
@@ -0,0 +1,20 @@
+package com.onandhome.order.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 주문 취소 이벤트
+ * 취소된 주문의 금액과 원래 주문 시각을 함께 전달하여
+ * 매출 집계에서 해당 일/월 매출을 차감할 수 있도록 한다.
+ */
+@Getter
+@AllArgsConstructor
+public class OrderCanceledEvent {
+
+    private final Long orderId;           // 취소된 주문 ID
+    private final int totalPrice;         // 취소된 주문 총액
+    private final LocalDateTime createdAt; // 원래 주문 생성 시각
+}
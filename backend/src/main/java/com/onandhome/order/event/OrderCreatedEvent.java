@@ -0,0 +1,20 @@
+package com.onandhome.order.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 주문 생성 이벤트
+ * OrderService에서 주문이 저장된 뒤 발행되며,
+ * 트랜잭션 커밋 이후 대시보드 집계 등 후속 처리에서 사용된다.
+ */
+@Getter
+@AllArgsConstructor
+public class OrderCreatedEvent {
+
+    private final Long orderId;           // 생성된 주문 ID
+    private final int totalPrice;         // 주문 총액
+    private final LocalDateTime createdAt; // 주문 생성 시각
+}
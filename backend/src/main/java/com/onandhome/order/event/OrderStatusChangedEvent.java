@@ -0,0 +1,32 @@
+package com.onandhome.order.event;
+
+import com.onandhome.order.entity.Order;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 주문 상태 변경 이벤트
+ * 단건/일괄 상태 변경 모두 트랜잭션당 한 번 발행되며 (changes 에 주문별 변경),
+ * 커밋 이후 구매자 알림(OrderStatusNotifier) 등 후속 처리에서 사용된다.
+ */
+@Getter
+@AllArgsConstructor
+public class OrderStatusChangedEvent {
+
+    /**
+     * 주문 한 건의 상태 변경
+     *
+     * @param userId      구매자 PK (user.id)
+     * @param loginId     구매자 로그인 아이디 (WebSocket 사용자 목적지)
+     */
+    public record Change(Long orderId, String orderNumber, Long userId, String loginId,
+                         Order.OrderStatus from, Order.OrderStatus to) {
+    }
+
+    private final List<Change> changes;
+    private final String actor;             // 변경한 주체
+    private final LocalDateTime changedAt;
+}
@@ -0,0 +1,48 @@
+package com.onandhome.order.idempotency;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 멱등 키 (같은 요청의 재전송을 한 번만 처리하기 위한 기록)
+ *
+ * (scope, idem_key) 유니크 키로 같은 키의 두 번째 요청은 첫 요청이 커밋될 때까지 기다렸다가 저장된 응답을 받는다.
+ * 행은 IdempotencyService 가 네이티브 INSERT IGNORE / UPDATE 로만 쓰고, 만료(expires_at)된 행은 주기적으로 지운다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "idempotency_key",
+        uniqueConstraints = @UniqueConstraint(name = "uk_idempotency_scope_key", columnNames = {"scope", "idem_key"}),
+        indexes = @Index(name = "idx_idempotency_expires_at", columnList = "expires_at"))
+public class IdempotencyKey {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, length = 100)
+    private String scope; // 요청 종류 + 회원 (order-create:12)
+
+    @Column(name = "idem_key", nullable = false, length = 100)
+    private String idemKey; // 클라이언트가 보낸 Idempotency-Key
+
+    @Column(name = "request_hash", nullable = false, length = 64)
+    private String requestHash; // 요청 본문 SHA-256 (같은 키로 다른 요청을 보내면 거절)
+
+    @Column(name = "status_code")
+    private Integer statusCode; // 첫 응답 HTTP 상태
+
+    @Column(name = "response_body", columnDefinition = "MEDIUMTEXT")
+    private String responseBody; // 첫 응답 본문 (JSON)
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+}
@@ -0,0 +1,62 @@
+package com.onandhome.order.idempotency;
+
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+@Repository
+public interface IdempotencyKeyRepository extends JpaRepository<IdempotencyKey, Long> {
+
+    // 키 선점 - 이미 있으면 0 (다른 트랜잭션이 같은 키를 잡고 있으면 그 트랜잭션이 끝날 때까지 대기)
+    // 예외 없이 0 을 돌려주므로 같은 트랜잭션에서 기존 행 조회를 이어갈 수 있다.
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "idempotency_key"))
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO idempotency_key (scope, idem_key, request_hash, created_at, expires_at) " +
+            "VALUES (:scope, :key, :requestHash, :now, :expiresAt)",
+            nativeQuery = true)
+    int claim(@Param("scope") String scope,
+              @Param("key") String key,
+              @Param("requestHash") String requestHash,
+              @Param("now") LocalDateTime now,
+              @Param("expiresAt") LocalDateTime expiresAt);
+
+    // 기존 행 조회 (잠금 읽기 - 방금 커밋된 행도 보인다)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT k FROM IdempotencyKey k WHERE k.scope = :scope AND k.idemKey = :key")
+    Optional<IdempotencyKey> findForUpdate(@Param("scope") String scope, @Param("key") String key);
+
+    // 만료된 행을 새 요청으로 다시 사용
+    @Modifying
+    @Query("UPDATE IdempotencyKey k SET k.requestHash = :requestHash, k.statusCode = NULL, k.responseBody = NULL, " +
+            "k.createdAt = :now, k.expiresAt = :expiresAt WHERE k.scope = :scope AND k.idemKey = :key")
+    int reclaim(@Param("scope") String scope,
+                @Param("key") String key,
+                @Param("requestHash") String requestHash,
+                @Param("now") LocalDateTime now,
+                @Param("expiresAt") LocalDateTime expiresAt);
+
+    // 첫 응답 저장 (요청 처리와 같은 트랜잭션)
+    @Modifying
+    @Query("UPDATE IdempotencyKey k SET k.statusCode = :statusCode, k.responseBody = :responseBody " +
+            "WHERE k.scope = :scope AND k.idemKey = :key")
+    int complete(@Param("scope") String scope,
+                 @Param("key") String key,
+                 @Param("statusCode") int statusCode,
+                 @Param("responseBody") String responseBody);
+
+    // 만료된 키 정리 (idx_idempotency_expires_at, 한 번에 limit 건)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "idempotency_key"))
+    @Modifying
+    @Query(value = "DELETE FROM idempotency_key WHERE expires_at < :now LIMIT :limit", nativeQuery = true)
+    int deleteExpired(@Param("now") LocalDateTime now, @Param("limit") int limit);
+}
@@ -0,0 +1,228 @@
+package com.onandhome.order.idempotency;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * 멱등 요청 처리 (Idempotency-Key 헤더)
+ *
+ * 모바일 재전송/중복 클릭으로 같은 주문 요청이 두 번 와도 주문은 한 번만 만들고, 두 번째 요청에는 첫 응답을 그대로 돌려준다.
+ *
+ * 1. 최근 완료된 키는 메모리(LRU, cache-size 건)에서 바로 응답한다.
+ * 2. 없으면 트랜잭션을 열고 idempotency_key 에 키를 INSERT IGNORE 로 선점한다.
+ *    - 선점 성공 : 요청을 같은 트랜잭션에서 처리하고 2xx 응답을 저장한다. (주문과 응답이 함께 커밋)
+ *                  2xx 가 아니면 롤백해 키를 남기지 않는다. (재고 부족 등은 다시 시도할 수 있어야 함)
+ *    - 이미 있음 : 같은 키를 처리 중인 트랜잭션이 있으면 유니크 키 잠금으로 끝날 때까지 기다린 뒤 저장된 응답을 돌려준다.
+ * 3. 같은 키로 본문이 다른 요청이 오면 422 로 거절한다.
+ * 4. ttl 이 지난 키는 주기적으로 지운다.
+ *
+ * 헤더가 없으면 예전처럼 바로 처리한다.
+ */
+@Service
+@Slf4j
+public class IdempotencyService {
+
+    public static final String HEADER = "Idempotency-Key";
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+
+    private static final int MAX_KEY_LENGTH = 100;
+    private static final int CLEANUP_BATCH = 1000;
+
+    private final IdempotencyKeyRepository repository;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration ttl;
+
+    /* 최근 완료된 응답 (scope + 키 → 응답), 접근 순서 LRU */
+    private final LinkedHashMap<String, StoredResponse> recent;
+
+    public IdempotencyService(IdempotencyKeyRepository repository,
+                              ObjectMapper objectMapper,
+                              PlatformTransactionManager transactionManager,
+                              @Value("${order.idempotency.ttl-hours:24}") long ttlHours,
+                              @Value("${order.idempotency.cache-size:10000}") int cacheSize) {
+        this.repository = repository;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.ttl = Duration.ofHours(ttlHours);
+        this.recent = new LinkedHashMap<>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, StoredResponse> eldest) {
+                return size() > cacheSize;
+            }
+        };
+    }
+
+    /** 저장된 첫 응답 */
+    private record StoredResponse(String requestHash, int statusCode, String body, LocalDateTime expiresAt) {
+    }
+
+    /**
+     * 멱등 처리
+     *
+     * @param scope   요청 종류 + 요청자 (다른 회원이 같은 키를 보내도 섞이지 않게)
+     * @param key     Idempotency-Key 헤더 값 (null/빈 값이면 그대로 실행)
+     * @param request 요청 본문 (같은 키의 요청이 같은 내용인지 비교)
+     * @param action  실제 처리 - 예외를 응답으로 바꿔 돌려주는 컨트롤러 로직
+     */
+    public ResponseEntity<Map<String, Object>> execute(String scope, String key, Object request,
+                                                       Supplier<ResponseEntity<Map<String, Object>>> action) {
+        if (key == null || key.isBlank()) {
+            return action.get();
+        }
+        if (key.length() > MAX_KEY_LENGTH) {
+            return error(HttpStatus.BAD_REQUEST, HEADER + " 는 " + MAX_KEY_LENGTH + "자 이하여야 합니다.");
+        }
+        String requestHash = hash(request);
+        String cacheKey = scope + '\n' + key;
+
+        // 1. 메모리
+        StoredResponse cached;
+        synchronized (recent) {
+            cached = recent.get(cacheKey);
+        }
+        if (cached != null && cached.expiresAt().isAfter(LocalDateTime.now())) {
+            return replay(cached, requestHash, key);
+        }
+
+        // 2. DB 선점 + 처리
+        Outcome outcome = transactionTemplate.execute(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            LocalDateTime expiresAt = now.plus(ttl);
+            if (repository.claim(scope, key, requestHash, now, expiresAt) == 0) {
+                Optional<IdempotencyKey> existing = repository.findForUpdate(scope, key);
+                if (existing.isPresent() && existing.get().getExpiresAt().isAfter(now)) {
+                    return new Outcome(null, toStored(existing.get()));
+                }
+                // 만료됐거나 그 사이 정리된 키 → 새 요청으로 사용
+                if (existing.isPresent()) {
+                    repository.reclaim(scope, key, requestHash, now, expiresAt);
+                } else if (repository.claim(scope, key, requestHash, now, expiresAt) == 0) {
+                    status.setRollbackOnly();
+                    return new Outcome(error(HttpStatus.CONFLICT, "같은 요청을 처리하고 있습니다. 잠시 후 다시 시도해주세요."), null);
+                }
+            }
+
+            ResponseEntity<Map<String, Object>> response = action.get();
+            if (!response.getStatusCode().is2xxSuccessful()) {
+                status.setRollbackOnly();
+                return new Outcome(response, null);
+            }
+            String body = toJson(response.getBody());
+            repository.complete(scope, key, response.getStatusCode().value(), body);
+            return new Outcome(response, new StoredResponse(requestHash, response.getStatusCode().value(), body, expiresAt));
+        });
+
+        if (outcome.stored() != null) {
+            synchronized (recent) {
+                recent.put(cacheKey, outcome.stored());
+            }
+        }
+        if (outcome.response() != null) {
+            return outcome.response();
+        }
+        return replay(outcome.stored(), requestHash, key);
+    }
+
+    /**
+     * 만료된 키 정리 (CLEANUP_BATCH 건씩 나눠 지워 잠금을 짧게)
+     */
+    @Scheduled(initialDelayString = "${order.idempotency.cleanup-interval-ms:600000}",
+            fixedDelayString = "${order.idempotency.cleanup-interval-ms:600000}")
+    public void purgeExpired() {
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            int total = 0;
+            int deleted;
+            do {
+                deleted = transactionTemplate.execute(status -> repository.deleteExpired(now, CLEANUP_BATCH));
+                total += deleted;
+            } while (deleted == CLEANUP_BATCH);
+
+            synchronized (recent) {
+                recent.values().removeIf(stored -> !stored.expiresAt().isAfter(now));
+            }
+            if (total > 0) {
+                log.info("만료된 멱등 키 정리: {}건", total);
+            }
+        } catch (Exception e) {
+            log.error("멱등 키 정리 실패: {}", e.getMessage(), e);
+        }
+    }
+
+    // ==================== 내부 ====================
+
+    /** 처리 결과 - response(이번에 처리한 응답) 또는 stored(저장된 응답) */
+    private record Outcome(ResponseEntity<Map<String, Object>> response, StoredResponse stored) {
+    }
+
+    private ResponseEntity<Map<String, Object>> replay(StoredResponse stored, String requestHash, String key) {
+        if (!stored.requestHash().equals(requestHash)) {
+            return error(HttpStatus.UNPROCESSABLE_ENTITY, "같은 " + HEADER + " 로 다른 요청을 보낼 수 없습니다.");
+        }
+        if (stored.body() == null) {
+            return error(HttpStatus.CONFLICT, "같은 요청을 처리하고 있습니다. 잠시 후 다시 시도해주세요.");
+        }
+        log.info("멱등 요청 재응답 - key: {}", key);
+        try {
+            Map<String, Object> body = objectMapper.readValue(stored.body(), new TypeReference<>() {
+            });
+            return ResponseEntity.status(stored.statusCode()).header(REPLAYED_HEADER, "true").body(body);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("저장된 응답을 읽을 수 없습니다.", e);
+        }
+    }
+
+    private static StoredResponse toStored(IdempotencyKey key) {
+        return new StoredResponse(key.getRequestHash(),
+                key.getStatusCode() != null ? key.getStatusCode() : 0,
+                key.getResponseBody(),
+                key.getExpiresAt());
+    }
+
+    private String hash(Object request) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256")
+                    .digest(toJson(request).getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private String toJson(Object value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("요청/응답을 JSON 으로 변환할 수 없습니다.", e);
+        }
+    }
+
+    private static ResponseEntity<Map<String, Object>> error(HttpStatus status, String message) {
+        Map<String, Object> response = new HashMap<>();
+        response.put("success", false);
+        response.put("message", message);
+        return ResponseEntity.status(status).body(response);
+    }
+}
@@ -2,7 +2,11 @@ package com.onandhome.qna;
 
 import com.onandhome.qna.entity.QnaImage;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface QnaImageRepository extends JpaRepository<QnaImage, Long> {
@@ -12,4 +16,13 @@ public interface QnaImageRepository extends JpaRepository<QnaImage, Long> {
 
     // 필요 시 QnA 기준으로 전체 삭제 (ON DELETE CASCADE도 있지만 명시적으로 사용 가능)
     void deleteByQnaId(Long qnaId);
+
+    // QnA 삭제용 - 해당 QnA들의 이미지 URL (파일 참조 해제용)
+    @Query("SELECT i.imageUrl FROM QnaImage i WHERE i.qna.id IN :qnaIds")
+    List<String> findImageUrlsByQnaIds(@Param("qnaIds") Collection<Long> qnaIds);
+
+    // QnA 일괄 삭제용 - 해당 QnA들의 이미지 행 삭제
+    @Modifying
+    @Query("DELETE FROM QnaImage i WHERE i.qna.id IN :qnaIds")
+    int bulkDeleteByQnaIds(@Param("qnaIds") Collection<Long> qnaIds);
 }
@@ -3,8 +3,12 @@ package com.onandhome.qna;
 import com.onandhome.qna.entity.Qna;
 import com.onandhome.qna.entity.QnaReply;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -17,4 +21,9 @@ public interface QnaReplyRepository extends JpaRepository<QnaReply, Long> {
     List<QnaReply> findByQnaId(Long qnaId);
 
     List<QnaReply> findByQnaOrderByCreatedAtAsc(Qna qna);
+
+    // QnA 일괄 삭제용 - 해당 QnA들의 답변 삭제
+    @Modifying
+    @Query("DELETE FROM QnaReply r WHERE r.qna.id IN :qnaIds")
+    int bulkDeleteByQnaIds(@Param("qnaIds") Collection<Long> qnaIds);
 }
@@ -2,9 +2,11 @@ package com.onandhome.qna;
 
 import com.onandhome.qna.entity.Qna;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -19,11 +21,6 @@ public interface QnaRepository extends JpaRepository<Qna, Long> {
      */
     List<Qna> findByProductId(Long productId);
 
-    /**
-     * 상품으로 QnA 삭제
-     */
-    void deleteByProduct(com.onandhome.admin.adminProduct.entity.Product product);
-
     /**
      * 최근 QnA 100개 조회 (최신순)
      */
@@ -44,4 +41,23 @@ public interface QnaRepository extends JpaRepository<Qna, Long> {
      */
     @Query("SELECT q FROM Qna q LEFT JOIN FETCH q.product WHERE q.id = :id")
     Optional<Qna> findByIdWithProduct(@Param("id") Long id);
+
+    /**
+     * 상품명으로 QnA 검색 (Product 를 fetch join 으로 함께 조회)
+     */
+    @Query("SELECT q FROM Qna q JOIN FETCH q.product p WHERE p.name LIKE CONCAT('%', :keyword, '%') ORDER BY q.id")
+    List<Qna> searchByProductName(@Param("keyword") String keyword);
+
+    /**
+     * 상품 일괄 삭제용 - 해당 상품들의 QnA ID
+     */
+    @Query("SELECT q.id FROM Qna q WHERE q.product.id IN :productIds")
+    List<Long> findIdsByProductIds(@Param("productIds") Collection<Long> productIds);
+
+    /**
+     * QnA 일괄 삭제 (이미지/답변을 먼저 지운 뒤 호출)
+     */
+    @Modifying
+    @Query("DELETE FROM Qna q WHERE q.id IN :qnaIds")
+    int bulkDeleteByIds(@Param("qnaIds") Collection<Long> qnaIds);
 }
@@ -2,7 +2,9 @@ package com.onandhome.qna;
 
 import com.onandhome.admin.adminProduct.entity.Product;
 import com.onandhome.admin.adminProduct.ProductRepository;
-import com.onandhome.file.FileStorageService;
+import com.onandhome.file.ImageRowBatchWriter;
+import com.onandhome.file.ImageUploadService;
+import com.onandhome.file.dto.StoredImage;
 import com.onandhome.qna.dto.QnaDTO;
 import com.onandhome.qna.dto.QnaImageDTO;
 import com.onandhome.qna.dto.QnaReplyDTO;
@@ -19,6 +21,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.interceptor.TransactionAspectSupport;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
@@ -44,8 +47,8 @@ public class QnaRestController {
     private final JWTUtil jwtUtil;
     private static final String SESSION_USER_KEY = "loginUser";
 
-    private final FileStorageService fileStorageService;
-    private final QnaImageRepository qnaImageRepository;
+    private final ImageUploadService imageUploadService;
+    private final ImageRowBatchWriter imageRowBatchWriter;
 
     /**
      * 특정 상품의 QnA 목록 조회
@@ -393,7 +396,10 @@ public class QnaRestController {
             Product product = productRepository.findById(productId)
                     .orElseThrow(() -> new IllegalArgumentException("상품을 찾을 수 없습니다."));
 
-            // 3) QnA 생성 후 저장
+            // 3) 이미지 검증 + 병렬 저장 (잘못된 파일이면 QnA를 만들기 전에 거절)
+            List<StoredImage> storedImages = imageUploadService.storeImages(images);
+
+            // 4) QnA 생성 후 저장
             Qna qna = new Qna();
             qna.setProduct(product);
             qna.setQuestion(question);
@@ -402,27 +408,23 @@ public class QnaRestController {
 
             Qna savedQna = qnaService.save(qna);
 
-            // 4) 이미지 저장
-            if (images != null && !images.isEmpty()) {
-                for (MultipartFile file : images) {
-                    if (file == null || file.isEmpty()) continue;
-
-                    String imageUrl = fileStorageService.storeFile(file);
-
-                    QnaImage qnaImage = new QnaImage();
-                    qnaImage.setQna(savedQna);
-                    qnaImage.setImageUrl(imageUrl);
-
-                    qnaImageRepository.save(qnaImage);
-                }
-            }
+            // 5) 이미지 행 일괄 저장 (트랜잭션이 롤백되면 저장한 파일도 참조 해제됨)
+            imageRowBatchWriter.insert(ImageRowBatchWriter.Owner.QNA, savedQna.getId(), storedImages);
 
             response.put("success", true);
             response.put("message", "QnA가 등록되었습니다.");
             response.put("data", convertToDTO(savedQna));
             return ResponseEntity.ok(response);
 
+        } catch (IllegalArgumentException e) {
+            TransactionAspectSupport.currentTransactionStatus().setRollbackOnly();
+            log.warn("QnA + 이미지 등록 거절: {}", e.getMessage());
+            response.put("success", false);
+            response.put("message", e.getMessage());
+            return ResponseEntity.badRequest().body(response);
         } catch (Exception e) {
+            // 예외를 응답으로 바꾸므로 직접 롤백 표시 (QnA만 남고 이미지가 빠지는 것 방지)
+            TransactionAspectSupport.currentTransactionStatus().setRollbackOnly();
             log.error("QnA + 이미지 등록 오류", e);
             response.put("success", false);
             response.put("message", "QnA 등록 중 오류: " + e.getMessage());
@@ -549,6 +551,8 @@ public class QnaRestController {
                         QnaImageDTO dtoImg = new QnaImageDTO();
                         dtoImg.setId(img.getId());
                         dtoImg.setImageUrl(img.getImageUrl());
+                        dtoImg.setThumbUrl(img.getThumbUrl() != null ? img.getThumbUrl() : img.getImageUrl());
+                        dtoImg.setListUrl(img.getListUrl() != null ? img.getListUrl() : img.getImageUrl());
                         return dtoImg;
                     })
                     .collect(Collectors.toList());
@@ -1,13 +1,18 @@
 package com.onandhome.qna;
 
+import com.onandhome.file.FileStorageService;
 import com.onandhome.notification.NotificationService;
 import com.onandhome.qna.entity.Qna;
+import com.onandhome.qna.event.QnaChangedEvent;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -19,6 +24,8 @@ import java.util.stream.Collectors;
 public class QnaService {
 
     private final QnaRepository qnaRepository;
+    private final QnaImageRepository qnaImageRepository;
+    private final QnaReplyRepository qnaReplyRepository;
 
     /* DB 저장용 일반 알림 서비스 */
     private final NotificationService notificationService;
@@ -26,6 +33,11 @@ public class QnaService {
     /* 실시간 알림(WebSocket) 전송 도구 */
     private final SimpMessagingTemplate messagingTemplate;
 
+    private final ApplicationEventPublisher eventPublisher;
+
+    /* 첨부 이미지 파일 참조 해제 */
+    private final FileStorageService fileStorageService;
+
     /* 전체 QnA 조회 */
     public List<Qna> findAll() {
         return qnaRepository.findAll();
@@ -46,7 +58,11 @@ public class QnaService {
         qna.setCreatedAt(LocalDateTime.now());
 
         /* QnA 저장 */
+        boolean isNew = qna.getId() == null;
         Qna savedQna = qnaRepository.save(qna);
+        if (isNew) {
+            eventPublisher.publishEvent(new QnaChangedEvent(savedQna.getId(), 1));
+        }
 
         /* 관리자에게 알림 전송 */
         try {
@@ -117,11 +133,34 @@ public class QnaService {
             log.error("QnA {} 관련 알림 삭제 실패", id, e);
         }
 
-        /* QnA 삭제 */
+        /* QnA 삭제 (이미지 행은 cascade 로 함께 삭제) → 삭제된 뒤 이미지 파일 참조 해제 */
+        List<String> imageUrls = qnaImageRepository.findImageUrlsByQnaIds(List.of(id));
         qnaRepository.deleteById(id);
+        imageUrls.forEach(fileStorageService::release);
+        eventPublisher.publishEvent(new QnaChangedEvent(id, -1));
         log.info("QnA {} 삭제 완료", id);
     }
 
+    /* QnA 일괄 삭제 (집합 단위) - 상품 삭제 시 사용
+       엔티티를 로딩하지 않고 알림 → 이미지/답변 → QnA 순서로 IN 절 DELETE 한 번씩 실행한다. */
+    @Transactional
+    public void deleteInBatch(Collection<Long> qnaIds) {
+        if (qnaIds.isEmpty()) {
+            return;
+        }
+        List<String> imageUrls = qnaImageRepository.findImageUrlsByQnaIds(qnaIds);
+        notificationService.deleteByTypesAndReferenceIds(List.of("QNA", "QNA_REPLY"), qnaIds);
+        qnaImageRepository.bulkDeleteByQnaIds(qnaIds);
+        qnaReplyRepository.bulkDeleteByQnaIds(qnaIds);
+        int deleted = qnaRepository.bulkDeleteByIds(qnaIds);
+        // 이미지 파일 참조 해제는 커밋된 뒤에 실행된다.
+        imageUrls.forEach(fileStorageService::release);
+        for (Long id : qnaIds) {
+            eventPublisher.publishEvent(new QnaChangedEvent(id, -1));
+        }
+        log.info("QnA 일괄 삭제 완료 - {}건", deleted);
+    }
+
     /* 제목 또는 작성자로 검색 */
     public List<Qna> search(String keyword) {
         return qnaRepository.findAll()
@@ -133,16 +172,9 @@ public class QnaService {
                 .collect(Collectors.toList());
     }
 
-    /* 상품명으로 검색 (사용자용) */
+    /* 상품명으로 검색 (사용자용) - 전체를 읽어 상품을 건별로 로딩하던 것을 조인 쿼리 한 번으로 */
     public List<Qna> searchByProductName(String keyword) {
-        return qnaRepository.findAll()
-                .stream()
-                .filter(qna ->
-                        qna.getProduct() != null &&
-                                qna.getProduct().getName() != null &&
-                                qna.getProduct().getName().contains(keyword)
-                )
-                .collect(Collectors.toList());
+        return qnaRepository.searchByProductName(keyword);
     }
 }
 
@@ -8,4 +8,6 @@ import lombok.Setter;
 public class QnaImageDTO {
     private Long id;         // 이미지 ID
     private String imageUrl; // 이미지 URL
+    private String thumbUrl; // 썸네일 변형 URL (없으면 imageUrl)
+    private String listUrl;  // 목록 변형 URL (없으면 imageUrl)
 }
@@ -0,0 +1,16 @@
+package com.onandhome.qna.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * QnA 등록/삭제 이벤트
+ * delta: 등록 +1, 삭제 -1
+ */
+@Getter
+@AllArgsConstructor
+public class QnaChangedEvent {
+
+    private final Long qnaId;
+    private final int delta;
+}
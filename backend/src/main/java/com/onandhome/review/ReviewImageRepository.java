@@ -2,7 +2,11 @@ package com.onandhome.review;
 
 import com.onandhome.review.entity.ReviewImage;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface ReviewImageRepository extends JpaRepository<ReviewImage, Long> {
@@ -12,4 +16,22 @@ public interface ReviewImageRepository extends JpaRepository<ReviewImage, Long>
 
     // 필요하다면: 리뷰 기준으로 전체 삭제 (ON DELETE CASCADE 있으니 자주 쓸 일은 적음)
     void deleteByReviewId(Long reviewId);
+
+    // 회원 일괄 탈퇴용 - 해당 회원들이 쓴 리뷰의 이미지 URL (파일 참조 해제용)
+    @Query("SELECT i.imageUrl FROM ReviewImage i WHERE i.review.user.id IN :userIds")
+    List<String> findImageUrlsByReviewAuthorIds(@Param("userIds") Collection<Long> userIds);
+
+    // 회원 일괄 탈퇴용 - 해당 회원들이 쓴 리뷰의 이미지 행 삭제
+    @Modifying
+    @Query("DELETE FROM ReviewImage i WHERE i.review.id IN (SELECT r.id FROM Review r WHERE r.user.id IN :userIds)")
+    int bulkDeleteByReviewAuthorIds(@Param("userIds") Collection<Long> userIds);
+
+    // 리뷰 일괄 삭제용 - 해당 리뷰들의 이미지 URL (파일 참조 해제용)
+    @Query("SELECT i.imageUrl FROM ReviewImage i WHERE i.review.id IN :reviewIds")
+    List<String> findImageUrlsByReviewIds(@Param("reviewIds") Collection<Long> reviewIds);
+
+    // 리뷰 일괄 삭제용 - 해당 리뷰들의 이미지 행 삭제
+    @Modifying
+    @Query("DELETE FROM ReviewImage i WHERE i.review.id IN :reviewIds")
+    int bulkDeleteByReviewIds(@Param("reviewIds") Collection<Long> reviewIds);
 }
@@ -2,8 +2,13 @@ package com.onandhome.review;
 
 import com.onandhome.review.entity.ReviewLike;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -12,5 +17,20 @@ public interface ReviewLikeRepository extends JpaRepository<ReviewLike, Long> {
     Optional<ReviewLike> findByReviewIdAndUserId(Long reviewId, Long userId);
     // 좋아요 입력 여부
     boolean existsByReviewIdAndUserId(Long reviewId, Long userId);
+
+    // 회원 일괄 탈퇴용 - 해당 회원들이 좋아요를 누른 리뷰 ID (삭제 후 like_count 재계산 대상)
+    @Query("SELECT DISTINCT l.review.id FROM ReviewLike l WHERE l.user.id IN :userIds")
+    List<Long> findReviewIdsLikedByUsers(@Param("userIds") Collection<Long> userIds);
+
+    // 회원 일괄 탈퇴용 - 해당 회원들이 누른 좋아요 + 해당 회원들이 쓴 리뷰에 달린 좋아요 삭제
+    @Modifying
+    @Query("DELETE FROM ReviewLike l WHERE l.user.id IN :userIds " +
+            "OR l.review.id IN (SELECT r.id FROM Review r WHERE r.user.id IN :userIds)")
+    int bulkDeleteByUserIds(@Param("userIds") Collection<Long> userIds);
+
+    // 리뷰 일괄 삭제용 - 해당 리뷰들에 달린 좋아요 삭제
+    @Modifying
+    @Query("DELETE FROM ReviewLike l WHERE l.review.id IN :reviewIds")
+    int bulkDeleteByReviewIds(@Param("reviewIds") Collection<Long> reviewIds);
 }
 
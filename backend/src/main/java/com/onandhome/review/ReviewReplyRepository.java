@@ -2,9 +2,23 @@ package com.onandhome.review;
 
 import com.onandhome.review.entity.ReviewReply;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import java.util.Collection;
 import java.util.List;
 
 /** 리뷰 답글 Repository */
 public interface ReviewReplyRepository extends JpaRepository<ReviewReply, Long> {
     List<ReviewReply> findByReviewId(Long reviewId);
+
+    /** 회원 일괄 탈퇴용 - 해당 회원들이 쓴 리뷰의 답글 삭제 */
+    @Modifying
+    @Query("DELETE FROM ReviewReply rr WHERE rr.review.id IN (SELECT r.id FROM Review r WHERE r.user.id IN :userIds)")
+    int bulkDeleteByReviewAuthorIds(@Param("userIds") Collection<Long> userIds);
+
+    /** 리뷰 일괄 삭제용 - 해당 리뷰들의 답글 삭제 */
+    @Modifying
+    @Query("DELETE FROM ReviewReply rr WHERE rr.review.id IN :reviewIds")
+    int bulkDeleteByReviewIds(@Param("reviewIds") Collection<Long> reviewIds);
 }
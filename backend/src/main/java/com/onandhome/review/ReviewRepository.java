@@ -3,10 +3,12 @@ package com.onandhome.review;
 import com.onandhome.review.entity.Review;
 import com.onandhome.user.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -64,11 +66,6 @@ public interface ReviewRepository extends JpaRepository<Review, Long> {
      */
     List<Review> findByUsernameOrderByCreatedAtDesc(String username);
     
-    /**
-     * 상품으로 리뷰 삭제
-     */
-    void deleteByProduct(com.onandhome.admin.adminProduct.entity.Product product);
-    
     /**
      * 최근 리뷰 100개 조회 (최신순)
      */
@@ -83,5 +80,46 @@ public interface ReviewRepository extends JpaRepository<Review, Long> {
 
     @Query("SELECT r FROM Review r LEFT JOIN FETCH r.images LEFT JOIN FETCH r.replies WHERE r.id = :id")
     Optional<Review> findByIdWithDetails(Long id);
+
+    /**
+     * 회원 일괄 탈퇴용 - 삭제될 리뷰 요약 [reviewId, productId, rating]
+     * (리뷰 삭제 이벤트 발행용, 엔티티를 로딩하지 않음)
+     */
+    @Query("SELECT r.id, p.id, r.rating FROM Review r LEFT JOIN r.product p WHERE r.user.id IN :userIds")
+    List<Object[]> findSummariesByUserIds(@Param("userIds") Collection<Long> userIds);
+
+    /**
+     * 회원 일괄 탈퇴용 - 리뷰 삭제 (답글/이미지/좋아요를 먼저 지운 뒤 호출)
+     */
+    @Modifying
+    @Query("DELETE FROM Review r WHERE r.user.id IN :userIds")
+    int bulkDeleteByUserIds(@Param("userIds") Collection<Long> userIds);
+
+    /**
+     * 좋아요 수 재계산 (좋아요 일괄 삭제 후 호출)
+     */
+    /**
+     * 리뷰 일괄 삭제용 - 삭제될 리뷰 요약 [reviewId, productId, rating]
+     */
+    @Query("SELECT r.id, p.id, r.rating FROM Review r LEFT JOIN r.product p WHERE r.id IN :reviewIds")
+    List<Object[]> findSummariesByIds(@Param("reviewIds") Collection<Long> reviewIds);
+
+    /**
+     * 상품 일괄 삭제용 - 해당 상품들의 리뷰 ID
+     */
+    @Query("SELECT r.id FROM Review r WHERE r.product.id IN :productIds")
+    List<Long> findIdsByProductIds(@Param("productIds") Collection<Long> productIds);
+
+    /**
+     * 리뷰 일괄 삭제 (답글/이미지/좋아요를 먼저 지운 뒤 호출)
+     */
+    @Modifying
+    @Query("DELETE FROM Review r WHERE r.id IN :reviewIds")
+    int bulkDeleteByIds(@Param("reviewIds") Collection<Long> reviewIds);
+
+    @Modifying
+    @Query("UPDATE Review r SET r.likeCount = (SELECT COUNT(l) FROM ReviewLike l WHERE l.review.id = r.id) " +
+            "WHERE r.id IN :reviewIds")
+    int refreshLikeCounts(@Param("reviewIds") Collection<Long> reviewIds);
 }
 
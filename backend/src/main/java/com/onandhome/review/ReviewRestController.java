@@ -1,5 +1,8 @@
 package com.onandhome.review;
 
+import com.onandhome.file.ImageRowBatchWriter;
+import com.onandhome.file.ImageUploadService;
+import com.onandhome.file.dto.StoredImage;
 import com.onandhome.review.dto.ReviewDTO;
 import com.onandhome.review.dto.ReviewLikeResponseDTO;
 import com.onandhome.review.entity.Review;
@@ -12,6 +15,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.interceptor.TransactionAspectSupport;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.ArrayList;
@@ -19,7 +23,6 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
-import com.onandhome.review.entity.ReviewImage;
 import org.springframework.http.MediaType;
 import org.springframework.web.multipart.MultipartFile;
 
@@ -40,6 +43,8 @@ public class ReviewRestController {
 
     private final com.onandhome.file.FileStorageService fileStorageService;
     private final ReviewImageRepository reviewImageRepository;
+    private final ImageUploadService imageUploadService;
+    private final ImageRowBatchWriter imageRowBatchWriter;
     /**
      * 상품별 리뷰 목록 조회
      * GET /api/reviews/product/{productId}
@@ -286,41 +291,30 @@ public class ReviewRestController {
                 return ResponseEntity.status(401).body(response);
             }
 
-            // 2) 기존 서비스로 리뷰 먼저 생성
+            // 2) 이미지 검증 + 병렬 저장 (잘못된 파일이면 리뷰를 만들기 전에 거절)
+            List<StoredImage> storedImages = imageUploadService.storeImages(images);
+
+            // 3) 기존 서비스로 리뷰 생성
             ReviewDTO reviewDTO = reviewService.createReview(productId, finalUserId, content, rating);
             log.info("리뷰 작성 성공 - reviewId: {}", reviewDTO.getId());
 
-            // 3) 생성된 리뷰 엔티티 다시 조회
-            Review review = reviewRepository.findById(reviewDTO.getId())
-                    .orElseThrow(() -> new IllegalArgumentException("리뷰 엔티티를 찾을 수 없습니다."));
-
-            // 4) 이미지가 있다면 저장 + ReviewImage 생성
-            if (images != null && !images.isEmpty()) {
-                for (MultipartFile file : images) {
-                    if (file == null || file.isEmpty()) {
-                        continue;
-                    }
-
-                    // 4-1) 실제 파일 저장 (uploads/ 아래)
-                    String imageUrl = fileStorageService.storeFile(file); // 예: /uploads/uuid.jpg
-                    log.info("이미지 저장 완료 - url: {}", imageUrl);
-
-                    // 4-2) ReviewImage 엔티티 생성 및 연관관계 설정
-                    ReviewImage reviewImage = new ReviewImage();
-                    reviewImage.setReview(review);
-                    reviewImage.setImageUrl(imageUrl);
-
-                    // createdAt은 @PrePersist에서 자동 세팅
-                    reviewImageRepository.save(reviewImage);
-                }
-            }
+            // 4) 이미지 행 일괄 저장 (트랜잭션이 롤백되면 저장한 파일도 참조 해제됨)
+            imageRowBatchWriter.insert(ImageRowBatchWriter.Owner.REVIEW, reviewDTO.getId(), storedImages);
 
             response.put("success", true);
             response.put("message", "리뷰가 등록되었습니다.");
             response.put("data", reviewDTO);
             return ResponseEntity.ok(response);
 
+        } catch (IllegalArgumentException e) {
+            TransactionAspectSupport.currentTransactionStatus().setRollbackOnly();
+            log.warn("리뷰 + 이미지 작성 거절: {}", e.getMessage());
+            response.put("success", false);
+            response.put("message", e.getMessage());
+            return ResponseEntity.badRequest().body(response);
         } catch (Exception e) {
+            // 예외를 응답으로 바꾸므로 직접 롤백 표시 (리뷰만 남고 이미지가 빠지는 것 방지)
+            TransactionAspectSupport.currentTransactionStatus().setRollbackOnly();
             log.error("리뷰 + 이미지 작성 중 오류", e);
             response.put("success", false);
             response.put("message", "리뷰 작성 중 오류가 발생했습니다: " + e.getMessage());
@@ -419,6 +413,9 @@ public class ReviewRestController {
                 return ResponseEntity.status(403).body(response);
             }
 
+            // 새 이미지 검증 + 병렬 저장 (잘못된 파일이면 아무것도 수정하지 않고 거절)
+            List<StoredImage> storedImages = imageUploadService.storeImages(images);
+
             // 내용 + 평점 업데이트
             int finalRating = (rating == -1) ? review.getRating() : rating;
             reviewService.updateReview(id, content, finalRating);
@@ -433,25 +430,15 @@ public class ReviewRestController {
                         if (image.getReview().getId().equals(id)) {
                             log.info("리뷰 이미지 삭제 - imageId: {}", imageId);
                             reviewImageRepository.delete(image);
+                            fileStorageService.release(image.getImageUrl());
                         }
                     });
                 }
             }
 
-            // 새 이미지 저장
-            if (images != null && !images.isEmpty()) {
-                for (MultipartFile file : images) {
-                    if (file.isEmpty()) continue;
-
-                    String imageUrl = fileStorageService.storeFile(file);
-                    log.info("리뷰 이미지 추가 저장 - {}", imageUrl);
-
-                    ReviewImage reviewImage = new ReviewImage();
-                    reviewImage.setReview(review);
-                    reviewImage.setImageUrl(imageUrl);
-                    reviewImageRepository.save(reviewImage);
-                }
-            }
+            // 새 이미지 행 일괄 저장
+            imageRowBatchWriter.insert(ImageRowBatchWriter.Owner.REVIEW, id, storedImages);
+            log.info("리뷰 이미지 추가 저장 - {}장", storedImages.size());
 
             // 최신 리뷰 다시 조회 → 최신 이미지/내용 DTO 변환
             Review refreshed = reviewRepository.findByIdWithDetails(id)
@@ -465,7 +452,14 @@ public class ReviewRestController {
             log.info("리뷰 수정(+이미지) 최종 성공 - id: {}", id);
             return ResponseEntity.ok(response);
 
+        } catch (IllegalArgumentException e) {
+            TransactionAspectSupport.currentTransactionStatus().setRollbackOnly();
+            log.warn("리뷰 수정(+이미지) 거절: {}", e.getMessage());
+            response.put("success", false);
+            response.put("message", e.getMessage());
+            return ResponseEntity.badRequest().body(response);
         } catch (Exception e) {
+            TransactionAspectSupport.currentTransactionStatus().setRollbackOnly();
             log.error("리뷰 수정(+이미지) 중 오류", e);
             response.put("success", false);
             response.put("message", "리뷰 수정 중 오류 발생: " + e.getMessage());
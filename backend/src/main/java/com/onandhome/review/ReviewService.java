@@ -2,24 +2,32 @@ package com.onandhome.review;
 
 import com.onandhome.admin.adminProduct.ProductRepository;
 import com.onandhome.admin.adminProduct.entity.Product;
+import com.onandhome.config.metrics.MetricsConfig;
+import com.onandhome.file.FileStorageService;
 import com.onandhome.notification.NotificationService;
 import com.onandhome.review.dto.ReviewDTO;
 import com.onandhome.review.dto.ReviewLikeResponseDTO;
 import com.onandhome.review.entity.Review;
+import com.onandhome.review.event.ReviewChangedEvent;
 import com.onandhome.user.UserRepository;
 import com.onandhome.user.entity.User;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import com.onandhome.review.entity.ReviewLike;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Optional;
 import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 /*
@@ -39,10 +47,15 @@ public class ReviewService {
     /* 일반 알림(DB 저장)을 처리하는 서비스 */
     private final NotificationService notificationService;
     private final ReviewLikeRepository reviewLikeRepository;
+    private final ReviewReplyRepository reviewReplyRepository;
+    private final ReviewImageRepository reviewImageRepository;
+    private final FileStorageService fileStorageService;
 
     /* 실시간 알림(WebSocket)을 전송하기 위한 템플릿 */
     private final SimpMessagingTemplate messagingTemplate;
 
+    private final ApplicationEventPublisher eventPublisher;
+
     /* 모든 리뷰 조회 (DTO 변환 포함) */
     @Transactional(readOnly = true)
     public List<ReviewDTO> findAll() {
@@ -79,9 +92,9 @@ public class ReviewService {
     /* 리뷰 삭제 (관련 알림도 함께 삭제) */
     @Transactional
     public void deleteById(Long id) {
-        if (!reviewRepository.existsById(id)) {
-            throw new IllegalArgumentException("리뷰가 존재하지 않습니다. id=" + id);
-        }
+        Review review = reviewRepository.findById(id)
+                .orElseThrow(() -> new IllegalArgumentException("리뷰가 존재하지 않습니다. id=" + id));
+        Long productId = review.getProduct() != null ? review.getProduct().getId() : null;
 
         /* 리뷰 관련 알림 삭제 */
         try {
@@ -93,6 +106,7 @@ public class ReviewService {
         }
 
         reviewRepository.deleteById(id);
+        eventPublisher.publishEvent(ReviewChangedEvent.deleted(id, productId, review.getRating()));
         log.info("리뷰 {} 삭제 완료", id);
     }
 
@@ -102,6 +116,39 @@ public class ReviewService {
         deleteById(id);
     }
 
+    /* 리뷰 일괄 삭제 (집합 단위)
+       엔티티를 로딩하지 않고 알림 → 좋아요/답글/이미지 → 리뷰 순서로 IN 절 DELETE 한 번씩 실행한다.
+       관리자 일괄 삭제(BulkOperationService 청크 트랜잭션)와 상품 삭제에서 사용된다.
+       반환값: 처리하지 못한 리뷰 ID와 사유 (존재하지 않는 리뷰) */
+    @Transactional
+    public Map<Long, String> deleteInBatch(Collection<Long> reviewIds) {
+        List<Object[]> summaries = reviewRepository.findSummariesByIds(reviewIds);
+        Set<Long> found = summaries.stream().map(row -> (Long) row[0]).collect(Collectors.toSet());
+        Map<Long, String> skipped = new LinkedHashMap<>();
+        reviewIds.stream().filter(id -> !found.contains(id))
+                .forEach(id -> skipped.put(id, "리뷰가 존재하지 않습니다."));
+        if (found.isEmpty()) {
+            return skipped;
+        }
+
+        List<String> imageUrls = reviewImageRepository.findImageUrlsByReviewIds(found);
+
+        notificationService.deleteByTypesAndReferenceIds(List.of("REVIEW", "REVIEW_REPLY"), found);
+        reviewLikeRepository.bulkDeleteByReviewIds(found);
+        reviewReplyRepository.bulkDeleteByReviewIds(found);
+        reviewImageRepository.bulkDeleteByReviewIds(found);
+        reviewRepository.bulkDeleteByIds(found);
+
+        // 이미지 파일 참조 해제와 집계 반영은 커밋된 뒤에 실행된다.
+        imageUrls.forEach(fileStorageService::release);
+        for (Object[] row : summaries) {
+            eventPublisher.publishEvent(ReviewChangedEvent.deleted(
+                    (Long) row[0], (Long) row[1], ((Number) row[2]).intValue()));
+        }
+        log.info("리뷰 일괄 삭제 완료 - {}건", found.size());
+        return skipped;
+    }
+
     /* 상품별 리뷰 목록 조회 */
     @Transactional(readOnly = true)
     public List<ReviewDTO> findByProductId(Long productId) {
@@ -152,6 +199,7 @@ public class ReviewService {
         review.setCreatedAt(LocalDateTime.now());
 
         Review savedReview = reviewRepository.save(review);
+        eventPublisher.publishEvent(ReviewChangedEvent.created(savedReview.getId(), productId, rating));
 
         /* 리뷰 등록 시 관리자에게 알림 전송 */
         try {
@@ -198,10 +246,15 @@ public class ReviewService {
         Review review = reviewRepository.findById(id)
                 .orElseThrow(() -> new IllegalArgumentException("리뷰를 찾을 수 없습니다. id=" + id));
         
+        int previousRating = review.getRating();
         review.setContent(content);
         review.setRating(rating);
         
         Review updatedReview = reviewRepository.save(review);
+        if (previousRating != rating && review.getProduct() != null) {
+            eventPublisher.publishEvent(ReviewChangedEvent.ratingChanged(
+                    id, review.getProduct().getId(), previousRating, rating));
+        }
         return ReviewDTO.fromEntity(updatedReview);
     }
 
@@ -268,6 +321,7 @@ public class ReviewService {
     }
 
     @Transactional(readOnly = true)
+    @Timed(MetricsConfig.SERVICE_TIMER)
     public List<ReviewDTO> findByProductIdWithLikes(Long productId, Long userId) {
         List<Review> reviews = reviewRepository.findByProductIdOrderByCreatedAtDesc(productId);
 
@@ -9,11 +9,17 @@ import lombok.Setter;
 public class ReviewImageDTO {
     private Long id;
     private String url;
+    private String thumbUrl;  // 없으면 url 로 대체
+    private String listUrl;
+    private String detailUrl;
 
     public static ReviewImageDTO fromEntity(ReviewImage image) {
         ReviewImageDTO dto = new ReviewImageDTO();
         dto.setId(image.getId());
         dto.setUrl(image.getImageUrl());
+        dto.setThumbUrl(image.getThumbUrl() != null ? image.getThumbUrl() : image.getImageUrl());
+        dto.setListUrl(image.getListUrl() != null ? image.getListUrl() : image.getImageUrl());
+        dto.setDetailUrl(image.getDetailUrl() != null ? image.getDetailUrl() : image.getImageUrl());
         return dto;
     }
 }
@@ -1,5 +1,6 @@
 package com.onandhome.review.entity;
 
+import com.onandhome.file.dto.StoredImage;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -29,6 +30,16 @@ public class ReviewImage {
     @Column(name = "image_url", nullable = false, length = 500)
     private String imageUrl; // 이미지 접근 URL
 
+    // 업로드 시 생성된 변형 이미지 URL (없으면 imageUrl 사용)
+    @Column(name = "thumb_url", length = 500)
+    private String thumbUrl;
+
+    @Column(name = "list_url", length = 500)
+    private String listUrl;
+
+    @Column(name = "detail_url", length = 500)
+    private String detailUrl;
+
     @Column(name = "created_at")
     private LocalDateTime createdAt; // 생성 시각
 
@@ -38,4 +49,14 @@ public class ReviewImage {
             this.createdAt = LocalDateTime.now();
         }
     }
+
+    /**
+     * 업로드된 이미지(원본 + 변형) 설정
+     */
+    public void applyImage(StoredImage image) {
+        this.imageUrl = image.getUrl();
+        this.thumbUrl = image.getThumbUrl();
+        this.listUrl = image.getListUrl();
+        this.detailUrl = image.getDetailUrl();
+    }
 }
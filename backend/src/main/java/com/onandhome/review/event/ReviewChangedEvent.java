@@ -0,0 +1,36 @@
+package com.onandhome.review.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 리뷰 등록/삭제/평점 수정 이벤트
+ * delta: 등록 +1, 삭제 -1, 평점 수정 0
+ */
+@Getter
+@AllArgsConstructor
+public class ReviewChangedEvent {
+
+    private final Long reviewId;
+    private final Long productId;    // 리뷰 대상 상품 ID (상품이 없으면 null)
+    private final int rating;        // 리뷰 평점 (수정은 수정 후 평점)
+    private final int previousRating; // 수정 전 평점 (등록/삭제는 0)
+    private final int delta;
+
+    public static ReviewChangedEvent created(Long reviewId, Long productId, int rating) {
+        return new ReviewChangedEvent(reviewId, productId, rating, 0, 1);
+    }
+
+    public static ReviewChangedEvent deleted(Long reviewId, Long productId, int rating) {
+        return new ReviewChangedEvent(reviewId, productId, rating, 0, -1);
+    }
+
+    public static ReviewChangedEvent ratingChanged(Long reviewId, Long productId, int previousRating, int rating) {
+        return new ReviewChangedEvent(reviewId, productId, rating, previousRating, 0);
+    }
+
+    /** 상품 평점 합계 증감분 */
+    public int getRatingDelta() {
+        return delta == 0 ? rating - previousRating : rating * delta;
+    }
+}
@@ -12,6 +12,8 @@ import org.springframework.security.authentication.UsernamePasswordAuthenticatio
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 // 현재 인증된 사용자 정보를 저장하는 컨텍스트
 import org.springframework.security.core.context.SecurityContextHolder;
+// 관리 포트로 들어온 헬스 체크 / 지표 수집 요청 판별
+import org.springframework.security.web.util.matcher.RequestMatcher;
 // 요청당 한 번만 실행되는 필터의 기본 클래스
 import org.springframework.web.filter.OncePerRequestFilter;
 import com.onandhome.user.dto.UserDTO; // 사용자 정보를 담는 DTO
@@ -41,12 +43,23 @@ public class JWTCheckFilter extends OncePerRequestFilter {
     // JWT 토큰 검증을 위한 유틸리티 (JWTUtil.validateToken() 호출)
     private final JWTUtil jwtUtil;
 
+    // 관리 포트로 들어온 헬스 체크 / Prometheus 수집 요청 (ManagementPortMatcher)
+    private final RequestMatcher managementRequests;
+
     /**
      * 생성자 - CustomSecurityConfig에서 JWTUtil을 주입받아 초기화
      * @param jwtUtil - Spring Container에서 관리하는 JWTUtil Bean
      */
     public JWTCheckFilter(JWTUtil jwtUtil) {
+        this(jwtUtil, request -> false);
+    }
+
+    /**
+     * @param managementRequests - JWT 검증 없이 통과시킬 관리 포트 요청
+     */
+    public JWTCheckFilter(JWTUtil jwtUtil, RequestMatcher managementRequests) {
         this.jwtUtil = jwtUtil;
+        this.managementRequests = managementRequests;
     }
 
     /**
@@ -87,6 +100,11 @@ public class JWTCheckFilter extends OncePerRequestFilter {
             return true; // JWT 검증 건너뛰기
         }
 
+        // ✅ 헬스 체크 / Prometheus 지표 수집은 JWT 체크 제외 (관리 포트로 들어온 요청만, 공개 포트에는 actuator 가 없다)
+        if(managementRequests.matches(request)) {
+            return true; // JWT 검증 건너뛰기
+        }
+
         // ✅ 인증 관련 API는 JWT 검증 제외
         // 로그인, 회원가입, 토큰 갱신 등은 토큰 없이 접근 가능해야 함
         if(path.startsWith("/api/user/login") ||      // 일반 로그인
@@ -148,8 +166,8 @@ public class JWTCheckFilter extends OncePerRequestFilter {
         }
 
         // ✅ 관리자 카테고리 조회 API는 JWT 체크 제외
-        // 상품 등록 시 카테고리 목록을 가져오기 위한 API
-        if (path.equals("/api/admin/products/categories")) {
+        // 상품 등록 시 카테고리 목록을 가져오기 위한 API (카테고리 추가(POST)는 JWT 검증 필요)
+        if (path.equals("/api/admin/products/categories") && method.equals("GET")) {
             log.info("관리자 카테고리 API JWT 체크 제외: {}", path);
             return true; // JWT 검증 건너뛰기
         }
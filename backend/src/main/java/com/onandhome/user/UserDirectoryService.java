@@ -0,0 +1,193 @@
+package com.onandhome.user;
+
+import com.onandhome.inactive_user.InactiveUserRepository;
+import com.onandhome.user.dto.UserDirectoryPage;
+import com.onandhome.user.dto.UserSummaryDTO;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 관리자 회원 디렉터리 서비스
+ *
+ * - 목록/검색은 id 기준 키셋 페이지네이션 (OFFSET, 전체 로딩 없음)
+ * - 검색은 userId / username / email / phone 접두어 일치를 컬럼별 하위 쿼리(UNION)로 찾아 각 컬럼 인덱스를 사용하고,
+ *   찾은 id 로 목록 행을 읽는다. (하위 쿼리마다 접두어 일치 행을 id 로 정렬하므로 비용은 일치 건수에 비례)
+ * - 배열 응답을 기대하는 기존 목록 API 는 findAllUsers / findAllInactiveUsers 로 키셋 페이지를 끝까지 이어 붙인다.
+ * - CSV 내보내기는 같은 키셋 페이지를 순서대로 읽어 바로 출력 스트림에 기록한다.
+ *   (긴 트랜잭션이나 DB 커서를 유지하지 않으므로 회원 수와 무관하게 메모리 사용량이 일정)
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class UserDirectoryService {
+
+    public static final int DEFAULT_PAGE_SIZE = 50;
+    public static final int MAX_PAGE_SIZE = 1000;
+
+    /* CSV 내보내기 시 한 번에 읽는 행 수 */
+    private static final int EXPORT_CHUNK_SIZE = 1000;
+
+    private static final String[] CSV_HEADER = {
+            "ID", "아이디", "이름", "이메일", "전화번호", "성별", "생년월일", "가입일", "탈퇴일"
+    };
+
+    private final UserRepository userRepository;
+    private final InactiveUserRepository inactiveUserRepository;
+
+    /**
+     * 활성 회원 목록/검색
+     *
+     * @param keyword 검색어 (없으면 전체)
+     * @param cursor  이전 페이지의 nextCursor (첫 페이지는 null)
+     * @param size    페이지 크기 (최대 MAX_PAGE_SIZE)
+     */
+    public UserDirectoryPage findUsers(String keyword, Long cursor, Integer size) {
+        int pageSize = normalizeSize(size);
+        return UserDirectoryPage.of(fetch(false, toPrefix(keyword), cursor, pageSize + 1), pageSize);
+    }
+
+    /**
+     * 탈퇴 회원 목록/검색
+     */
+    public UserDirectoryPage findInactiveUsers(String keyword, Long cursor, Integer size) {
+        int pageSize = normalizeSize(size);
+        return UserDirectoryPage.of(fetch(true, toPrefix(keyword), cursor, pageSize + 1), pageSize);
+    }
+
+    /**
+     * 활성 회원 목록/검색 전체 (기존 배열 응답 API 용, 쿼리는 MAX_PAGE_SIZE 건씩)
+     */
+    public List<UserSummaryDTO> findAllUsers(String keyword) {
+        return fetchAll(false, toPrefix(keyword));
+    }
+
+    /**
+     * 탈퇴 회원 목록/검색 전체 (기존 배열 응답 API 용)
+     */
+    public List<UserSummaryDTO> findAllInactiveUsers(String keyword) {
+        return fetchAll(true, toPrefix(keyword));
+    }
+
+    /**
+     * 검색 결과 전체를 CSV로 출력 (UTF-8 BOM 포함 - 엑셀 한글 호환)
+     */
+    public void exportCsv(boolean inactive, String keyword, OutputStream out) throws IOException {
+        String prefix = toPrefix(keyword);
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        writer.write('\uFEFF');
+        writeCsvLine(writer, (Object[]) CSV_HEADER);
+
+        Long cursor = null;
+        long total = 0;
+        while (true) {
+            List<UserSummaryDTO> chunk = fetch(inactive, prefix, cursor, EXPORT_CHUNK_SIZE);
+            for (UserSummaryDTO u : chunk) {
+                writeCsvLine(writer, u.getId(), u.getUserId(), u.getUsername(), u.getEmail(), u.getPhone(),
+                        u.getGender(), u.getBirthDate(), u.getCreatedAt(), u.getDeletedAt());
+            }
+            writer.flush();
+            total += chunk.size();
+
+            if (chunk.size() < EXPORT_CHUNK_SIZE) {
+                break;
+            }
+            cursor = chunk.get(chunk.size() - 1).getId();
+        }
+        log.info("회원 CSV 내보내기 완료 - 탈퇴회원: {}, 검색어: {}, {}건", inactive, keyword, total);
+    }
+
+    // ==================== 내부 처리 ====================
+
+    private List<UserSummaryDTO> fetchAll(boolean inactive, String prefix) {
+        List<UserSummaryDTO> all = new ArrayList<>();
+        Long cursor = null;
+        while (true) {
+            List<UserSummaryDTO> chunk = fetch(inactive, prefix, cursor, MAX_PAGE_SIZE);
+            all.addAll(chunk);
+            if (chunk.size() < MAX_PAGE_SIZE) {
+                return all;
+            }
+            cursor = chunk.get(chunk.size() - 1).getId();
+        }
+    }
+
+    private List<UserSummaryDTO> fetch(boolean inactive, String prefix, Long cursor, int limit) {
+        Long before = (cursor != null) ? cursor : Long.MAX_VALUE;
+        PageRequest page = PageRequest.of(0, limit);
+
+        if (prefix == null) {
+            return inactive
+                    ? inactiveUserRepository.findDirectoryPage(before, page)
+                    : userRepository.findDirectoryPage(before, page);
+        }
+        List<Long> ids = inactive
+                ? inactiveUserRepository.searchDirectoryIds(prefix, before, limit)
+                : userRepository.searchDirectoryIds(prefix, before, limit);
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        return inactive
+                ? inactiveUserRepository.findDirectoryRows(ids)
+                : userRepository.findDirectoryRows(ids);
+    }
+
+    private static int normalizeSize(Integer size) {
+        if (size == null || size <= 0) {
+            return DEFAULT_PAGE_SIZE;
+        }
+        return Math.min(size, MAX_PAGE_SIZE);
+    }
+
+    /* 검색어 → LIKE 접두어 패턴 (와일드카드 문자는 '!'로 이스케이프) */
+    static String toPrefix(String keyword) {
+        if (keyword == null || keyword.isBlank()) {
+            return null;
+        }
+        String escaped = keyword.trim()
+                .replace("!", "!!")
+                .replace("%", "!%")
+                .replace("_", "!_");
+        return escaped + "%";
+    }
+
+    /* 스프레드시트가 수식으로 해석하는 첫 글자 (OWASP CSV Injection: = + - @ TAB CR) */
+    static boolean isFormulaStart(String text) {
+        if (text.isEmpty()) {
+            return false;
+        }
+        char first = text.charAt(0);
+        return first == '=' || first == '+' || first == '-' || first == '@' || first == '\t' || first == '\r';
+    }
+
+    private static void writeCsvLine(Writer writer, Object... values) throws IOException {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            Object value = values[i];
+            if (value != null) {
+                String text = value.toString();
+                if (isFormulaStart(text)) {
+                    text = "'" + text; // 엑셀 수식 실행 방지
+                }
+                if (text.indexOf(',') >= 0 || text.indexOf('"') >= 0
+                        || text.indexOf('\n') >= 0 || text.indexOf('\r') >= 0) {
+                    text = '"' + text.replace("\"", "\"\"") + '"';
+                }
+                writer.write(text);
+            }
+        }
+        writer.write("\r\n");
+    }
+}
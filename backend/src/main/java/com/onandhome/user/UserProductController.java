@@ -1,7 +1,9 @@
 package com.onandhome.user;
 
+import com.onandhome.admin.adminProduct.CatalogResponseCache;
 import com.onandhome.admin.adminProduct.ProductService;
 import com.onandhome.admin.adminProduct.entity.Product;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
@@ -21,6 +23,10 @@ import java.util.Map;
 public class UserProductController {
     
     private final ProductService productService;
+    private final CatalogResponseCache catalogResponseCache;
+
+    private static final CatalogResponseCache.Key ALL_KEY =
+            new CatalogResponseCache.Key("/user/product/api/all", null, false);
     
     /**
      * 카테고리별 상품 목록 페이지
@@ -101,22 +107,26 @@ public class UserProductController {
     /**
      * 카테고리별 상품 조회 API (AJAX용)
      * GET /user/product/api/category/{category}
+     * 상품 변경이 없으면 캐시된 응답(gzip)을 그대로 보냄 - CatalogResponseCache
      */
     @GetMapping("/api/category/{category}")
     @ResponseBody
-    public ResponseEntity<Map<String, Object>> getProductsByCategory(@PathVariable String category) {
+    public ResponseEntity<?> getProductsByCategory(@PathVariable String category, HttpServletRequest request) {
         try {
             log.debug("API - 카테고리별 상품 조회: {}", category);
-            List<Product> products = productService.getByCategory(category);
-            
-            Map<String, Object> response = new HashMap<>();
-            response.put("success", true);
-            response.put("category", category);
-            response.put("products", products);
-            response.put("count", products.size());
-            
-            log.info("카테고리 '{}' - 상품 {} 개 조회", category, products.size());
-            return ResponseEntity.ok(response);
+            CatalogResponseCache.Key key = new CatalogResponseCache.Key("/user/product/api/category", category, false);
+            return catalogResponseCache.serve(key, request, () -> {
+                List<Product> products = productService.getByCategory(category);
+
+                Map<String, Object> response = new HashMap<>();
+                response.put("success", true);
+                response.put("category", category);
+                response.put("products", products);
+                response.put("count", products.size());
+
+                log.info("카테고리 '{}' - 상품 {} 개 조회", category, products.size());
+                return response;
+            });
             
         } catch (Exception e) {
             log.error("API - 상품 조회 중 오류: {}", e.getMessage(), e);
@@ -130,20 +140,22 @@ public class UserProductController {
     /**
      * 모든 상품 조회 API
      * GET /user/product/api/all
+     * 상품 변경이 없으면 캐시된 응답(gzip)을 그대로 보냄 - CatalogResponseCache
      */
     @GetMapping("/api/all")
     @ResponseBody
-    public ResponseEntity<Map<String, Object>> getAllProducts() {
+    public ResponseEntity<?> getAllProducts(HttpServletRequest request) {
         try {
             log.debug("API - 모든 상품 조회");
-            List<Product> products = productService.listAll();
-            
-            Map<String, Object> response = new HashMap<>();
-            response.put("success", true);
-            response.put("products", products);
-            response.put("count", products.size());
-            
-            return ResponseEntity.ok(response);
+            return catalogResponseCache.serve(ALL_KEY, request, () -> {
+                List<Product> products = productService.listAll();
+
+                Map<String, Object> response = new HashMap<>();
+                response.put("success", true);
+                response.put("products", products);
+                response.put("count", products.size());
+                return response;
+            });
             
         } catch (Exception e) {
             log.error("API - 상품 조회 중 오류: {}", e.getMessage(), e);
@@ -1,11 +1,15 @@
 package com.onandhome.user;
 
+import com.onandhome.user.dto.UserSummaryDTO;
 import com.onandhome.user.entity.User;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -31,6 +35,10 @@ public interface UserRepository extends JpaRepository<User, Long> {
     @Query("SELECT COUNT(u) FROM User u WHERE u.createdAt >= :startOfDay")
     long countTodayNewUsers(@Param("startOfDay") LocalDateTime startOfDay);
 
+    // 기간 가입 회원 수 조회 [start, end) - 대시보드 일별 집계 마감용
+    @Query("SELECT COUNT(u) FROM User u WHERE u.createdAt >= :start AND u.createdAt < :end")
+    long countNewUsersBetween(@Param("start") LocalDateTime start, @Param("end") LocalDateTime end);
+
     // 비활성(탈퇴) 회원 수 조회
     @Query("SELECT COUNT(u) FROM User u WHERE u.active = false")
     long countInactiveUsers();
@@ -68,4 +76,50 @@ public interface UserRepository extends JpaRepository<User, Long> {
 
     // 역할(role) 기반 조회 (0=관리자, 1=일반 사용자)
     List<User> findByRole(Integer role);
+
+    // ==================== 회원 디렉터리 (키셋 페이지네이션) ====================
+    // id 내림차순(= 최신 가입순)으로 cursor 보다 작은 id만 조회하므로 OFFSET 없이 PK 범위 스캔으로 동작한다.
+    // 검색은 userId / username / email / phone 접두어 일치를 컬럼별 하위 쿼리로 나눠 UNION 한다.
+    // (네 컬럼을 OR 로 묶으면 컬럼 인덱스를 못 쓰고 id 역순으로 행을 하나씩 걸러야 한다)
+    // 하위 쿼리마다 해당 컬럼 인덱스로 접두어 범위를 읽지만, 인덱스 순서가 id 순이 아니므로
+    // 접두어에 일치한 행을 모두 읽어 id 로 정렬(filesort)한 뒤 limit 개를 고른다.
+    // 비용은 페이지 크기가 아니라 접두어 일치 건수에 비례한다. ("010" 처럼 흔한 접두어는 느림, 전체 스캔보다는 적게 읽음)
+    // prefix 는 '!'로 이스케이프된 "키워드%" 형태로 전달한다.
+
+    @Query("SELECT new com.onandhome.user.dto.UserSummaryDTO(" +
+            "u.id, u.userId, u.username, u.email, u.phone, u.gender, u.birthDate, u.createdAt) " +
+            "FROM User u WHERE u.active = true AND u.id < :cursor ORDER BY u.id DESC")
+    List<UserSummaryDTO> findDirectoryPage(@Param("cursor") Long cursor, Pageable pageable);
+
+    @Query(value = "SELECT t.id FROM (" +
+            "(SELECT id FROM user WHERE user_id LIKE :prefix ESCAPE '!' AND active = TRUE AND id < :cursor ORDER BY id DESC LIMIT :limit) " +
+            "UNION (SELECT id FROM user WHERE username LIKE :prefix ESCAPE '!' AND active = TRUE AND id < :cursor ORDER BY id DESC LIMIT :limit) " +
+            "UNION (SELECT id FROM user WHERE email LIKE :prefix ESCAPE '!' AND active = TRUE AND id < :cursor ORDER BY id DESC LIMIT :limit) " +
+            "UNION (SELECT id FROM user WHERE phone LIKE :prefix ESCAPE '!' AND active = TRUE AND id < :cursor ORDER BY id DESC LIMIT :limit)" +
+            ") t ORDER BY t.id DESC LIMIT :limit", nativeQuery = true)
+    List<Long> searchDirectoryIds(@Param("prefix") String prefix,
+                                  @Param("cursor") Long cursor,
+                                  @Param("limit") int limit);
+
+    // 검색으로 찾은 id 의 목록 행 (id 내림차순)
+    @Query("SELECT new com.onandhome.user.dto.UserSummaryDTO(" +
+            "u.id, u.userId, u.username, u.email, u.phone, u.gender, u.birthDate, u.createdAt) " +
+            "FROM User u WHERE u.id IN :ids ORDER BY u.id DESC")
+    List<UserSummaryDTO> findDirectoryRows(@Param("ids") Collection<Long> ids);
+
+    // ==================== 회원 일괄 탈퇴 ====================
+
+    // 대상 ID 중 아직 user 테이블에 남아 있는 ID (이미 처리된 회원은 제외됨)
+    @Query("SELECT u.id FROM User u WHERE u.id IN :ids ORDER BY u.id")
+    List<Long> findExistingIds(@Param("ids") Collection<Long> ids);
+
+    // 연관 데이터와 inactive_user 복사가 끝난 뒤 호출
+    @Modifying
+    @Query("DELETE FROM User u WHERE u.id IN :ids")
+    int bulkDeleteByIds(@Param("ids") Collection<Long> ids);
+
+    // 관리자 회원 일괄 삭제(비활성화) - 엔티티 로딩 없이 UPDATE 한 번
+    @Modifying
+    @Query("UPDATE User u SET u.active = false WHERE u.id IN :ids")
+    int bulkDeactivate(@Param("ids") Collection<Long> ids);
 }
@@ -1,21 +1,24 @@
 package com.onandhome.user;
 
-import com.onandhome.cart.CartItemRepository;
-import com.onandhome.notification.NotificationRepository;
-import com.onandhome.order.OrderRepository;
-import com.onandhome.review.ReviewRepository;
+import com.onandhome.inactive_user.UserDeactivationService;
 import com.onandhome.user.dto.UserDTO;
 import com.onandhome.user.entity.User;
+import com.onandhome.user.event.UserChangedEvent;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 @Service
 @RequiredArgsConstructor
@@ -24,11 +27,9 @@ import java.util.Optional;
 public class UserService {
 
     private final UserRepository userRepository;
-    private final OrderRepository orderRepository;
-    private final CartItemRepository cartItemRepository;
-    private final ReviewRepository reviewRepository;
-    private final NotificationRepository notificationRepository;
+    private final UserDeactivationService userDeactivationService;
     private final PasswordEncoder passwordEncoder;
+    private final ApplicationEventPublisher eventPublisher;
 
     // 회원가입: userId 중복 확인 → 비밀번호 암호화 → 저장
     public UserDTO register(UserDTO userDTO) {
@@ -49,6 +50,7 @@ public class UserService {
 
         User user = userDTO.toEntity();
         User savedUser = userRepository.save(user);
+        eventPublisher.publishEvent(new UserChangedEvent(savedUser.getId(), UserChangedEvent.Type.REGISTERED));
 
         log.info("새 사용자 등록: {}", userDTO.getUserId());
         return UserDTO.fromEntity(savedUser);
@@ -158,27 +160,35 @@ public class UserService {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 사용자입니다."));
 
-        // 1. 알림 삭제
-        log.info("알림 삭제 - userId: {}", user.getUserId());
-        notificationRepository.deleteAll(notificationRepository.findByUserOrderByCreatedAtDesc(user));
+        // 1~4. 연관 데이터 삭제 (리뷰, 주문, 장바구니, 찜, 알림)
+        // 회원 탈퇴와 같은 처리 - 상품별 찜 개수/찜 캐시, 리뷰 집계, 메모리 장바구니까지 함께 정리
+        log.info("연관 데이터 삭제 - userId: {}", user.getUserId());
+        userDeactivationService.deleteRelatedData(List.of(userId));
 
-        // 2. 장바구니 아이템 삭제
-        log.info("장바구니 아이템 삭제 - userId: {}", user.getUserId());
-        cartItemRepository.deleteByUser(user);
-
-        // 3. 주문 삭제 (주문 아이템은 cascade로 자동 삭제됨)
-        log.info("주문 삭제 - userId: {}", user.getUserId());
-        orderRepository.deleteAll(orderRepository.findByUser(user));
-
-        // 4. 리뷰 삭제 (리뷰 답글은 cascade로 자동 삭제됨)
-        log.info("리뷰 삭제 - userId: {}", user.getUserId());
-        reviewRepository.deleteAll(reviewRepository.findByUser(user));
-        
         // 5. 사용자 삭제
         userRepository.delete(user);
+        eventPublisher.publishEvent(new UserChangedEvent(userId, UserChangedEvent.Type.DELETED));
         log.info("사용자 삭제 완료: {}", user.getUserId());
     }
 
+    /**
+     * 회원 일괄 삭제(비활성화) - 집합 단위
+     * 관리자 일괄 삭제(BulkOperationService 청크 트랜잭션)에서 사용된다.
+     *
+     * @return 처리하지 못한 회원 ID와 사유
+     */
+    public Map<Long, String> deactivateInBatch(List<Long> userIds) {
+        Set<Long> existing = new HashSet<>(userRepository.findExistingIds(userIds));
+        Map<Long, String> skipped = new LinkedHashMap<>();
+        userIds.stream().filter(id -> !existing.contains(id))
+                .forEach(id -> skipped.put(id, "존재하지 않는 사용자입니다."));
+        if (!existing.isEmpty()) {
+            int updated = userRepository.bulkDeactivate(existing);
+            log.info("사용자 일괄 탈퇴 처리 (Soft Delete): {}명", updated);
+        }
+        return skipped;
+    }
+
     /** ✅ 회원 삭제 (여러 명) - 관리자 API용 (Soft Delete) */
     @Transactional
     public void deleteUsers(List<Long> userIds) {
@@ -226,15 +236,6 @@ public class UserService {
                         .orElseThrow(() -> new IllegalStateException("관리자 계정을 찾을 수 없습니다.")));
     }
 
-    // 모든 사용자 조회: 최신 가입 순 정렬 후 DTO 변환
-    @Transactional(readOnly = true)
-    public List<UserDTO> getAllUsers() {
-        return userRepository.findByActiveTrue().stream()
-                .sorted((u1, u2) -> u2.getCreatedAt().compareTo(u1.getCreatedAt()))
-                .map(UserDTO::fromEntity)
-                .collect(java.util.stream.Collectors.toList());
-    }
-
     /** ✅ 탈퇴 사용자 조회 (관리자용) */
     @Transactional(readOnly = true)
     public List<UserDTO> getInactiveUsers() {
@@ -251,19 +252,6 @@ public class UserService {
                 .orElseThrow(() -> new IllegalArgumentException("해당 사용자를 찾을 수 없습니다: " + username));
     }
 
-    // 이름 또는 아이디로 검색
-    @Transactional(readOnly = true)
-    public List<UserDTO> search(String keyword) {
-        return userRepository.findAll().stream()
-                .filter(user ->
-                        (user.getUsername() != null && user.getUsername().contains(keyword)) ||
-                                (user.getUserId() != null && user.getUserId().contains(keyword))
-                )
-                .sorted((u1, u2) -> u2.getCreatedAt().compareTo(u1.getCreatedAt()))
-                .map(UserDTO::fromEntity)
-                .collect(java.util.stream.Collectors.toList());
-    }
-
     // 이메일 기반 비밀번호 재설정
     @Transactional
     public boolean resetPasswordByEmail(String email, String newPassword) {
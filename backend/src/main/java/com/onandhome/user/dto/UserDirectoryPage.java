@@ -0,0 +1,29 @@
+package com.onandhome.user.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 회원 디렉터리 키셋 페이지
+ * nextCursor: 다음 페이지 요청 시 cursor 파라미터로 전달할 값 (마지막 페이지면 null)
+ */
+@Getter
+@AllArgsConstructor
+public class UserDirectoryPage {
+
+    private final List<UserSummaryDTO> items;
+    private final Long nextCursor;
+    private final boolean hasNext;
+
+    /**
+     * size + 1 건으로 조회한 결과에서 페이지를 만든다.
+     */
+    public static UserDirectoryPage of(List<UserSummaryDTO> fetched, int size) {
+        boolean hasNext = fetched.size() > size;
+        List<UserSummaryDTO> items = hasNext ? fetched.subList(0, size) : fetched;
+        Long nextCursor = hasNext ? items.get(items.size() - 1).getId() : null;
+        return new UserDirectoryPage(items, nextCursor, hasNext);
+    }
+}
@@ -0,0 +1,36 @@
+package com.onandhome.user.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+import java.time.LocalDateTime;
+
+/**
+ * 회원 목록(디렉터리)용 요약 DTO
+ * 관리자 목록/검색/CSV 내보내기에 필요한 컬럼만 JPQL 생성자 표현식으로 바로 조회한다.
+ * (비밀번호 등 민감 정보는 포함하지 않음)
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@ToString
+public class UserSummaryDTO {
+
+    private Long id;
+    private String userId;
+    private String username;
+    private String email;
+    private String phone;
+    private String gender;
+    private String birthDate;
+    private LocalDateTime createdAt;
+    private LocalDateTime deletedAt; // 탈퇴 회원만 값이 있음
+
+    // 활성 회원 조회용
+    public UserSummaryDTO(Long id, String userId, String username, String email, String phone,
+                          String gender, String birthDate, LocalDateTime createdAt) {
+        this(id, userId, username, email, phone, gender, birthDate, createdAt, null);
+    }
+}
@@ -0,0 +1,23 @@
+package com.onandhome.user.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 회원 변경 이벤트
+ * 회원가입, 탈퇴(InactiveUser 이동), 영구 삭제 시 발행된다.
+ */
+@Getter
+@AllArgsConstructor
+public class UserChangedEvent {
+
+    public enum Type {
+        REGISTERED, // 회원가입 (일반/소셜)
+        WITHDRAWN,  // 탈퇴 처리 (user → inactive_user 이동)
+        DELETED,    // user 테이블에서 영구 삭제
+        PURGED      // inactive_user 테이블에서 영구 삭제
+    }
+
+    private final Long userId; // user.id 또는 inactive_user.id
+    private final Type type;
+}
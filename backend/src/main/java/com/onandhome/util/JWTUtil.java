@@ -3,6 +3,8 @@ package com.onandhome.util;
 // JWT 토큰 생성 및 검증을 위한 jjwt 라이브러리 import
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys; // 암호화 키 생성 유틸리티
+import com.onandhome.config.metrics.MetricsConfig;
+import io.micrometer.core.annotation.Timed; // 메서드 실행 시간 지표
 import lombok.extern.slf4j.Slf4j; // 로깅을 위한 Lombok 어노테이션
 import org.springframework.stereotype.Component; // Spring Bean으로 등록하기 위한 어노테이션
 
@@ -57,6 +59,7 @@ public class JWTUtil {
      * @return 토큰에 포함된 클레임(사용자 정보) Map - userId, role 등이 포함됨
      * @throws CustomJWTException - 토큰이 유효하지 않을 경우 발생
      */
+    @Timed(MetricsConfig.SERVICE_TIMER)
     public Map<String, Object> validateToken(String token) {
         Map<String, Object> claim = null; // 토큰에서 추출한 사용자 정보를 저장할 Map
         
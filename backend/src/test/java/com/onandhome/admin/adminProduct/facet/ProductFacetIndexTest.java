@@ -0,0 +1,184 @@
+package com.onandhome.admin.adminProduct.facet;
+
+import com.onandhome.admin.adminProduct.facet.ProductFacetIndex.Dimension;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * ProductFacetIndex 검증 + 10만 상품 패싯 조회 벤치마크
+ *
+ * 벤치마크는 benchmark 태그라 기본 test 에서는 빠지고 ./gradlew benchmarkTest 로 실행한다.
+ */
+class ProductFacetIndexTest {
+
+    private static final String[] MANUFACTURERS = {"LG", "삼성", "위니아", "쿠쿠", "다이슨", "샤오미", "필립스", "코웨이"};
+    private static final String[] COUNTRIES = {"대한민국", "중국", "베트남", "말레이시아", "영국"};
+    private static final String[] STATUSES = {"판매중", "판매중", "판매중", "품절", "판매중지"};
+
+    @Test
+    void queryMatchesBruteForce() {
+        List<FacetRow> rows = generate(5_000, 1L);
+        ProductFacetIndex index = ProductFacetIndex.build(rows);
+        Random random = new Random(7L);
+
+        for (int i = 0; i < 200; i++) {
+            FacetQuery query = randomQuery(random);
+            FacetResult result = index.query(query);
+
+            List<FacetRow> expected = rows.stream().filter(matcher(query, null)).sorted(comparator(query.sort())).toList();
+            assertEquals(expected.size(), result.total(), "total: " + query);
+            List<Long> expectedPage = expected.stream()
+                    .skip((long) query.page() * query.size()).limit(query.size()).map(FacetRow::id).toList();
+            assertEquals(expectedPage, result.productIds(), "page: " + query);
+
+            for (Dimension dimension : Dimension.values()) {
+                Map<String, Integer> expectedCounts = new HashMap<>();
+                rows.stream().filter(matcher(query, dimension))
+                        .forEach(r -> {
+                            String value = value(r, dimension);
+                            if (value != null) {
+                                expectedCounts.merge(value, 1, Integer::sum);
+                            }
+                        });
+                assertEquals(expectedCounts, new HashMap<>(result.facets().get(dimension)), dimension + ": " + query);
+            }
+        }
+    }
+
+    @Test
+    @Tag("benchmark")
+    void facetQueriesAt100kProducts() {
+        List<FacetRow> rows = generate(100_000, 42L);
+
+        long buildStart = System.nanoTime();
+        ProductFacetIndex index = ProductFacetIndex.build(rows);
+        long buildMillis = (System.nanoTime() - buildStart) / 1_000_000;
+
+        Random random = new Random(11L);
+        List<FacetQuery> queries = new ArrayList<>();
+        for (int i = 0; i < 1_000; i++) {
+            queries.add(randomQuery(random));
+        }
+        // 워밍업 (JIT)
+        long sink = 0;
+        for (int round = 0; round < 5; round++) {
+            for (FacetQuery query : queries) {
+                sink += index.query(query).total();
+            }
+        }
+
+        long start = System.nanoTime();
+        for (int round = 0; round < 5; round++) {
+            for (FacetQuery query : queries) {
+                sink += index.query(query).total();
+            }
+        }
+        double micros = (System.nanoTime() - start) / 1_000.0 / (queries.size() * 5);
+
+        // 비교: 같은 조건을 행 단위로 훑는 경우 (패싯 개수 제외, 결과 필터만)
+        long scanStart = System.nanoTime();
+        for (FacetQuery query : queries.subList(0, 100)) {
+            sink += rows.stream().filter(matcher(query, null)).count();
+        }
+        double scanMicros = (System.nanoTime() - scanStart) / 1_000.0 / 100;
+
+        System.out.printf("[facet benchmark] products=%d build=%dms query(avg, with facet counts)=%.1fus "
+                + "scan(avg, filter only)=%.1fus sink=%d%n", rows.size(), buildMillis, micros, scanMicros, sink);
+    }
+
+    // ==================== 데이터/조건 생성 ====================
+
+    private static List<FacetRow> generate(int count, long seed) {
+        Random random = new Random(seed);
+        List<FacetRow> rows = new ArrayList<>(count);
+        for (int i = 1; i <= count; i++) {
+            int price = (random.nextInt(300) + 1) * 10_000;
+            Integer salePrice = random.nextInt(4) == 0 ? price - (random.nextInt(10) + 1) * 5_000 : null;
+            rows.add(new FacetRow(
+                    i,
+                    random.nextInt(20) == 0 ? null : (long) (random.nextInt(12) + 6),
+                    pick(random, MANUFACTURERS),
+                    random.nextInt(30) == 0 ? null : pick(random, COUNTRIES),
+                    pick(random, STATUSES),
+                    price,
+                    salePrice,
+                    random.nextInt(3) == 0 ? 0 : random.nextInt(100)));
+        }
+        return rows;
+    }
+
+    private static FacetQuery randomQuery(Random random) {
+        Map<Dimension, Set<String>> filters = new EnumMap<>(Dimension.class);
+        if (random.nextBoolean()) {
+            filters.put(Dimension.CATEGORY, Set.copyOf(List.of(
+                    String.valueOf(random.nextInt(12) + 6), String.valueOf(random.nextInt(12) + 6))));
+        }
+        if (random.nextBoolean()) {
+            filters.put(Dimension.MANUFACTURER, Set.of(pick(random, MANUFACTURERS)));
+        }
+        if (random.nextInt(4) == 0) {
+            filters.put(Dimension.COUNTRY, Set.of(pick(random, COUNTRIES), "없는 나라"));
+        }
+        if (random.nextInt(4) == 0) {
+            filters.put(Dimension.STATUS, Set.of("판매중"));
+        }
+        Integer min = random.nextInt(3) == 0 ? random.nextInt(150) * 10_000 : null;
+        Integer max = random.nextInt(3) == 0 ? (random.nextInt(150) + 150) * 10_000 : null;
+        FacetQuery.Sort sort = FacetQuery.Sort.values()[random.nextInt(FacetQuery.Sort.values().length)];
+        return new FacetQuery(filters, min, max, random.nextBoolean(), random.nextInt(4) == 0,
+                sort, random.nextInt(3), 20);
+    }
+
+    /** 조건 일치 여부 (ignored 패싯은 무시 - 패싯 개수 계산용) */
+    private static Predicate<FacetRow> matcher(FacetQuery query, Dimension ignored) {
+        return r -> {
+            if (query.inStockOnly() && r.stock() <= 0) return false;
+            if (query.onSaleOnly() && !r.onSale()) return false;
+            if (query.minPrice() != null && r.effectivePrice() < query.minPrice()) return false;
+            if (query.maxPrice() != null && r.effectivePrice() > query.maxPrice()) return false;
+            for (Map.Entry<Dimension, Set<String>> e : query.filters().entrySet()) {
+                if (e.getKey() == ignored) {
+                    continue;
+                }
+                String value = value(r, e.getKey());
+                if (value == null || !e.getValue().contains(value)) {
+                    return false;
+                }
+            }
+            return true;
+        };
+    }
+
+    private static Comparator<FacetRow> comparator(FacetQuery.Sort sort) {
+        return switch (sort) {
+            case PRICE_ASC -> Comparator.comparingInt(FacetRow::effectivePrice).thenComparingLong(FacetRow::id);
+            case PRICE_DESC -> Comparator.comparingInt(FacetRow::effectivePrice).thenComparingLong(FacetRow::id).reversed();
+            case LATEST -> Comparator.comparingLong(FacetRow::id).reversed();
+        };
+    }
+
+    private static String value(FacetRow r, Dimension dimension) {
+        return switch (dimension) {
+            case CATEGORY -> r.categoryId() != null ? String.valueOf(r.categoryId()) : null;
+            case MANUFACTURER -> r.manufacturer();
+            case COUNTRY -> r.country();
+            case STATUS -> r.status();
+        };
+    }
+
+    private static String pick(Random random, String[] values) {
+        return values[random.nextInt(values.length)];
+    }
+}
@@ -0,0 +1,167 @@
+package com.onandhome.config;
+
+import com.onandhome.admin.adminProduct.ProductRepository;
+import com.onandhome.admin.adminProduct.entity.Product;
+import com.onandhome.notification.NotificationService;
+import com.onandhome.notification.entity.Notification;
+import com.onandhome.order.OrderNumberGenerator;
+import com.onandhome.order.entity.Order;
+import com.onandhome.order.entity.OrderItem;
+import com.onandhome.support.StatementCounter;
+import com.onandhome.support.StatementCountingConfig;
+import com.onandhome.user.entity.User;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * prod 프로필 영속성 설정 검증 (JDBC 배치 크기 / 2차 캐시)
+ *
+ * prod 프로필의 JPA 설정을 test 프로필의 인메모리 H2 위에 얹어 띄우고, DataSource 를 datasource-proxy 로 감싸
+ * 실행된 문장과 배치 크기를 센다. pooled ID 시퀀스는 ddl-auto 가 만든다. (MySQL 드라이버 전용 속성은 H2 가 무시)
+ * 만든 데이터는 롤백하거나 테스트 끝에 지운다.
+ */
+@SpringBootTest
+@ActiveProfiles({"prod", "test"})
+@Import(StatementCountingConfig.class)
+class PersistenceProfileTest {
+
+    private static final int BATCH_SIZE = 50; // hibernate.jdbc.batch_size
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private StatementCounter counter;
+
+    @Autowired
+    private NotificationService notificationService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private OrderNumberGenerator orderNumberGenerator;
+
+    @Test
+    void notificationInsertsAreBatched() {
+        inRollback(() -> {
+            User user = persistUser();
+            counter.reset();
+
+            for (int i = 0; i < 2 * BATCH_SIZE + 20; i++) {
+                entityManager.persist(notification(user, i));
+            }
+            entityManager.flush();
+
+            assertEquals(List.of(BATCH_SIZE, BATCH_SIZE, 20), counter.batchSizes("insert into notifications"));
+        });
+    }
+
+    @Test
+    void markAllAsReadUpdatesAreBatched() {
+        inRollback(() -> {
+            User user = persistUser();
+            for (int i = 0; i < BATCH_SIZE + 10; i++) {
+                entityManager.persist(notification(user, i));
+            }
+            entityManager.flush();
+            entityManager.clear();
+            counter.reset();
+
+            notificationService.markAllAsRead(user.getUserId());
+            entityManager.flush();
+
+            assertEquals(List.of(BATCH_SIZE, 10), counter.batchSizes("update notifications"));
+        });
+    }
+
+    @Test
+    void orderItemsAreInsertedInOneBatch() {
+        inRollback(() -> {
+            User user = persistUser();
+            List<Product> products = new ArrayList<>();
+            for (int i = 0; i < 3; i++) {
+                Product product = product("배치 주문 " + i);
+                entityManager.persist(product);
+                products.add(product);
+            }
+            entityManager.flush();
+            counter.reset();
+
+            List<OrderItem> items = products.stream()
+                    .map(product -> OrderItem.createOrderItem(product, product.getPrice(), 1))
+                    .toList();
+            entityManager.persist(Order.create(user, items, Order.PaymentMethod.CARD, orderNumberGenerator.next()));
+            entityManager.flush();
+
+            assertEquals(List.of(3), counter.batchSizes("insert into order_item"));
+            assertEquals(List.of(3), counter.batchSizes("update product")); // 재고 차감
+        });
+    }
+
+    @Test
+    void productIsServedFromSecondLevelCache() {
+        Long productId = transactionTemplate.execute(status -> productRepository.save(product("캐시 상품")).getId());
+        try {
+            productRepository.findById(productId); // 캐시에 적재 (커밋 시 이미 들어갔을 수도 있음)
+            counter.reset();
+
+            Product cached = productRepository.findById(productId).orElseThrow();
+
+            assertEquals("캐시 상품", cached.getName());
+            assertEquals(0, counter.count("select"));
+        } finally {
+            productRepository.deleteById(productId);
+        }
+    }
+
+    // ==================== 내부 ====================
+
+    private void inRollback(Runnable work) {
+        transactionTemplate.executeWithoutResult(status -> {
+            status.setRollbackOnly();
+            work.run();
+        });
+    }
+
+    private User persistUser() {
+        User user = User.builder()
+                .userId("persist-" + System.nanoTime())
+                .password("x")
+                .username("영속성 테스트")
+                .build();
+        entityManager.persist(user);
+        return user;
+    }
+
+    private static Notification notification(User user, int index) {
+        return Notification.builder()
+                .user(user)
+                .title("배치 알림 " + index)
+                .content("내용")
+                .type("SYSTEM")
+                .isRead(false)
+                .build();
+    }
+
+    private static Product product(String name) {
+        return Product.builder()
+                .name(name)
+                .price(10_000)
+                .stock(10)
+                .build();
+    }
+}
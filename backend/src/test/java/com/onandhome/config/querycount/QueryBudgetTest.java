@@ -0,0 +1,150 @@
+package com.onandhome.config.querycount;
+
+import com.onandhome.admin.adminProduct.entity.Product;
+import com.onandhome.favorite.FavoriteService;
+import com.onandhome.favorite.dto.FavoriteDTO;
+import com.onandhome.order.OrderNumberGenerator;
+import com.onandhome.order.OrderService;
+import com.onandhome.order.dto.OrderDTO;
+import com.onandhome.order.entity.Order;
+import com.onandhome.order.entity.OrderItem;
+import com.onandhome.qna.QnaService;
+import com.onandhome.qna.entity.Qna;
+import com.onandhome.review.ReviewService;
+import com.onandhome.review.dto.ReviewDTO;
+import com.onandhome.user.entity.User;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.onandhome.support.QueryCountAssertions.assertQueryCount;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 주요 목록 API 쿼리 수 상한 (N+1 회귀 방지)
+ *
+ * test 프로필의 인메모리 H2 에 회원 1명, 상품 10개, 주문 10건(주문상품 2개씩), 찜 10건,
+ * 리뷰 10건(답글 1개씩), QnA 10건을 만들고 목록 조회가 건수와 관계없이 정해진 쿼리 수 안에 끝나는지 본다.
+ * (지연 로딩은 default_batch_fetch_size 로 IN 절 한 번씩 - PersistenceConfig)
+ * 시드와 조회가 테스트 트랜잭션 하나에서 돌고 끝나면 롤백된다.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class QueryBudgetTest {
+
+    private static final int ROWS = 10;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private OrderNumberGenerator orderNumberGenerator;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private FavoriteService favoriteService;
+
+    @Autowired
+    private ReviewService reviewService;
+
+    @Autowired
+    private QnaService qnaService;
+
+    private Long userId;
+    private final List<Long> productIds = new ArrayList<>();
+    private String productPrefix;
+
+    @BeforeEach
+    void seed() {
+        productPrefix = "[쿼리예산" + System.nanoTime() + "]";
+        User user = User.builder()
+                .userId("budget-" + System.nanoTime())
+                .password("x")
+                .username("쿼리 예산")
+                .build();
+        entityManager.persist(user);
+
+        List<Product> products = new ArrayList<>();
+        for (int i = 0; i < ROWS; i++) {
+            Product product = Product.builder().name(productPrefix + " 상품 " + i).price(10_000).stock(100).build();
+            entityManager.persist(product);
+            products.add(product);
+        }
+        for (int i = 0; i < ROWS; i++) {
+            List<OrderItem> items = List.of(
+                    OrderItem.createOrderItem(products.get(i), 10_000, 1),
+                    OrderItem.createOrderItem(products.get((i + 1) % ROWS), 10_000, 1));
+            entityManager.persist(Order.create(user, items, Order.PaymentMethod.CARD, orderNumberGenerator.next()));
+        }
+        entityManager.flush();
+
+        userId = user.getId();
+        products.forEach(product -> productIds.add(product.getId()));
+
+        Long firstProductId = productIds.get(0);
+        for (int i = 0; i < ROWS; i++) {
+            Long productId = productIds.get(i);
+            jdbcTemplate.update("INSERT INTO favorite (user_id, product_id, created_at) VALUES (?, ?, NOW())",
+                    userId, productId);
+            jdbcTemplate.update("INSERT INTO review (content, rating, product_name, author, created_at, like_count, " +
+                    "product_id, user_id) VALUES (?, 5, ?, '쿼리 예산', NOW(), 0, ?, ?)",
+                    "리뷰 " + i, productPrefix, firstProductId, userId);
+            jdbcTemplate.update("INSERT INTO qna (title, writer, question, created_at, is_private, product_id) " +
+                    "VALUES (?, '쿼리 예산', '질문', NOW(), 0, ?)", "질문 " + i, productId);
+        }
+        jdbcTemplate.update("INSERT INTO review_reply (content, created_at, review_id, user_id, author, username) " +
+                "SELECT '답글', created_at, id, user_id, '관리자', 'admin' FROM review WHERE product_id = ?", firstProductId);
+
+        // 시드 때 영속성 컨텍스트에 올라간 엔티티가 조회 쿼리를 대신하지 않도록 비운다
+        entityManager.clear();
+    }
+
+    @Test
+    void userOrdersLoadItemsAndProductsInBatches() {
+        // 회원 + 주문 + 주문상품(IN) + 상품(IN)
+        List<OrderDTO> orders = assertQueryCount(4, () -> orderService.getOrders(userId));
+
+        assertEquals(ROWS, orders.size());
+        assertEquals(2 * ROWS, orders.stream().mapToInt(o -> o.getOrderItems().size()).sum());
+    }
+
+    @Test
+    void favoritesLoadProductsInOneBatch() {
+        // 찜 + 상품(IN)
+        List<FavoriteDTO> favorites = assertQueryCount(2, () -> favoriteService.getFavoritesByUserId(userId));
+
+        assertEquals(ROWS, favorites.size());
+    }
+
+    @Test
+    void productReviewsLoadRepliesAndImagesInBatches() {
+        // 리뷰 + 답글(IN) + 이미지(IN)
+        List<ReviewDTO> reviews = assertQueryCount(3, () -> reviewService.findByProductId(productIds.get(0)));
+
+        assertEquals(ROWS, reviews.size());
+        assertEquals(ROWS, reviews.stream().mapToInt(r -> r.getReplies().size()).sum());
+    }
+
+    @Test
+    void qnaSearchByProductNameIsOneQuery() {
+        List<Qna> qnas = assertQueryCount(1, () -> qnaService.searchByProductName(productPrefix));
+
+        assertEquals(ROWS, qnas.size());
+        qnas.forEach(qna -> assertTrue(qna.getProduct().getName().startsWith(productPrefix)));
+    }
+}
@@ -0,0 +1,61 @@
+package com.onandhome.order;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * OrderNumberGenerator 검증 (중복 없음, 시간순, 고정 길이)
+ */
+class OrderNumberGeneratorTest {
+
+    @Test
+    void numbersAreUniqueAcrossThreads() throws InterruptedException {
+        OrderNumberGenerator generator = new OrderNumberGenerator(3);
+        ConcurrentLinkedQueue<String> numbers = new ConcurrentLinkedQueue<>();
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < 8; t++) {
+            threads.add(new Thread(() -> {
+                for (int i = 0; i < 50_000; i++) {
+                    numbers.add(generator.next());
+                }
+            }));
+        }
+        threads.forEach(Thread::start);
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        Set<String> unique = new HashSet<>(numbers);
+        assertEquals(400_000, unique.size());
+        assertTrue(unique.stream().allMatch(n -> n.length() == 13));
+    }
+
+    @Test
+    void numbersSortInIssueOrder() {
+        OrderNumberGenerator generator = new OrderNumberGenerator(0);
+        String previous = generator.next();
+        for (int i = 0; i < 100_000; i++) {
+            String next = generator.next();
+            assertTrue(next.compareTo(previous) > 0, previous + " -> " + next);
+            previous = next;
+        }
+    }
+
+    @Test
+    void workerIdSeparatesServers() {
+        long a = new OrderNumberGenerator(1).nextId();
+        long b = new OrderNumberGenerator(2).nextId();
+        assertNotEquals(a, b);
+        assertThrows(IllegalArgumentException.class, () -> new OrderNumberGenerator(1024));
+    }
+}
@@ -0,0 +1,48 @@
+package com.onandhome.support;
+
+import com.onandhome.config.querycount.QueryCountContext;
+import com.onandhome.config.querycount.QueryCountScope;
+
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.fail;
+
+/**
+ * 쿼리 수 상한 검증 (QueryCountDataSourceConfig 가 감싼 DataSource 기준)
+ *
+ * <pre>
+ * List&lt;OrderDTO&gt; orders = assertQueryCount(4, () -&gt; orderService.getOrders(userId));
+ * </pre>
+ *
+ * 같은 스레드에서 실행된 SQL 만 센다. (MockMvc 요청도 호출한 스레드에서 처리되므로 그대로 감쌀 수 있다)
+ * 배치(executeBatch)는 1회로 센다.
+ */
+public final class QueryCountAssertions {
+
+    private QueryCountAssertions() {
+    }
+
+    /** work 실행 중 SQL 이 maxQueries 건 이하인지 검증하고 결과를 돌려준다 */
+    public static <T> T assertQueryCount(int maxQueries, Supplier<T> work) {
+        QueryCountScope scope = QueryCountContext.open(QueryCountScope.Kind.TEST, "assertQueryCount");
+        T result;
+        try {
+            result = work.get();
+        } finally {
+            QueryCountContext.close(scope);
+        }
+        if (scope.getTotal() > maxQueries) {
+            fail("쿼리 수 초과: 기대 <= " + maxQueries + ", 실제 " + scope.summary() + "\n"
+                    + String.join("\n", scope.getStatements()));
+        }
+        return result;
+    }
+
+    /** work 실행 중 SQL 이 maxQueries 건 이하인지 검증 */
+    public static void assertQueryCount(int maxQueries, Runnable work) {
+        assertQueryCount(maxQueries, () -> {
+            work.run();
+            return null;
+        });
+    }
+}
@@ -0,0 +1,63 @@
+package com.onandhome.support;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * 실행된 SQL 기록 (datasource-proxy 리스너, StatementCountingConfig 가 DataSource 에 연결)
+ *
+ * 스케줄러/비동기 작업도 같은 DataSource 를 쓰므로 조회 메서드는 호출한 스레드가 실행한 문장만 센다.
+ * 배치는 executeBatch 한 번을 왕복 1회로 기록하고 batchSize 에 addBatch 횟수를 남긴다.
+ */
+public class StatementCounter implements QueryExecutionListener {
+
+    /** 실행 1회 (sql 은 소문자) */
+    public record Execution(long threadId, String sql, boolean batch, int batchSize) {
+    }
+
+    private final List<Execution> executions = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        long threadId = Thread.currentThread().threadId();
+        for (QueryInfo query : queryInfoList) {
+            executions.add(new Execution(threadId, query.getQuery().toLowerCase(Locale.ROOT),
+                    execInfo.isBatch(), execInfo.isBatch() ? execInfo.getBatchSize() : 1));
+        }
+    }
+
+    /** 기록 비우기 */
+    public void reset() {
+        executions.clear();
+    }
+
+    /** 현재 스레드가 실행한 문장 */
+    public List<Execution> executions() {
+        long threadId = Thread.currentThread().threadId();
+        return executions.stream().filter(e -> e.threadId() == threadId).toList();
+    }
+
+    /** sqlPrefix 로 시작하는 문장의 실행(왕복) 횟수 - 예: count("select"), count("insert into notifications") */
+    public long count(String sqlPrefix) {
+        String prefix = sqlPrefix.toLowerCase(Locale.ROOT);
+        return executions().stream().filter(e -> e.sql().startsWith(prefix)).count();
+    }
+
+    /** sqlPrefix 로 시작하는 배치 실행의 크기 (실행 순서대로) */
+    public List<Integer> batchSizes(String sqlPrefix) {
+        String prefix = sqlPrefix.toLowerCase(Locale.ROOT);
+        return executions().stream()
+                .filter(e -> e.batch() && e.sql().startsWith(prefix))
+                .map(Execution::batchSize)
+                .toList();
+    }
+}
@@ -0,0 +1,40 @@
+package com.onandhome.support;
+
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+
+import javax.sql.DataSource;
+
+/**
+ * DataSource 를 datasource-proxy 로 감싸 실행된 SQL 을 StatementCounter 에 기록한다.
+ * 테스트 클래스에 @Import(StatementCountingConfig.class) 로 붙여 쓴다.
+ * (QueryCountDataSourceConfig 가 이미 감쌌어도 한 번 더 감싸므로 두 리스너 모두 호출된다)
+ */
+@TestConfiguration
+public class StatementCountingConfig {
+
+    @Bean
+    public StatementCounter statementCounter() {
+        return new StatementCounter();
+    }
+
+    // BeanPostProcessor 는 다른 빈보다 먼저 만들어지므로 static + ObjectProvider 로 늦게 가져온다
+    @Bean
+    public static BeanPostProcessor statementCountingDataSource(ObjectProvider<StatementCounter> counter) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource) {
+                    return ProxyDataSourceBuilder.create(dataSource)
+                            .name(beanName)
+                            .listener(counter.getObject())
+                            .build();
+                }
+                return bean;
+            }
+        };
+    }
+}
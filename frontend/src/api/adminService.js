@@ -128,6 +128,26 @@ const adminService = {
     return response.data;
   },
 
+  // 주문 상태 일괄 변경 (변경 불가 주문은 rejected 로 반환)
+  bulkUpdateOrderStatus: async (orderIds, status) => {
+    const response = await adminApi.post("/orders/bulk-status", {
+      orderIds,
+      status,
+    });
+    return response.data;
+  },
+
+  getOrderEvents: async (orderId) => {
+    const response = await adminApi.get(`/orders/${orderId}/events`);
+    return response.data;
+  },
+
+  // 일괄 작업 (상품/리뷰/회원 일괄 삭제 진행 상황)
+  getBulkJob: async (jobId) => {
+    const response = await adminApi.get(`/bulk-jobs/${jobId}`);
+    return response.data;
+  },
+
   // 게시판 관리
   getNotices: async (params) => {
     const response = await adminApi.get("/notices", { params });
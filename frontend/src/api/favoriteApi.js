@@ -33,6 +33,7 @@
  * |-----------|------------------|------------------------------|
  * | toggle()  | 찜 추가/삭제 토글  | POST /api/favorites/toggle   |
  * | check()   | 찜 여부 확인      | GET /api/favorites/check/{id}|
+ * | checkMany()| 여러 상품 찜 여부 | GET /api/favorites/check     |
  * | getList() | 찜 목록 조회      | GET /api/favorites           |
  * | getCount()| 찜 개수 조회      | GET /api/favorites/count     |
  */
@@ -214,6 +215,35 @@ export const favoriteAPI = {
     }
   },
 
+  /**
+   * 여러 상품 찜 여부 한 번에 확인
+   *
+   * ========================================
+   * 📌 API 정보
+   * ========================================
+   * - HTTP Method: GET
+   * - URL: /api/favorites/check?productIds=1,2,3 (최대 100개)
+   * - 인증: 선택 (비로그인 시 빈 목록 반환)
+   *
+   * 상품 카드마다 check()를 호출하지 않고 화면의 상품 ID를 모아 한 번에 확인한다.
+   *
+   * param {number[]} productIds - 확인할 상품 ID 목록
+   * returns {Promise<Object>} { success: boolean, favoriteProductIds: number[] }
+   */
+  checkMany: async (productIds) => {
+    try {
+      const query = encodeURIComponent(productIds.join(','));
+      const response = await fetch(`${BASE_URL}/check?productIds=${query}`, {
+        headers: getAuthHeader()
+      });
+      return await response.json();
+    } catch (error) {
+      console.error('찜 여부 일괄 확인 오류:', error);
+      // 오류 시에도 기본값 반환 (UI 중단 방지)
+      return { success: true, favoriteProductIds: [] };
+    }
+  },
+
   /**
    * 찜 목록 조회
    *
@@ -7,9 +7,13 @@ const orderApi = {
   /**
    * 주문 생성
    * POST /api/orders/create
+   *
+   * // idempotencyKey: 같은 주문을 재시도할 때 같은 값을 보내면 서버가 첫 응답을 그대로 돌려준다
    */
-  createOrder: async (orderData) => {
-    const response = await apiClient.post("/api/orders/create", orderData);
+  createOrder: async (orderData, idempotencyKey) => {
+    const response = await apiClient.post("/api/orders/create", orderData, {
+      headers: idempotencyKey ? { "Idempotency-Key": idempotencyKey } : {},
+    });
     return response.data;
   },
 
@@ -51,6 +51,39 @@ const productApi = {
     return response.data;
   },
 
+  /**
+   * 패싯 상품 탐색 (필터/정렬/페이지 + 필터별 상품 수)
+   * GET /api/products/browse
+   * params: { category, manufacturer: [], country: [], status: [], minPrice, maxPrice, onSale, inStock, sort, page, size }
+   */
+  browseProducts: async (params = {}) => {
+    const response = await apiClient.get('/api/products/browse', {
+      params,
+      paramsSerializer: { indexes: null }, // manufacturer=LG&manufacturer=삼성
+    });
+    return response.data;
+  },
+
+  /**
+   * 정렬 상품 목록 (키셋 페이지)
+   * GET /api/products/sorted
+   * params: { sort: 'price_asc' | 'price_desc' | 'sale_price_asc' | 'sale_price_desc' | 'newest' | 'best_selling' | 'rating',
+   *           category, inStock, size, cursor } - 다음 페이지는 응답의 data.nextCursor 를 cursor 로 전달
+   */
+  getSortedProducts: async (params = {}) => {
+    const response = await apiClient.get('/api/products/sorted', { params });
+    return response.data;
+  },
+
+  /**
+   * 카테고리 트리 조회 (헤더 메뉴)
+   * GET /api/products/categories
+   */
+  getCategories: async () => {
+    const response = await apiClient.get('/api/products/categories');
+    return response.data;
+  },
+
   /**
    * 모든 상품 조회 (사용자용)
    * GET /user/product/api/all
@@ -103,8 +103,9 @@ const ProductCard = ({ product }) => {
     return imagePath;
   };
 
-  // 이미지 소스 우선순위: thumbnailImage > image > mainImg
-  const imageSource = product.thumbnailImage || product.image || product.mainImg;
+  // 이미지 소스 우선순위: thumbnailList(목록용 변형) > thumbnailImage > image > mainImg
+  const imageSource =
+    product.thumbnailList || product.thumbnailImage || product.image || product.mainImg;
 
   return (
     <div className="product-card" onClick={handleClick}>
@@ -6,8 +6,55 @@ import { setUnreadCount } from "../../store/slices/notificationSlice";
 import CompareFloatingButton from "../domain/compare/CompareFloatingButton";
 import CartFloatingButton from "../domain/cart/CartFloatingButton";
 import notificationApi from "../../api/notificationApi";
+import productApi from "../../api/productApi";
 import "./UserLayout.css";
 
+// 기본 카테고리 구조 (서버 조회 전/실패 시 사용)
+const DEFAULT_CATEGORIES = [
+  {
+    id: "tv-audio",
+    name: "TV/오디오",
+    subCategories: [
+      { name: "TV", link: "/products/category/TV" },
+      { name: "오디오", link: "/products/category/오디오" },
+    ],
+  },
+  {
+    id: "kitchen",
+    name: "주방가전",
+    subCategories: [
+      { name: "냉장고", link: "/products/category/냉장고" },
+      { name: "전자레인지", link: "/products/category/전자레인지" },
+      { name: "식기세척기", link: "/products/category/식기세척기" },
+    ],
+  },
+  {
+    id: "living",
+    name: "생활가전",
+    subCategories: [
+      { name: "세탁기", link: "/products/category/세탁기" },
+      { name: "청소기", link: "/products/category/청소기" },
+    ],
+  },
+  {
+    id: "air",
+    name: "에어컨/공기청정기",
+    subCategories: [
+      { name: "에어컨", link: "/products/category/에어컨" },
+      { name: "공기청정기", link: "/products/category/공기청정기" },
+      { name: "정수기", link: "/products/category/정수기" },
+    ],
+  },
+  {
+    id: "etc",
+    name: "기타",
+    subCategories: [
+      { name: "안마의자", link: "/products/category/안마의자" },
+      { name: "PC", link: "/products/category/PC" },
+    ],
+  },
+];
+
 const UserLayout = () => {
   const navigate = useNavigate();
   const dispatch = useDispatch();
@@ -50,51 +97,33 @@ const UserLayout = () => {
     }
   }, [isAuthenticated, dispatch]);
 
-  // 카테고리 구조 정의
-  const categories = [
-    {
-      id: "tv-audio",
-      name: "TV/오디오",
-      subCategories: [
-        { name: "TV", link: "/products/category/TV" },
-        { name: "오디오", link: "/products/category/오디오" },
-      ],
-    },
-    {
-      id: "kitchen",
-      name: "주방가전",
-      subCategories: [
-        { name: "냉장고", link: "/products/category/냉장고" },
-        { name: "전자레인지", link: "/products/category/전자레인지" },
-        { name: "식기세척기", link: "/products/category/식기세척기" },
-      ],
-    },
-    {
-      id: "living",
-      name: "생활가전",
-      subCategories: [
-        { name: "세탁기", link: "/products/category/세탁기" },
-        { name: "청소기", link: "/products/category/청소기" },
-      ],
-    },
-    {
-      id: "air",
-      name: "에어컨/공기청정기",
-      subCategories: [
-        { name: "에어컨", link: "/products/category/에어컨" },
-        { name: "공기청정기", link: "/products/category/공기청정기" },
-        { name: "정수기", link: "/products/category/정수기" },
-      ],
-    },
-    {
-      id: "etc",
-      name: "기타",
-      subCategories: [
-        { name: "안마의자", link: "/products/category/안마의자" },
-        { name: "PC", link: "/products/category/PC" },
-      ],
-    },
-  ];
+  // 카테고리 구조 (서버 카테고리 트리, 조회 전/실패 시 기본값)
+  const [categories, setCategories] = useState(DEFAULT_CATEGORIES);
+
+  useEffect(() => {
+    let cancelled = false;
+    productApi
+      .getCategories()
+      .then((response) => {
+        if (cancelled || !response.success || !response.data?.length) return;
+        setCategories(
+          response.data.map((node) => ({
+            id: node.code,
+            name: node.name,
+            subCategories: (node.children || []).map((child) => ({
+              name: child.name,
+              link: `/products/category/${child.name}`,
+            })),
+          }))
+        );
+      })
+      .catch((error) => {
+        console.error("카테고리 조회 실패:", error);
+      });
+    return () => {
+      cancelled = true;
+    };
+  }, []);
 
   const handleLogout = () => {
     dispatch(logout());
@@ -20,6 +20,9 @@ const DeletedUserList = () => {
   const [currentPage, setCurrentPage] = useState(1);
   const itemsPerPage = 10;
 
+  // 탈퇴 회원 디렉터리 한 번에 가져오는 수 (서버 최대치)
+  const DIRECTORY_PAGE_SIZE = 1000;
+
   // 컴포넌트 첫 렌더링 시 탈퇴 회원 목록 불러오기
   useEffect(() => {
     fetchDeletedUsers();
@@ -29,21 +32,31 @@ const DeletedUserList = () => {
   const fetchDeletedUsers = async () => {
     setLoading(true);
     try {
-      // 검색 파라미터 구성
-      const params = new URLSearchParams();
-      if (searchTerm && searchTerm.trim()) {
-        params.append("kw", searchTerm.trim());
-      }
+      // 탈퇴 회원 디렉터리를 nextCursor 로 마지막 페이지까지 이어서 조회
+      const allUsers = [];
+      let cursor = null;
+      do {
+        // 검색 파라미터 구성
+        const params = new URLSearchParams({ size: DIRECTORY_PAGE_SIZE });
+        if (searchTerm && searchTerm.trim()) {
+          params.append("kw", searchTerm.trim());
+        }
+        if (cursor !== null) {
+          params.append("cursor", cursor);
+        }
 
-      const url = `/api/admin/users/deleted${
-        params.toString() ? "?" + params.toString() : ""
-      }`;
+        const response = await apiClient.get(
+          `/api/admin/users/deleted/directory?${params.toString()}`
+        );
 
-      const response = await apiClient.get(url);
+        const page = response.data || {};
+        allUsers.push(...(Array.isArray(page.items) ? page.items : []));
+        cursor = page.hasNext ? page.nextCursor : null;
+      } while (cursor !== null);
 
       // API 결과를 화면용 데이터로 변환
-      if (response.data && Array.isArray(response.data)) {
-        const mappedUsers = response.data.map((user, index) => ({
+      if (allUsers.length > 0) {
+        const mappedUsers = allUsers.map((user, index) => ({
           ...user,
           no: (currentPage - 1) * itemsPerPage + index + 1, // 목록 번호
         }));
@@ -61,7 +74,7 @@ const DeletedUserList = () => {
         } else if (error.response.status === 403) {
           // 403 오류는 백엔드 API가 없거나 권한 설정 문제
           console.warn(
-            "403 오류: 백엔드 API 권한 확인 필요 (/api/admin/users/deleted)"
+            "403 오류: 백엔드 API 권한 확인 필요 (/api/admin/users/deleted/directory)"
           );
           // 빈 배열로 처리하고 에러 메시지 표시 안함
         } else {
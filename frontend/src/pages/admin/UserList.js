@@ -26,6 +26,9 @@ const UserList = () => {
   // API 기본 URL
   const API_BASE_URL = process.env.REACT_APP_API_URL || "http://localhost:8080";
 
+  // 회원 디렉터리 한 번에 가져오는 수 (서버 최대치)
+  const DIRECTORY_PAGE_SIZE = 1000;
+
   // 컴포넌트 마운트 시 회원 목록 불러오기
   useEffect(() => {
     fetchUsers();
@@ -35,27 +38,38 @@ const UserList = () => {
   const fetchUsers = async () => {
     setLoading(true);
     try {
-      // 검색 파라미터 구성
-      const params = new URLSearchParams();
-      if (searchTerm && searchTerm.trim()) {
-        params.append("kw", searchTerm.trim());
-      }
-
-      const url = `${API_BASE_URL}/api/admin/users${
-        params.toString() ? "?" + params.toString() : ""
-      }`;
+      // 회원 디렉터리를 nextCursor 로 마지막 페이지까지 이어서 조회
+      const allUsers = [];
+      let cursor = null;
+      do {
+        // 검색 파라미터 구성
+        const params = new URLSearchParams({ size: DIRECTORY_PAGE_SIZE });
+        if (searchTerm && searchTerm.trim()) {
+          params.append("kw", searchTerm.trim());
+        }
+        if (cursor !== null) {
+          params.append("cursor", cursor);
+        }
 
-      const response = await axios.get(url, {
-        headers: {
-          "Content-Type": "application/json",
-          Accept: "application/json",
-          Authorization: `Bearer ${localStorage.getItem("accessToken")}`,
-        },
-      });
+        const response = await axios.get(
+          `${API_BASE_URL}/api/admin/users/directory?${params.toString()}`,
+          {
+            headers: {
+              "Content-Type": "application/json",
+              Accept: "application/json",
+              Authorization: `Bearer ${localStorage.getItem("accessToken")}`,
+            },
+          }
+        );
+
+        const page = response.data || {};
+        allUsers.push(...(Array.isArray(page.items) ? page.items : []));
+        cursor = page.hasNext ? page.nextCursor : null;
+      } while (cursor !== null);
 
       // API 결과를 화면용 데이터로 변환
-      if (response.data && Array.isArray(response.data)) {
-        const mappedUsers = response.data.map((user, index) => ({
+      if (allUsers.length > 0) {
+        const mappedUsers = allUsers.map((user, index) => ({
           ...user,
           checked: false, // 개별 선택 체크박스 기본값
           no: (currentPage - 1) * itemsPerPage + index + 1, // 목록 번호
@@ -255,7 +255,7 @@ const Cart = () => {
 
                     <div className="item-image">
                       <img
-                        src={getImageUrl(product.thumbnailImage)}
+                        src={getImageUrl(product.thumbnailThumb || product.thumbnailImage)}
                         alt={product.name}
                         onError={(e) => {
                           e.target.src = "/images/item.png";
@@ -1,4 +1,4 @@
-import { useEffect, useState } from "react";
+import { useEffect, useRef, useState } from "react";
 import toast, { Toaster } from "react-hot-toast";
 import { useSelector } from "react-redux";
 import { useLocation, useNavigate } from "react-router-dom";
@@ -31,6 +31,9 @@ const OrderPayment = () => {
   // 결제 또는 주문 완료 후 표시되는 화면
   const [showSuccess, setShowSuccess] = useState(false);
 
+  // 주문 요청 중복 방지 키 - 이 화면에서 재시도/중복 클릭해도 같은 키를 보내 서버가 주문을 한 번만 만든다.
+  const idempotencyKeyRef = useRef(null);
+
   // 카카오 주소 검색
   const handleAddressSearch = () => {
     new window.daum.Postcode({
@@ -128,7 +131,12 @@ const OrderPayment = () => {
         shippingRequest: orderInfo.request,
       };
 
-      const response = await apiClient.post("/api/orders/create", orderData);
+      if (!idempotencyKeyRef.current) {
+        idempotencyKeyRef.current = crypto.randomUUID();
+      }
+      const response = await apiClient.post("/api/orders/create", orderData, {
+        headers: { "Idempotency-Key": idempotencyKeyRef.current },
+      });
       const result = response.data;
 
       /**
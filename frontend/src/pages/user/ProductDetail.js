@@ -555,7 +555,7 @@ const ProductDetail = () => {
         <div className="product-info-section">
           <div style={{ width: "100%" }}>
             <img
-              src={getImageUrl(product.thumbnailImage)}
+              src={getImageUrl(product.thumbnailDetail || product.thumbnailImage)}
               alt={product.name}
               className="product-main-image"
               style={{
@@ -710,7 +710,7 @@ const ProductDetail = () => {
         <div ref={detailRef} className="detail-section">
           {product.detailImage ? (
             <img
-              src={getImageUrl(product.detailImage)}
+              src={getImageUrl(product.detailImageResized || product.detailImage)}
               alt="상세 이미지"
               className="product-detail-image"
               onError={(e) => {
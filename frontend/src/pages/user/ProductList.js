@@ -293,7 +293,7 @@ const ProductList = () => {
                   >
                     <div className="product-image-wrapper">
                       <img
-                        src={getImageUrl(product.thumbnailImage)}
+                        src={getImageUrl(product.thumbnailList || product.thumbnailImage)}
                         alt={product.name}
                         className={(product.stock === 0 || product.status === '판매중지') ? "out-of-stock" : ""}
                         onError={(e) => {
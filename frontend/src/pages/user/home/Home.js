@@ -398,7 +398,7 @@ useEffect(() => {
                   >
                     <div className="product-image">
                       <img
-                        src={getImageUrl(product.thumbnailImage)}
+                        src={getImageUrl(product.thumbnailList || product.thumbnailImage)}
                         alt={product.name}
                         style={(product.stock === 0 || product.stock === null || product.status === '판매중지') ? { filter: 'grayscale(1) opacity(0.6)' } : {}}
                         onError={(e) => {
@@ -517,7 +517,7 @@ useEffect(() => {
                   >
                     <div className="product-image">
                       <img
-                        src={getImageUrl(product.thumbnailImage)}
+                        src={getImageUrl(product.thumbnailList || product.thumbnailImage)}
                         alt={product.name}
                         style={(product.stock === 0 || product.stock === null || product.status === '판매중지') ? { filter: 'grayscale(1) opacity(0.6)' } : {}}
                         onError={(e) => {